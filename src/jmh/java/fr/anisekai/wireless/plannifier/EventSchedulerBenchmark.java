@@ -0,0 +1,184 @@
+package fr.anisekai.wireless.plannifier;
+
+import fr.anisekai.wireless.api.plannifier.EventScheduler;
+import fr.anisekai.wireless.api.plannifier.data.CalibrationResult;
+import fr.anisekai.wireless.plannifier.data.BenchData;
+import fr.anisekai.wireless.plannifier.data.BenchWatchParty;
+import fr.anisekai.wireless.plannifier.data.BenchWatchTarget;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link EventScheduler} operations over synthetic states of increasing size.
+ * <p>
+ * Read-only operations share a single state per trial. Operations modifying the state run a batch of {@link #BATCH} operations
+ * on a freshly built state for each invocation, and report the time per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventSchedulerBenchmark {
+
+    private static final int BATCH  = 100;
+    private static final int PROBES = 1024;
+
+    @State(Scope.Thread)
+    public static class Loaded {
+
+        @Param({"1000", "10000", "100000"})
+        public int size;
+
+        private EventScheduler<BenchWatchTarget, BenchWatchParty, BenchWatchParty> scheduler;
+        private BenchWatchParty[]                                                  probes;
+        private ZonedDateTime[]                                                    instants;
+        private int                                                                cursor;
+
+        @Setup(Level.Trial)
+        public void setup() {
+
+            BenchData data = new BenchData(this.size);
+            Random    rng  = new Random(42);
+
+            this.scheduler = data.scheduler();
+            this.scheduler.calibrate();
+            this.probes   = new BenchWatchParty[PROBES];
+            this.instants = new ZonedDateTime[PROBES];
+
+            for (int i = 0; i < PROBES; i++) {
+                int index = rng.nextInt(this.size);
+                // Alternate between spots overlapping an event and spots fitting in the gap after it.
+                int offset = i % 2 == 0 ? 10 : 60;
+
+                this.probes[i]   = new BenchWatchParty(data.target(index), 1, BenchData.slot(index).plusMinutes(offset), 1);
+                this.instants[i] = BenchData.slot(index).plusMinutes(30);
+            }
+        }
+
+        private int next() {
+
+            this.cursor = (this.cursor + 1) % PROBES;
+            return this.cursor;
+        }
+
+    }
+
+    @State(Scope.Thread)
+    public static class Fresh {
+
+        @Param({"1000", "10000", "100000"})
+        public int size;
+
+        private BenchData                                                          data;
+        private EventScheduler<BenchWatchTarget, BenchWatchParty, BenchWatchParty> scheduler;
+
+        /**
+         * Retrieve the index of the events to use for the n-th operation of a batch, spread evenly across the state.
+         */
+        private int index(int operation) {
+
+            return operation * (this.size / BATCH);
+        }
+
+        @Setup(Level.Invocation)
+        public void setup() {
+
+            this.data      = new BenchData(this.size);
+            this.scheduler = this.data.scheduler();
+            this.scheduler.calibrate();
+        }
+
+    }
+
+    @State(Scope.Thread)
+    public static class Uncalibrated {
+
+        @Param({"1000", "10000", "100000"})
+        public int size;
+
+        private EventScheduler<BenchWatchTarget, BenchWatchParty, BenchWatchParty> scheduler;
+
+        @Setup(Level.Invocation)
+        public void setup() {
+
+            this.scheduler = new BenchData(this.size).scheduler();
+        }
+
+    }
+
+    @Benchmark
+    public boolean canSchedule(Loaded state) {
+
+        return state.scheduler.canSchedule(state.probes[state.next()]);
+    }
+
+    @Benchmark
+    public Optional<BenchWatchParty> findNext(Loaded state) {
+
+        return state.scheduler.findNext(state.instants[state.next()]);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void scheduleWithoutMerges(Fresh state, Blackhole blackhole) {
+
+        for (int i = 0; i < BATCH; i++) {
+            int index = state.index(i);
+            // Leaves more than the merge limit on both sides.
+            BenchWatchParty spot = new BenchWatchParty(state.data.target(index), 1, BenchData.slot(index).plusMinutes(60), 1);
+            blackhole.consume(state.scheduler.schedule(spot));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void scheduleWithMerges(Fresh state, Blackhole blackhole) {
+
+        for (int i = 0; i < BATCH; i++) {
+            int index = state.index(i);
+            // Starts right when the previous event of the same target ends.
+            BenchWatchParty spot = new BenchWatchParty(
+                    state.data.target(index),
+                    1,
+                    BenchData.slot(index).plusMinutes(BenchWatchTarget.EPISODE_DURATION_MINUTES),
+                    1
+            );
+            blackhole.consume(state.scheduler.schedule(spot));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void delay(Fresh state, Blackhole blackhole) {
+
+        Duration interval = Duration.ofMinutes(BenchWatchTarget.EPISODE_DURATION_MINUTES);
+        Duration delay    = Duration.ofMinutes(30);
+
+        for (int i = 0; i < BATCH; i++) {
+            blackhole.consume(state.scheduler.delay(BenchData.slot(state.index(i)), interval, delay));
+        }
+    }
+
+    @Benchmark
+    public CalibrationResult calibrateFull(Uncalibrated state) {
+
+        return state.scheduler.calibrate();
+    }
+
+    @Benchmark
+    public CalibrationResult calibrateIncremental(Fresh state) {
+
+        for (int i = 0; i < BATCH; i++) {
+            state.data.target(state.index(i)).setWatched(1);
+        }
+        return state.scheduler.calibrate();
+    }
+
+}
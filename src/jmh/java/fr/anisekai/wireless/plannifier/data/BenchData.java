@@ -0,0 +1,72 @@
+package fr.anisekai.wireless.plannifier.data;
+
+import fr.anisekai.wireless.api.plannifier.EventScheduler;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Synthetic state used by benchmarks: one single-episode event every {@link #SLOT_INTERVAL}, spread across many targets in a
+ * round-robin fashion, leaving a gap after each event.
+ */
+public class BenchData {
+
+    public static final ZonedDateTime BASE_DATETIME = ZonedDateTime.of(
+            LocalDate.of(2024, 1, 1),
+            LocalTime.of(0, 0),
+            ZoneId.of("UTC")
+    );
+
+    public static final Duration SLOT_INTERVAL     = Duration.ofHours(2);
+    public static final int      EVENTS_PER_TARGET = 50;
+
+    private final List<BenchWatchTarget> targets;
+    private final List<BenchWatchParty>  events;
+
+    public BenchData(int size) {
+
+        int targetCount = Math.max(1, size / EVENTS_PER_TARGET);
+
+        this.targets = new ArrayList<>(targetCount);
+        this.events  = new ArrayList<>(size);
+
+        for (int i = 0; i < targetCount; i++) {
+            this.targets.add(new BenchWatchTarget((size + targetCount - 1) / targetCount));
+        }
+
+        for (int i = 0; i < size; i++) {
+            this.events.add(new BenchWatchParty(this.target(i), i / targetCount + 1, slot(i), 1));
+        }
+    }
+
+    public static ZonedDateTime slot(int index) {
+
+        return BASE_DATETIME.plus(SLOT_INTERVAL.multipliedBy(index));
+    }
+
+    public BenchWatchTarget target(int index) {
+
+        return this.targets.get(index % this.targets.size());
+    }
+
+    public List<BenchWatchTarget> targets() {
+
+        return this.targets;
+    }
+
+    public int size() {
+
+        return this.events.size();
+    }
+
+    public EventScheduler<BenchWatchTarget, BenchWatchParty, BenchWatchParty> scheduler() {
+
+        return new EventScheduler<>(new BenchManager(), this.events);
+    }
+
+}
@@ -0,0 +1,38 @@
+package fr.anisekai.wireless.plannifier.data;
+
+import fr.anisekai.wireless.api.plannifier.interfaces.SchedulerManager;
+import fr.anisekai.wireless.api.plannifier.interfaces.entities.Planifiable;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * {@link SchedulerManager} doing nothing, so that benchmarks only measure the scheduler itself.
+ */
+public class BenchManager implements SchedulerManager<BenchWatchTarget, BenchWatchParty, BenchWatchParty> {
+
+    @Override
+    public BenchWatchParty create(Planifiable<BenchWatchTarget> planifiable) {
+
+        return new BenchWatchParty(planifiable);
+    }
+
+    @Override
+    public BenchWatchParty update(BenchWatchParty entity, Consumer<BenchWatchParty> updateHook) {
+
+        return entity;
+    }
+
+    @Override
+    public List<BenchWatchParty> updateAll(List<BenchWatchParty> entities, Consumer<BenchWatchParty> updateHook) {
+
+        return entities;
+    }
+
+    @Override
+    public boolean delete(BenchWatchParty entity) {
+
+        return true;
+    }
+
+}
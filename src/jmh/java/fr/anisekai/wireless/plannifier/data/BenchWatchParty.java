@@ -0,0 +1,96 @@
+package fr.anisekai.wireless.plannifier.data;
+
+import fr.anisekai.wireless.api.plannifier.interfaces.entities.Planifiable;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.ZonedDateTime;
+
+public class BenchWatchParty implements Planifiable<BenchWatchTarget> {
+
+    private final BenchWatchTarget target;
+    private       int              firstEpisode;
+    private       ZonedDateTime    startingAt;
+    private       int              episodeCount;
+    private       boolean          skipEnabled;
+
+    public BenchWatchParty(Planifiable<BenchWatchTarget> planifiable) {
+
+        this(
+                planifiable.getWatchTarget(),
+                planifiable.getFirstEpisode(),
+                planifiable.getStartingAt(),
+                planifiable.getEpisodeCount()
+        );
+        this.skipEnabled = planifiable.isSkipEnabled();
+    }
+
+    public BenchWatchParty(BenchWatchTarget target, int firstEpisode, ZonedDateTime startingAt, int episodeCount) {
+
+        this.target       = target;
+        this.firstEpisode = firstEpisode;
+        this.startingAt   = startingAt;
+        this.episodeCount = episodeCount;
+        this.skipEnabled  = true;
+    }
+
+    @Override
+    public int getFirstEpisode() {
+
+        return this.firstEpisode;
+    }
+
+    @Override
+    public void setFirstEpisode(int firstEpisode) {
+
+        this.firstEpisode = firstEpisode;
+    }
+
+    @Override
+    public @NotNull BenchWatchTarget getWatchTarget() {
+
+        return this.target;
+    }
+
+    @Override
+    public void setWatchTarget(@NotNull BenchWatchTarget watchTarget) {
+
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public @NotNull ZonedDateTime getStartingAt() {
+
+        return this.startingAt;
+    }
+
+    @Override
+    public void setStartingAt(@NotNull ZonedDateTime time) {
+
+        this.startingAt = time;
+    }
+
+    @Override
+    public int getEpisodeCount() {
+
+        return this.episodeCount;
+    }
+
+    @Override
+    public void setEpisodeCount(int episodeCount) {
+
+        this.episodeCount = episodeCount;
+    }
+
+    @Override
+    public boolean isSkipEnabled() {
+
+        return this.skipEnabled;
+    }
+
+    @Override
+    public void setSkipEnabled(boolean skipEnabled) {
+
+        this.skipEnabled = skipEnabled;
+    }
+
+}
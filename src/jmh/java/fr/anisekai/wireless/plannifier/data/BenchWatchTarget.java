@@ -0,0 +1,54 @@
+package fr.anisekai.wireless.plannifier.data;
+
+import fr.anisekai.wireless.api.plannifier.interfaces.entities.WatchTarget;
+
+public class BenchWatchTarget implements WatchTarget {
+
+    public static final int EPISODE_DURATION_MINUTES = 24;
+
+    private int watched;
+    private int total;
+    private int episodeDuration = EPISODE_DURATION_MINUTES;
+
+    public BenchWatchTarget(int total) {
+
+        this.total = total;
+    }
+
+    @Override
+    public int getWatched() {
+
+        return this.watched;
+    }
+
+    @Override
+    public void setWatched(int watched) {
+
+        this.watched = watched;
+    }
+
+    @Override
+    public int getTotal() {
+
+        return this.total;
+    }
+
+    @Override
+    public void setTotal(int total) {
+
+        this.total = total;
+    }
+
+    @Override
+    public int getEpisodeDuration() {
+
+        return this.episodeDuration;
+    }
+
+    @Override
+    public void setEpisodeDuration(int episodeDuration) {
+
+        this.episodeDuration = episodeDuration;
+    }
+
+}
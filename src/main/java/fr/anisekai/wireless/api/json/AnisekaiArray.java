@@ -1,7 +1,9 @@
 package fr.anisekai.wireless.api.json;
 
+import org.jetbrains.annotations.NotNull;
 import org.json.JSONArray;
 import org.json.JSONException;
+import org.json.JSONObject;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -36,7 +38,8 @@ public class AnisekaiArray extends JSONArray {
     }
 
     /**
-     * Create a new {@link AnisekaiArray} instance from an existing {@link JSONArray} instance.
+     * Create a new {@link AnisekaiArray} instance from an existing {@link JSONArray} instance. The whole tree of the source is
+     * copied, making both instances completely independent. Use {@link #wrap(JSONArray)} to avoid the copy.
      *
      * @param array
      *         The {@link JSONArray} to transform into {@link AnisekaiArray}.
@@ -47,29 +50,74 @@ public class AnisekaiArray extends JSONArray {
     }
 
     /**
-     * Retrieve the {@link AnisekaiJson} instance at the provided index in this {@link AnisekaiArray}.
+     * Create an {@link AnisekaiArray} view over an existing {@link JSONArray}, without copying its tree.
+     * <p>
+     * Every element is shared with the source, and nested {@link JSONObject} and {@link JSONArray} are wrapped in place, within
+     * the view, when accessed. The source is thus handed over to the view and should not be used anymore, as both may diverge
+     * once modified. If the source is already an {@link AnisekaiArray}, it is returned as-is.
+     *
+     * @param array
+     *         The {@link JSONArray} to wrap.
+     *
+     * @return An {@link AnisekaiArray} sharing the elements of the source.
+     *
+     * @see #deepCopy()
+     */
+    public static AnisekaiArray wrap(@NotNull JSONArray array) {
+
+        if (array instanceof AnisekaiArray anisekaiArray) return anisekaiArray;
+
+        AnisekaiArray view = new AnisekaiArray();
+        view.putAll(array);
+        return view;
+    }
+
+    /**
+     * Create a copy of this {@link AnisekaiArray} and its whole tree, sharing no node with this instance.
+     *
+     * @return A new, independent {@link AnisekaiArray}.
+     */
+    public AnisekaiArray deepCopy() {
+
+        return new AnisekaiArray(this.toString());
+    }
+
+    /**
+     * Retrieve the {@link AnisekaiJson} instance at the provided index in this {@link AnisekaiArray}. The element is wrapped in
+     * place without being copied, so that changes made to the returned instance are reflected in this {@link AnisekaiArray}.
      *
      * @param index
      *         The index in {@link AnisekaiArray} from which the {@link AnisekaiJson} should be retrieved.
      *
-     * @return A new {@link AnisekaiJson} instance.
+     * @return The {@link AnisekaiJson} instance.
      */
     public AnisekaiJson getAnisekaiJson(int index) {
 
-        return new AnisekaiJson(this.getJSONObject(index));
+        JSONObject item = this.getJSONObject(index);
+        if (item instanceof AnisekaiJson anisekaiJson) return anisekaiJson;
+
+        AnisekaiJson anisekaiJson = AnisekaiJson.wrap(item);
+        this.put(index, anisekaiJson);
+        return anisekaiJson;
     }
 
     /**
-     * Retrieve the {@link AnisekaiArray} instance at the provided index in this {@link AnisekaiArray}.
+     * Retrieve the {@link AnisekaiArray} instance at the provided index in this {@link AnisekaiArray}. The element is wrapped in
+     * place without being copied, so that changes made to the returned instance are reflected in this {@link AnisekaiArray}.
      *
      * @param index
      *         The index in {@link AnisekaiArray} from which the {@link AnisekaiArray} should be retrieved.
      *
-     * @return A new {@link AnisekaiArray} instance.
+     * @return The {@link AnisekaiArray} instance.
      */
     public AnisekaiArray getAnisekaiArray(int index) {
 
-        return new AnisekaiArray(this.getJSONArray(index));
+        JSONArray item = this.getJSONArray(index);
+        if (item instanceof AnisekaiArray anisekaiArray) return anisekaiArray;
+
+        AnisekaiArray anisekaiArray = wrap(item);
+        this.put(index, anisekaiArray);
+        return anisekaiArray;
     }
 
     /**
@@ -1,6 +1,7 @@
 package fr.anisekai.wireless.api.json;
 
 import fr.anisekai.wireless.api.json.validation.JsonRule;
+import fr.anisekai.wireless.api.json.validation.JsonSchema;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.json.JSONArray;
@@ -14,8 +15,6 @@ import java.util.*;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
-import static fr.anisekai.wireless.utils.StringUtils.parseIntOrThrow;
-
 /**
  * Utility class adding few features on top of {@link JSONObject}.
  */
@@ -26,7 +25,7 @@ public class AnisekaiJson extends JSONObject {
             (json, key) -> {
                 JSONObject item = json.getJSONObject(key);
                 if (item instanceof AnisekaiJson anisekaiJson) return anisekaiJson;
-                AnisekaiJson anisekaiJson = new AnisekaiJson(item);
+                AnisekaiJson anisekaiJson = wrap(item);
                 json.put(key, anisekaiJson);
                 return anisekaiJson;
             };
@@ -35,7 +34,7 @@ public class AnisekaiJson extends JSONObject {
             (array, index) -> {
                 JSONArray item = array.getJSONArray(index);
                 if (item instanceof AnisekaiArray anisekaiArray) return anisekaiArray;
-                AnisekaiArray anisekaiArray = new AnisekaiArray(item);
+                AnisekaiArray anisekaiArray = AnisekaiArray.wrap(item);
                 array.put(index, anisekaiArray);
                 return anisekaiArray;
             };
@@ -44,7 +43,7 @@ public class AnisekaiJson extends JSONObject {
             (json, key) -> {
                 JSONArray item = json.getJSONArray(key);
                 if (item instanceof AnisekaiArray anisekaiArray) return anisekaiArray;
-                AnisekaiArray anisekaiArray = new AnisekaiArray(item);
+                AnisekaiArray anisekaiArray = AnisekaiArray.wrap(item);
                 json.put(key, anisekaiArray);
                 return anisekaiArray;
             };
@@ -52,7 +51,7 @@ public class AnisekaiJson extends JSONObject {
             (array, index) -> {
                 JSONObject item = array.getJSONObject(index);
                 if (item instanceof AnisekaiJson anisekaiJson) return anisekaiJson;
-                AnisekaiJson anisekaiJson = new AnisekaiJson(item);
+                AnisekaiJson anisekaiJson = wrap(item);
                 array.put(index, anisekaiJson);
                 return anisekaiJson;
             };
@@ -96,7 +95,8 @@ public class AnisekaiJson extends JSONObject {
     }
 
     /**
-     * Create an {@link AnisekaiJson} instance from an existing {@link JSONObject}.
+     * Create an {@link AnisekaiJson} instance from an existing {@link JSONObject}. The whole tree of the source is copied, making
+     * both instances completely independent. Use {@link #wrap(JSONObject)} to avoid the copy.
      *
      * @param source
      *         A {@link JSONObject} from which this {@link AnisekaiJson} will be initialized.
@@ -106,6 +106,44 @@ public class AnisekaiJson extends JSONObject {
         this(source.toString());
     }
 
+    private AnisekaiJson(JSONObject source, String[] names) {
+
+        super(source, names);
+    }
+
+    /**
+     * Create an {@link AnisekaiJson} view over an existing {@link JSONObject}, without copying its tree.
+     * <p>
+     * Only the first level of keys is referenced anew by the view: nested {@link JSONObject} and {@link JSONArray} are shared
+     * with the source and are themselves wrapped in place, within the view, when accessed. The source is thus handed over to the
+     * view and should not be used anymore, as both may diverge once modified. If the source is already an {@link AnisekaiJson},
+     * it is returned as-is.
+     *
+     * @param source
+     *         The {@link JSONObject} to wrap.
+     *
+     * @return An {@link AnisekaiJson} sharing the nodes of the source.
+     *
+     * @see #deepCopy()
+     */
+    public static AnisekaiJson wrap(@NotNull JSONObject source) {
+
+        if (source instanceof AnisekaiJson json) return json;
+
+        String[] names = JSONObject.getNames(source);
+        return new AnisekaiJson(source, names == null ? new String[0] : names);
+    }
+
+    /**
+     * Create a copy of this {@link AnisekaiJson} and its whole tree, sharing no node with this instance.
+     *
+     * @return A new, independent {@link AnisekaiJson}.
+     */
+    public AnisekaiJson deepCopy() {
+
+        return new AnisekaiJson(this.toString());
+    }
+
     /**
      * Traverses a JSON tree structure following a dot-separated path and applies a terminal function on the final node, which can
      * be a {@link JSONObject} or {@link JSONArray}.
@@ -132,42 +170,47 @@ public class AnisekaiJson extends JSONObject {
      */
     public <T> T getInTree(@NotNull String path, @NotNull BiFunction<JSONObject, String, T> ifJsonObj, @NotNull BiFunction<JSONArray, Integer, T> ifJsonArray) {
 
-        List<String> parts       = List.of(path.split("\\."));
-        Object       currentNode = this;
-
-        for (int i = 0; i < parts.size(); i++) {
-            boolean isLast      = i == parts.size() - 1;
-            String  key         = parts.get(i);
-            String  currentPath = String.join(".", parts.subList(0, i + 1));
-
-            //noinspection ChainOfInstanceofChecks
-            if (currentNode instanceof JSONObject object) {
-                if (isLast) return ifJsonObj.apply(object, key);
-                if (!object.has(key)) throw new JSONException(String.format("[%s] not found", currentPath));
-
-                currentNode = object.get(key);
-                continue;
-
-            } else if (currentNode instanceof JSONArray array) {
-                int idx = parseIntOrThrow(
-                        key, nfe -> new JSONException(
-                                String.format("[%s] Key was encountered when index was expected.", currentPath),
-                                nfe
-                        )
-                );
+        return JsonPath.of(path).resolve(this, ifJsonObj, ifJsonArray);
+    }
 
-                if (isLast) return ifJsonArray.apply(array, idx);
-                if (idx >= array.length()) throw new JSONException(String.format("[%s] Index was out of bounds", currentPath));
+    /**
+     * Traverses the JSON tree structure following the provided {@link JsonPath} in a single pass and applies a terminal function
+     * on the value, if it exists.
+     *
+     * @param path
+     *         The compiled {@link JsonPath}.
+     * @param ifJsonObj
+     *         Function to handle the final node if it is a {@link JSONObject}, only called if the key exists.
+     * @param ifJsonArray
+     *         Function to handle the final node if it is a {@link JSONArray}, only called if the index exists.
+     * @param <T>
+     *         The type of result returned by the handler functions.
+     *
+     * @return An {@link Optional} containing the result of the applied handler function, empty if the path does not exist.
+     *
+     * @throws JSONException
+     *         If the handler function could not convert the value.
+     * @throws UnsupportedOperationException
+     *         If the traversal encounters an unsupported type.
+     */
+    public <T> Optional<T> lookup(
+            @NotNull JsonPath path,
+            @NotNull BiFunction<JSONObject, String, T> ifJsonObj,
+            @NotNull BiFunction<JSONArray, Integer, T> ifJsonArray
+    ) {
 
-                currentNode = array.get(idx);
-                continue;
-            }
+        return Optional.ofNullable(path.lookup(this, ifJsonObj, ifJsonArray));
+    }
 
-            throw new UnsupportedOperationException("Encountered unsupported type: " + currentNode.getClass().getSimpleName());
-        }
+    private <T> T require(
+            @NotNull JsonPath path,
+            @NotNull BiFunction<JSONObject, String, T> ifJsonObj,
+            @NotNull BiFunction<JSONArray, Integer, T> ifJsonArray
+    ) {
 
-        // We should never get here, but this is to suppress error/warning messages.
-        throw new IllegalStateException(String.format("[%s] Unresolved path.", path));
+        T value = path.lookup(this, ifJsonObj, ifJsonArray);
+        if (value == null) throw path.notFound(this);
+        return value;
     }
 
     /**
@@ -199,17 +242,17 @@ public class AnisekaiJson extends JSONObject {
             return this;
         }
 
-        List<String> parts = List.of(path.split("\\."));
+        JsonPath parts = JsonPath.of(path);
 
         AnisekaiJson currentNode = this;
-        for (int i = 0; i < parts.size() - 1; i++) {
-            String key = parts.get(i);
+        for (int i = 0; i < parts.depth() - 1; i++) {
+            String key = parts.getKey(i);
 
             if (!currentNode.has(key)) currentNode.put(key, new AnisekaiJson());
             currentNode = currentNode.readJson(key);
         }
 
-        currentNode.put(parts.getLast(), effectiveValue);
+        currentNode.put(parts.getKey(parts.depth() - 1), effectiveValue);
         return this;
     }
 
@@ -228,11 +271,7 @@ public class AnisekaiJson extends JSONObject {
      */
     public boolean hasInTree(@NotNull String path) {
 
-        try {
-            return this.getInTree(path, JSONObject::has, (array, index) -> index < array.length());
-        } catch (JSONException e) {
-            return false;
-        }
+        return JsonPath.of(path).exists(this);
     }
 
     /**
@@ -263,11 +302,7 @@ public class AnisekaiJson extends JSONObject {
      */
     public Optional<Integer> getOptionalInteger(@NotNull String path) {
 
-        return this.hasInTree(path) ? Optional.of(this.getInTree(
-                path,
-                JSONObject::getInt,
-                JSONArray::getInt
-        )) : Optional.empty();
+        return this.lookup(JsonPath.of(path), JSONObject::getInt, JSONArray::getInt);
     }
 
     /**
@@ -280,11 +315,7 @@ public class AnisekaiJson extends JSONObject {
      */
     public Optional<Long> getOptionalLong(@NotNull String path) {
 
-        return this.hasInTree(path) ? Optional.of(this.getInTree(
-                path,
-                JSONObject::getLong,
-                JSONArray::getLong
-        )) : Optional.empty();
+        return this.lookup(JsonPath.of(path), JSONObject::getLong, JSONArray::getLong);
     }
 
     /**
@@ -297,11 +328,7 @@ public class AnisekaiJson extends JSONObject {
      */
     public Optional<Double> getOptionalDouble(@NotNull String path) {
 
-        return this.hasInTree(path) ? Optional.of(this.getInTree(
-                path,
-                JSONObject::getDouble,
-                JSONArray::getDouble
-        )) : Optional.empty();
+        return this.lookup(JsonPath.of(path), JSONObject::getDouble, JSONArray::getDouble);
     }
 
     /**
@@ -314,11 +341,7 @@ public class AnisekaiJson extends JSONObject {
      */
     public Optional<Boolean> getOptionalBoolean(@NotNull String path) {
 
-        return this.hasInTree(path) ? Optional.of(this.getInTree(
-                path,
-                JSONObject::getBoolean,
-                JSONArray::getBoolean
-        )) : Optional.empty();
+        return this.lookup(JsonPath.of(path), JSONObject::getBoolean, JSONArray::getBoolean);
     }
 
     /**
@@ -331,11 +354,7 @@ public class AnisekaiJson extends JSONObject {
      */
     public Optional<String> getOptionalString(@NotNull String path) {
 
-        return this.hasInTree(path) ? Optional.of(this.getInTree(
-                path,
-                JSONObject::getString,
-                JSONArray::getString
-        )) : Optional.empty();
+        return this.lookup(JsonPath.of(path), JSONObject::getString, JSONArray::getString);
     }
 
     /**
@@ -362,11 +381,7 @@ public class AnisekaiJson extends JSONObject {
      */
     public Optional<AnisekaiArray> getOptionalArray(@NotNull String path) {
 
-        return this.hasInTree(path) ? Optional.of(this.getInTree(
-                path,
-                ANISEKAI_JSON_ARRAY,
-                ANISEKAI_ARRAY_ARRAY
-        )) : Optional.empty();
+        return this.lookup(JsonPath.of(path), ANISEKAI_JSON_ARRAY, ANISEKAI_ARRAY_ARRAY);
     }
 
     /**
@@ -379,11 +394,7 @@ public class AnisekaiJson extends JSONObject {
      */
     public Optional<AnisekaiJson> getOptionalJson(@NotNull String path) {
 
-        return this.hasInTree(path) ? Optional.ofNullable(this.getInTree(
-                path,
-                ANISEKAI_JSON_JSON,
-                ANISEKAI_ARRAY_JSON
-        )) : Optional.empty();
+        return this.lookup(JsonPath.of(path), ANISEKAI_JSON_JSON, ANISEKAI_ARRAY_JSON);
     }
 
     /**
@@ -431,11 +442,7 @@ public class AnisekaiJson extends JSONObject {
      */
     public Optional<Object> getOptional(@NotNull String path) {
 
-        return this.hasInTree(path) ? Optional.ofNullable(this.getInTree(
-                path,
-                JSONObject::get,
-                JSONArray::get
-        )) : Optional.empty();
+        return this.lookup(JsonPath.of(path), JSONObject::get, JSONArray::get);
     }
 
     // </editor-fold>
@@ -452,7 +459,7 @@ public class AnisekaiJson extends JSONObject {
      */
     public Integer readInteger(@NotNull String path) {
 
-        return this.getOptionalInteger(path).orElseThrow(() -> new JSONException("[%s] not found."));
+        return this.require(JsonPath.of(path), JSONObject::getInt, JSONArray::getInt);
     }
 
     /**
@@ -465,7 +472,7 @@ public class AnisekaiJson extends JSONObject {
      */
     public Long readLong(@NotNull String path) {
 
-        return this.getOptionalLong(path).orElseThrow(() -> new JSONException("[%s] not found."));
+        return this.require(JsonPath.of(path), JSONObject::getLong, JSONArray::getLong);
     }
 
     /**
@@ -478,7 +485,7 @@ public class AnisekaiJson extends JSONObject {
      */
     public Double readDouble(@NotNull String path) {
 
-        return this.getOptionalDouble(path).orElseThrow(() -> new JSONException("[%s] not found."));
+        return this.require(JsonPath.of(path), JSONObject::getDouble, JSONArray::getDouble);
     }
 
     /**
@@ -491,7 +498,7 @@ public class AnisekaiJson extends JSONObject {
      */
     public Boolean readBoolean(@NotNull String path) {
 
-        return this.getOptionalBoolean(path).orElseThrow(() -> new JSONException("[%s] not found."));
+        return this.require(JsonPath.of(path), JSONObject::getBoolean, JSONArray::getBoolean);
     }
 
     /**
@@ -504,7 +511,7 @@ public class AnisekaiJson extends JSONObject {
      */
     public String readString(@NotNull String path) {
 
-        return this.getOptionalString(path).orElseThrow(() -> new JSONException("[%s] not found.".formatted(path)));
+        return this.require(JsonPath.of(path), JSONObject::getString, JSONArray::getString);
     }
 
     /**
@@ -517,7 +524,8 @@ public class AnisekaiJson extends JSONObject {
      */
     public ZonedDateTime readZonedDateTime(@NotNull String path) {
 
-        return this.getOptionalZonedDateTime(path).orElseThrow(() -> new JSONException("[%s] not found.".formatted(path)));
+        String value = this.require(JsonPath.of(path), JSONObject::getString, JSONArray::getString);
+        return ZonedDateTime.parse(value, DateTimeFormatter.ISO_OFFSET_DATE_TIME);
     }
 
     /**
@@ -530,7 +538,7 @@ public class AnisekaiJson extends JSONObject {
      */
     public AnisekaiArray readArray(@NotNull String path) {
 
-        return this.getOptionalArray(path).orElseThrow(() -> new JSONException("[%s] not found.".formatted(path)));
+        return this.require(JsonPath.of(path), ANISEKAI_JSON_ARRAY, ANISEKAI_ARRAY_ARRAY);
     }
 
     /**
@@ -543,7 +551,7 @@ public class AnisekaiJson extends JSONObject {
      */
     public AnisekaiJson readJson(@NotNull String path) {
 
-        return this.getOptionalJson(path).orElseThrow(() -> new JSONException("[%s] not found.".formatted(path)));
+        return this.require(JsonPath.of(path), ANISEKAI_JSON_JSON, ANISEKAI_ARRAY_JSON);
     }
 
     /**
@@ -560,7 +568,7 @@ public class AnisekaiJson extends JSONObject {
      */
     public <T> List<T> readList(@NotNull String path, @NotNull Function<AnisekaiJson, T> mapper) {
 
-        return this.getOptionalList(path, mapper).orElseThrow(() -> new JSONException("[%s] not found.".formatted(path)));
+        return this.readArray(path).map(mapper);
     }
 
     /**
@@ -577,7 +585,7 @@ public class AnisekaiJson extends JSONObject {
      */
     public <T> T read(@NotNull String path, @NotNull Function<AnisekaiJson, T> mapper) {
 
-        return this.getOptional(path, mapper).orElseThrow(() -> new JSONException("[%s] not found.".formatted(path)));
+        return mapper.apply(this.readJson(path));
     }
 
     // </editor-fold>
@@ -838,4 +846,19 @@ public class AnisekaiJson extends JSONObject {
         }
     }
 
+    /**
+     * Check if this {@link AnisekaiJson} follows the provided {@link JsonSchema}. Prefer this over the {@link JsonRule} variants
+     * when the same set of rules is used repeatedly.
+     *
+     * @param schema
+     *         The compiled schema to check.
+     *
+     * @throws JSONException
+     *         Thrown for the first rule that didn't match.
+     */
+    public void validate(JsonSchema schema) {
+
+        schema.validate(this);
+    }
+
 }
@@ -0,0 +1,319 @@
+package fr.anisekai.wireless.api.json;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+/**
+ * Compiled form of a dot-separated path (e.g., "config.display.theme") used to access values within a {@link JSONObject}
+ * tree.
+ * <p>
+ * The path is split once and each segment is pre-parsed as an array index, so that traversals do not have to parse the path
+ * again. Compiled paths are cached per string by {@link #of(String)}, making it cheap to use literal paths repeatedly. Error
+ * messages, which require the path prefix leading to the failing segment, are only built when an error is actually raised.
+ */
+public final class JsonPath {
+
+    private static final int                   CACHE_LIMIT = 4096;
+    private static final Map<String, JsonPath> CACHE       = new ConcurrentHashMap<>();
+
+    private final String   path;
+    private final String[] keys;
+    private final int[]    indices;
+
+    private JsonPath(String path) {
+
+        this.path    = path;
+        this.keys    = path.split("\\.");
+        this.indices = new int[this.keys.length];
+
+        for (int i = 0; i < this.keys.length; i++) {
+            this.indices[i] = parseIndex(this.keys[i]);
+        }
+    }
+
+    /**
+     * Retrieve the {@link JsonPath} compiled from the provided dot-separated path. Compiled paths are cached, so calling this
+     * method multiple times with the same path will not parse it again.
+     *
+     * @param path
+     *         The dot-separated path (e.g., "config.display.theme").
+     *
+     * @return The compiled {@link JsonPath}.
+     */
+    public static JsonPath of(@NotNull String path) {
+
+        JsonPath cached = CACHE.get(path);
+        if (cached != null) return cached;
+
+        JsonPath compiled = new JsonPath(path);
+        // Paths are expected to be literals: dynamic ones would only make the cache grow indefinitely.
+        if (CACHE.size() < CACHE_LIMIT) CACHE.putIfAbsent(path, compiled);
+        return compiled;
+    }
+
+    private static int parseIndex(String key) {
+
+        if (key.isEmpty() || key.length() > 9) return -1;
+
+        int index = 0;
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (c < '0' || c > '9') return -1;
+            index = index * 10 + (c - '0');
+        }
+        return index;
+    }
+
+    /**
+     * Retrieve the number of segments in this {@link JsonPath}.
+     *
+     * @return The segment count.
+     */
+    public int depth() {
+
+        return this.keys.length;
+    }
+
+    /**
+     * Retrieve the key of the segment at the provided depth.
+     *
+     * @param depth
+     *         The index of the segment, starting at 0.
+     *
+     * @return The segment key.
+     */
+    public String getKey(int depth) {
+
+        return this.keys[depth];
+    }
+
+    /**
+     * Retrieve the array index of the segment at the provided depth.
+     *
+     * @param depth
+     *         The index of the segment, starting at 0.
+     *
+     * @return The segment index, or {@code -1} if the segment is not a valid array index.
+     */
+    public int getIndex(int depth) {
+
+        return this.indices[depth];
+    }
+
+    /**
+     * Retrieve the dot-separated path leading to the segment at the provided depth, included.
+     *
+     * @param depth
+     *         The index of the segment, starting at 0.
+     *
+     * @return The path prefix.
+     */
+    public String getPrefix(int depth) {
+
+        if (depth == this.keys.length - 1) return this.path;
+        return String.join(".", Arrays.copyOf(this.keys, depth + 1));
+    }
+
+    /**
+     * Traverses the provided tree following this {@link JsonPath} and applies a terminal function on the final node, which can
+     * be a {@link JSONObject} or {@link JSONArray}. The terminal function is applied even if the last segment does not exist
+     * in the final node.
+     *
+     * @param root
+     *         The {@link JSONObject} from which the traversal will start.
+     * @param ifJsonObj
+     *         Function to handle the final node if it is a {@link JSONObject}.
+     * @param ifJsonArray
+     *         Function to handle the final node if it is a {@link JSONArray}.
+     * @param <T>
+     *         The type of result returned by the handler functions.
+     *
+     * @return The result of the applied handler function.
+     *
+     * @throws JSONException
+     *         If the path cannot be resolved due to a missing key, type mismatch, or invalid array index.
+     * @throws UnsupportedOperationException
+     *         If the traversal encounters an unsupported type.
+     */
+    public <T> T resolve(
+            @NotNull JSONObject root,
+            @NotNull BiFunction<JSONObject, String, T> ifJsonObj,
+            @NotNull BiFunction<JSONArray, Integer, T> ifJsonArray
+    ) {
+
+        int    last        = this.keys.length - 1;
+        Object currentNode = root;
+
+        for (int i = 0; i <= last; i++) {
+            String key = this.keys[i];
+
+            //noinspection ChainOfInstanceofChecks
+            if (currentNode instanceof JSONObject object) {
+                if (i == last) return ifJsonObj.apply(object, key);
+                if (!object.has(key)) throw new JSONException(String.format("[%s] not found", this.getPrefix(i)));
+
+                currentNode = object.get(key);
+                continue;
+
+            } else if (currentNode instanceof JSONArray array) {
+                int idx = this.indices[i];
+
+                if (idx < 0) {
+                    throw new JSONException(String.format(
+                            "[%s] Key was encountered when index was expected.",
+                            this.getPrefix(i)
+                    ));
+                }
+
+                if (i == last) return ifJsonArray.apply(array, idx);
+                if (idx >= array.length()) {
+                    throw new JSONException(String.format("[%s] Index was out of bounds", this.getPrefix(i)));
+                }
+
+                currentNode = array.get(idx);
+                continue;
+            }
+
+            throw unsupported(currentNode);
+        }
+
+        // We should never get here, but this is to suppress error/warning messages.
+        throw new IllegalStateException(String.format("[%s] Unresolved path.", this.path));
+    }
+
+    /**
+     * Traverses the provided tree following this {@link JsonPath} in a single pass and applies a terminal function on the
+     * value, if it exists. Unlike {@link #resolve(JSONObject, BiFunction, BiFunction)}, a missing value does not throw but
+     * returns {@code null}: no exception is created nor caught on a miss.
+     * <p>
+     * As with {@link JSONObject#has(String)}, a key associated to {@link JSONObject#NULL} is considered as existing.
+     *
+     * @param root
+     *         The {@link JSONObject} from which the traversal will start.
+     * @param ifJsonObj
+     *         Function to handle the final node if it is a {@link JSONObject}, only called if the key exists.
+     * @param ifJsonArray
+     *         Function to handle the final node if it is a {@link JSONArray}, only called if the index exists.
+     * @param <T>
+     *         The type of result returned by the handler functions.
+     *
+     * @return The result of the applied handler function, or {@code null} if no value exists under this path.
+     *
+     * @throws JSONException
+     *         If the handler function could not convert the value.
+     * @throws UnsupportedOperationException
+     *         If the traversal encounters an unsupported type.
+     */
+    public <T> @Nullable T lookup(
+            @NotNull JSONObject root,
+            @NotNull BiFunction<JSONObject, String, T> ifJsonObj,
+            @NotNull BiFunction<JSONArray, Integer, T> ifJsonArray
+    ) {
+
+        int    last        = this.keys.length - 1;
+        Object currentNode = root;
+
+        for (int i = 0; i < last && currentNode != null; i++) {
+            currentNode = this.child(currentNode, i);
+        }
+
+        //noinspection ChainOfInstanceofChecks
+        if (currentNode == null) {
+            return null;
+        } else if (currentNode instanceof JSONObject object) {
+            return object.has(this.keys[last]) ? ifJsonObj.apply(object, this.keys[last]) : null;
+        } else if (currentNode instanceof JSONArray array) {
+            int idx = this.indices[last];
+            return idx >= 0 && idx < array.length() ? ifJsonArray.apply(array, idx) : null;
+        }
+
+        throw unsupported(currentNode);
+    }
+
+    /**
+     * Check if this {@link JsonPath} leads to an existing value within the provided tree. This does not check for nullability of
+     * the value; as long as the key exists, the key will be considered as "existing".
+     *
+     * @param root
+     *         The {@link JSONObject} from which the traversal will start.
+     *
+     * @return True if the key exists, false otherwise.
+     *
+     * @throws UnsupportedOperationException
+     *         If the traversal encounters an unsupported type.
+     */
+    public boolean exists(@NotNull JSONObject root) {
+
+        return this.lookup(root, (object, key) -> Boolean.TRUE, (array, index) -> Boolean.TRUE) != null;
+    }
+
+    /**
+     * Create the {@link JSONException} describing why this {@link JsonPath} could not be found within the provided tree. The tree
+     * is traversed again to point to the first missing segment, which is acceptable as this is only done when raising an error.
+     *
+     * @param root
+     *         The {@link JSONObject} in which the lookup failed.
+     *
+     * @return A {@link JSONException}.
+     */
+    public JSONException notFound(@NotNull JSONObject root) {
+
+        Object currentNode = root;
+
+        for (int i = 0; i < this.keys.length; i++) {
+            if (!(currentNode instanceof JSONObject) && !(currentNode instanceof JSONArray)) break;
+
+            currentNode = this.child(currentNode, i);
+            if (currentNode == null) return new JSONException(String.format("[%s] not found.", this.getPrefix(i)));
+        }
+
+        return new JSONException(String.format("[%s] not found.", this.path));
+    }
+
+    private @Nullable Object child(Object node, int depth) {
+
+        //noinspection ChainOfInstanceofChecks
+        if (node instanceof JSONObject object) {
+            return object.opt(this.keys[depth]);
+        } else if (node instanceof JSONArray array) {
+            int idx = this.indices[depth];
+            return idx >= 0 && idx < array.length() ? array.opt(idx) : null;
+        }
+
+        throw unsupported(node);
+    }
+
+    private static UnsupportedOperationException unsupported(Object node) {
+
+        return new UnsupportedOperationException("Encountered unsupported type: " + node.getClass().getSimpleName());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) return true;
+        if (!(o instanceof JsonPath other)) return false;
+        return this.path.equals(other.path);
+    }
+
+    @Override
+    public int hashCode() {
+
+        return this.path.hashCode();
+    }
+
+    @Override
+    public String toString() {
+
+        return this.path;
+    }
+
+}
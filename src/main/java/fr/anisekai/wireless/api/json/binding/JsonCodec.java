@@ -0,0 +1,344 @@
+package fr.anisekai.wireless.api.json.binding;
+
+import fr.anisekai.wireless.api.json.AnisekaiJson;
+import fr.anisekai.wireless.api.json.JsonPath;
+import fr.anisekai.wireless.api.json.stream.JsonBinder;
+import fr.anisekai.wireless.api.json.stream.JsonReader;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Mapper between {@link AnisekaiJson} and a Java record or a class with fields annotated by {@link JsonProperty}.
+ * <p>
+ * A {@link JsonCodec} is built once per type by {@link #of(Class)}: its properties, their compiled {@link JsonPath} and their
+ * converters are resolved up front, and the constructor and accessors are bound as {@link MethodHandle}s. Decoding or encoding
+ * a value is then a single pass over the properties, without reflective lookups nor path parsing.
+ * <p>
+ * Supported property types are {@link String}, primitives and their wrappers ({@code int}, {@code long}, {@code double},
+ * {@code float}, {@code boolean}), enums (by name), {@link java.time.ZonedDateTime} (ISO offset date-time), {@link List} and
+ * {@link java.util.Map} with {@link String} keys of any supported type, {@link JSONObject}, {@link JSONArray} and nested
+ * records or annotated classes.
+ * <p>
+ * A record is created through its canonical constructor. A class must declare a no-arg constructor, and its annotated fields
+ * are assigned after its creation, values missing from the JSON leaving the field untouched.
+ *
+ * @param <T>
+ *         Type of the object bound by this {@link JsonCodec}.
+ */
+public final class JsonCodec<T> {
+
+    private static final ClassValue<JsonCodec<?>> CODECS = new ClassValue<>() {
+
+        @Override
+        protected JsonCodec<?> computeValue(@NotNull Class<?> type) {
+
+            return new JsonCodec<>(type);
+        }
+    };
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Class<T>     type;
+    private final Property[]   properties;
+    private final MethodHandle constructor;
+
+    private JsonCodec(Class<T> type) {
+
+        this.type = type;
+
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+        try {
+            if (type.isRecord()) {
+                RecordComponent[] components = type.getRecordComponents();
+                Class<?>[]        types      = new Class<?>[components.length];
+                this.properties = new Property[components.length];
+
+                for (int i = 0; i < components.length; i++) {
+                    RecordComponent component = components[i];
+                    Method          accessor  = component.getAccessor();
+                    accessor.setAccessible(true);
+
+                    types[i]           = component.getType();
+                    this.properties[i] = Property.of(
+                            component.getName(),
+                            component.getAnnotation(JsonProperty.class),
+                            component.getGenericType(),
+                            lookup.unreflect(accessor).asType(GETTER_TYPE),
+                            null
+                    );
+                }
+
+                Constructor<T> canonical = type.getDeclaredConstructor(types);
+                canonical.setAccessible(true);
+                this.constructor = lookup.unreflectConstructor(canonical)
+                                         .asType(MethodType.genericMethodType(components.length))
+                                         .asSpreader(Object[].class, components.length);
+            } else {
+                List<Property> fields = new ArrayList<>();
+
+                for (Field field : boundFields(type)) {
+                    field.setAccessible(true);
+                    fields.add(Property.of(
+                            field.getName(),
+                            field.getAnnotation(JsonProperty.class),
+                            field.getGenericType(),
+                            lookup.unreflectGetter(field).asType(GETTER_TYPE),
+                            lookup.unreflectSetter(field).asType(SETTER_TYPE)
+                    ));
+                }
+
+                if (fields.isEmpty()) {
+                    throw new IllegalArgumentException("It is neither a record nor has fields annotated with @JsonProperty.");
+                }
+
+                Constructor<T> noArgs = type.getDeclaredConstructor();
+                noArgs.setAccessible(true);
+                this.properties  = fields.toArray(Property[]::new);
+                this.constructor = lookup.unreflectConstructor(noArgs).asType(MethodType.methodType(Object.class));
+            }
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            throw new IllegalArgumentException(String.format(
+                    "Cannot build JsonCodec on %s: %s",
+                    type.getName(),
+                    e.getMessage()
+            ), e);
+        }
+    }
+
+    /**
+     * Retrieve the {@link JsonCodec} of the provided type. Codecs are built once per type and cached afterward.
+     *
+     * @param type
+     *         The record or annotated class to bind.
+     * @param <T>
+     *         Type of the object bound by the {@link JsonCodec}.
+     *
+     * @return The {@link JsonCodec} of the provided type.
+     *
+     * @throws IllegalArgumentException
+     *         If the provided type, or the type of one of its properties, cannot be bound.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> JsonCodec<T> of(@NotNull Class<T> type) {
+
+        return (JsonCodec<T>) CODECS.get(type);
+    }
+
+    /**
+     * Check if the provided type can be bound by a {@link JsonCodec}, without building it.
+     *
+     * @param type
+     *         The type to check.
+     *
+     * @return True if the type is a record or has at least one field annotated with {@link JsonProperty}.
+     */
+    static boolean isBindable(Class<?> type) {
+
+        return type.isRecord() || !boundFields(type).isEmpty();
+    }
+
+    private static List<Field> boundFields(Class<?> type) {
+
+        List<Field> fields = new ArrayList<>();
+
+        if (type.getSuperclass() != null && type.getSuperclass() != Object.class) {
+            fields.addAll(boundFields(type.getSuperclass()));
+        }
+
+        for (Field field : type.getDeclaredFields()) {
+            if (!Modifier.isStatic(field.getModifiers()) && field.isAnnotationPresent(JsonProperty.class)) {
+                fields.add(field);
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * Retrieve the type bound by this {@link JsonCodec}.
+     *
+     * @return A {@link Class}.
+     */
+    public Class<T> getType() {
+
+        return this.type;
+    }
+
+    /**
+     * Create an instance of the bound type from the provided {@link JSONObject}.
+     *
+     * @param json
+     *         The {@link JSONObject} to decode.
+     *
+     * @return The decoded instance.
+     *
+     * @throws JSONException
+     *         If a required value is missing, or if a value is not compatible with its property type.
+     */
+    public T decode(@NotNull JSONObject json) {
+
+        Object[] values = new Object[this.properties.length];
+
+        for (int i = 0; i < this.properties.length; i++) {
+            values[i] = this.properties[i].decode(json);
+        }
+
+        try {
+            if (this.type.isRecord()) {
+                return this.type.cast((Object) this.constructor.invokeExact(values));
+            }
+
+            Object instance = this.constructor.invokeExact();
+            for (int i = 0; i < this.properties.length; i++) {
+                if (values[i] != null) this.properties[i].setter().invokeExact(instance, values[i]);
+            }
+            return this.type.cast(instance);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(String.format("Could not create %s", this.type.getName()), e);
+        }
+    }
+
+    /**
+     * Create instances of the bound type from each {@link JSONObject} of the provided {@link JSONArray}.
+     *
+     * @param array
+     *         The {@link JSONArray} to decode.
+     *
+     * @return The list of decoded instances.
+     *
+     * @throws JSONException
+     *         If an element is not a {@link JSONObject} or could not be decoded.
+     */
+    public List<T> decodeAll(@NotNull JSONArray array) {
+
+        List<T> values = new ArrayList<>(array.length());
+        for (int i = 0; i < array.length(); i++) {
+            values.add(this.decode(array.getJSONObject(i)));
+        }
+        return values;
+    }
+
+    /**
+     * Create the {@link AnisekaiJson} representation of the provided instance. {@code null} properties are omitted.
+     *
+     * @param value
+     *         The instance to encode.
+     *
+     * @return An {@link AnisekaiJson}.
+     */
+    public AnisekaiJson encode(@NotNull T value) {
+
+        AnisekaiJson json = new AnisekaiJson();
+
+        for (Property property : this.properties) {
+            property.encode(value, json);
+        }
+        return json;
+    }
+
+    /**
+     * Retrieve a {@link JsonBinder} decoding the next object of a {@link JsonReader} with this {@link JsonCodec}. The object is
+     * materialized before being decoded; prefer a dedicated {@link JsonBinder} when only a few keys of a large object are needed.
+     *
+     * @return A {@link JsonBinder}.
+     */
+    public JsonBinder<T> binder() {
+
+        return reader -> this.decode(reader.readJson());
+    }
+
+    @Override
+    public String toString() {
+
+        return String.format("JsonCodec[%s]", this.type.getName());
+    }
+
+    /**
+     * A bound property, with everything needed to read and write it resolved once.
+     *
+     * @param path
+     *         The compiled path of the value.
+     * @param required
+     *         True if the value must be present when decoding.
+     * @param converter
+     *         The {@link JsonConverter} of the property type.
+     * @param getter
+     *         Handle of type {@code (Object)Object} reading the property.
+     * @param setter
+     *         Handle of type {@code (Object,Object)void} writing the property, {@code null} for record components.
+     */
+    private record Property(
+            JsonPath path,
+            boolean required,
+            JsonConverter converter,
+            MethodHandle getter,
+            @Nullable MethodHandle setter
+    ) {
+
+        private static Property of(
+                String name,
+                @Nullable JsonProperty annotation,
+                Type type,
+                MethodHandle getter,
+                @Nullable MethodHandle setter
+        ) {
+
+            String  key       = annotation == null || annotation.value().isEmpty() ? name : annotation.value();
+            boolean primitive = type instanceof Class<?> cls && cls.isPrimitive();
+            boolean required  = primitive || (annotation != null && annotation.required());
+
+            try {
+                return new Property(JsonPath.of(key), required, JsonConverter.of(type), getter, setter);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(String.format("[%s] %s", name, e.getMessage()), e);
+            }
+        }
+
+        private @Nullable Object decode(JSONObject json) {
+
+            Object value = this.path.depth() == 1
+                    ? json.opt(this.path.getKey(0))
+                    : this.path.lookup(json, JSONObject::opt, JSONArray::opt);
+
+            if (value == null || value == JSONObject.NULL) {
+                if (this.required) throw new JSONException(String.format("[%s] not found.", this.path));
+                return null;
+            }
+
+            try {
+                return this.converter.decode(value);
+            } catch (JSONException e) {
+                throw new JSONException(String.format("[%s] %s", this.path, e.getMessage()), e);
+            }
+        }
+
+        private void encode(Object instance, AnisekaiJson json) {
+
+            Object value;
+            try {
+                value = (Object) this.getter.invokeExact(instance);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(String.format("Could not read [%s]", this.path), e);
+            }
+
+            if (value != null) json.put(this.path.toString(), this.converter.encode(value));
+        }
+
+    }
+
+}
@@ -0,0 +1,247 @@
+package fr.anisekai.wireless.api.json.binding;
+
+import fr.anisekai.wireless.api.json.AnisekaiArray;
+import fr.anisekai.wireless.api.json.AnisekaiJson;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Conversion of a single value between its JSON representation and its Java type, resolved once per bound property by a
+ * {@link JsonCodec}.
+ */
+interface JsonConverter {
+
+    /**
+     * Convert the provided JSON value to the Java type of this {@link JsonConverter}.
+     *
+     * @param value
+     *         The JSON value, never {@code null} nor {@link JSONObject#NULL}.
+     *
+     * @return The converted value.
+     *
+     * @throws JSONException
+     *         If the JSON value is not compatible with the Java type.
+     */
+    Object decode(Object value);
+
+    /**
+     * Convert the provided Java value to its JSON representation.
+     *
+     * @param value
+     *         The Java value, never {@code null}.
+     *
+     * @return The JSON value.
+     */
+    Object encode(Object value);
+
+    /**
+     * Create the {@link JsonConverter} handling the provided {@link Type}.
+     *
+     * @param type
+     *         The {@link Type} to convert.
+     *
+     * @return A {@link JsonConverter}.
+     *
+     * @throws IllegalArgumentException
+     *         If the provided {@link Type} is not supported.
+     */
+    static JsonConverter of(Type type) {
+
+        if (type instanceof ParameterizedType parameterized) {
+            Type   raw       = parameterized.getRawType();
+            Type[] arguments = parameterized.getActualTypeArguments();
+
+            if (raw == List.class) return list(of(arguments[0]));
+            if (raw == Map.class && arguments[0] == String.class) return map(of(arguments[1]));
+
+        } else if (type instanceof Class<?> cls) {
+            if (cls == String.class) return of(value -> cast(value, String.class), Function.identity());
+            if (cls == int.class || cls == Integer.class) return of(value -> number(value).intValue(), Function.identity());
+            if (cls == long.class || cls == Long.class) return of(value -> number(value).longValue(), Function.identity());
+            if (cls == double.class || cls == Double.class) return of(value -> number(value).doubleValue(), Function.identity());
+            if (cls == float.class || cls == Float.class) return of(value -> number(value).floatValue(), Function.identity());
+            if (cls == boolean.class || cls == Boolean.class) return of(JsonConverter::bool, Function.identity());
+            if (cls == ZonedDateTime.class) {
+                return of(JsonConverter::dateTime, value -> DateTimeFormatter.ISO_OFFSET_DATE_TIME.format((ZonedDateTime) value));
+            }
+            if (cls == Object.class) return of(Function.identity(), Function.identity());
+            if (cls == JSONObject.class || cls == AnisekaiJson.class) {
+                return of(value -> AnisekaiJson.wrap(cast(value, JSONObject.class)), Function.identity());
+            }
+            if (cls == JSONArray.class || cls == AnisekaiArray.class) {
+                return of(value -> AnisekaiArray.wrap(cast(value, JSONArray.class)), Function.identity());
+            }
+            if (cls.isEnum()) return enumeration(cls);
+            if (JsonCodec.isBindable(cls)) return nested(cls);
+        }
+
+        throw new IllegalArgumentException(String.format("Unsupported type %s.", type.getTypeName()));
+    }
+
+    private static JsonConverter of(Function<Object, Object> decoder, Function<Object, Object> encoder) {
+
+        return new JsonConverter() {
+
+            @Override
+            public Object decode(Object value) {
+
+                return decoder.apply(value);
+            }
+
+            @Override
+            public Object encode(Object value) {
+
+                return encoder.apply(value);
+            }
+        };
+    }
+
+    private static JsonConverter list(JsonConverter element) {
+
+        return of(
+                value -> {
+                    JSONArray    array = cast(value, JSONArray.class);
+                    List<Object> list  = new ArrayList<>(array.length());
+
+                    for (int i = 0; i < array.length(); i++) {
+                        Object item = array.opt(i);
+                        list.add(item == null || item == JSONObject.NULL ? null : element.decode(item));
+                    }
+                    return list;
+                },
+                value -> {
+                    AnisekaiArray array = new AnisekaiArray();
+
+                    for (Object item : (List<?>) value) {
+                        array.put(item == null ? JSONObject.NULL : element.encode(item));
+                    }
+                    return array;
+                }
+        );
+    }
+
+    private static JsonConverter map(JsonConverter entry) {
+
+        return of(
+                value -> {
+                    JSONObject          object = cast(value, JSONObject.class);
+                    Map<String, Object> map    = new LinkedHashMap<>();
+
+                    for (String key : object.keySet()) {
+                        Object item = object.opt(key);
+                        map.put(key, item == JSONObject.NULL ? null : entry.decode(item));
+                    }
+                    return map;
+                },
+                value -> {
+                    // Not an AnisekaiJson: map keys are not paths and must be stored as-is.
+                    JSONObject object = new JSONObject();
+
+                    for (Map.Entry<?, ?> item : ((Map<?, ?>) value).entrySet()) {
+                        Object itemValue = item.getValue();
+                        object.put((String) item.getKey(), itemValue == null ? JSONObject.NULL : entry.encode(itemValue));
+                    }
+                    return object;
+                }
+        );
+    }
+
+    private static JsonConverter enumeration(Class<?> type) {
+
+        Map<String, Object> constants = new HashMap<>();
+        for (Object constant : type.getEnumConstants()) {
+            constants.put(((Enum<?>) constant).name(), constant);
+        }
+
+        return of(
+                value -> {
+                    Object constant = constants.get(cast(value, String.class));
+                    if (constant == null) {
+                        throw new JSONException(String.format("'%s' is not a constant of %s.", value, type.getSimpleName()));
+                    }
+                    return constant;
+                },
+                value -> ((Enum<?>) value).name()
+        );
+    }
+
+    private static JsonConverter nested(Class<?> type) {
+
+        // Resolved on first use, as a type may contain itself (e.g. a tree of records).
+        return new JsonConverter() {
+
+            private JsonCodec<Object> codec;
+
+            @SuppressWarnings("unchecked")
+            private JsonCodec<Object> codec() {
+
+                if (this.codec == null) {
+                    this.codec = (JsonCodec<Object>) JsonCodec.of(type);
+                }
+                return this.codec;
+            }
+
+            @Override
+            public Object decode(Object value) {
+
+                return this.codec().decode(cast(value, JSONObject.class));
+            }
+
+            @Override
+            public Object encode(Object value) {
+
+                return this.codec().encode(value);
+            }
+        };
+    }
+
+    private static <T> T cast(Object value, Class<T> type) {
+
+        if (type.isInstance(value)) return type.cast(value);
+        throw new JSONException(String.format(
+                "Incompatible type '%s', expected %s.",
+                value.getClass().getSimpleName(),
+                type.getSimpleName()
+        ));
+    }
+
+    private static Number number(Object value) {
+
+        if (value instanceof Number number) return number;
+        try {
+            // Same leniency as JSONObject#getInt() and siblings.
+            return new BigDecimal(cast(value, String.class));
+        } catch (NumberFormatException e) {
+            throw new JSONException(String.format("'%s' is not a number.", value), e);
+        }
+    }
+
+    private static Object bool(Object value) {
+
+        if (value instanceof Boolean bool) return bool;
+        String str = cast(value, String.class);
+        if (str.equalsIgnoreCase("true")) return true;
+        if (str.equalsIgnoreCase("false")) return false;
+        throw new JSONException(String.format("'%s' is not a boolean.", value));
+    }
+
+    private static Object dateTime(Object value) {
+
+        try {
+            return ZonedDateTime.parse(cast(value, String.class), DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+        } catch (DateTimeParseException e) {
+            throw new JSONException(String.format("'%s' is not an ISO offset date-time.", value), e);
+        }
+    }
+
+}
@@ -0,0 +1,33 @@
+package fr.anisekai.wireless.api.json.binding;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation used to customize how a record component is bound by a {@link JsonCodec}, or to mark a field of a class as bound
+ * by a {@link JsonCodec}.
+ * <p>
+ * Record components are always bound, even without this annotation. Fields of a class are only bound when annotated.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.RECORD_COMPONENT, ElementType.FIELD})
+public @interface JsonProperty {
+
+    /**
+     * The dot-separated path (e.g., "config.display.theme") under which the value is stored. When empty, the name of the record
+     * component or field is used.
+     *
+     * @return The path of the value.
+     */
+    String value() default "";
+
+    /**
+     * Define if the value must be present and not {@code null} when decoding. Primitive values are always required.
+     *
+     * @return True if the value is required, false otherwise.
+     */
+    boolean required() default false;
+
+}
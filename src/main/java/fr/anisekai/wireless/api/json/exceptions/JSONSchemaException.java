@@ -0,0 +1,42 @@
+package fr.anisekai.wireless.api.json.exceptions;
+
+import fr.anisekai.wireless.api.json.validation.JsonSchema;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Exception aggregating every {@link JSONValidationException} reported by a {@link JsonSchema} on a single document.
+ */
+public class JSONSchemaException extends JSONValidationException {
+
+    private final List<JSONValidationException> violations;
+
+    /**
+     * Create a new {@link JSONSchemaException}.
+     *
+     * @param violations
+     *         Every violation reported during the validation. Must not be empty.
+     */
+    public JSONSchemaException(List<JSONValidationException> violations) {
+
+        super(String.format(
+                "Schema validation failed with %s violation(s):%n%s",
+                violations.size(),
+                violations.stream().map(violation -> " - " + violation.getMessage()).collect(Collectors.joining("\n"))
+        ));
+        this.violations = List.copyOf(violations);
+        this.violations.forEach(this::addSuppressed);
+    }
+
+    /**
+     * Retrieve every violation reported during the validation, in the order they were encountered.
+     *
+     * @return A list of {@link JSONValidationException}.
+     */
+    public List<JSONValidationException> getViolations() {
+
+        return this.violations;
+    }
+
+}
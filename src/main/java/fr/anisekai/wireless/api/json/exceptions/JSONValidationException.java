@@ -7,6 +7,17 @@ import fr.anisekai.wireless.api.json.validation.JsonRule;
  */
 public class JSONValidationException extends RuntimeException {
 
+    /**
+     * Create a new {@link JSONValidationException} that is not tied to a single {@link JsonRule}.
+     *
+     * @param message
+     *         The detail message.
+     */
+    protected JSONValidationException(String message) {
+
+        super(message);
+    }
+
     /**
      * Create a new {@link JSONValidationException}.
      *
@@ -0,0 +1,30 @@
+package fr.anisekai.wireless.api.json.stream;
+
+import java.io.IOException;
+
+/**
+ * Interface representing a typed conversion reading a single JSON value from a {@link JsonReader}.
+ * <p>
+ * A binder must consume exactly one value, skipping with {@link JsonReader#skipValue()} every property it does not need, so
+ * that binders can be composed (e.g. with {@link JsonReader#readList(JsonBinder)}).
+ *
+ * @param <T>
+ *         Type of the object created from the JSON value.
+ */
+@FunctionalInterface
+public interface JsonBinder<T> {
+
+    /**
+     * Read the next value of the provided {@link JsonReader} and convert it.
+     *
+     * @param reader
+     *         The {@link JsonReader} positioned before the value to read.
+     *
+     * @return The converted value.
+     *
+     * @throws IOException
+     *         If the underlying source could not be read.
+     */
+    T bind(JsonReader reader) throws IOException;
+
+}
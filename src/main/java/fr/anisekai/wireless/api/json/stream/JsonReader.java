@@ -0,0 +1,856 @@
+package fr.anisekai.wireless.api.json.stream;
+
+import fr.anisekai.wireless.api.json.AnisekaiArray;
+import fr.anisekai.wireless.api.json.AnisekaiJson;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Pull parser reading an UTF-8 encoded JSON document one token at a time, without materializing it.
+ * <p>
+ * Values are consumed in document order: objects are read with {@link #beginObject()}, a loop on {@link #hasNext()} and
+ * {@link #nextName()}, then {@link #endObject()}; arrays are read the same way with {@link #beginArray()} and
+ * {@link #endArray()}. Values which are not needed should be skipped with {@link #skipValue()}, which does not decode them. When
+ * only a small part of the document is worth a tree, {@link #readJson()} and {@link #readArray()} can be used to materialize the
+ * next value only.
+ * <p>
+ * Syntax errors are reported with a {@link JSONException}, as with {@link AnisekaiJson}. This class is not thread-safe.
+ *
+ * @see JsonBinder
+ */
+public final class JsonReader implements Closeable {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final byte EMPTY_DOCUMENT    = 0;
+    private static final byte NONEMPTY_DOCUMENT = 1;
+    private static final byte EMPTY_OBJECT      = 2;
+    private static final byte DANGLING_NAME     = 3;
+    private static final byte NONEMPTY_OBJECT   = 4;
+    private static final byte EMPTY_ARRAY       = 5;
+    private static final byte NONEMPTY_ARRAY    = 6;
+
+    private final @Nullable InputStream stream;
+    private final           byte[]      buffer;
+    private                 int         position;
+    private                 int         limit;
+    private                 long        offset;
+
+    private byte[] scopes  = new byte[32];
+    private int    depth   = 1;
+    private byte[] scratch = new byte[128];
+    private int    length;
+
+    private @Nullable JsonToken peeked;
+
+    private JsonReader(@Nullable InputStream stream, byte[] buffer, int position, int limit) {
+
+        this.stream    = stream;
+        this.buffer    = buffer;
+        this.position  = position;
+        this.limit     = limit;
+        this.offset    = -position;
+        this.scopes[0] = EMPTY_DOCUMENT;
+    }
+
+    /**
+     * Create a {@link JsonReader} pulling its content from the provided {@link InputStream}. The stream is read by chunks as
+     * tokens are consumed, and is closed when this {@link JsonReader} is closed.
+     *
+     * @param stream
+     *         The {@link InputStream} providing an UTF-8 encoded JSON document.
+     *
+     * @return A new {@link JsonReader}.
+     */
+    public static JsonReader of(@NotNull InputStream stream) {
+
+        return new JsonReader(stream, new byte[BUFFER_SIZE], 0, 0);
+    }
+
+    /**
+     * Create a {@link JsonReader} reading the remaining content of the provided {@link ByteBuffer}. When the buffer is backed by
+     * an array, the array is read directly without being copied. The position of the buffer is not modified.
+     *
+     * @param buffer
+     *         The {@link ByteBuffer} containing an UTF-8 encoded JSON document.
+     *
+     * @return A new {@link JsonReader}.
+     */
+    public static JsonReader of(@NotNull ByteBuffer buffer) {
+
+        if (buffer.hasArray()) {
+            int start = buffer.arrayOffset() + buffer.position();
+            return new JsonReader(null, buffer.array(), start, start + buffer.remaining());
+        }
+
+        byte[] content = new byte[buffer.remaining()];
+        buffer.duplicate().get(content);
+        return new JsonReader(null, content, 0, content.length);
+    }
+
+    // <editor-fold desc=":: Structure">
+
+    /**
+     * Retrieve the kind of the next token, without consuming it.
+     *
+     * @return The next {@link JsonToken}.
+     *
+     * @throws IOException
+     *         If the underlying source could not be read.
+     * @throws JSONException
+     *         If the document is malformed.
+     */
+    public JsonToken peek() throws IOException {
+
+        if (this.peeked == null) this.peeked = this.doPeek();
+        return this.peeked;
+    }
+
+    /**
+     * Check if the current object or array has another element.
+     *
+     * @return True if another property or value is available, false if the end of the object or array has been reached.
+     *
+     * @throws IOException
+     *         If the underlying source could not be read.
+     * @throws JSONException
+     *         If the document is malformed.
+     */
+    public boolean hasNext() throws IOException {
+
+        JsonToken token = this.peek();
+        return token != JsonToken.END_OBJECT && token != JsonToken.END_ARRAY && token != JsonToken.END_DOCUMENT;
+    }
+
+    /**
+     * Consume the opening of a JSON object.
+     *
+     * @throws IOException
+     *         If the underlying source could not be read.
+     * @throws JSONException
+     *         If the next token is not {@link JsonToken#BEGIN_OBJECT}.
+     */
+    public void beginObject() throws IOException {
+
+        this.expect(JsonToken.BEGIN_OBJECT);
+        this.push(EMPTY_OBJECT);
+    }
+
+    /**
+     * Consume the closing of the current JSON object.
+     *
+     * @throws IOException
+     *         If the underlying source could not be read.
+     * @throws JSONException
+     *         If the next token is not {@link JsonToken#END_OBJECT}.
+     */
+    public void endObject() throws IOException {
+
+        this.expect(JsonToken.END_OBJECT);
+        this.depth--;
+    }
+
+    /**
+     * Consume the opening of a JSON array.
+     *
+     * @throws IOException
+     *         If the underlying source could not be read.
+     * @throws JSONException
+     *         If the next token is not {@link JsonToken#BEGIN_ARRAY}.
+     */
+    public void beginArray() throws IOException {
+
+        this.expect(JsonToken.BEGIN_ARRAY);
+        this.push(EMPTY_ARRAY);
+    }
+
+    /**
+     * Consume the closing of the current JSON array.
+     *
+     * @throws IOException
+     *         If the underlying source could not be read.
+     * @throws JSONException
+     *         If the next token is not {@link JsonToken#END_ARRAY}.
+     */
+    public void endArray() throws IOException {
+
+        this.expect(JsonToken.END_ARRAY);
+        this.depth--;
+    }
+
+    /**
+     * Ensure that the whole document has been consumed, meaning that nothing but whitespace follows the root value.
+     *
+     * @throws IOException
+     *         If the underlying source could not be read.
+     * @throws JSONException
+     *         If the next token is not {@link JsonToken#END_DOCUMENT}.
+     */
+    public void endDocument() throws IOException {
+
+        this.expect(JsonToken.END_DOCUMENT);
+    }
+
+    // </editor-fold>
+
+    // <editor-fold desc=":: next{X}()">
+
+    /**
+     * Consume the next property name.
+     *
+     * @return The property name.
+     *
+     * @throws IOException
+     *         If the underlying source could not be read.
+     * @throws JSONException
+     *         If the next token is not {@link JsonToken#NAME}.
+     */
+    public String nextName() throws IOException {
+
+        this.expect(JsonToken.NAME);
+        return this.readString();
+    }
+
+    /**
+     * Consume the next string value. Numbers are accepted as well and returned as written in the document.
+     *
+     * @return The string value.
+     *
+     * @throws IOException
+     *         If the underlying source could not be read.
+     * @throws JSONException
+     *         If the next token is neither {@link JsonToken#STRING} nor {@link JsonToken#NUMBER}.
+     */
+    public String nextString() throws IOException {
+
+        JsonToken token = this.peek();
+
+        if (token == JsonToken.STRING) {
+            this.peeked = null;
+            return this.readString();
+        }
+
+        if (token == JsonToken.NUMBER) {
+            this.peeked = null;
+            this.readNumber();
+            return new String(this.scratch, 0, this.length, StandardCharsets.US_ASCII);
+        }
+
+        throw this.unexpected(JsonToken.STRING, token);
+    }
+
+    /**
+     * Consume the next boolean value.
+     *
+     * @return The boolean value.
+     *
+     * @throws IOException
+     *         If the underlying source could not be read.
+     * @throws JSONException
+     *         If the next token is not {@link JsonToken#BOOLEAN}.
+     */
+    public boolean nextBoolean() throws IOException {
+
+        this.expect(JsonToken.BOOLEAN);
+
+        if (this.buffer[this.position] == 't') {
+            this.readLiteral("true");
+            return true;
+        }
+
+        this.readLiteral("false");
+        return false;
+    }
+
+    /**
+     * Consume the next null value.
+     *
+     * @throws IOException
+     *         If the underlying source could not be read.
+     * @throws JSONException
+     *         If the next token is not {@link JsonToken#NULL}.
+     */
+    public void nextNull() throws IOException {
+
+        this.expect(JsonToken.NULL);
+        this.readLiteral("null");
+    }
+
+    /**
+     * Consume the next value as an int. Strings containing a number are accepted as well, and decimals are truncated.
+     *
+     * @return The int value.
+     *
+     * @throws IOException
+     *         If the underlying source could not be read.
+     * @throws JSONException
+     *         If the next value is not a number.
+     */
+    public int nextInt() throws IOException {
+
+        long value = this.nextLong();
+        if ((int) value != value) throw this.syntaxError("Number out of int range: " + value);
+        return (int) value;
+    }
+
+    /**
+     * Consume the next value as a long. Strings containing a number are accepted as well, and decimals are truncated.
+     *
+     * @return The long value.
+     *
+     * @throws IOException
+     *         If the underlying source could not be read.
+     * @throws JSONException
+     *         If the next value is not a number.
+     */
+    public long nextLong() throws IOException {
+
+        this.readNumeric();
+
+        // Fast path for plain integers, which are the vast majority of numbers in the documents we read.
+        boolean negative = this.length > 0 && this.scratch[0] == '-';
+        int     start    = negative ? 1 : 0;
+        long    value    = 0;
+        int     i        = start;
+
+        while (i < this.length && this.scratch[i] >= '0' && this.scratch[i] <= '9') {
+            // Up to 18 digits always fit in a long, longer integers are left to Long#parseLong() to detect overflows.
+            if (i - start < 18) value = value * 10 + (this.scratch[i] - '0');
+            i++;
+        }
+
+        if (i > start && i == this.length) {
+            if (i - start <= 18) return negative ? -value : value;
+            return this.parseLong();
+        }
+
+        // Decimals and exponents are not exact integers anyway.
+        return (long) this.parseDouble();
+    }
+
+    /**
+     * Consume the next value as a double. Strings containing a number are accepted as well.
+     *
+     * @return The double value.
+     *
+     * @throws IOException
+     *         If the underlying source could not be read.
+     * @throws JSONException
+     *         If the next value is not a number.
+     */
+    public double nextDouble() throws IOException {
+
+        this.readNumeric();
+        return this.parseDouble();
+    }
+
+    /**
+     * Skip the next value, including every nested value if it is an object or an array. Strings are not decoded while being
+     * skipped. If the next token is a property name, both the name and its value are skipped.
+     *
+     * @throws IOException
+     *         If the underlying source could not be read.
+     * @throws JSONException
+     *         If the document is malformed, or if there is no value to skip.
+     */
+    public void skipValue() throws IOException {
+
+        JsonToken token = this.peek();
+
+        switch (token) {
+            case BEGIN_OBJECT -> {
+                this.beginObject();
+                while (this.hasNext()) {
+                    this.skipValue();
+                }
+                this.endObject();
+            }
+            case BEGIN_ARRAY -> {
+                this.beginArray();
+                while (this.hasNext()) {
+                    this.skipValue();
+                }
+                this.endArray();
+            }
+            case NAME -> {
+                this.peeked = null;
+                this.skipString();
+                this.skipValue();
+            }
+            case STRING -> {
+                this.peeked = null;
+                this.skipString();
+            }
+            case NUMBER -> {
+                this.peeked = null;
+                this.readNumber();
+            }
+            case BOOLEAN -> this.nextBoolean();
+            case NULL -> this.nextNull();
+            default -> throw this.syntaxError("Expected a value but was " + token);
+        }
+    }
+
+    // </editor-fold>
+
+    // <editor-fold desc=":: read{X}()">
+
+    /**
+     * Read the next JSON array, converting each of its elements with the provided {@link JsonBinder}.
+     *
+     * @param binder
+     *         The {@link JsonBinder} converting each element.
+     * @param <T>
+     *         Type of the elements.
+     *
+     * @return A {@link List} of converted elements.
+     *
+     * @throws IOException
+     *         If the underlying source could not be read.
+     * @throws JSONException
+     *         If the next value is not an array.
+     */
+    public <T> List<T> readList(@NotNull JsonBinder<T> binder) throws IOException {
+
+        List<T> items = new ArrayList<>();
+
+        this.beginArray();
+        while (this.hasNext()) {
+            items.add(binder.bind(this));
+        }
+        this.endArray();
+
+        return items;
+    }
+
+    /**
+     * Materialize the next JSON object as an {@link AnisekaiJson}. Values are converted the same way as when parsing a
+     * {@link String} with {@link AnisekaiJson#AnisekaiJson(String)}.
+     *
+     * @return An {@link AnisekaiJson}.
+     *
+     * @throws IOException
+     *         If the underlying source could not be read.
+     * @throws JSONException
+     *         If the next value is not an object.
+     */
+    public AnisekaiJson readJson() throws IOException {
+
+        AnisekaiJson json = new AnisekaiJson();
+
+        this.beginObject();
+        while (this.hasNext()) {
+            String name = this.nextName();
+            json.put(name, this.readValue());
+        }
+        this.endObject();
+
+        return json;
+    }
+
+    /**
+     * Materialize the next JSON array as an {@link AnisekaiArray}. Values are converted the same way as when parsing a
+     * {@link String} with {@link AnisekaiArray#AnisekaiArray(String)}.
+     *
+     * @return An {@link AnisekaiArray}.
+     *
+     * @throws IOException
+     *         If the underlying source could not be read.
+     * @throws JSONException
+     *         If the next value is not an array.
+     */
+    public AnisekaiArray readArray() throws IOException {
+
+        AnisekaiArray array = new AnisekaiArray();
+
+        this.beginArray();
+        while (this.hasNext()) {
+            array.put(this.readValue());
+        }
+        this.endArray();
+
+        return array;
+    }
+
+    private Object readValue() throws IOException {
+
+        JsonToken token = this.peek();
+
+        return switch (token) {
+            case BEGIN_OBJECT -> this.readJson();
+            case BEGIN_ARRAY -> this.readArray();
+            case STRING -> this.nextString();
+            case NUMBER -> JSONObject.stringToValue(this.nextString());
+            case BOOLEAN -> this.nextBoolean();
+            case NULL -> {
+                this.nextNull();
+                yield JSONObject.NULL;
+            }
+            default -> throw this.syntaxError("Expected a value but was " + token);
+        };
+    }
+
+    // </editor-fold>
+
+    // <editor-fold desc=":: Tokenizer">
+
+    private JsonToken doPeek() throws IOException {
+
+        int  top   = this.depth - 1;
+        byte scope = this.scopes[top];
+        int  c;
+
+        switch (scope) {
+            case EMPTY_ARRAY, NONEMPTY_ARRAY -> {
+                this.scopes[top] = NONEMPTY_ARRAY;
+                c                = this.nextNonWhitespace();
+
+                if (c == ']') {
+                    this.position++;
+                    return JsonToken.END_ARRAY;
+                }
+
+                if (scope == NONEMPTY_ARRAY) {
+                    if (c != ',') throw this.syntaxError("Expected ',' or ']'");
+                    this.position++;
+                }
+            }
+            case EMPTY_OBJECT, NONEMPTY_OBJECT -> {
+                this.scopes[top] = DANGLING_NAME;
+                c                = this.nextNonWhitespace();
+
+                if (c == '}') {
+                    this.position++;
+                    return JsonToken.END_OBJECT;
+                }
+
+                if (scope == NONEMPTY_OBJECT) {
+                    if (c != ',') throw this.syntaxError("Expected ',' or '}'");
+                    this.position++;
+                    c = this.nextNonWhitespace();
+                }
+
+                if (c != '"') throw this.syntaxError("Expected a name");
+                this.position++;
+                return JsonToken.NAME;
+            }
+            case DANGLING_NAME -> {
+                this.scopes[top] = NONEMPTY_OBJECT;
+                if (this.nextNonWhitespace() != ':') throw this.syntaxError("Expected ':'");
+                this.position++;
+            }
+            case EMPTY_DOCUMENT -> this.scopes[top] = NONEMPTY_DOCUMENT;
+            default -> {
+                while (this.fill()) {
+                    byte b = this.buffer[this.position];
+                    if (b != ' ' && b != '\n' && b != '\r' && b != '\t') {
+                        throw this.syntaxError("Unexpected content after the end of the document");
+                    }
+                    this.position++;
+                }
+                return JsonToken.END_DOCUMENT;
+            }
+        }
+
+        c = this.nextNonWhitespace();
+
+        return switch (c) {
+            case '{' -> {
+                this.position++;
+                yield JsonToken.BEGIN_OBJECT;
+            }
+            case '[' -> {
+                this.position++;
+                yield JsonToken.BEGIN_ARRAY;
+            }
+            case '"' -> {
+                this.position++;
+                yield JsonToken.STRING;
+            }
+            case 't', 'f' -> JsonToken.BOOLEAN;
+            case 'n' -> JsonToken.NULL;
+            case '-', '0', '1', '2', '3', '4', '5', '6', '7', '8', '9' -> JsonToken.NUMBER;
+            default -> throw this.syntaxError("Unexpected character '" + (char) c + "'");
+        };
+    }
+
+    private void expect(JsonToken expected) throws IOException {
+
+        JsonToken token = this.peek();
+        if (token != expected) throw this.unexpected(expected, token);
+        this.peeked = null;
+    }
+
+    private void push(byte scope) {
+
+        if (this.depth == this.scopes.length) {
+            this.scopes = Arrays.copyOf(this.scopes, this.depth * 2);
+        }
+        this.scopes[this.depth++] = scope;
+    }
+
+    /**
+     * Ensure that at least one byte is available in the buffer, reading the next chunk of the stream if needed.
+     */
+    private boolean fill() throws IOException {
+
+        if (this.position < this.limit) return true;
+        if (this.stream == null) return false;
+
+        int read;
+        do {
+            read = this.stream.read(this.buffer, 0, this.buffer.length);
+        } while (read == 0);
+
+        if (read < 0) return false;
+
+        this.offset += this.limit;
+        this.position = 0;
+        this.limit    = read;
+        return true;
+    }
+
+    /**
+     * Skip whitespaces and return the next byte, without consuming it.
+     */
+    private int nextNonWhitespace() throws IOException {
+
+        while (this.fill()) {
+            byte c = this.buffer[this.position];
+            if (c != ' ' && c != '\n' && c != '\r' && c != '\t') return c;
+            this.position++;
+        }
+
+        throw this.syntaxError("Unexpected end of document");
+    }
+
+    private int nextByte() throws IOException {
+
+        if (!this.fill()) throw this.syntaxError("Unexpected end of document");
+        return this.buffer[this.position++];
+    }
+
+    private void append(byte[] source, int from, int count) {
+
+        if (this.length + count > this.scratch.length) {
+            this.scratch = Arrays.copyOf(this.scratch, Math.max(this.scratch.length * 2, this.length + count));
+        }
+        System.arraycopy(source, from, this.scratch, this.length, count);
+        this.length += count;
+    }
+
+    private void append(int b) {
+
+        if (this.length == this.scratch.length) {
+            this.scratch = Arrays.copyOf(this.scratch, this.scratch.length * 2);
+        }
+        this.scratch[this.length++] = (byte) b;
+    }
+
+    /**
+     * Read a string whose opening quote has already been consumed.
+     */
+    private String readString() throws IOException {
+
+        this.length = 0;
+
+        while (true) {
+            if (!this.fill()) throw this.syntaxError("Unterminated string");
+
+            byte[] buf   = this.buffer;
+            int    start = this.position;
+            int    end   = start;
+
+            while (end < this.limit && buf[end] != '"' && buf[end] != '\\') {
+                end++;
+            }
+
+            this.position = end;
+
+            if (end == this.limit) {
+                this.append(buf, start, end - start);
+                continue;
+            }
+
+            this.position++;
+
+            if (buf[end] == '"') {
+                // Strings without escape sequence and not split across chunks are decoded straight from the buffer.
+                if (this.length == 0) return new String(buf, start, end - start, StandardCharsets.UTF_8);
+
+                this.append(buf, start, end - start);
+                return new String(this.scratch, 0, this.length, StandardCharsets.UTF_8);
+            }
+
+            this.append(buf, start, end - start);
+            this.readEscape();
+        }
+    }
+
+    private void readEscape() throws IOException {
+
+        int c = this.nextByte();
+
+        switch (c) {
+            case '"', '\\', '/' -> this.append(c);
+            case 'b' -> this.append('\b');
+            case 'f' -> this.append('\f');
+            case 'n' -> this.append('\n');
+            case 'r' -> this.append('\r');
+            case 't' -> this.append('\t');
+            case 'u' -> {
+                int codePoint = this.readHex();
+
+                if (Character.isHighSurrogate((char) codePoint)) {
+                    if (this.nextByte() != '\\' || this.nextByte() != 'u') throw this.syntaxError("Unpaired surrogate");
+
+                    int low = this.readHex();
+                    if (!Character.isLowSurrogate((char) low)) throw this.syntaxError("Unpaired surrogate");
+                    codePoint = Character.toCodePoint((char) codePoint, (char) low);
+                }
+
+                this.appendCodePoint(codePoint);
+            }
+            default -> throw this.syntaxError("Invalid escape sequence '\\" + (char) c + "'");
+        }
+    }
+
+    private int readHex() throws IOException {
+
+        int value = 0;
+
+        for (int i = 0; i < 4; i++) {
+            int digit = Character.digit(this.nextByte(), 16);
+            if (digit < 0) throw this.syntaxError("Invalid unicode escape sequence");
+            value = (value << 4) | digit;
+        }
+
+        return value;
+    }
+
+    private void appendCodePoint(int codePoint) {
+
+        if (codePoint < 0x80) {
+            this.append(codePoint);
+        } else if (codePoint < 0x800) {
+            this.append(0xC0 | (codePoint >> 6));
+            this.append(0x80 | (codePoint & 0x3F));
+        } else if (codePoint < 0x10000) {
+            this.append(0xE0 | (codePoint >> 12));
+            this.append(0x80 | ((codePoint >> 6) & 0x3F));
+            this.append(0x80 | (codePoint & 0x3F));
+        } else {
+            this.append(0xF0 | (codePoint >> 18));
+            this.append(0x80 | ((codePoint >> 12) & 0x3F));
+            this.append(0x80 | ((codePoint >> 6) & 0x3F));
+            this.append(0x80 | (codePoint & 0x3F));
+        }
+    }
+
+    /**
+     * Skip a string whose opening quote has already been consumed, without decoding it.
+     */
+    private void skipString() throws IOException {
+
+        while (true) {
+            int c = this.nextByte();
+            if (c == '"') return;
+            if (c == '\\') this.nextByte();
+        }
+    }
+
+    /**
+     * Read the characters of a number into the scratch buffer.
+     */
+    private void readNumber() throws IOException {
+
+        this.length = 0;
+
+        while (this.fill()) {
+            byte c = this.buffer[this.position];
+            if ((c < '0' || c > '9') && c != '-' && c != '+' && c != '.' && c != 'e' && c != 'E') return;
+
+            this.append(c);
+            this.position++;
+        }
+    }
+
+    /**
+     * Read the next number, or string containing a number, into the scratch buffer.
+     */
+    private void readNumeric() throws IOException {
+
+        JsonToken token = this.peek();
+
+        if (token == JsonToken.NUMBER) {
+            this.peeked = null;
+            this.readNumber();
+        } else if (token == JsonToken.STRING) {
+            this.peeked = null;
+            byte[] value = this.readString().trim().getBytes(StandardCharsets.US_ASCII);
+            this.length = 0;
+            this.append(value, 0, value.length);
+        } else {
+            throw this.unexpected(JsonToken.NUMBER, token);
+        }
+    }
+
+    private long parseLong() {
+
+        String value = new String(this.scratch, 0, this.length, StandardCharsets.US_ASCII);
+
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw this.syntaxError("Number out of long range: " + value);
+        }
+    }
+
+    private double parseDouble() {
+
+        String value = new String(this.scratch, 0, this.length, StandardCharsets.US_ASCII);
+
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw this.syntaxError("Invalid number '" + value + "'");
+        }
+    }
+
+    private void readLiteral(String literal) throws IOException {
+
+        for (int i = 0; i < literal.length(); i++) {
+            if (this.nextByte() != literal.charAt(i)) throw this.syntaxError("Expected '" + literal + "'");
+        }
+    }
+
+    // </editor-fold>
+
+    private JSONException unexpected(JsonToken expected, JsonToken actual) {
+
+        return this.syntaxError(String.format("Expected %s but was %s", expected, actual));
+    }
+
+    private JSONException syntaxError(String message) {
+
+        return new JSONException(String.format("%s at byte %s", message, this.offset + this.position));
+    }
+
+    @Override
+    public void close() throws IOException {
+
+        if (this.stream != null) this.stream.close();
+    }
+
+}
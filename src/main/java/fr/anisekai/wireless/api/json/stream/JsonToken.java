@@ -0,0 +1,59 @@
+package fr.anisekai.wireless.api.json.stream;
+
+/**
+ * Kind of the next element available in a {@link JsonReader}.
+ */
+public enum JsonToken {
+
+    /**
+     * The opening of a JSON object, consumed by {@link JsonReader#beginObject()}.
+     */
+    BEGIN_OBJECT,
+
+    /**
+     * The closing of a JSON object, consumed by {@link JsonReader#endObject()}.
+     */
+    END_OBJECT,
+
+    /**
+     * The opening of a JSON array, consumed by {@link JsonReader#beginArray()}.
+     */
+    BEGIN_ARRAY,
+
+    /**
+     * The closing of a JSON array, consumed by {@link JsonReader#endArray()}.
+     */
+    END_ARRAY,
+
+    /**
+     * A property name within a JSON object, consumed by {@link JsonReader#nextName()}.
+     */
+    NAME,
+
+    /**
+     * A JSON string value, consumed by {@link JsonReader#nextString()}.
+     */
+    STRING,
+
+    /**
+     * A JSON number value, consumed by {@link JsonReader#nextInt()}, {@link JsonReader#nextLong()} or
+     * {@link JsonReader#nextDouble()}.
+     */
+    NUMBER,
+
+    /**
+     * A JSON boolean value, consumed by {@link JsonReader#nextBoolean()}.
+     */
+    BOOLEAN,
+
+    /**
+     * A JSON null value, consumed by {@link JsonReader#nextNull()}.
+     */
+    NULL,
+
+    /**
+     * The end of the document, once the root value has been fully consumed.
+     */
+    END_DOCUMENT
+
+}
@@ -3,7 +3,12 @@ package fr.anisekai.wireless.api.json.validation;
 import fr.anisekai.wireless.api.json.AnisekaiArray;
 import fr.anisekai.wireless.api.json.AnisekaiJson;
 import fr.anisekai.wireless.api.json.exceptions.JSONValidationException;
+import org.json.JSONArray;
 import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 /**
  * Specific implementation of a {@link JsonRule} allowing to validate an {@link AnisekaiArray} containing only
@@ -40,19 +45,67 @@ public class JsonArrayObjectRule extends Rule {
     @Override
     public void validate(AnisekaiJson json) {
 
-        this.retrieve(json).ifPresent(obj -> {
-            AnisekaiArray array = this.asArray(obj, this.allowEmpty);
+        this.retrieve(json).ifPresent(obj -> this.check(obj, this::validateElement, FAIL_FAST));
+    }
+
+    private void validateElement(JSONObject element, Consumer<JSONValidationException> violations) {
+
+        try {
+            AnisekaiJson.wrap(element).validate(this.rules);
+        } catch (JSONValidationException e) {
+            violations.accept(e);
+        }
+    }
+
+    /**
+     * Check the value retrieved under this {@link JsonRule} key, reporting every violation to the provided consumer. Each
+     * element violation reported by the element validator is wrapped to point to the index of the failing element.
+     *
+     * @param value
+     *         The value to check.
+     * @param elementValidator
+     *         The validator applied on each element of the array, reporting its violations to the provided consumer.
+     * @param violations
+     *         The consumer receiving each violation.
+     */
+    void check(
+            Object value,
+            BiConsumer<JSONObject, Consumer<JSONValidationException>> elementValidator,
+            Consumer<JSONValidationException> violations
+    ) {
 
-            for (int i = 0; i < array.size(); i++) {
-                AnisekaiJson subJson = this.asObject(array.get(i), i);
+        if (!(value instanceof JSONArray array)) {
+            violations.accept(this.incompatible(value));
+            return;
+        }
 
-                try {
-                    subJson.validate(this.rules);
-                } catch (JSONValidationException e) {
-                    throw new JSONValidationException(this, String.format(RULE_EX_MSG, i), e);
-                }
+        if (array.isEmpty() && !this.allowEmpty) {
+            violations.accept(new JSONValidationException(this, "Empty array."));
+            return;
+        }
+
+        for (int i = 0; i < array.length(); i++) {
+            if (!(array.get(i) instanceof JSONObject element)) {
+                violations.accept(new JSONValidationException(this, String.format("Not an object at index %s.", i)));
+                continue;
             }
-        });
+
+            String reason = String.format(RULE_EX_MSG, i);
+            elementValidator.accept(
+                    element,
+                    violation -> violations.accept(new JSONValidationException(this, reason, violation))
+            );
+        }
+    }
+
+    /**
+     * Retrieve the {@link JsonRule} applied on each element of the array.
+     *
+     * @return An array of {@link JsonRule}.
+     */
+    JsonRule[] getRules() {
+
+        return this.rules;
     }
 
     @Override
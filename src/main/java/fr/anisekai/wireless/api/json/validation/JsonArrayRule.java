@@ -3,9 +3,11 @@ package fr.anisekai.wireless.api.json.validation;
 import fr.anisekai.wireless.api.json.AnisekaiArray;
 import fr.anisekai.wireless.api.json.AnisekaiJson;
 import fr.anisekai.wireless.api.json.exceptions.JSONValidationException;
+import org.json.JSONArray;
 import org.json.JSONException;
 
 import java.util.Arrays;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -42,16 +44,43 @@ public class JsonArrayRule extends Rule {
     @Override
     public void validate(AnisekaiJson json) {
 
-        this.retrieve(json).ifPresent(obj -> {
-            AnisekaiArray array = this.asArray(obj, this.allowEmpty);
+        this.retrieve(json).ifPresent(obj -> this.check(obj, FAIL_FAST));
+    }
 
-            for (int i = 0; i < array.size(); i++) {
-                Object item = array.get(i);
-                if (Arrays.stream(this.allowedTypes).noneMatch(type -> type.isInstance(item))) {
-                    throw new JSONValidationException(this, String.format(RULE_EX_MSG, this, i, item.getClass()));
-                }
+    /**
+     * Check the value retrieved under this {@link JsonRule} key, reporting every violation to the provided consumer.
+     *
+     * @param value
+     *         The value to check.
+     * @param violations
+     *         The consumer receiving each violation.
+     */
+    void check(Object value, Consumer<JSONValidationException> violations) {
+
+        if (!(value instanceof JSONArray array)) {
+            violations.accept(this.incompatible(value));
+            return;
+        }
+
+        if (array.isEmpty() && !this.allowEmpty) {
+            violations.accept(new JSONValidationException(this, "Empty array."));
+            return;
+        }
+
+        for (int i = 0; i < array.length(); i++) {
+            Object item = array.get(i);
+            if (!this.isAllowed(item)) {
+                violations.accept(new JSONValidationException(this, String.format(RULE_EX_MSG, this, i, item.getClass())));
             }
-        });
+        }
+    }
+
+    private boolean isAllowed(Object item) {
+
+        for (Class<?> type : this.allowedTypes) {
+            if (type.isInstance(item)) return true;
+        }
+        return false;
     }
 
     @Override
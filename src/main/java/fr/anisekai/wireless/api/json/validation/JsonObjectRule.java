@@ -5,6 +5,7 @@ import fr.anisekai.wireless.api.json.exceptions.JSONValidationException;
 import org.json.JSONException;
 
 import java.util.Arrays;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -45,11 +46,23 @@ public class JsonObjectRule extends Rule {
     @Override
     public void validate(AnisekaiJson json) {
 
-        this.retrieve(json).ifPresent(obj -> {
-            if (Arrays.stream(this.allowedTypes).noneMatch(type -> type.isInstance(obj))) {
-                throw new JSONValidationException(this, String.format(RULE_EX_MSG, this, obj.getClass().getSimpleName()));
-            }
-        });
+        this.retrieve(json).ifPresent(obj -> this.check(obj, FAIL_FAST));
+    }
+
+    /**
+     * Check the value retrieved under this {@link JsonRule} key, reporting any violation to the provided consumer.
+     *
+     * @param value
+     *         The value to check.
+     * @param violations
+     *         The consumer receiving each violation.
+     */
+    void check(Object value, Consumer<JSONValidationException> violations) {
+
+        for (Class<?> type : this.allowedTypes) {
+            if (type.isInstance(value)) return;
+        }
+        violations.accept(new JSONValidationException(this, String.format(RULE_EX_MSG, this, value.getClass().getSimpleName())));
     }
 
     @Override
@@ -0,0 +1,358 @@
+package fr.anisekai.wireless.api.json.validation;
+
+import fr.anisekai.wireless.api.json.AnisekaiJson;
+import fr.anisekai.wireless.api.json.JsonPath;
+import fr.anisekai.wireless.api.json.exceptions.JSONSchemaException;
+import fr.anisekai.wireless.api.json.exceptions.JSONValidationException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Compiled form of a set of {@link JsonRule}, meant to be created once and reused to validate many documents.
+ * <p>
+ * Rule keys are merged into a tree of path segments, so that a prefix shared by several rules (e.g. {@code "source.name"} and
+ * {@code "source.id"}) is resolved once per document, and the whole document is validated in a single traversal. Rules of a
+ * {@link JsonArrayObjectRule} are compiled into a nested {@link JsonSchema}, applied on each element without wrapping it.
+ * <p>
+ * Violations are reported with the same messages as {@link JsonRule#validate(AnisekaiJson)}, either by throwing the one of the
+ * first failing rule ({@link #validate(JSONObject)}) or by collecting all of them ({@link #validateAll(JSONObject)}). In both
+ * cases, violations are ordered as the rules they come from, regardless of the traversal order, so that the same violation as
+ * the interpreted rules is thrown. Unlike the rules, a path going through a value that is neither an object nor an array is
+ * considered as not found.
+ * <p>
+ * Other {@link JsonRule} implementations, including subclasses of the built-in rules, are still supported but are validated
+ * as-is against the whole document after the traversal.
+ */
+public final class JsonSchema {
+
+    private final Node           root;
+    private final List<Fallback> fallbacks;
+
+    private JsonSchema(Node root, List<Fallback> fallbacks) {
+
+        this.root      = root;
+        this.fallbacks = fallbacks;
+    }
+
+    /**
+     * Compile the provided {@link JsonRule} into a {@link JsonSchema}.
+     *
+     * @param rules
+     *         Rules to compile.
+     *
+     * @return A {@link JsonSchema}.
+     */
+    public static JsonSchema compile(JsonRule... rules) {
+
+        return compile(Arrays.asList(rules));
+    }
+
+    /**
+     * Compile the provided {@link JsonRule} into a {@link JsonSchema}.
+     *
+     * @param rules
+     *         Rules to compile.
+     *
+     * @return A {@link JsonSchema}.
+     */
+    public static JsonSchema compile(Iterable<JsonRule> rules) {
+
+        Node           root      = new Node(null, -1);
+        List<Fallback> fallbacks = new ArrayList<>();
+        int            order     = 0;
+
+        for (JsonRule rule : rules) {
+            Check check = compile(rule);
+
+            if (check == null) {
+                fallbacks.add(new Fallback(order++, rule));
+                continue;
+            }
+
+            CompiledRule compiled = new CompiledRule(order++, (Rule) rule, check);
+            JsonPath     path     = JsonPath.of(rule.getKey());
+            Node         node     = root;
+            for (int i = 0; i < path.depth(); i++) {
+                node = node.child(path.getKey(i), path.getIndex(i), compiled.order());
+            }
+            node.rules.add(compiled);
+        }
+
+        return new JsonSchema(root, List.copyOf(fallbacks));
+    }
+
+    private static @Nullable Check compile(JsonRule rule) {
+
+        // Subclasses may override validate(), so only the exact rule types are compiled.
+        Class<?> type = rule.getClass();
+
+        if (type == JsonObjectRule.class) {
+            JsonObjectRule objectRule = (JsonObjectRule) rule;
+            return (value, violations, failFast) -> objectRule.check(value, violations);
+        }
+        if (type == JsonArrayRule.class) {
+            JsonArrayRule arrayRule = (JsonArrayRule) rule;
+            return (value, violations, failFast) -> arrayRule.check(value, violations);
+        }
+        if (type == JsonArrayObjectRule.class) {
+            JsonArrayObjectRule arrayObjectRule = (JsonArrayObjectRule) rule;
+            JsonSchema          elementSchema   = compile(arrayObjectRule.getRules());
+
+            return (value, violations, failFast) -> arrayObjectRule.check(
+                    value,
+                    (element, elementViolations) -> elementSchema.visit(element, elementViolations, failFast),
+                    violations
+            );
+        }
+        return null;
+    }
+
+    /**
+     * Validate the provided {@link JSONObject} against this {@link JsonSchema}, reporting the violation of the first failing
+     * rule. Rules that cannot fail before it are not checked.
+     *
+     * @param json
+     *         The {@link JSONObject} to validate.
+     *
+     * @throws JSONValidationException
+     *         Thrown for the first violation of the first failing rule, in the order of the compiled rules.
+     */
+    public void validate(@NotNull JSONObject json) {
+
+        this.visit(json, Rule.FAIL_FAST, true);
+    }
+
+    /**
+     * Validate the provided {@link JSONObject} against this {@link JsonSchema}, collecting every violation.
+     *
+     * @param json
+     *         The {@link JSONObject} to validate.
+     *
+     * @return The list of violations, in the order of the rules they come from. Empty if the document is valid.
+     */
+    public List<JSONValidationException> check(@NotNull JSONObject json) {
+
+        List<JSONValidationException> violations = new ArrayList<>();
+        this.visit(json, violations::add, false);
+        return violations;
+    }
+
+    /**
+     * Validate the provided {@link JSONObject} against this {@link JsonSchema}, reporting every violation at once.
+     *
+     * @param json
+     *         The {@link JSONObject} to validate.
+     *
+     * @throws JSONSchemaException
+     *         Thrown if at least one violation was encountered, holding all of them.
+     */
+    public void validateAll(@NotNull JSONObject json) {
+
+        List<JSONValidationException> violations = this.check(json);
+        if (!violations.isEmpty()) throw new JSONSchemaException(violations);
+    }
+
+    /**
+     * Validate the provided {@link JSONObject}, sending the violations to the provided consumer in the order of the rules they
+     * come from.
+     *
+     * @param json
+     *         The {@link JSONObject} to validate.
+     * @param violations
+     *         The consumer receiving the violations.
+     * @param failFast
+     *         True to only send the first violation of the first failing rule.
+     */
+    private void visit(JSONObject json, Consumer<JSONValidationException> violations, boolean failFast) {
+
+        Report report = new Report(failFast);
+        this.root.visitChildren(json, report);
+
+        if (!this.fallbacks.isEmpty()) {
+            AnisekaiJson wrapped = AnisekaiJson.wrap(json);
+            for (Fallback fallback : this.fallbacks) {
+                if (report.skips(fallback.order())) continue;
+                try {
+                    fallback.rule().validate(wrapped);
+                } catch (JSONValidationException e) {
+                    report.add(fallback.order(), e);
+                }
+            }
+        }
+
+        report.publish(violations);
+    }
+
+    @FunctionalInterface
+    private interface Check {
+
+        void apply(Object value, Consumer<JSONValidationException> violations, boolean failFast);
+
+    }
+
+    private record Fallback(int order, JsonRule rule) {}
+
+    private record Violation(int order, JSONValidationException exception) {}
+
+    private record CompiledRule(int order, Rule rule, Check check) {
+
+        void apply(Object value, Report report) {
+
+            try {
+                this.check.apply(value, report.sink(this.order), report.failFast);
+            } catch (Report.Stop ignored) {
+                // The first violation of this rule has been recorded, the others are not needed.
+            }
+        }
+
+        void reportMissing(Report report) {
+
+            if (this.rule.isRequired()) report.add(this.order, this.rule.missing());
+        }
+
+    }
+
+    /**
+     * Violations reported during a single validation. The traversal follows the path tree rather than the rule order, so
+     * violations are sorted once it completes. In fail-fast mode, only the violation of the lowest rule is kept, and rules
+     * coming after it are skipped.
+     */
+    private static final class Report {
+
+        private final boolean         failFast;
+        private final List<Violation> violations = new ArrayList<>();
+        private       int             limit      = Integer.MAX_VALUE;
+
+        private Report(boolean failFast) {
+
+            this.failFast = failFast;
+        }
+
+        private boolean skips(int order) {
+
+            return order >= this.limit;
+        }
+
+        private void add(int order, JSONValidationException violation) {
+
+            if (!this.failFast) {
+                this.violations.add(new Violation(order, violation));
+            } else if (order < this.limit) {
+                this.limit = order;
+                this.violations.clear();
+                this.violations.add(new Violation(order, violation));
+            }
+        }
+
+        private Consumer<JSONValidationException> sink(int order) {
+
+            if (!this.failFast) return violation -> this.add(order, violation);
+
+            return violation -> {
+                this.add(order, violation);
+                throw Stop.INSTANCE;
+            };
+        }
+
+        private void publish(Consumer<JSONValidationException> consumer) {
+
+            // Stable sort, keeping the violations of a single rule in the order they were reported.
+            this.violations.sort(Comparator.comparingInt(Violation::order));
+            for (Violation violation : this.violations) {
+                consumer.accept(violation.exception());
+            }
+        }
+
+        /**
+         * Thrown to stop a rule check once its first violation has been recorded in fail-fast mode.
+         */
+        private static final class Stop extends RuntimeException {
+
+            private static final Stop INSTANCE = new Stop();
+
+            private Stop() {
+
+                super(null, null, false, false);
+            }
+
+        }
+
+    }
+
+    private static final class Node {
+
+        private final String             key;
+        private final int                index;
+        private final Map<String, Node>  children = new LinkedHashMap<>();
+        private final List<CompiledRule> rules    = new ArrayList<>();
+        private       int                first    = Integer.MAX_VALUE;
+
+        private Node(String key, int index) {
+
+            this.key   = key;
+            this.index = index;
+        }
+
+        private Node child(String key, int index, int order) {
+
+            Node child = this.children.computeIfAbsent(key, k -> new Node(k, index));
+            child.first = Math.min(child.first, order);
+            return child;
+        }
+
+        private @Nullable Object resolve(Object parent) {
+
+            //noinspection ChainOfInstanceofChecks
+            if (parent instanceof JSONObject object) {
+                return object.opt(this.key);
+            } else if (parent instanceof JSONArray array) {
+                return this.index >= 0 && this.index < array.length() ? array.opt(this.index) : null;
+            }
+            return null;
+        }
+
+        private void visitChildren(Object value, Report report) {
+
+            for (Node child : this.children.values()) {
+                // The lowest rule of the subtree cannot be reported first anymore.
+                if (report.skips(child.first)) continue;
+                child.visit(child.resolve(value), report);
+            }
+        }
+
+        private void visit(@Nullable Object value, Report report) {
+
+            if (value == null) {
+                this.reportMissing(report);
+                return;
+            }
+
+            for (CompiledRule rule : this.rules) {
+                if (!report.skips(rule.order())) rule.apply(value, report);
+            }
+            this.visitChildren(value, report);
+        }
+
+        private void reportMissing(Report report) {
+
+            for (CompiledRule rule : this.rules) {
+                rule.reportMissing(report);
+            }
+            for (Node child : this.children.values()) {
+                child.reportMissing(report);
+            }
+        }
+
+    }
+
+}
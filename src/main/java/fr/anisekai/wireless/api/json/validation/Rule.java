@@ -8,6 +8,7 @@ import org.json.JSONException;
 import org.json.JSONObject;
 
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Abstract base implementation of a {@link JsonRule} representing a validation rule applied to a specific key within a JSON
@@ -21,6 +22,13 @@ import java.util.Optional;
  */
 public abstract class Rule implements JsonRule {
 
+    /**
+     * Violation sink throwing the first violation reported, giving the fail-fast behavior of {@link #validate(AnisekaiJson)}.
+     */
+    static final Consumer<JSONValidationException> FAIL_FAST = violation -> {
+        throw violation;
+    };
+
     private final String  key;
     private final boolean required;
 
@@ -51,15 +59,35 @@ public abstract class Rule implements JsonRule {
         Optional<Object> optional = source.getOptional(this.getKey());
 
         if (this.isRequired() && optional.isEmpty()) {
-            throw new JSONValidationException(
-                    this,
-                    "The key was required but not found or null."
-            );
+            throw this.missing();
         }
 
         return optional;
     }
 
+    /**
+     * Create the {@link JSONValidationException} reported when this {@link Rule} is required but its key could not be found.
+     *
+     * @return A {@link JSONValidationException}.
+     */
+    JSONValidationException missing() {
+
+        return new JSONValidationException(this, "The key was required but not found or null.");
+    }
+
+    /**
+     * Create the {@link JSONValidationException} reported when the value under this {@link Rule} key is not an array.
+     *
+     * @param o
+     *         The incompatible value.
+     *
+     * @return A {@link JSONValidationException}.
+     */
+    JSONValidationException incompatible(Object o) {
+
+        return new JSONValidationException(this, String.format("Incompatible type '%s'.", o.getClass().getSimpleName()));
+    }
+
     /**
      * Retrieve the provided object as an {@link AnisekaiArray}
      *
@@ -78,10 +106,8 @@ public abstract class Rule implements JsonRule {
 
         AnisekaiArray array = switch (o) {
             case AnisekaiArray arr -> arr;
-            case JSONArray arr -> new AnisekaiArray(arr);
-            default -> throw new JSONValidationException(
-                    this, String.format("Incompatible type '%s'.", o.getClass().getSimpleName())
-            );
+            case JSONArray arr -> AnisekaiArray.wrap(arr);
+            default -> throw this.incompatible(o);
         };
 
         if (array.isEmpty() && !allowEmpty) {
@@ -108,7 +134,7 @@ public abstract class Rule implements JsonRule {
 
         return switch (o) {
             case AnisekaiJson obj -> obj;
-            case JSONObject obj -> new AnisekaiJson(obj);
+            case JSONObject obj -> AnisekaiJson.wrap(obj);
             default -> throw new JSONValidationException(this, String.format("Not an object at index %s.", index));
         };
     }
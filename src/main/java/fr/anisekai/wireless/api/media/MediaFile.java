@@ -1,10 +1,12 @@
 package fr.anisekai.wireless.api.media;
 
-import fr.anisekai.wireless.api.json.AnisekaiArray;
-import fr.anisekai.wireless.api.json.AnisekaiJson;
+import fr.anisekai.wireless.api.json.stream.JsonReader;
 import fr.anisekai.wireless.api.media.bin.FFMpeg;
 import fr.anisekai.wireless.api.media.enums.Codec;
 import fr.anisekai.wireless.api.media.enums.CodecType;
+import fr.anisekai.wireless.api.media.enums.Disposition;
+import org.jetbrains.annotations.Nullable;
+import org.json.JSONException;
 
 import java.io.File;
 import java.io.IOException;
@@ -36,26 +38,83 @@ public final class MediaFile {
      */
     public static MediaFile of(Path file) throws IOException, InterruptedException {
 
-        AnisekaiJson json = FFMpeg.probe(file).intoTemporary().timeout(1, TimeUnit.MINUTES).run();
+        List<MediaStream> streams = FFMpeg.probe(file)
+                                          .intoTemporary(MediaFile::readStreams)
+                                          .timeout(1, TimeUnit.MINUTES)
+                                          .run();
 
-        Set<MediaStream> streams = new HashSet<>();
+        return new MediaFile(file, streams);
+    }
+
+    private static List<MediaStream> readStreams(JsonReader reader) throws IOException {
 
-        AnisekaiArray streamArray = json.readArray("streams");
-        for (int i = 0; i < streamArray.length(); i++) {
-            AnisekaiJson streamData = streamArray.getAnisekaiJson(i);
+        List<MediaStream> streams = null;
 
-            CodecType type = CodecType.from(streamData.getString("codec_type"));
-            if (type == null) continue; // Unsupported type of stream, just skip it.
-            Codec codec = Codec.from(streamData.getString("codec_name"));
-            if (codec == null) {
-                throw new UnsupportedEncodingException("Unsupported codec: " + streamData.getString("codec_name"));
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if (!reader.nextName().equals("streams")) {
+                reader.skipValue();
+                continue;
             }
 
-            MediaStream stream = new MediaStream(codec, streamData);
-            streams.add(stream);
+            streams = new ArrayList<>();
+            reader.beginArray();
+            while (reader.hasNext()) {
+                MediaStream stream = readStream(reader);
+                if (stream != null) streams.add(stream);
+            }
+            reader.endArray();
         }
+        reader.endObject();
 
-        return new MediaFile(file, streams);
+        if (streams == null) throw new JSONException("[streams] not found.");
+        return streams;
+    }
+
+    private static @Nullable MediaStream readStream(JsonReader reader) throws IOException {
+
+        Integer              id           = null;
+        String               typeName     = null;
+        String               codecName    = null;
+        EnumSet<Disposition> dispositions = EnumSet.noneOf(Disposition.class);
+        Map<String, String>  metadata     = new HashMap<>();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "index" -> id = reader.nextInt();
+                case "codec_type" -> typeName = reader.nextString();
+                case "codec_name" -> codecName = reader.nextString();
+                case "disposition" -> {
+                    reader.beginObject();
+                    while (reader.hasNext()) {
+                        Disposition disposition = Disposition.from(reader.nextName());
+                        if (reader.nextInt() == 1 && disposition != null) dispositions.add(disposition);
+                    }
+                    reader.endObject();
+                }
+                case "tags" -> {
+                    reader.beginObject();
+                    while (reader.hasNext()) {
+                        String key = reader.nextName().toLowerCase();
+                        metadata.put(key, reader.nextString());
+                    }
+                    reader.endObject();
+                }
+                default -> reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        CodecType type = CodecType.from(typeName);
+        if (type == null) return null; // Unsupported type of stream, just skip it.
+        Codec codec = Codec.from(codecName);
+        if (codec == null) {
+            throw new UnsupportedEncodingException("Unsupported codec: " + codecName);
+        }
+        if (id == null) throw new JSONException("[streams.index] not found.");
+
+        return new MediaStream(id, codec, dispositions, metadata);
     }
 
     private final Path              path;
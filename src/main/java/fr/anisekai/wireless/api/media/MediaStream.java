@@ -52,6 +52,26 @@ public class MediaStream {
 
     }
 
+    /**
+     * Create a new instance of {@link MediaStream} from already parsed values.
+     *
+     * @param id
+     *         The index of this {@link MediaStream} within its file.
+     * @param codec
+     *         The {@link Codec} for this {@link MediaStream}.
+     * @param dispositions
+     *         The {@link Disposition}s enabled on this {@link MediaStream}.
+     * @param metadata
+     *         The tags of this {@link MediaStream}, with lowercase keys.
+     */
+    public MediaStream(int id, Codec codec, EnumSet<Disposition> dispositions, Map<String, String> metadata) {
+
+        this.id           = id;
+        this.codec        = codec;
+        this.dispositions = dispositions;
+        this.metadata     = metadata;
+    }
+
     /**
      * Retrieve this {@link MediaStream}'s ID
      *
@@ -1,9 +1,11 @@
 package fr.anisekai.wireless.api.media.bin.wrapper.commands;
 
 import fr.anisekai.wireless.api.json.AnisekaiJson;
+import fr.anisekai.wireless.api.json.stream.JsonBinder;
+import fr.anisekai.wireless.api.json.stream.JsonReader;
 import fr.anisekai.wireless.api.media.MediaFile;
 import fr.anisekai.wireless.api.media.bin.wrapper.FFMpegCommand;
-import fr.anisekai.wireless.api.media.bin.wrapper.tasks.ProbeTask;
+import fr.anisekai.wireless.api.media.bin.wrapper.tasks.BoundProbeTask;
 
 import java.io.IOException;
 import java.nio.file.Files;
@@ -37,7 +39,26 @@ public class ProbeCommandBuilder {
      */
     public FFMpegCommand<AnisekaiJson> intoTemporary() throws IOException {
 
-        return new ProbeTask(this.input, Files.createTempFile("ansk-", ".json"));
+        return this.intoTemporary(JsonReader::readJson);
+    }
+
+    /**
+     * Create a temporary file into which the JSON data will be written before being streamed through the provided
+     * {@link JsonBinder} and deleted.
+     *
+     * @param binder
+     *         The {@link JsonBinder} reading the result from the JSON data.
+     * @param <T>
+     *         Type of the result.
+     *
+     * @return A {@link FFMpegCommand} ready to analyze the {@link MediaFile}.
+     *
+     * @throws IOException
+     *         If the temporary file could not be created.
+     */
+    public <T> FFMpegCommand<T> intoTemporary(JsonBinder<T> binder) throws IOException {
+
+        return new BoundProbeTask<>(this.input, Files.createTempFile("ansk-", ".json"), binder);
     }
 
     /**
@@ -50,13 +71,31 @@ public class ProbeCommandBuilder {
      */
     public FFMpegCommand<AnisekaiJson> into(Path output) {
 
+        return this.into(output, JsonReader::readJson);
+    }
+
+    /**
+     * Set the {@link Path} pointing to the file into which the JSON data will be written before being streamed through the
+     * provided {@link JsonBinder} and deleted.
+     *
+     * @param output
+     *         The {@link Path} pointing to a file.
+     * @param binder
+     *         The {@link JsonBinder} reading the result from the JSON data.
+     * @param <T>
+     *         Type of the result.
+     *
+     * @return A {@link FFMpegCommand} ready to analyze the {@link MediaFile}.
+     */
+    public <T> FFMpegCommand<T> into(Path output, JsonBinder<T> binder) {
+
         Path normalized = output.toAbsolutePath().normalize();
 
         if (Files.exists(normalized)) {
             throw new IllegalArgumentException(String.format("The path '%s' already exists", normalized));
         }
 
-        return new ProbeTask(this.input, normalized);
+        return new BoundProbeTask<>(this.input, normalized, binder);
     }
 
 }
@@ -0,0 +1,68 @@
+package fr.anisekai.wireless.api.media.bin.wrapper.tasks;
+
+import fr.anisekai.wireless.api.json.stream.JsonBinder;
+import fr.anisekai.wireless.api.json.stream.JsonReader;
+import fr.anisekai.wireless.api.media.bin.Binary;
+import fr.anisekai.wireless.api.media.bin.wrapper.FFMpegCommandTask;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Represent a ffmpeg task used to probe a file to gets its information, streaming the ffprobe JSON output through a
+ * {@link JsonBinder}.
+ *
+ * @param <T>
+ *         Type of the result, read from the ffprobe JSON output by a {@link JsonBinder}.
+ */
+public class BoundProbeTask<T> extends FFMpegCommandTask<T> {
+
+    private final Path          input;
+    private final Path          output;
+    private final JsonBinder<T> binder;
+
+    /**
+     * Create a new {@link BoundProbeTask}
+     *
+     * @param input
+     *         The {@link Path} pointing to the file to read
+     * @param output
+     *         The {@link Path} pointing to the file where the result will be written temporarily.
+     * @param binder
+     *         The {@link JsonBinder} reading the result from the ffprobe output while it is streamed from the file.
+     */
+    public BoundProbeTask(Path input, Path output, JsonBinder<T> binder) {
+
+        super(Binary.ffprobe());
+        this.input  = input.toAbsolutePath().normalize();
+        this.output = output.toAbsolutePath().normalize();
+        this.binder = binder;
+    }
+
+    @Override
+    public void preprocess(Binary ffmpeg) {
+
+        if (!Files.isRegularFile(this.input)) {
+            throw new IllegalArgumentException("Input file does not exists.");
+        }
+
+        ffmpeg.addArgument("-show_streams");
+        ffmpeg.addArguments("-of", "json");
+        ffmpeg.addArguments("-i", this.input.toString());
+        ffmpeg.addArguments("-o", this.output.toString());
+    }
+
+    @Override
+    public T postprocess(int code) throws IOException {
+
+        T result;
+        try (JsonReader reader = JsonReader.of(Files.newInputStream(this.output))) {
+            result = this.binder.bind(reader);
+            reader.endDocument();
+        }
+        Files.delete(this.output);
+        return result;
+    }
+
+}
@@ -0,0 +1,161 @@
+package fr.anisekai.wireless.api.plannifier;
+
+import fr.anisekai.wireless.api.plannifier.interfaces.Scheduler;
+import fr.anisekai.wireless.api.plannifier.interfaces.SchedulerManager;
+import fr.anisekai.wireless.api.plannifier.interfaces.entities.Planifiable;
+import fr.anisekai.wireless.api.plannifier.interfaces.entities.WatchTarget;
+
+import java.time.ZonedDateTime;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * {@link SchedulerManager} decorator deferring updates and deletions until {@link #flush()} is called, which a
+ * {@link Scheduler} does at the end of each of its operations.
+ * <p>
+ * Updates to the same entity are coalesced, and pending changes are sent to the decorated {@link SchedulerManager} through a
+ * single {@link SchedulerManager#deleteAll(List)} call, followed by a single {@link SchedulerManager#updateEach(Map)} call.
+ * Units run by {@link #atomically(Supplier)} are delegated as well, so that deferred changes flushed within a unit belong to it,
+ * and changes deferred within a failed unit are discarded.
+ * Hooks are applied on whatever instance the decorated {@link SchedulerManager} provides, which may be a reloaded copy of the
+ * deferred entity. Updates pending on an entity being deleted are discarded. Creations are not deferred, as the created entity
+ * must be returned immediately.
+ * <p>
+ * Until flushed, {@link #update(Planifiable, Consumer)}, {@link #updateAll(List, Consumer)} and {@link #updateEach(Map)}
+ * return the provided entities without applying the update hooks, and deletions are always reported as successful. This class
+ * is not thread-safe.
+ *
+ * @param <T>
+ *         The type of the {@link WatchTarget} associated with the planifiable elements.
+ * @param <I>
+ *         The planifiable type used for scheduling logic. Usually a base or mutable interface.
+ * @param <E>
+ *         The concrete persisted entity type.
+ */
+public class BatchingSchedulerManager<T extends WatchTarget, I extends Planifiable<T>, E extends I>
+        implements SchedulerManager<T, I, E> {
+
+    private final SchedulerManager<T, I, E> delegate;
+    private final Map<E, Consumer<I>>       updates;
+    private final Set<E>                    deletes;
+
+    /**
+     * Create a new {@link BatchingSchedulerManager} decorating the provided {@link SchedulerManager}.
+     *
+     * @param delegate
+     *         The {@link SchedulerManager} to which changes will be sent once flushed.
+     */
+    public BatchingSchedulerManager(SchedulerManager<T, I, E> delegate) {
+
+        this.delegate = delegate;
+        this.updates  = new LinkedHashMap<>();
+        this.deletes  = new LinkedHashSet<>();
+    }
+
+    /**
+     * Check if some changes are waiting to be flushed.
+     *
+     * @return True if there are pending changes, false otherwise.
+     */
+    public boolean hasPendingChanges() {
+
+        return !this.updates.isEmpty() || !this.deletes.isEmpty();
+    }
+
+    @Override
+    public E create(Planifiable<T> planifiable) {
+
+        return this.delegate.create(planifiable);
+    }
+
+    @Override
+    public List<E> createAll(List<Planifiable<T>> planifiables) {
+
+        return this.delegate.createAll(planifiables);
+    }
+
+    @Override
+    public E update(E entity, Consumer<I> updateHook) {
+
+        if (!this.deletes.contains(entity)) {
+            this.updates.merge(entity, updateHook, Consumer::andThen);
+        }
+        return entity;
+    }
+
+    @Override
+    public List<E> updateAll(List<E> entities, Consumer<I> updateHook) {
+
+        entities.forEach(entity -> this.update(entity, updateHook));
+        return entities;
+    }
+
+    @Override
+    public List<E> updateEach(Map<E, Consumer<I>> updates) {
+
+        updates.forEach(this::update);
+        return new ArrayList<>(updates.keySet());
+    }
+
+    @Override
+    public boolean delete(E entity) {
+
+        this.updates.remove(entity);
+        this.deletes.add(entity);
+        return true;
+    }
+
+    @Override
+    public boolean deleteAll(List<E> entities) {
+
+        entities.forEach(this::delete);
+        return true;
+    }
+
+    @Override
+    public void flush() {
+
+        Map<E, Consumer<I>> updates = new LinkedHashMap<>(this.updates);
+        List<E>             deletes = new ArrayList<>(this.deletes);
+
+        this.updates.clear();
+        this.deletes.clear();
+
+        if (!deletes.isEmpty()) {
+            this.delegate.deleteAll(deletes);
+        }
+
+        if (!updates.isEmpty()) {
+            this.delegate.updateEach(updates);
+        }
+
+        this.delegate.flush();
+    }
+
+    @Override
+    public <R> R atomically(Supplier<R> work) {
+
+        try {
+            return this.delegate.atomically(work);
+        } catch (RuntimeException | Error e) {
+            // The unit failed as a whole, its changes must not be sent by a later flush.
+            this.updates.clear();
+            this.deletes.clear();
+            throw e;
+        }
+    }
+
+    @Override
+    public OptionalLong getStateVersion() {
+
+        return this.delegate.getStateVersion();
+    }
+
+    @Override
+    public List<E> reload(List<E> entities, ZonedDateTime from, ZonedDateTime to) {
+
+        return this.delegate.reload(entities, from, to);
+    }
+
+}
@@ -0,0 +1,333 @@
+package fr.anisekai.wireless.api.plannifier;
+
+import fr.anisekai.wireless.api.plannifier.data.BulkScheduleResult;
+import fr.anisekai.wireless.api.plannifier.data.CalibrationResult;
+import fr.anisekai.wireless.api.plannifier.data.CompactionOptions;
+import fr.anisekai.wireless.api.plannifier.data.CompactionResult;
+import fr.anisekai.wireless.api.plannifier.data.SchedulerChange;
+import fr.anisekai.wireless.api.plannifier.interfaces.ScheduleSpotData;
+import fr.anisekai.wireless.api.plannifier.interfaces.Scheduler;
+import fr.anisekai.wireless.api.plannifier.interfaces.SchedulerManager;
+import fr.anisekai.wireless.api.plannifier.interfaces.entities.Planifiable;
+import fr.anisekai.wireless.api.plannifier.interfaces.entities.WatchTarget;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Thread-safe {@link Scheduler} implementation, backed by an {@link EventScheduler}.
+ * <p>
+ * Writes (scheduling, delaying, compaction, calibration and invalidation) are serialised. Once a write completes, a frozen view
+ * of the scheduler indexes is published as a new snapshot, tagged with an incremented {@link #getVersion() version}. As indexes
+ * are persistent (see {@link Timeline#snapshot()}), publishing a snapshot does not copy any event. Configuration changes are
+ * not writes: they neither publish a snapshot nor change the version.
+ * <p>
+ * Reads ({@link #getState()}, {@link #findPrevious(ZonedDateTime)}, {@link #findNext(ZonedDateTime)},
+ * {@link #canSchedule(ScheduleSpotData)} and slot lookups) are optimistic: they run on the latest snapshot without taking any
+ * lock, and are only retried under a read lock if a write happened in the meantime. As a result:
+ * <ul>
+ *     <li>Reads never observe a partially applied write, including entity fields modified by that write.</li>
+ *     <li>{@link #getState()} returns the state as of the last completed write. The returned set never changes afterward, even
+ *     if a write happens while it is being iterated, but the entities it contains are the live, shared instances.</li>
+ *     <li>{@link #findBetween(ZonedDateTime, ZonedDateTime)} and {@link #iterateFrom(ZonedDateTime)} lazily walk the snapshot
+ *     of the last completed write, and can therefore be consumed while writes happen.</li>
+ * </ul>
+ *
+ * @param <T>
+ *         The watch target type. A watch target is some sort of container, representing a movie or series.
+ * @param <I>
+ *         The interface extending {@link Planifiable} to use for the proxy instance.
+ * @param <E>
+ *         The entity type. It is the type that will be scheduled.
+ */
+public class ConcurrentEventScheduler<T extends WatchTarget, I extends Planifiable<T>, E extends I>
+        implements Scheduler<T, I, E>, AutoCloseable {
+
+    private final StampedLock                           lock = new StampedLock();
+    private final EventScheduler<T, I, E>               delegate;
+    private final Flow.Publisher<SchedulerChange<T, E>> changes;
+
+    private volatile EventScheduler<T, I, E> snapshot;
+    private volatile long                    version;
+
+    /**
+     * Create a new instance of {@link ConcurrentEventScheduler} using the provided {@link SchedulerManager}.
+     *
+     * @param manager
+     *         {@link SchedulerManager} that this {@link Scheduler} will use when using CRUD operations.
+     * @param items
+     *         Default collection of {@link Planifiable} that will populate the state.
+     */
+    public ConcurrentEventScheduler(SchedulerManager<T, I, E> manager, Collection<E> items) {
+
+        this.delegate = new EventScheduler<>(manager, items);
+        this.changes  = this.delegate.getChanges();
+        this.snapshot = this.delegate.snapshot();
+        this.version  = 0;
+    }
+
+    /**
+     * Retrieve the version of the current snapshot. The version is incremented each time a write completes.
+     *
+     * @return The snapshot version.
+     */
+    public long getVersion() {
+
+        return this.version;
+    }
+
+    /**
+     * Retrieve the change feed of the underlying {@link EventScheduler}. Changes of a write are published before its snapshot,
+     * so a subscriber reading this {@link ConcurrentEventScheduler} upon receiving a change may still observe the previous
+     * snapshot.
+     *
+     * @return A {@link Flow.Publisher} of {@link SchedulerChange}.
+     *
+     * @see EventScheduler#getChanges()
+     */
+    public Flow.Publisher<SchedulerChange<T, E>> getChanges() {
+
+        return this.changes;
+    }
+
+    /**
+     * Close the change feed of the underlying {@link EventScheduler}, once the running write, if any, completed.
+     *
+     * @see EventScheduler#close()
+     */
+    @Override
+    public void close() {
+
+        this.configure(EventScheduler::close);
+    }
+
+    /**
+     * Define the {@link ForkJoinPool} to use when calibrating.
+     *
+     * @param calibrationPool
+     *         The {@link ForkJoinPool} to use, or {@code null} to calibrate sequentially.
+     *
+     * @see EventScheduler#setCalibrationPool(ForkJoinPool)
+     */
+    public void setCalibrationPool(@Nullable ForkJoinPool calibrationPool) {
+
+        this.configure(scheduler -> scheduler.setCalibrationPool(calibrationPool));
+    }
+
+    /**
+     * Define how many times an operation is retried when the {@link SchedulerManager} reports that it was based on an outdated
+     * state.
+     *
+     * @param conflictRetries
+     *         The maximum amount of retries, or {@code 0} to let conflicts through immediately.
+     *
+     * @see EventScheduler#setConflictRetries(int)
+     */
+    public void setConflictRetries(int conflictRetries) {
+
+        this.configure(scheduler -> scheduler.setConflictRetries(conflictRetries));
+    }
+
+    /**
+     * Run the provided query on the latest snapshot without locking, retrying it under a read lock if a write happened while it
+     * was running.
+     *
+     * @param query
+     *         The query to run.
+     * @param <R>
+     *         Type of the query result.
+     *
+     * @return The query result.
+     */
+    private <R> R read(Function<Scheduler<T, I, E>, R> query) {
+
+        long stamp = this.lock.tryOptimisticRead();
+
+        if (stamp != 0L) {
+            try {
+                R result = query.apply(this.snapshot);
+                if (this.lock.validate(stamp)) return result;
+            } catch (RuntimeException e) {
+                if (this.lock.validate(stamp)) throw e;
+                // Entities were modified by a concurrent write, the failure may not be genuine.
+            }
+        }
+
+        stamp = this.lock.readLock();
+        try {
+            return query.apply(this.snapshot);
+        } finally {
+            this.lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Run the provided action on the underlying {@link EventScheduler} while holding the write lock, then publish a new
+     * snapshot. The snapshot is published even if the action fails, as it may have been partially applied.
+     *
+     * @param action
+     *         The action to run.
+     * @param <R>
+     *         Type of the action result.
+     *
+     * @return The action result.
+     */
+    private <R> R write(Function<EventScheduler<T, I, E>, R> action) {
+
+        long stamp = this.lock.writeLock();
+        try {
+            return action.apply(this.delegate);
+        } finally {
+            this.snapshot = this.delegate.snapshot();
+            this.version++;
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Run the provided action on the underlying {@link EventScheduler} while holding the write lock, without publishing a new
+     * snapshot. The action must not change the scheduler state.
+     *
+     * @param action
+     *         The action to run.
+     */
+    private void configure(Consumer<EventScheduler<T, I, E>> action) {
+
+        long stamp = this.lock.writeLock();
+        try {
+            action.accept(this.delegate);
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public SchedulerManager<T, I, E> getManager() {
+
+        return this.delegate.getManager();
+    }
+
+    @Override
+    public Set<E> getState() {
+
+        return this.read(Scheduler::getState);
+    }
+
+    @Override
+    public Optional<E> findPrevious(ZonedDateTime when) {
+
+        return this.read(scheduler -> scheduler.findPrevious(when));
+    }
+
+    @Override
+    public Optional<E> findNext(ZonedDateTime when) {
+
+        return this.read(scheduler -> scheduler.findNext(when));
+    }
+
+    @Override
+    public Optional<E> findPrevious(ZonedDateTime when, T target) {
+
+        return this.read(scheduler -> scheduler.findPrevious(when, target));
+    }
+
+    @Override
+    public Optional<E> findNext(ZonedDateTime when, T target) {
+
+        return this.read(scheduler -> scheduler.findNext(when, target));
+    }
+
+    @Override
+    public Optional<E> findNextInChannel(ZonedDateTime when, @Nullable String channel) {
+
+        return this.read(scheduler -> scheduler.findNextInChannel(when, channel));
+    }
+
+    @Override
+    public Stream<E> findBetween(ZonedDateTime from, ZonedDateTime to) {
+
+        return this.read(scheduler -> scheduler.findBetween(from, to));
+    }
+
+    @Override
+    public Iterator<E> iterateFrom(ZonedDateTime when) {
+
+        return this.read(scheduler -> scheduler.iterateFrom(when));
+    }
+
+    @Override
+    public boolean canSchedule(ScheduleSpotData<T> spot) {
+
+        return this.read(scheduler -> scheduler.canSchedule(spot));
+    }
+
+    @Override
+    public List<ZonedDateTime> findAvailableSlots(
+            ZonedDateTime from,
+            ZonedDateTime to,
+            ScheduleSpotData<T> template,
+            @Nullable Duration grid,
+            int limit
+    ) {
+
+        return this.read(scheduler -> scheduler.findAvailableSlots(from, to, template, grid, limit));
+    }
+
+    @Override
+    public E schedule(ScheduleSpotData<T> spot) {
+
+        return this.write(scheduler -> scheduler.schedule(spot));
+    }
+
+    @Override
+    public BulkScheduleResult<T, E> scheduleAll(Collection<? extends ScheduleSpotData<T>> spots) {
+
+        return this.write(scheduler -> scheduler.scheduleAll(spots));
+    }
+
+    @Override
+    public List<E> delay(ZonedDateTime from, Duration interval, Duration delay) {
+
+        return this.write(scheduler -> scheduler.delay(from, interval, delay));
+    }
+
+    @Override
+    public CompactionResult<T, E> compact(ZonedDateTime from, ZonedDateTime to, CompactionOptions options) {
+
+        return this.write(scheduler -> scheduler.compact(from, to, options));
+    }
+
+    @Override
+    public CalibrationResult calibrate() {
+
+        return this.write(EventScheduler::calibrate);
+    }
+
+    @Override
+    public CalibrationResult calibrate(T target) {
+
+        return this.write(scheduler -> scheduler.calibrate(target));
+    }
+
+    @Override
+    public void invalidate(T target) {
+
+        this.write(scheduler -> {
+            scheduler.invalidate(target);
+            return null;
+        });
+    }
+
+}
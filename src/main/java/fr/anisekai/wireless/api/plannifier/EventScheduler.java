@@ -1,21 +1,35 @@
 package fr.anisekai.wireless.api.plannifier;
 
 import fr.anisekai.wireless.api.plannifier.data.BookedPlanifiable;
+import fr.anisekai.wireless.api.plannifier.data.BulkScheduleResult;
 import fr.anisekai.wireless.api.plannifier.data.CalibrationResult;
+import fr.anisekai.wireless.api.plannifier.data.CompactionOptions;
+import fr.anisekai.wireless.api.plannifier.data.CompactionResult;
+import fr.anisekai.wireless.api.plannifier.data.SchedulerChange;
+import fr.anisekai.wireless.api.plannifier.data.SchedulerDiff;
+import fr.anisekai.wireless.api.plannifier.data.TargetCalibration;
 import fr.anisekai.wireless.api.plannifier.exceptions.DelayOverlapException;
 import fr.anisekai.wireless.api.plannifier.exceptions.InvalidSchedulingDurationException;
 import fr.anisekai.wireless.api.plannifier.exceptions.NotSchedulableException;
+import fr.anisekai.wireless.api.plannifier.exceptions.StaleStateException;
 import fr.anisekai.wireless.api.plannifier.interfaces.ScheduleSpotData;
 import fr.anisekai.wireless.api.plannifier.interfaces.Scheduler;
 import fr.anisekai.wireless.api.plannifier.interfaces.SchedulerManager;
 import fr.anisekai.wireless.api.plannifier.interfaces.entities.Planifiable;
 import fr.anisekai.wireless.api.plannifier.interfaces.entities.WatchTarget;
-import fr.anisekai.wireless.utils.DateTimeUtils;
-import fr.anisekai.wireless.utils.MapCollector;
+import org.jetbrains.annotations.Nullable;
 
 import java.time.Duration;
 import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 
 /**
@@ -28,7 +42,8 @@ import java.util.stream.Stream;
  * @param <E>
  *         The entity type. It is the type that will be scheduled.
  */
-public class EventScheduler<T extends WatchTarget, I extends Planifiable<T>, E extends I> implements Scheduler<T, I, E> {
+public class EventScheduler<T extends WatchTarget, I extends Planifiable<T>, E extends I>
+        implements Scheduler<T, I, E>, AutoCloseable {
 
     /**
      * If two {@link Planifiable} are of the following duration apart, they will be merged once scheduled. The duration is done by
@@ -38,59 +53,78 @@ public class EventScheduler<T extends WatchTarget, I extends Planifiable<T>, E e
     private static final Duration MERGE_MAGNET_LIMIT = Duration.ofMinutes(10);
 
     /**
-     * Check if provided {@link ScheduleSpotData} overlap one another.
+     * Check if two intervals, expressed in epoch seconds, overlap one another. Intervals only touching each other do not
+     * overlap.
      *
-     * @param one
-     *         The first {@link ScheduleSpotData}
-     * @param two
-     *         The second {@link ScheduleSpotData}
+     * @param start
+     *         The start of the first interval.
+     * @param end
+     *         The end of the first interval.
+     * @param itemStart
+     *         The start of the second interval.
+     * @param itemEnd
+     *         The end of the second interval.
      *
-     * @return True if the {@link ScheduleSpotData} overlaps, false otherwise.
+     * @return True if the intervals overlap, false otherwise.
      */
-    private boolean isOverlapping(ScheduleSpotData<T> one, ScheduleSpotData<T> two) {
+    private static boolean isOverlapping(long start, long end, long itemStart, long itemEnd) {
 
-        ZonedDateTime startingAt = one.getStartingAt();
-        ZonedDateTime endingAt   = startingAt.plus(one.getDuration());
-
-        ZonedDateTime itemStartingAt = two.getStartingAt();
-        ZonedDateTime itemEndingAt   = itemStartingAt.plus(two.getDuration());
-
-        return !startingAt.isAfter(itemEndingAt) && !startingAt.equals(itemEndingAt) && !endingAt.isBefore(
-                itemStartingAt) && !endingAt.isEqual(itemStartingAt);
+        return start < itemEnd && end > itemStart;
     }
 
     /**
-     * Create a {@link Stream} of the current {@link EventScheduler} state, where every item will be filtered based on the return
-     * value of {@link ScheduleSpotData#getStartingAt()}. If the returned value is before or equals to the provided
-     * {@link ZonedDateTime}, the item will be kept.
+     * Check if two events, expressed in epoch seconds, can be merged, the second one starting after the end of the first one.
+     * This is where the rule of merging should be decided (timing, content, etc...)
      *
-     * @param when
-     *         The {@link ZonedDateTime} delimiting item filtering.
+     * @param target
+     *         The {@link WatchTarget} of the first event.
+     * @param end
+     *         The end of the first event.
+     * @param nextTarget
+     *         The {@link WatchTarget} of the second event.
+     * @param nextStart
+     *         The start of the second event.
      *
-     * @return A filtered {@link Stream} of the current state.
+     * @return True if both event can be merged, false otherwise.
      */
-    private Stream<E> findPreviousQuery(ZonedDateTime when) {
+    private static boolean mayMerge(WatchTarget target, long end, WatchTarget nextTarget, long nextStart) {
 
-        return this.getState().stream().filter(item -> DateTimeUtils.isBeforeOrEquals(item.getStartingAt(), when));
+        boolean isWithinMagnetTime = nextStart - end <= MERGE_MAGNET_LIMIT.toSeconds();
+        boolean isSameGroup        = Objects.equals(target, nextTarget);
+
+        return isWithinMagnetTime && isSameGroup;
     }
 
+    private final           SchedulerManager<T, I, E> manager;
+    private final @Nullable UnaryOperator<E>          overlay;
+    private final           Timeline<E>               timeline;
+    private final           Map<String, Timeline<E>>  channelTimelines;
+    private final           Map<T, Timeline<E>>       targetTimelines;
+    private final           Map<T, ZonedDateTime>     dirtyTargets;
+    private final           Map<T, Progress>          calibratedProgress;
+    private                 ForkJoinPool              calibrationPool;
+    private                 int                       conflictRetries = 3;
+    private                 long                      revision;
+
+    private final List<SchedulerChange<T, E>>                changes = new ArrayList<>();
+    private       SubmissionPublisher<SchedulerChange<T, E>> publisher;
+
     /**
-     * Create a {@link Stream} of the current {@link EventScheduler} state, where every item will be filtered based on the return
-     * value of {@link ScheduleSpotData#getStartingAt()}. If the returned value is after or equals to the provided
-     * {@link ZonedDateTime}, the item will be kept.
+     * Progress of a {@link WatchTarget} at the time its events were last calibrated.
      *
-     * @param when
-     *         The {@link ZonedDateTime} delimiting item filtering.
-     *
-     * @return A filtered {@link Stream} of the current state.
+     * @param watched
+     *         The value of {@link WatchTarget#getWatched()}.
+     * @param total
+     *         The value of {@link WatchTarget#getTotal()}.
      */
-    private Stream<E> findAfterQuery(ZonedDateTime when) {
+    private record Progress(int watched, int total) {
 
-        return this.getState().stream().filter(item -> DateTimeUtils.isAfterOrEquals(item.getStartingAt(), when));
-    }
+        private static Progress of(WatchTarget target) {
 
-    private final SchedulerManager<T, I, E> manager;
-    private final Set<E>                    state;
+            return new Progress(target.getWatched(), target.getTotal());
+        }
+
+    }
 
     /**
      * Create a new instance of {@link Scheduler} using the provided {@link SchedulerManager}.
@@ -102,8 +136,290 @@ public class EventScheduler<T extends WatchTarget, I extends Planifiable<T>, E e
      */
     public EventScheduler(SchedulerManager<T, I, E> manager, Collection<E> items) {
 
-        this.manager = manager;
-        this.state   = new HashSet<>(items);
+        this.manager            = manager;
+        this.overlay            = null;
+        this.timeline           = new Timeline<>();
+        this.channelTimelines   = new HashMap<>();
+        this.targetTimelines    = new HashMap<>();
+        this.dirtyTargets       = new HashMap<>();
+        this.calibratedProgress = new HashMap<>();
+
+        items.forEach(this::index);
+        this.targetTimelines.keySet().forEach(target -> this.dirtyTargets.put(target, null));
+    }
+
+    /**
+     * Create a read-only view of the provided {@link EventScheduler}, sharing the same {@link SchedulerManager} and entities, and
+     * reading a {@link Timeline#snapshot() snapshot} of each of its indexes. This is done in time proportional to the amount of
+     * channels and {@link WatchTarget}, regardless of the amount of events.
+     *
+     * @param source
+     *         The {@link EventScheduler} to view.
+     */
+    private EventScheduler(EventScheduler<T, I, E> source) {
+
+        this.manager            = source.manager;
+        this.overlay            = source.overlay;
+        this.timeline           = source.timeline.snapshot();
+        this.channelTimelines   = new HashMap<>();
+        this.targetTimelines    = new HashMap<>();
+        this.dirtyTargets       = new HashMap<>(source.dirtyTargets);
+        this.calibratedProgress = new HashMap<>(source.calibratedProgress);
+        this.calibrationPool    = source.calibrationPool;
+        this.conflictRetries    = source.conflictRetries;
+
+        source.channelTimelines.forEach((channel, events) -> this.channelTimelines.put(channel, events.snapshot()));
+        source.targetTimelines.forEach((target, events) -> this.targetTimelines.put(target, events.snapshot()));
+    }
+
+    /**
+     * Create a staging copy of the provided {@link EventScheduler}, using the provided {@link SchedulerManager}. Every index is a
+     * {@link Timeline#Timeline(Timeline) copy} sharing the entities of the source, so that the copy is created without sorting
+     * them again. Before an entity of the source is modified, the overlay provides the instance to modify instead, which replaces
+     * the entity within the indexes of the copy. Calibration tracking is copied as-is.
+     *
+     * @param source
+     *         The {@link EventScheduler} to copy.
+     * @param manager
+     *         {@link SchedulerManager} that the copy will use when using CRUD operations.
+     * @param overlay
+     *         Function providing the instance to modify in place of an entity, or the entity itself if it can be modified.
+     * @param <SI>
+     *         The interface extending {@link Planifiable} used by the source.
+     * @param <S>
+     *         Type of the source entities.
+     */
+    <SI extends E, S extends SI> EventScheduler(
+            EventScheduler<T, SI, S> source,
+            SchedulerManager<T, I, E> manager,
+            UnaryOperator<E> overlay
+    ) {
+
+        this.manager            = manager;
+        this.overlay            = overlay;
+        this.timeline           = new Timeline<>(source.timeline);
+        this.channelTimelines   = new HashMap<>();
+        this.targetTimelines    = new HashMap<>();
+        this.dirtyTargets       = new HashMap<>(source.dirtyTargets);
+        this.calibratedProgress = new HashMap<>(source.calibratedProgress);
+        this.calibrationPool    = source.calibrationPool;
+        this.conflictRetries    = source.conflictRetries;
+
+        source.channelTimelines.forEach((channel, events) -> this.channelTimelines.put(channel, new Timeline<>(events)));
+        source.targetTimelines.forEach((target, events) -> this.targetTimelines.put(target, new Timeline<>(events)));
+    }
+
+    /**
+     * Mark the events of the provided {@link WatchTarget} as requiring calibration, starting from the provided
+     * {@link ZonedDateTime}. Events of the same {@link WatchTarget} starting before it are considered as already calibrated.
+     *
+     * @param target
+     *         The {@link WatchTarget} to mark.
+     * @param from
+     *         The {@link ZonedDateTime} from which events need to be calibrated.
+     */
+    private void markDirty(T target, ZonedDateTime from) {
+
+        if (this.dirtyTargets.containsKey(target)) {
+            ZonedDateTime current = this.dirtyTargets.get(target);
+            if (current == null || !from.isBefore(current)) return;
+        }
+        this.dirtyTargets.put(target, from);
+        this.revision++;
+    }
+
+    /**
+     * Add the provided entity to the global {@link Timeline}, to the {@link Timeline} of its channel and to the {@link Timeline}
+     * of its {@link WatchTarget}.
+     *
+     * @param entity
+     *         The entity to index.
+     */
+    private void index(E entity) {
+
+        this.timeline.add(entity);
+        this.channelTimelines.computeIfAbsent(entity.getChannel(), channel -> new Timeline<>()).add(entity);
+        this.targetTimelines.computeIfAbsent(entity.getWatchTarget(), target -> new Timeline<>()).add(entity);
+        this.revision++;
+    }
+
+    /**
+     * Remove the provided entity from the global {@link Timeline}, from the {@link Timeline} of its channel and from the
+     * {@link Timeline} of its {@link WatchTarget}.
+     *
+     * @param entity
+     *         The entity to remove.
+     */
+    private void unindex(E entity) {
+
+        this.timeline.remove(entity);
+        this.revision++;
+
+        Timeline<E> channelTimeline = this.channelTimelines.get(entity.getChannel());
+        if (channelTimeline != null && channelTimeline.remove(entity) && channelTimeline.isEmpty()) {
+            this.channelTimelines.remove(entity.getChannel());
+        }
+
+        Timeline<E> targetTimeline = this.targetTimelines.get(entity.getWatchTarget());
+        if (targetTimeline != null && targetTimeline.remove(entity) && targetTimeline.isEmpty()) {
+            this.targetTimelines.remove(entity.getWatchTarget());
+            this.dirtyTargets.remove(entity.getWatchTarget());
+            this.calibratedProgress.remove(entity.getWatchTarget());
+        }
+    }
+
+    /**
+     * Update the position and cached times of the provided entity in every index after its starting time or duration changed.
+     *
+     * @param entity
+     *         The entity to re-index.
+     */
+    private void reindex(E entity) {
+
+        this.timeline.reindex(entity);
+        this.revision++;
+
+        Timeline<E> channelTimeline = this.channelTimelines.get(entity.getChannel());
+        if (channelTimeline != null) channelTimeline.reindex(entity);
+
+        Timeline<E> targetTimeline = this.targetTimelines.get(entity.getWatchTarget());
+        if (targetTimeline != null) targetTimeline.reindex(entity);
+    }
+
+    /**
+     * Retrieve the instance to modify in place of the provided indexed entity. On a staging copy, the entity is replaced within
+     * every index by the instance provided by the overlay, at the same position; otherwise, the entity itself is returned.
+     *
+     * @param entity
+     *         The entity about to be modified.
+     *
+     * @return The instance to modify.
+     */
+    private E modifiable(E entity) {
+
+        if (this.overlay == null) return entity;
+
+        E replacement = this.overlay.apply(entity);
+        if (replacement == entity) return entity;
+
+        for (Timeline<E> index : List.of(
+                this.timeline,
+                this.channelTimelines.get(entity.getChannel()),
+                this.targetTimelines.get(entity.getWatchTarget())
+        )) {
+            index.remove(entity);
+            index.add(replacement);
+        }
+        return replacement;
+    }
+
+    /**
+     * Retrieve the {@link Timeline} of the channel in which the provided {@link ScheduleSpotData} takes place. Overlap and
+     * merging checks must only be done against this {@link Timeline}.
+     *
+     * @param spot
+     *         The {@link ScheduleSpotData} for which the channel should be retrieved.
+     *
+     * @return The channel {@link Timeline}, empty if nothing has been scheduled in that channel yet.
+     */
+    private Timeline<E> channelOf(ScheduleSpotData<T> spot) {
+
+        Timeline<E> channelTimeline = this.channelTimelines.get(spot.getChannel());
+        return channelTimeline == null ? new Timeline<>() : channelTimeline;
+    }
+
+    /**
+     * Create the update hook of each entity out of the value to apply to it. Each update hook only captures the value it
+     * applies, so that it can be applied on any instance of the entity, and entities sharing an equal value share the same
+     * update hook.
+     *
+     * @param values
+     *         The value to apply to each entity.
+     * @param hook
+     *         Function creating the update hook applying a value.
+     * @param <V>
+     *         Type of the values.
+     *
+     * @return The update hook of each entity.
+     */
+    private <V> Map<E, Consumer<I>> hooks(Map<E, V> values, Function<? super V, Consumer<I>> hook) {
+
+        Map<V, Consumer<I>> hooks   = new HashMap<>();
+        Map<E, Consumer<I>> updates = new LinkedHashMap<>();
+        values.forEach((entity, value) -> updates.put(entity, hooks.computeIfAbsent(value, hook)));
+        return updates;
+    }
+
+    /**
+     * Create an update hook setting the starting time, the episodes and the skip setting of an entity to the provided values.
+     *
+     * @param values
+     *         The {@link SchedulerChange.Values} to apply.
+     *
+     * @return An update hook.
+     */
+    private Consumer<I> assigning(SchedulerChange.Values<T> values) {
+
+        return item -> {
+            item.setStartingAt(values.startingAt());
+            item.setFirstEpisode(values.firstEpisode());
+            item.setEpisodeCount(values.episodeCount());
+            item.setSkipEnabled(values.skipEnabled());
+        };
+    }
+
+    /**
+     * Create a {@link BookedPlanifiable} copy of the provided {@link Planifiable}, on which changes can be staged before being
+     * saved.
+     *
+     * @param planifiable
+     *         The {@link Planifiable} to copy.
+     * @param <T>
+     *         Type of the {@link WatchTarget}.
+     *
+     * @return A {@link BookedPlanifiable} holding the same values.
+     */
+    private static <T extends WatchTarget> BookedPlanifiable<T> copy(Planifiable<T> planifiable) {
+
+        return new BookedPlanifiable<>(planifiable, planifiable.getFirstEpisode());
+    }
+
+    /**
+     * Send the provided deletions, updates and creations to the {@link SchedulerManager}, in that order, then let it persist
+     * every change it may have deferred, all of it within a single {@link SchedulerManager#atomically(Supplier)} unit.
+     * <p>
+     * Entities must be left untouched until this returns, so that a failure leaves the state as it was, matching what the unit
+     * rolled back: in that case, the values of every entity to update are restored, in case an update hook had been applied on
+     * them directly.
+     *
+     * @param creations
+     *         The {@link Planifiable} to create.
+     * @param updates
+     *         The update hook of each entity to update, which must not depend on the instance it is applied on.
+     * @param deletions
+     *         The entities to delete.
+     *
+     * @return The created entities, in the same order as the provided {@link Planifiable}.
+     */
+    private List<E> persist(List<Planifiable<T>> creations, Map<E, Consumer<I>> updates, List<E> deletions) {
+
+        Map<E, SchedulerChange.Values<T>> originals = new HashMap<>();
+        updates.keySet().forEach(entity -> originals.put(entity, SchedulerChange.Values.of(entity)));
+
+        SchedulerManager<T, I, E> manager = this.getManager();
+
+        try {
+            return manager.atomically(() -> {
+                if (!deletions.isEmpty()) manager.deleteAll(deletions);
+                if (!updates.isEmpty()) manager.updateEach(updates);
+                List<E> created = creations.isEmpty() ? List.of() : manager.createAll(creations);
+                manager.flush();
+                return created;
+            });
+        } catch (RuntimeException | Error e) {
+            originals.forEach((entity, values) -> this.assigning(values).accept(entity));
+            throw e;
+        }
     }
 
     @Override
@@ -115,35 +431,49 @@ public class EventScheduler<T extends WatchTarget, I extends Planifiable<T>, E e
     @Override
     public Set<E> getState() {
 
-        return Collections.unmodifiableSet(this.state);
+        return this.timeline.asSet();
     }
 
     @Override
     public Optional<E> findPrevious(ZonedDateTime when) {
 
-        return this.findPreviousQuery(when).max(Comparator.comparing(Planifiable::getStartingAt));
+        return this.timeline.findPrevious(when);
     }
 
     @Override
     public Optional<E> findNext(ZonedDateTime when) {
 
-        return this.findAfterQuery(when).min(Comparator.comparing(Planifiable::getStartingAt));
+        return this.timeline.findNext(when);
     }
 
     @Override
     public Optional<E> findPrevious(ZonedDateTime when, T target) {
 
-        return this.findPreviousQuery(when)
-                   .filter(item -> item.getWatchTarget().equals(target))
-                   .max(Comparator.comparing(Planifiable::getStartingAt));
+        return Optional.ofNullable(this.targetTimelines.get(target)).flatMap(timeline -> timeline.findPrevious(when));
     }
 
     @Override
     public Optional<E> findNext(ZonedDateTime when, T target) {
 
-        return this.findAfterQuery(when)
-                   .filter(item -> item.getWatchTarget().equals(target))
-                   .min(Comparator.comparing(Planifiable::getStartingAt));
+        return Optional.ofNullable(this.targetTimelines.get(target)).flatMap(timeline -> timeline.findNext(when));
+    }
+
+    @Override
+    public Optional<E> findNextInChannel(ZonedDateTime when, @Nullable String channel) {
+
+        return Optional.ofNullable(this.channelTimelines.get(channel)).flatMap(timeline -> timeline.findNext(when));
+    }
+
+    @Override
+    public Stream<E> findBetween(ZonedDateTime from, ZonedDateTime to) {
+
+        return this.timeline.streamBetween(from, to);
+    }
+
+    @Override
+    public Iterator<E> iterateFrom(ZonedDateTime when) {
+
+        return this.timeline.streamAfter(when).iterator();
     }
 
     @Override
@@ -155,81 +485,480 @@ public class EventScheduler<T extends WatchTarget, I extends Planifiable<T>, E e
             throw new InvalidSchedulingDurationException();
         }
 
-        boolean prevOverlap = this.findPrevious(spot.getStartingAt())
-                                  .map(item -> this.isOverlapping(spot, item))
-                                  .orElse(false);
+        Timeline<E> channel = this.channelOf(spot);
+        long        start   = Timeline.epochStart(spot);
+        long        end     = start + duration.getSeconds();
+
+        boolean prevOverlap = channel.findPrevious(spot.getStartingAt())
+                                     .map(item -> isOverlapping(start, end, channel.startOf(item), channel.endOf(item)))
+                                     .orElse(false);
 
-        boolean nextOverlap = this.findNext(spot.getStartingAt())
-                                  .map(item -> this.isOverlapping(spot, item))
-                                  .orElse(false);
+        boolean nextOverlap = channel.findNext(spot.getStartingAt())
+                                     .map(item -> isOverlapping(start, end, channel.startOf(item), channel.endOf(item)))
+                                     .orElse(false);
 
         return !prevOverlap && !nextOverlap;
     }
 
+    /**
+     * Align the provided {@link ZonedDateTime} on the provided grid, counting from midnight of the same day.
+     *
+     * @param when
+     *         The {@link ZonedDateTime} to align.
+     * @param grid
+     *         The grid {@link Duration}.
+     *
+     * @return The first aligned {@link ZonedDateTime} at or after {@code when}.
+     */
+    private static ZonedDateTime align(ZonedDateTime when, Duration grid) {
+
+        ZonedDateTime midnight = when.truncatedTo(ChronoUnit.DAYS);
+        long          elapsed  = Duration.between(midnight, when).toNanos();
+        long          step     = grid.toNanos();
+        long          steps    = (elapsed + step - 1) / step;
+
+        return midnight.plusNanos(steps * step);
+    }
+
+    /**
+     * Retrieve the aligned {@link ZonedDateTime} following the provided one. As the grid counts from midnight of each day, the
+     * next midnight is returned when stepping by the grid would cross it, so that slots never drift from one day to another.
+     *
+     * @param slot
+     *         The aligned {@link ZonedDateTime}.
+     * @param grid
+     *         The grid {@link Duration}.
+     *
+     * @return The next aligned {@link ZonedDateTime}.
+     */
+    private static ZonedDateTime nextAligned(ZonedDateTime slot, Duration grid) {
+
+        ZonedDateTime next     = slot.plus(grid);
+        ZonedDateTime midnight = slot.toLocalDate().plusDays(1).atStartOfDay(slot.getZone());
+
+        return next.isAfter(midnight) ? midnight : next;
+    }
+
+    @Override
+    public List<ZonedDateTime> findAvailableSlots(
+            ZonedDateTime from,
+            ZonedDateTime to,
+            ScheduleSpotData<T> template,
+            @Nullable Duration grid,
+            int limit
+    ) {
+
+        Duration duration = template.getDuration();
+
+        if (duration.isNegative() || duration.isZero()) {
+            throw new InvalidSchedulingDurationException();
+        }
+
+        if (grid != null && (grid.isNegative() || grid.isZero())) {
+            throw new IllegalArgumentException("The grid duration must be positive.");
+        }
+
+        Timeline<E>         channel = this.channelOf(template);
+        List<ZonedDateTime> slots   = new ArrayList<>();
+        ZonedDateTime       cursor  = from;
+
+        Optional<E> optPrev = channel.findBefore(from);
+        if (optPrev.isPresent() && optPrev.get().getEndingAt().isAfter(cursor)) {
+            cursor = optPrev.get().getEndingAt().withZoneSameInstant(from.getZone());
+        }
+
+        Iterator<E> events = channel.streamAfter(from).iterator();
+
+        while (slots.size() < limit && cursor.isBefore(to)) {
+            E             next   = events.hasNext() ? events.next() : null;
+            ZonedDateTime gapEnd = next == null || next.getStartingAt().isAfter(to) ? to : next.getStartingAt();
+            ZonedDateTime latest = gapEnd.minus(duration);
+
+            if (grid == null) {
+                if (!latest.isBefore(cursor)) slots.add(cursor);
+            } else {
+                ZonedDateTime slot = align(cursor, grid);
+                while (slots.size() < limit && !latest.isBefore(slot)) {
+                    slots.add(slot);
+                    slot = nextAligned(slot, grid);
+                }
+            }
+
+            if (next == null) break;
+
+            ZonedDateTime endingAt = next.getEndingAt();
+            if (endingAt.isAfter(cursor)) cursor = endingAt.withZoneSameInstant(from.getZone());
+        }
+
+        return slots;
+    }
+
+    /**
+     * Run the provided operation, then let the {@link SchedulerManager} persist every change it may have deferred, even if the
+     * operation failed midway. If the operation failed, it is its exception that is thrown, any failure while completing it
+     * being added as suppressed.
+     *
+     * @param operation
+     *         The operation to run.
+     * @param <R>
+     *         Type of the operation result.
+     *
+     * @return The operation result.
+     *
+     * @see SchedulerManager#flush()
+     */
+    private <R> R flushing(Supplier<R> operation) {
+
+        R result;
+        try {
+            result = operation.get();
+        } catch (RuntimeException | Error e) {
+            this.complete(e);
+            throw e;
+        }
+        this.complete(null);
+        return result;
+    }
+
+    /**
+     * Let the {@link SchedulerManager} persist every change it may have deferred, then publish every recorded
+     * {@link SchedulerChange}. Changes are published even if this flush failed, as they have already been saved within their
+     * unit and applied to the state.
+     *
+     * @param failure
+     *         The exception thrown by the operation being completed, to which any failure is added as suppressed, or
+     *         {@code null} if it succeeded, in which case the first failure is thrown.
+     */
+    private void complete(@Nullable Throwable failure) {
+
+        Throwable error = failure;
+
+        try {
+            this.getManager().flush();
+        } catch (RuntimeException | Error e) {
+            error = suppress(error, e);
+        }
+
+        try {
+            this.publish();
+        } catch (RuntimeException | Error e) {
+            error = suppress(error, e);
+        }
+
+        if (failure != null || error == null) return;
+        if (error instanceof Error e) throw e;
+        throw (RuntimeException) error;
+    }
+
+    private static Throwable suppress(@Nullable Throwable error, Throwable failure) {
+
+        if (error == null) return failure;
+        error.addSuppressed(failure);
+        return error;
+    }
+
+    /**
+     * Retrieve the change feed of this {@link EventScheduler}. A {@link SchedulerChange} is published for every entity created,
+     * updated, merged or deleted while scheduling, delaying, calibrating or committing a {@link SchedulerTransaction}.
+     * <p>
+     * Changes of an operation are published once it completed and its changes have been flushed to the
+     * {@link SchedulerManager}, in the order they were applied. They are delivered asynchronously, but a subscriber whose buffer
+     * is full will block the next operations until it catches up. Changes are only captured while there is at least one
+     * subscriber.
+     *
+     * @return A {@link Flow.Publisher} of {@link SchedulerChange}.
+     */
+    public Flow.Publisher<SchedulerChange<T, E>> getChanges() {
+
+        if (this.publisher == null) {
+            this.publisher = new SubmissionPublisher<>();
+        }
+        return this.publisher;
+    }
+
+    /**
+     * Close the change feed of this {@link EventScheduler}, completing every subscription once the changes already published
+     * have been delivered, and releasing its delivery threads. Changes are no longer captured afterward, but the scheduler itself
+     * remains usable.
+     */
+    @Override
+    public void close() {
+
+        if (this.publisher != null) this.publisher.close();
+    }
+
+    /**
+     * Check if someone subscribed to the change feed, in which case changes need to be captured.
+     *
+     * @return True if changes need to be captured, false otherwise.
+     */
+    private boolean isObserved() {
+
+        return this.publisher != null && this.publisher.hasSubscribers();
+    }
+
+    /**
+     * Capture the current values of the provided entity, if changes need to be captured.
+     *
+     * @param entity
+     *         The entity about to be modified.
+     *
+     * @return The captured {@link SchedulerChange.Values}, or {@code null} if changes are not captured.
+     */
+    private @Nullable SchedulerChange.Values<T> capture(E entity) {
+
+        return this.isObserved() ? SchedulerChange.Values.of(entity) : null;
+    }
+
+    /**
+     * Capture the current values of every provided entity, if changes need to be captured.
+     *
+     * @param entities
+     *         The entities about to be modified.
+     *
+     * @return The captured {@link SchedulerChange.Values} of each entity, or an empty map if changes are not captured.
+     */
+    private Map<E, SchedulerChange.Values<T>> captureAll(Collection<E> entities) {
+
+        if (!this.isObserved()) return Map.of();
+
+        Map<E, SchedulerChange.Values<T>> values = new HashMap<>();
+        entities.forEach(entity -> values.put(entity, SchedulerChange.Values.of(entity)));
+        return values;
+    }
+
+    /**
+     * Record a change applied to the provided entity, to be published once the current operation completes. Changes of entities
+     * whose values were not captured beforehand are ignored.
+     *
+     * @param type
+     *         The {@link SchedulerChange.Type} of change.
+     * @param entity
+     *         The entity affected by the change.
+     * @param before
+     *         The values captured before the change, or {@code null} if the entity has been created.
+     */
+    private void record(SchedulerChange.Type type, E entity, @Nullable SchedulerChange.Values<T> before) {
+
+        if (!this.isObserved() || (before == null && type != SchedulerChange.Type.CREATED)) return;
+
+        SchedulerChange.Values<T> after = type == SchedulerChange.Type.DELETED ? null : SchedulerChange.Values.of(entity);
+        this.changes.add(new SchedulerChange<>(type, entity, before, after));
+    }
+
+    /**
+     * Publish every recorded {@link SchedulerChange}.
+     */
+    private void publish() {
+
+        if (this.changes.isEmpty()) return;
+
+        List<SchedulerChange<T, E>> changes = new ArrayList<>(this.changes);
+        this.changes.clear();
+        changes.forEach(this.publisher::submit);
+    }
+
+    /**
+     * Define how many times an operation is retried when the {@link SchedulerManager} reports that it was based on an outdated
+     * state, by throwing a {@link StaleStateException}. Before each retry, only the neighbourhood of the conflict is reloaded
+     * from the {@link SchedulerManager}.
+     *
+     * @param conflictRetries
+     *         The maximum amount of retries, or {@code 0} to let the {@link StaleStateException} through immediately.
+     *
+     * @see SchedulerManager#reload(List, ZonedDateTime, ZonedDateTime)
+     */
+    public void setConflictRetries(int conflictRetries) {
+
+        if (conflictRetries < 0) {
+            throw new IllegalArgumentException("The amount of retries must not be negative.");
+        }
+        this.conflictRetries = conflictRetries;
+    }
+
+    /**
+     * Run the provided operation, retrying it each time the {@link SchedulerManager} throws a {@link StaleStateException}, up to
+     * the configured amount of retries. The operation must compute everything it needs from the state on each attempt.
+     *
+     * @param from
+     *         The start of the interval affected by the operation, or {@code null} if unknown.
+     * @param to
+     *         The end of the interval affected by the operation, or {@code null} if unknown.
+     * @param operation
+     *         The operation to run.
+     * @param <R>
+     *         Type of the operation result.
+     *
+     * @return The operation result.
+     *
+     * @throws StaleStateException
+     *         If the operation still conflicts once every retry has been used.
+     */
+    private <R> R retrying(@Nullable ZonedDateTime from, @Nullable ZonedDateTime to, Supplier<R> operation) {
+
+        for (int attempt = 0; ; attempt++) {
+            try {
+                return operation.get();
+            } catch (StaleStateException e) {
+                if (attempt >= this.conflictRetries) throw e;
+                this.reload(from, to, e.getConflicts());
+            }
+        }
+    }
+
+    /**
+     * Replace every event of the neighbourhood of a conflict by its up-to-date version provided by the
+     * {@link SchedulerManager}. The neighbourhood spans the interval affected by the failed operation and every conflicting
+     * {@link ScheduleSpotData}, extended by the merge limit on both sides and to the start of any event overlapping it.
+     * <p>
+     * Events moved into the neighbourhood from elsewhere are left at their known position: they will conflict again, and be
+     * reloaded, once an operation touches them.
+     *
+     * @param from
+     *         The start of the interval affected by the failed operation, or {@code null} if unknown.
+     * @param to
+     *         The end of the interval affected by the failed operation, or {@code null} if unknown.
+     * @param conflicts
+     *         The {@link ScheduleSpotData} reported as conflicting.
+     */
+    private void reload(
+            @Nullable ZonedDateTime from,
+            @Nullable ZonedDateTime to,
+            List<? extends ScheduleSpotData<?>> conflicts
+    ) {
+
+        ZonedDateTime lower = from;
+        ZonedDateTime upper = to;
+
+        for (ScheduleSpotData<?> conflict : conflicts) {
+            if (lower == null || conflict.getStartingAt().isBefore(lower)) lower = conflict.getStartingAt();
+            if (upper == null || conflict.getEndingAt().isAfter(upper)) upper = conflict.getEndingAt();
+        }
+
+        if (lower == null || upper == null) return;
+
+        lower = lower.minus(MERGE_MAGNET_LIMIT);
+        upper = upper.plus(MERGE_MAGNET_LIMIT);
+
+        long        bound       = lower.toEpochSecond();
+        Optional<E> overlapping = this.timeline.findBefore(lower).filter(item -> this.timeline.endOf(item) > bound);
+        if (overlapping.isPresent()) lower = overlapping.get().getStartingAt();
+
+        List<E> stale = this.timeline.streamBetween(lower, upper).toList();
+        List<E> fresh = this.getManager().reload(stale, lower, upper);
+
+        stale.forEach(this::unindex);
+        fresh.stream().filter(entity -> !this.timeline.contains(entity)).forEach(this::index);
+
+        stale.stream()
+             .filter(entity -> this.targetTimelines.containsKey(entity.getWatchTarget()))
+             .forEach(entity -> this.markDirty(entity.getWatchTarget(), entity.getStartingAt()));
+        fresh.forEach(entity -> this.markDirty(entity.getWatchTarget(), entity.getStartingAt()));
+    }
+
     @Override
     public E schedule(ScheduleSpotData<T> spot) {
 
+        return this.retrying(
+                spot.getStartingAt(),
+                spot.getEndingAt(),
+                () -> this.flushing(() -> this.place(spot))
+        );
+    }
+
+    /**
+     * Schedule the provided {@link ScheduleSpotData}, merging it with its neighbours when possible.
+     *
+     * @param spot
+     *         {@link ScheduleSpotData} to use as source for scheduling data.
+     *
+     * @return The scheduled entity.
+     */
+    private E place(ScheduleSpotData<T> spot) {
+
         if (!this.canSchedule(spot)) {
             throw new NotSchedulableException();
         }
 
-        Optional<E> optPrev       = this.findPrevious(spot.getStartingAt());
-        Optional<E> optNext       = this.findNext(spot.getStartingAt());
+        Timeline<E> channel       = this.channelOf(spot);
+        Optional<E> optPrev       = channel.findPrevious(spot.getStartingAt());
+        Optional<E> optNext       = channel.findNext(spot.getStartingAt());
         Optional<E> optTargetPrev = this.findPrevious(spot.getStartingAt(), spot.getWatchTarget());
 
-        boolean isPrevCombinable = optPrev.map(item -> this.mayMerge(item, spot)).orElse(false);
-        boolean isNextCombinable = optNext.map(item -> this.mayMerge(spot, item)).orElse(false);
+        long start = Timeline.epochStart(spot);
+        long end   = Timeline.epochEnd(spot);
+        T    group = spot.getWatchTarget();
+
+        boolean isPrevCombinable = optPrev.map(item -> mayMerge(item.getWatchTarget(), channel.endOf(item), group, start))
+                                          .orElse(false);
+        boolean isNextCombinable = optNext.map(item -> mayMerge(group, end, item.getWatchTarget(), channel.startOf(item)))
+                                          .orElse(false);
 
         if (isPrevCombinable && isNextCombinable) { // Dual way merge
             E prev = optPrev.get();
             E next = optNext.get();
 
-            int newCount = prev.getEpisodeCount() + spot.getEpisodeCount() + next.getEpisodeCount();
+            int                       newCount   = prev.getEpisodeCount() + spot.getEpisodeCount() + next.getEpisodeCount();
+            SchedulerChange.Values<T> prevBefore = this.capture(prev);
+            SchedulerChange.Values<T> nextBefore = this.capture(next);
 
-            E updated = this.getManager().update(prev, item -> item.setEpisodeCount(newCount));
+            this.persist(List.of(), Map.of(prev, item -> item.setEpisodeCount(newCount)), List.of(next));
 
             // Copy to keep internal state updated.
-            prev.setEpisodeCount(newCount);
-
-            this.getManager().delete(next);
-            this.state.remove(next); // This allows not destroying current instance.
-            return updated;
+            E merged = this.modifiable(prev);
+            merged.setEpisodeCount(newCount);
+            this.reindex(merged);
+            this.unindex(next); // This allows not destroying current instance.
+            this.markDirty(merged.getWatchTarget(), merged.getStartingAt());
+            this.record(SchedulerChange.Type.MERGED, merged, prevBefore);
+            this.record(SchedulerChange.Type.DELETED, next, nextBefore);
+            return merged;
         }
 
         if (isPrevCombinable) {
 
-            E    prev     = optPrev.get();
-            int newCount = prev.getEpisodeCount() + spot.getEpisodeCount();
+            E                         prev     = optPrev.get();
+            int                       newCount = prev.getEpisodeCount() + spot.getEpisodeCount();
+            SchedulerChange.Values<T> before   = this.capture(prev);
 
-            E updated = this.getManager().update(prev, item -> item.setEpisodeCount(newCount));
+            this.persist(List.of(), Map.of(prev, item -> item.setEpisodeCount(newCount)), List.of());
 
             // Copy to keep internal state updated.
-            prev.setEpisodeCount(newCount);
-            return updated;
+            E merged = this.modifiable(prev);
+            merged.setEpisodeCount(newCount);
+            this.reindex(merged);
+            this.markDirty(merged.getWatchTarget(), merged.getStartingAt());
+            this.record(SchedulerChange.Type.MERGED, merged, before);
+            return merged;
         }
 
         if (isNextCombinable) {
 
-            E    next     = optNext.get();
-            int newCount = next.getEpisodeCount() + spot.getEpisodeCount();
+            E                         next     = optNext.get();
+            int                       newCount = next.getEpisodeCount() + spot.getEpisodeCount();
+            SchedulerChange.Values<T> before   = this.capture(next);
             int firstEpisode = optTargetPrev
                     .map(item -> item.getFirstEpisode() + item.getEpisodeCount())
                     .orElseGet(() -> spot.getWatchTarget().getWatched() + 1);
 
-            E updated = this.getManager().update(
-                    next, item -> {
-                        item.setFirstEpisode(firstEpisode);
-                        item.setEpisodeCount(newCount);
-                        item.setStartingAt(spot.getStartingAt());
-                    }
-            );
+            Consumer<I> hook = item -> {
+                item.setFirstEpisode(firstEpisode);
+                item.setEpisodeCount(newCount);
+                item.setStartingAt(spot.getStartingAt());
+            };
 
-            // Copy to keep internal state updated.
-            next.setFirstEpisode(firstEpisode);
-            next.setEpisodeCount(newCount);
-            next.setStartingAt(spot.getStartingAt());
+            this.persist(List.of(), Map.of(next, hook), List.of());
 
-            return updated;
+            // Copy to keep internal state updated.
+            E merged = this.modifiable(next);
+            merged.setFirstEpisode(firstEpisode);
+            merged.setEpisodeCount(newCount);
+            merged.setStartingAt(spot.getStartingAt());
+            this.reindex(merged);
+            this.markDirty(merged.getWatchTarget(), merged.getStartingAt());
+            this.record(SchedulerChange.Type.MERGED, merged, before);
+
+            return merged;
         }
 
 
@@ -241,76 +970,500 @@ public class EventScheduler<T extends WatchTarget, I extends Planifiable<T>, E e
             planifiable = new BookedPlanifiable<>(spot);
         }
 
-        E entity = this.getManager().create(planifiable);
-        this.state.add(entity);
+        E entity = this.persist(List.of(planifiable), Map.of(), List.of()).getFirst();
+        this.index(entity);
+        this.markDirty(entity.getWatchTarget(), entity.getStartingAt());
+        this.record(SchedulerChange.Type.CREATED, entity, null);
         return entity;
     }
 
+    @Override
+    public BulkScheduleResult<T, E> scheduleAll(Collection<? extends ScheduleSpotData<T>> spots) {
+
+        ZonedDateTime from = spots.stream().map(ScheduleSpotData::getStartingAt).min(Comparator.naturalOrder()).orElse(null);
+        ZonedDateTime to   = spots.stream().map(ScheduleSpotData::getEndingAt).max(Comparator.naturalOrder()).orElse(null);
+
+        return this.retrying(from, to, () -> this.placeAll(spots));
+    }
+
+    /**
+     * Schedule all the provided {@link ScheduleSpotData} through a {@link ScheduleBatch}.
+     *
+     * @param spots
+     *         {@link ScheduleSpotData} to use as source for scheduling data.
+     *
+     * @return A {@link BulkScheduleResult} reporting which spots were created, merged or rejected.
+     */
+    private BulkScheduleResult<T, E> placeAll(Collection<? extends ScheduleSpotData<T>> spots) {
+
+        List<? extends ScheduleSpotData<T>> sorted = spots.stream()
+                                                          .sorted(Comparator.comparing(spot -> spot.getStartingAt().toInstant()))
+                                                          .toList();
+
+        ScheduleBatch batch = new ScheduleBatch();
+        sorted.forEach(batch::add);
+        return this.flushing(() -> batch.commit(spots));
+    }
+
+    /**
+     * Check that the provided events can be shifted by the provided delay without overlapping any other event of their channel.
+     * <p>
+     * As events in the state never overlap each other, both the shifted events and the remaining events form two chronologically
+     * sorted lists of disjoint intervals, which are compared in a single sweep. Only remaining events reaching into the shifted
+     * window are considered.
+     *
+     * @param channel
+     *         The {@link Timeline} of the channel in which the events take place.
+     * @param events
+     *         The events to delay, in chronological order.
+     * @param delay
+     *         The delay to apply.
+     *
+     * @throws DelayOverlapException
+     *         If one of the shifted events overlaps a remaining event.
+     */
+    private void checkDelayOverlap(Timeline<E> channel, List<E> events, Duration delay) {
+
+        Set<E> delayed = new HashSet<>(events);
+        long   shift   = delay.getSeconds();
+
+        long          windowStart = channel.startOf(events.getFirst()) + shift;
+        ZonedDateTime windowEnd   = events.getLast().getEndingAt().plus(delay);
+
+        // Walk backward from the end of the window, stopping at the first event ending before the window starts.
+        List<E> neighbours = channel.streamBefore(windowEnd)
+                                    .filter(item -> !delayed.contains(item))
+                                    .takeWhile(item -> channel.endOf(item) > windowStart)
+                                    .toList()
+                                    .reversed();
+
+        int i = 0;
+        int j = 0;
+        while (i < events.size() && j < neighbours.size()) {
+            E item      = events.get(i);
+            E neighbour = neighbours.get(j);
+
+            long start        = channel.startOf(item) + shift;
+            long end          = channel.endOf(item) + shift;
+            long neighbourEnd = channel.endOf(neighbour);
+
+            if (isOverlapping(start, end, channel.startOf(neighbour), neighbourEnd)) {
+                throw new DelayOverlapException(
+                        "One of the event cannot be delayed without conflict.",
+                        item,
+                        neighbour
+                );
+            }
+
+            if (end <= neighbourEnd) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+    }
+
     @Override
     public List<E> delay(ZonedDateTime from, Duration interval, Duration delay) {
 
         ZonedDateTime to = from.plus(interval);
 
-        List<E> events = this.getState()
-                             .stream()
-                             .filter(item -> DateTimeUtils.isAfterOrEquals(item.getStartingAt(), from))
-                             .filter(item -> DateTimeUtils.isBeforeOrEquals(item.getEndingAt(), to))
-                             .toList();
+        return this.retrying(
+                delay.isNegative() ? from.plus(delay) : from,
+                delay.isNegative() ? to : to.plus(delay),
+                () -> this.shift(from, to, delay)
+        );
+    }
+
+    /**
+     * Delay by the provided amount every event within the provided interval.
+     *
+     * @param from
+     *         {@link ZonedDateTime} defining the start of the interval.
+     * @param to
+     *         {@link ZonedDateTime} defining the end of the interval.
+     * @param delay
+     *         {@link Duration} defining the length of the delay to apply to every matching event.
+     *
+     * @return All updated entities.
+     */
+    private List<E> shift(ZonedDateTime from, ZonedDateTime to, Duration delay) {
+
+        long    limit  = to.toEpochSecond();
+        List<E> events = this.timeline.streamBetween(from, to).filter(item -> this.timeline.endOf(item) <= limit).toList();
+
+        // Events of different channels never overlap each other, so each channel is checked on its own.
+        Map<String, List<E>> channels = new LinkedHashMap<>();
+        events.forEach(item -> channels.computeIfAbsent(item.getChannel(), channel -> new ArrayList<>()).add(item));
+        channels.forEach((channel, items) -> this.checkDelayOverlap(this.channelTimelines.get(channel), items, delay));
+
+        return this.flushing(() -> {
+            Map<E, SchedulerChange.Values<T>> before   = this.captureAll(events);
+            Map<E, ZonedDateTime>             previous = new HashMap<>();
+            Map<E, Consumer<I>>               updates  = new LinkedHashMap<>();
+            Consumer<I>                       hook     = item -> item.setStartingAt(item.getStartingAt().plus(delay));
+
+            events.forEach(item -> {
+                previous.put(item, item.getStartingAt());
+                updates.put(item, hook);
+            });
+
+            // Apply the modification for real now
+            this.persist(List.of(), updates, List.of());
+            // And update the internal state to keep track, from the values known before the hook may have been applied.
+            List<E> delayed = new ArrayList<>(events.size());
+            events.forEach(item -> {
+                E target = this.modifiable(item);
+                target.setStartingAt(previous.get(item).plus(delay));
+                this.reindex(target);
+                this.markDirty(target.getWatchTarget(), delay.isNegative() ? target.getStartingAt() : previous.get(item));
+                this.record(SchedulerChange.Type.UPDATED, target, before.get(item));
+                delayed.add(target);
+            });
+
+            return Collections.unmodifiableList(delayed);
+        });
+    }
+
+    @Override
+    public CompactionResult<T, E> compact(ZonedDateTime from, ZonedDateTime to, CompactionOptions options) {
+
+        return this.retrying(from, to, () -> this.compaction(from, to, options));
+    }
+
+    /**
+     * Compact every event starting within the provided interval.
+     *
+     * @param from
+     *         {@link ZonedDateTime} defining the start of the interval.
+     * @param to
+     *         {@link ZonedDateTime} defining the end of the interval.
+     * @param options
+     *         {@link CompactionOptions} defining how the interval should be compacted.
+     *
+     * @return A {@link CompactionResult} listing the updated and deleted entities.
+     */
+    private CompactionResult<T, E> compaction(ZonedDateTime from, ZonedDateTime to, CompactionOptions options) {
+
+        long                         spacing = options.spacing().getSeconds();
+        List<E>                      events  = this.timeline.streamBetween(from, to).toList();
+        Map<String, E>               last    = new HashMap<>();
+        Map<E, BookedPlanifiable<T>> staged  = new LinkedHashMap<>();
+        Set<E>                       merged  = new HashSet<>();
+        List<E>                      deleted = new ArrayList<>();
+
+        return this.flushing(() -> {
+            // Events are walked in chronological order, each one only being compared to the last kept event of its channel.
+            // Changes are staged on copies, entities being left untouched until every change has been saved.
+            for (E event : events) {
+                E current = last.get(event.getChannel());
+
+                if (current == null) {
+                    last.put(event.getChannel(), event);
+                    continue;
+                }
+
+                BookedPlanifiable<T> kept  = staged.get(current);
+                long                 end   = kept == null ? this.timeline.endOf(current) : Timeline.epochEnd(kept);
+                long                 start = this.timeline.startOf(event);
+
+                if (options.closeGaps() && start - end > spacing) {
+                    BookedPlanifiable<T> moved = staged.computeIfAbsent(event, EventScheduler::copy);
+                    moved.setStartingAt(event.getStartingAt().minusSeconds(start - end - spacing));
+                    start = end + spacing;
+                }
+
+                // With different skip settings, the merged duration may exceed both events and overlap the next one.
+                boolean isSameSkip = current.isSkipEnabled() == event.isSkipEnabled();
+
+                if (isSameSkip && mayMerge(current.getWatchTarget(), end, event.getWatchTarget(), start)) {
+                    BookedPlanifiable<T> into = staged.computeIfAbsent(current, EventScheduler::copy);
+                    into.setEpisodeCount(into.getEpisodeCount() + event.getEpisodeCount());
+                    staged.remove(event);
+                    merged.add(current);
+                    deleted.add(event);
+                    continue;
+                }
+
+                last.put(event.getChannel(), event);
+            }
 
-        // Creating a temporary state excluding events to delay to check for overlaps
-        List<E> temporaryState = this.getState().stream().filter(item -> !events.contains(item)).toList();
+            Map<E, SchedulerChange.Values<T>> updates = new LinkedHashMap<>();
+            staged.forEach((entity, copy) -> updates.put(entity, SchedulerChange.Values.of(copy)));
+
+            List<E> touched = new ArrayList<>(updates.keySet());
+            touched.addAll(deleted);
+
+            Map<E, SchedulerChange.Values<T>> before = this.captureAll(touched);
+            this.persist(List.of(), this.hooks(updates, this::assigning), deleted);
+
+            List<E> compacted = new ArrayList<>(updates.size());
+            updates.forEach((entity, values) -> {
+                E target = this.modifiable(entity);
+                this.assigning(values).accept(target);
+                this.reindex(target);
+                this.markDirty(target.getWatchTarget(), target.getStartingAt());
+                this.record(
+                        merged.contains(entity) ? SchedulerChange.Type.MERGED : SchedulerChange.Type.UPDATED,
+                        target,
+                        before.get(entity)
+                );
+                compacted.add(target);
+            });
 
-        // Check if nothing overlaps the temporary state with the delay
-        if (events.stream()
-                  .map(item -> (Planifiable<T>) new BookedPlanifiable<>(item))
-                  .peek(item -> item.setStartingAt(item.getStartingAt().plus(delay)))
-                  .anyMatch(item -> temporaryState.stream().anyMatch(state -> this.isOverlapping(item, state)))) {
+            deleted.forEach(entity -> {
+                this.unindex(entity);
+                this.record(SchedulerChange.Type.DELETED, entity, before.get(entity));
+            });
 
-            throw new DelayOverlapException("One of the event cannot be delayed without conflict.");
+            List<E> result = compacted.stream().sorted(Comparator.comparingLong(this.timeline::startOf)).toList();
+            return new CompactionResult<>(result, deleted);
+        });
+    }
+
+    @Override
+    public void invalidate(T target) {
+
+        Timeline<E> targetTimeline = this.targetTimelines.get(target);
+
+        if (targetTimeline != null) {
+            // Entities may have been moved outside this scheduler, their position in the indexes cannot be trusted anymore.
+            targetTimeline.stream().toList().forEach(this::reindex);
+            this.dirtyTargets.put(target, null);
+            this.revision++;
         }
+    }
+
+    /**
+     * Create a read-only view of the current state of this {@link EventScheduler}, left untouched by later writes. Only read
+     * operations may be used on the view, and only while its entities are not being modified.
+     *
+     * @return A read-only {@link EventScheduler}.
+     */
+    EventScheduler<T, I, E> snapshot() {
+
+        return new EventScheduler<>(this);
+    }
 
-        // Apply the modification for real now
-        List<E> updated = this.getManager().updateAll(events, item -> item.setStartingAt(item.getStartingAt().plus(delay)));
-        // And update the internal state to keep track
-        events.forEach(item -> item.setStartingAt(item.getStartingAt().plus(delay)));
+    /**
+     * Begin a new {@link SchedulerTransaction} on this {@link EventScheduler}. Changes staged within the transaction are not
+     * visible to this {@link EventScheduler} and do not reach the {@link SchedulerManager} until it is commited.
+     * <p>
+     * This {@link EventScheduler} must not be modified while the transaction is open, otherwise it won't be possible to commit
+     * it.
+     *
+     * @return A new {@link SchedulerTransaction}.
+     */
+    public SchedulerTransaction<T, I, E> begin() {
 
-        return updated;
+        return new SchedulerTransaction<>(this, this.revision);
+    }
+
+    /**
+     * Retrieve the revision of this {@link EventScheduler}, incremented each time its internal state changes.
+     *
+     * @return The current revision.
+     */
+    long getRevision() {
+
+        return this.revision;
+    }
+
+    /**
+     * Apply the provided {@link SchedulerDiff}, staged on a copy of this {@link EventScheduler}, sending every change to the
+     * {@link SchedulerManager} in batch. The calibration tracking of the copy replaces the current one, as it already accounts
+     * for the staged changes.
+     *
+     * @param diff
+     *         The {@link SchedulerDiff} to apply.
+     * @param staging
+     *         The {@link EventScheduler} on which the changes have been staged.
+     */
+    void apply(SchedulerDiff<T, E> diff, EventScheduler<T, ?, ?> staging) {
+
+        try {
+            Map<E, SchedulerChange.Values<T>> updates = new LinkedHashMap<>();
+            diff.updated().forEach(staged -> updates.put(
+                    staged.getOrigin().orElseThrow(),
+                    SchedulerChange.Values.of(staged)
+            ));
+
+            List<Planifiable<T>>              creations     = new ArrayList<>(diff.created());
+            Map<E, SchedulerChange.Values<T>> updatedBefore = this.captureAll(updates.keySet());
+            Map<E, SchedulerChange.Values<T>> deletedBefore = this.captureAll(diff.deleted());
+            Map<E, Consumer<I>>               hooks         = this.hooks(updates, this::assigning);
+            List<E>                           created       = this.persist(creations, hooks, diff.deleted());
+
+            created.forEach(entity -> {
+                this.index(entity);
+                this.record(SchedulerChange.Type.CREATED, entity, null);
+            });
+
+            // Copy to keep internal state updated.
+            updates.forEach((event, values) -> {
+                this.assigning(values).accept(event);
+                this.reindex(event);
+                this.record(SchedulerChange.Type.UPDATED, event, updatedBefore.get(event));
+            });
+
+            diff.deleted().forEach(entity -> {
+                this.unindex(entity);
+                this.record(SchedulerChange.Type.DELETED, entity, deletedBefore.get(entity));
+            });
+
+            this.dirtyTargets.clear();
+            this.dirtyTargets.putAll(staging.dirtyTargets);
+            this.calibratedProgress.clear();
+            this.calibratedProgress.putAll(staging.calibratedProgress);
+            this.revision++;
+        } catch (RuntimeException | Error e) {
+            this.complete(e);
+            throw e;
+        }
+        this.complete(null);
     }
 
     @Override
     public CalibrationResult calibrate() {
 
-        int updateCount = 0;
-        int deleteCount = 0;
+        return this.retrying(null, null, () -> {
+            long start = System.nanoTime();
 
-        // Store the max possible episode for each target
-        Map<T, Integer> targetMaxEpisode = this.getState()
-                                            .stream()
-                                            .map(ScheduleSpotData::getWatchTarget)
-                                            .distinct()
-                                            .collect(new MapCollector<>(WatchTarget::getTotal));
+            // Targets whose progress changed since their last calibration need to be fully walked again.
+            this.targetTimelines.keySet()
+                                .stream()
+                                .filter(target -> !Progress.of(target).equals(this.calibratedProgress.get(target)))
+                                .toList()
+                                .forEach(this::invalidate);
 
-        // Store the progress for each target
-        Map<T, Integer> targetProgression = this.getState()
-                                             .stream()
-                                             .map(ScheduleSpotData::getWatchTarget)
-                                             .distinct()
-                                             .collect(new MapCollector<>(WatchTarget::getWatched));
+            Map<T, ZonedDateTime> dirty = new HashMap<>(this.dirtyTargets);
+            this.dirtyTargets.clear();
 
-        List<E> sorted = this.getState()
-                             .stream()
-                             .sorted(Comparator.comparing(ScheduleSpotData::getStartingAt))
-                             .toList();
+            return this.calibrate(dirty, start);
+        });
+    }
 
-        for (E event : sorted) {
+    @Override
+    public CalibrationResult calibrate(T target) {
+
+        return this.retrying(null, null, () -> {
+            long start = System.nanoTime();
 
-            int maxEpisode  = targetMaxEpisode.get(event.getWatchTarget());
-            int progression = targetProgression.get(event.getWatchTarget());
+            if (!this.targetTimelines.containsKey(target)) return new CalibrationResult(0, 0);
 
-            if (maxEpisode < 0) { // Support for "estimate" amount of episode, which are represented by negative number.
-                maxEpisode = maxEpisode * -1;
+            if (!Progress.of(target).equals(this.calibratedProgress.get(target))) {
+                this.invalidate(target);
             }
 
+            if (!this.dirtyTargets.containsKey(target)) return new CalibrationResult(0, 0);
+
+            Map<T, ZonedDateTime> dirty = new HashMap<>();
+            dirty.put(target, this.dirtyTargets.remove(target));
+
+            return this.calibrate(dirty, start);
+        });
+    }
+
+    /**
+     * Calibrate the provided dirty {@link WatchTarget}s. If the {@link SchedulerManager} reports a conflict, they are marked as
+     * dirty again so that a retry calibrates them as well.
+     *
+     * @param dirty
+     *         Dirty {@link WatchTarget}s, associated to the {@link ZonedDateTime} from which they need to be walked, or
+     *         {@code null} if they need to be walked entirely.
+     * @param start
+     *         The {@link System#nanoTime()} at which the calibration started.
+     *
+     * @return A {@link CalibrationResult} summarizing every calibrated {@link WatchTarget}.
+     */
+    private CalibrationResult calibrate(Map<T, ZonedDateTime> dirty, long start) {
+
+        try {
+            return this.flushing(() -> this.applyCalibration(this.planCalibration(dirty), start));
+        } catch (StaleStateException e) {
+            dirty.forEach((target, from) -> {
+                if (!this.targetTimelines.containsKey(target)) return;
+                if (from == null) {
+                    this.dirtyTargets.put(target, null);
+                } else {
+                    this.markDirty(target, from);
+                }
+            });
+            throw e;
+        }
+    }
+
+    /**
+     * Define the {@link ForkJoinPool} to use when calibrating. When set, fixes for each dirty {@link WatchTarget} are computed in
+     * parallel on that pool, as the calibration of one {@link WatchTarget} never depends on events of another one. Persistence
+     * is always done sequentially, in batch, once every fix has been computed.
+     *
+     * @param calibrationPool
+     *         The {@link ForkJoinPool} to use, or {@code null} to calibrate sequentially.
+     */
+    public void setCalibrationPool(@Nullable ForkJoinPool calibrationPool) {
+
+        this.calibrationPool = calibrationPool;
+    }
+
+    /**
+     * Compute the {@link CalibrationPlan} of every provided dirty {@link WatchTarget}, in parallel if a calibration pool has
+     * been defined. This does not modify any entity nor the state.
+     *
+     * @param dirty
+     *         Dirty {@link WatchTarget}s, associated to the {@link ZonedDateTime} from which they need to be walked, or
+     *         {@code null} if they need to be walked entirely.
+     *
+     * @return A {@link CalibrationPlan} for each {@link WatchTarget}.
+     */
+    private List<CalibrationPlan> planCalibration(Map<T, ZonedDateTime> dirty) {
+
+        ForkJoinPool pool = this.calibrationPool;
+
+        if (pool == null || dirty.size() < 2) {
+            return dirty.entrySet().stream().map(entry -> this.planCalibration(entry.getKey(), entry.getValue())).toList();
+        }
+
+        return pool.submit(() -> dirty.entrySet()
+                                      .parallelStream()
+                                      .map(entry -> this.planCalibration(entry.getKey(), entry.getValue()))
+                                      .toList()).join();
+    }
+
+    /**
+     * Walk the dirty suffix of the provided {@link WatchTarget} events, computing the fixes to their episode numbering and which
+     * events go beyond the last episode. The progression is resumed from the last event before the dirty suffix, which is
+     * considered as already calibrated.
+     *
+     * @param target
+     *         The dirty {@link WatchTarget}.
+     * @param from
+     *         The {@link ZonedDateTime} from which events need to be walked, or {@code null} to walk every event.
+     *
+     * @return A {@link CalibrationPlan} for the provided {@link WatchTarget}.
+     */
+    private CalibrationPlan planCalibration(T target, @Nullable ZonedDateTime from) {
+
+        long            start          = System.nanoTime();
+        Timeline<E>     targetTimeline = this.targetTimelines.get(target);
+        CalibrationPlan plan           = new CalibrationPlan(target);
+
+        List<E> events;
+        int     progression;
+
+        if (from == null) {
+            events      = targetTimeline.stream().toList();
+            progression = target.getWatched();
+        } else {
+            events      = targetTimeline.streamAfter(from).toList();
+            progression = targetTimeline.findBefore(from).map(Planifiable::getLastEpisode).orElseGet(target::getWatched);
+        }
+
+        // Support for "estimate" amount of episode, which are represented by negative number.
+        int maxEpisode = Math.abs(target.getTotal());
+
+        for (E event : events) {
+
             boolean correctFirstEpisode = event.getFirstEpisode() == progression + 1;
             boolean correctEpisodeCount = (event.getFirstEpisode() + event.getEpisodeCount()) - 1 <= maxEpisode;
 
@@ -319,56 +1472,419 @@ public class EventScheduler<T extends WatchTarget, I extends Planifiable<T>, E e
 
             // Don't keep overflowing events
             if (fixedFirstEpisode > maxEpisode) {
-                this.getManager().delete(event);
-                this.state.remove(event);
-                deleteCount++;
+                plan.deletes.add(event);
                 continue;
             }
 
-            // If we require at least one thing to be updated, start the update
+            // If we require at least one thing to be updated, plan the update
             if (!correctEpisodeCount || !correctFirstEpisode) {
+                plan.updates.put(event, new Fix(fixedFirstEpisode, fixedEpisodeCount));
+            }
 
-                this.getManager().update(
-                        event, item -> {
+            // Keep track of our movement throughout the schedule
+            progression = fixedFirstEpisode + fixedEpisodeCount - 1;
+        }
 
-                            item.setFirstEpisode(fixedFirstEpisode);
-                            item.setEpisodeCount(fixedEpisodeCount);
-                        }
-                );
+        plan.elapsed = Duration.ofNanos(System.nanoTime() - start);
+        return plan;
+    }
 
-                event.setFirstEpisode(fixedFirstEpisode);
-                event.setEpisodeCount(fixedEpisodeCount);
+    /**
+     * Apply every provided {@link CalibrationPlan}, sending all deletions through one {@link SchedulerManager#deleteAll(List)}
+     * call and all updates through one {@link SchedulerManager#updateEach(Map)} call, within a single unit.
+     *
+     * @param plans
+     *         The {@link CalibrationPlan}s to apply.
+     * @param start
+     *         The {@link System#nanoTime()} at which the calibration started.
+     *
+     * @return A {@link CalibrationResult} summarizing every {@link CalibrationPlan}.
+     */
+    private CalibrationResult applyCalibration(List<CalibrationPlan> plans, long start) {
 
-                updateCount++;
-            }
+        Map<E, Fix>             updates = new LinkedHashMap<>();
+        List<E>                 deletes = new ArrayList<>();
+        List<TargetCalibration> targets = new ArrayList<>(plans.size());
 
-            // Keep track of our movement throughout the schedule
-            targetProgression.put(event.getWatchTarget(), fixedFirstEpisode + fixedEpisodeCount - 1);
+        for (CalibrationPlan plan : plans) {
+            updates.putAll(plan.updates);
+            deletes.addAll(plan.deletes);
+            targets.add(new TargetCalibration(plan.target, plan.updates.size(), plan.deletes.size(), plan.elapsed));
+        }
+
+        Map<E, SchedulerChange.Values<T>> updatedBefore = this.captureAll(updates.keySet());
+        Map<E, SchedulerChange.Values<T>> deletedBefore = this.captureAll(deletes);
+
+        Map<E, Consumer<I>> hooks = this.hooks(
+                updates, fix -> item -> {
+                    item.setFirstEpisode(fix.firstEpisode());
+                    item.setEpisodeCount(fix.episodeCount());
+                }
+        );
+
+        this.persist(List.of(), hooks, deletes);
+
+        // Copy to keep internal state updated.
+        updates.forEach((event, fix) -> {
+            E target = this.modifiable(event);
+            target.setFirstEpisode(fix.firstEpisode());
+            target.setEpisodeCount(fix.episodeCount());
+            this.reindex(target);
+            this.record(SchedulerChange.Type.UPDATED, target, updatedBefore.get(event));
+        });
+
+        deletes.forEach(event -> {
+            this.unindex(event);
+            this.record(SchedulerChange.Type.DELETED, event, deletedBefore.get(event));
+        });
+
+        for (CalibrationPlan plan : plans) {
+            if (this.targetTimelines.containsKey(plan.target)) {
+                this.calibratedProgress.put(plan.target, Progress.of(plan.target));
+            }
         }
 
-        return new CalibrationResult(updateCount, deleteCount);
+        if (!plans.isEmpty()) this.revision++;
+
+        return new CalibrationResult(updates.size(), deletes.size(), targets, Duration.ofNanos(System.nanoTime() - start));
     }
 
     /**
-     * Check if the two provided {@link ScheduleSpotData} can be merged. This is where the rule of merging should be decided
-     * (timing, content, etc...)
-     *
-     * @param element
-     *         The first {@link ScheduleSpotData}
-     * @param planifiable
-     *         The second {@link ScheduleSpotData}
+     * Episode numbering fix computed during calibration.
      *
-     * @return True if both event can be merged, false otherwise.
+     * @param firstEpisode
+     *         The fixed first episode.
+     * @param episodeCount
+     *         The fixed episode count.
      */
-    private boolean mayMerge(ScheduleSpotData<T> element, ScheduleSpotData<T> planifiable) {
+    private record Fix(int firstEpisode, int episodeCount) {
 
-        long breakTime  = Duration.between(element.getEndingAt(), planifiable.getStartingAt()).toSeconds();
-        long magnetTime = MERGE_MAGNET_LIMIT.toSeconds();
+    }
 
-        boolean isWithinMagnetTime = breakTime <= magnetTime;
-        boolean isSameGroup        = Objects.equals(element.getWatchTarget(), planifiable.getWatchTarget());
+    /**
+     * Fixes computed while calibrating a single {@link WatchTarget}, waiting to be applied.
+     */
+    private final class CalibrationPlan {
+
+        private final T           target;
+        private final Map<E, Fix> updates = new LinkedHashMap<>();
+        private final List<E>     deletes = new ArrayList<>();
+        private       Duration    elapsed = Duration.ZERO;
+
+        private CalibrationPlan(T target) {
+
+            this.target = target;
+        }
+
+    }
+
+    /**
+     * Holds a {@link Planifiable} that is either an entity already known by the {@link SchedulerManager} and left untouched by a
+     * {@link ScheduleBatch}, or a {@link BookedPlanifiable} staged by it.
+     */
+    private final class Slot {
+
+        private final E                    entity;
+        private final BookedPlanifiable<T> booked;
+
+        private Slot(E entity, BookedPlanifiable<T> booked) {
+
+            this.entity = entity;
+            this.booked = booked;
+        }
+
+        private Planifiable<T> get() {
+
+            return this.entity == null ? this.booked : this.entity;
+        }
+
+    }
+
+    /**
+     * Stages a bulk scheduling operation: spots are added in chronological order and applied to an overlay of the in-memory
+     * state, in which each entity modified by the batch is replaced by a {@link BookedPlanifiable} copy. Every call to the
+     * {@link SchedulerManager} is deferred to {@link #commit(Collection)}, where they are sent in batch, and entities and
+     * indexes are only modified once all of them succeeded.
+     */
+    private final class ScheduleBatch {
+
+        private final Timeline<BookedPlanifiable<T>>                      booked         = new Timeline<>();
+        private final Map<String, Timeline<BookedPlanifiable<T>>>         bookedChannels = new HashMap<>();
+        private final Map<T, Timeline<BookedPlanifiable<T>>>              bookedTargets  = new HashMap<>();
+        private final Map<BookedPlanifiable<T>, E>                        origins        = new IdentityHashMap<>();
+        private final Set<E>                                              masked         = new HashSet<>();
+        private final List<E>                                             deleted        = new ArrayList<>();
+        private final Map<ScheduleSpotData<T>, BookedPlanifiable<T>>      holders        = new IdentityHashMap<>();
+        private final Map<ScheduleSpotData<T>, BulkScheduleResult.Status> statuses       = new IdentityHashMap<>();
+
+        /**
+         * Pick the closest {@link Slot} among an existing entity and a booked one.
+         *
+         * @param entity
+         *         The optional existing entity.
+         * @param booked
+         *         The optional {@link BookedPlanifiable}.
+         * @param latest
+         *         True to pick the one starting last, false to pick the one starting first.
+         *
+         * @return The closest {@link Slot}, or {@code null} if both are empty.
+         */
+        private Slot pick(Optional<E> entity, Optional<BookedPlanifiable<T>> booked, boolean latest) {
+
+            if (entity.isEmpty()) return booked.map(item -> new Slot(null, item)).orElse(null);
+            if (booked.isEmpty()) return new Slot(entity.get(), null);
+
+            boolean isEntityFirst = entity.get().getStartingAt().isBefore(booked.get().getStartingAt());
+            return isEntityFirst == latest ? new Slot(null, booked.get()) : new Slot(entity.get(), null);
+        }
+
+        /**
+         * Retrieve the entity of the provided {@link Timeline} starting at or right before the provided {@link ZonedDateTime},
+         * ignoring the entities replaced by a copy.
+         *
+         * @param timeline
+         *         The {@link Timeline} to search, or {@code null} if there is none.
+         * @param when
+         *         The {@link ZonedDateTime} delimiting the search.
+         *
+         * @return An optional entity.
+         */
+        private Optional<E> findPrevious(@Nullable Timeline<E> timeline, ZonedDateTime when) {
+
+            if (timeline == null) return Optional.empty();
+            return timeline.streamBefore(when).filter(entity -> !this.masked.contains(entity)).findFirst();
+        }
+
+        /**
+         * Retrieve the entity of the provided {@link Timeline} starting at or right after the provided {@link ZonedDateTime},
+         * ignoring the entities replaced by a copy.
+         *
+         * @param timeline
+         *         The {@link Timeline} to search.
+         * @param when
+         *         The {@link ZonedDateTime} delimiting the search.
+         *
+         * @return An optional entity.
+         */
+        private Optional<E> findNext(Timeline<E> timeline, ZonedDateTime when) {
+
+            return timeline.streamAfter(when).filter(entity -> !this.masked.contains(entity)).findFirst();
+        }
+
+        private void hold(ScheduleSpotData<T> spot, BulkScheduleResult.Status status, BookedPlanifiable<T> holder) {
+
+            this.statuses.put(spot, status);
+            if (holder != null) this.holders.put(spot, holder);
+        }
+
+        private long startOf(Slot slot) {
+
+            return slot.entity != null ? EventScheduler.this.timeline.startOf(slot.entity) : this.booked.startOf(slot.booked);
+        }
+
+        private long endOf(Slot slot) {
+
+            return slot.entity != null ? EventScheduler.this.timeline.endOf(slot.entity) : this.booked.endOf(slot.booked);
+        }
+
+        private void book(BookedPlanifiable<T> item) {
+
+            this.booked.add(item);
+            this.bookedChannels.computeIfAbsent(item.getChannel(), key -> new Timeline<>()).add(item);
+            this.bookedTargets.computeIfAbsent(item.getWatchTarget(), key -> new Timeline<>()).add(item);
+        }
+
+        private void refresh(BookedPlanifiable<T> item) {
+
+            this.booked.reindex(item);
+            this.bookedChannels.get(item.getChannel()).reindex(item);
+            this.bookedTargets.get(item.getWatchTarget()).reindex(item);
+        }
+
+        /**
+         * Retrieve the {@link BookedPlanifiable} held by the provided {@link Slot} so that it can be modified. An entity is
+         * replaced by a copy first, which is the one modified by the batch.
+         *
+         * @param slot
+         *         The {@link Slot} about to be modified.
+         *
+         * @return The {@link BookedPlanifiable} to modify.
+         */
+        private BookedPlanifiable<T> stage(Slot slot) {
+
+            if (slot.entity == null) return slot.booked;
+
+            BookedPlanifiable<T> copy = copy(slot.entity);
+            this.masked.add(slot.entity);
+            this.origins.put(copy, slot.entity);
+            this.book(copy);
+            return copy;
+        }
+
+        private void drop(BookedPlanifiable<T> item, BookedPlanifiable<T> into) {
+
+            this.booked.remove(item);
+            this.bookedChannels.get(item.getChannel()).remove(item);
+            this.bookedTargets.get(item.getWatchTarget()).remove(item);
+
+            E origin = this.origins.remove(item);
+            if (origin != null) this.deleted.add(origin);
+
+            // Spots held by the dropped item now belong to the one it was merged into.
+            this.holders.replaceAll((spot, holder) -> {
+                if (holder != item) return holder;
+                this.statuses.put(spot, BulkScheduleResult.Status.MERGED);
+                return into;
+            });
+        }
+
+        /**
+         * Stage the provided {@link ScheduleSpotData}. Spots must be added in chronological order.
+         *
+         * @param spot
+         *         The {@link ScheduleSpotData} to stage.
+         */
+        private void add(ScheduleSpotData<T> spot) {
+
+            Duration duration = spot.getDuration();
+
+            if (duration.isNegative() || duration.isZero()) {
+                this.hold(spot, BulkScheduleResult.Status.REJECTED, null);
+                return;
+            }
+
+            ZonedDateTime                  when          = spot.getStartingAt();
+            T                              target        = spot.getWatchTarget();
+            Timeline<E>                    channel       = EventScheduler.this.channelOf(spot);
+            Timeline<BookedPlanifiable<T>> bookedChannel = this.bookedChannels.computeIfAbsent(
+                    spot.getChannel(),
+                    key -> new Timeline<>()
+            );
+
+            Slot prev = this.pick(this.findPrevious(channel, when), bookedChannel.findPrevious(when), true);
+            Slot next = this.pick(this.findNext(channel, when), bookedChannel.findNext(when), false);
+
+            long start = Timeline.epochStart(spot);
+            long end   = start + duration.getSeconds();
+
+            boolean prevOverlap = prev != null && isOverlapping(start, end, this.startOf(prev), this.endOf(prev));
+            boolean nextOverlap = next != null && isOverlapping(start, end, this.startOf(next), this.endOf(next));
+
+            if (prevOverlap || nextOverlap) {
+                this.hold(spot, BulkScheduleResult.Status.REJECTED, null);
+                return;
+            }
+
+            Slot targetPrev = this.pick(
+                    this.findPrevious(EventScheduler.this.targetTimelines.get(target), when),
+                    Optional.ofNullable(this.bookedTargets.get(target)).flatMap(timeline -> timeline.findPrevious(when)),
+                    true
+            );
+
+            boolean isPrevCombinable = prev != null && mayMerge(prev.get().getWatchTarget(), this.endOf(prev), target, start);
+            boolean isNextCombinable = next != null && mayMerge(target, end, next.get().getWatchTarget(), this.startOf(next));
+
+            if (isPrevCombinable && isNextCombinable) { // Dual way merge
+                BookedPlanifiable<T> into    = this.stage(prev);
+                BookedPlanifiable<T> dropped = this.stage(next);
+                into.setEpisodeCount(into.getEpisodeCount() + spot.getEpisodeCount() + dropped.getEpisodeCount());
+                this.refresh(into);
+                this.drop(dropped, into);
+                this.hold(spot, BulkScheduleResult.Status.MERGED, into);
+                return;
+            }
+
+            if (isPrevCombinable) {
+                BookedPlanifiable<T> into = this.stage(prev);
+                into.setEpisodeCount(into.getEpisodeCount() + spot.getEpisodeCount());
+                this.refresh(into);
+                this.hold(spot, BulkScheduleResult.Status.MERGED, into);
+                return;
+            }
+
+            int firstEpisode = targetPrev == null
+                    ? target.getWatched() + 1
+                    : targetPrev.get().getFirstEpisode() + targetPrev.get().getEpisodeCount();
+
+            if (isNextCombinable) {
+                BookedPlanifiable<T> into = this.stage(next);
+                into.setFirstEpisode(firstEpisode);
+                into.setEpisodeCount(into.getEpisodeCount() + spot.getEpisodeCount());
+                into.setStartingAt(when);
+                this.refresh(into);
+                this.hold(spot, BulkScheduleResult.Status.MERGED, into);
+                return;
+            }
+
+            BookedPlanifiable<T> planifiable = new BookedPlanifiable<>(spot, firstEpisode);
+            this.book(planifiable);
+            this.hold(spot, BulkScheduleResult.Status.CREATED, planifiable);
+        }
+
+        /**
+         * Send every staged change to the {@link SchedulerManager} in batch, apply them to the entities and the state once they
+         * have been saved, and build the {@link BulkScheduleResult}.
+         *
+         * @param spots
+         *         The spots as they were submitted, used to order the result.
+         *
+         * @return A {@link BulkScheduleResult}.
+         */
+        private BulkScheduleResult<T, E> commit(Collection<? extends ScheduleSpotData<T>> spots) {
+
+            List<Planifiable<T>>              toCreate = new ArrayList<>();
+            Map<E, BookedPlanifiable<T>>      copies   = new HashMap<>();
+            Map<E, SchedulerChange.Values<T>> updates  = new LinkedHashMap<>();
+
+            this.booked.stream().forEach(item -> {
+                E origin = this.origins.get(item);
+                if (origin == null) {
+                    toCreate.add(item);
+                } else {
+                    copies.put(origin, item);
+                    updates.put(origin, SchedulerChange.Values.of(item));
+                }
+            });
+
+            Map<E, SchedulerChange.Values<T>> updatedBefore = EventScheduler.this.captureAll(updates.keySet());
+            Map<E, SchedulerChange.Values<T>> deletedBefore = EventScheduler.this.captureAll(this.deleted);
+            Map<E, Consumer<I>>               hooks         = EventScheduler.this.hooks(updates, EventScheduler.this::assigning);
+            List<E>                           created       = EventScheduler.this.persist(toCreate, hooks, this.deleted);
+
+            Map<Planifiable<T>, E> resolved = new IdentityHashMap<>(this.origins);
+            for (int i = 0; i < toCreate.size(); i++) {
+                E entity = created.get(i);
+                resolved.put(toCreate.get(i), entity);
+                EventScheduler.this.index(entity);
+                EventScheduler.this.markDirty(entity.getWatchTarget(), entity.getStartingAt());
+                EventScheduler.this.record(SchedulerChange.Type.CREATED, entity, null);
+            }
+
+            updates.forEach((entity, values) -> {
+                E target = EventScheduler.this.modifiable(entity);
+                resolved.put(copies.get(entity), target);
+                EventScheduler.this.assigning(values).accept(target);
+                EventScheduler.this.reindex(target);
+                EventScheduler.this.markDirty(target.getWatchTarget(), target.getStartingAt());
+                EventScheduler.this.record(SchedulerChange.Type.MERGED, target, updatedBefore.get(entity));
+            });
+
+            this.deleted.forEach(entity -> {
+                EventScheduler.this.markDirty(entity.getWatchTarget(), entity.getStartingAt());
+                EventScheduler.this.unindex(entity);
+                EventScheduler.this.record(SchedulerChange.Type.DELETED, entity, deletedBefore.get(entity));
+            });
+
+            List<BulkScheduleResult.Outcome<T, E>> outcomes = new ArrayList<>();
+            for (ScheduleSpotData<T> spot : spots) {
+                BookedPlanifiable<T> holder = this.holders.get(spot);
+                E                    entity = holder == null ? null : resolved.get(holder);
+                outcomes.add(new BulkScheduleResult.Outcome<>(spot, this.statuses.get(spot), entity));
+            }
+
+            return new BulkScheduleResult<>(outcomes);
+        }
 
-        return isWithinMagnetTime && isSameGroup;
     }
 
 }
@@ -0,0 +1,285 @@
+package fr.anisekai.wireless.api.plannifier;
+
+import fr.anisekai.wireless.api.plannifier.data.InterestPlan;
+import fr.anisekai.wireless.api.plannifier.data.InterestPlanOptions;
+import fr.anisekai.wireless.api.plannifier.data.PlannedSpot;
+import fr.anisekai.wireless.api.plannifier.interfaces.ScheduleSpotData;
+import fr.anisekai.wireless.api.plannifier.interfaces.Scheduler;
+import fr.anisekai.wireless.api.plannifier.interfaces.entities.Planifiable;
+import fr.anisekai.wireless.api.plannifier.interfaces.entities.WatchInterest;
+import fr.anisekai.wireless.api.plannifier.interfaces.entities.WatchTarget;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.*;
+import java.util.stream.IntStream;
+
+/**
+ * Class allowing to fill the free gaps of a schedule with the {@link WatchTarget}s people are the most interested in.
+ * <p>
+ * The interest of a {@link WatchTarget} is the sum of the levels of every {@link WatchInterest} associated with it, and each
+ * planned episode is worth the interest of its {@link WatchTarget}. Free gaps are walked in chronological order, and each one is
+ * filled with the sessions maximising the aggregated interest while fitting its runtime, each session holding the next episodes
+ * of a single {@link WatchTarget}. Episodes of a {@link WatchTarget} are therefore always planned in order, and never beyond
+ * its remaining episodes (see {@link Scheduler#getRemainingEpisodes(WatchTarget)}).
+ * <p>
+ * To stay fast with hundreds of {@link WatchTarget}s, interests are aggregated once into primitive arrays, and the search of
+ * each gap is bounded to the most interesting {@link WatchTarget}s per minute of runtime, as defined by
+ * {@link InterestPlanOptions#searchWidth()}.
+ *
+ * @param <T>
+ *         The watch target type. A watch target is some sort of container, representing a movie or series.
+ * @param <I>
+ *         The interface extending {@link Planifiable} to use for the proxy instance.
+ * @param <E>
+ *         The entity type. It is the type that will be scheduled.
+ */
+public class InterestPlanner<T extends WatchTarget, I extends Planifiable<T>, E extends I> {
+
+    private final Scheduler<T, I, E> scheduler;
+
+    /**
+     * Create a new {@link InterestPlanner} on the provided {@link Scheduler}.
+     *
+     * @param scheduler
+     *         The {@link Scheduler} whose free gaps will be filled.
+     */
+    public InterestPlanner(Scheduler<T, I, E> scheduler) {
+
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Propose a plan filling the free gaps of the provided interval with the candidate {@link WatchTarget}s. The
+     * {@link Scheduler} is not modified: the proposed spots can be reviewed, then scheduled with
+     * {@link Scheduler#scheduleAll(Collection)}.
+     * <p>
+     * {@link WatchInterest} of {@link WatchTarget}s that are not candidates are ignored, and candidates without any positive
+     * interest are never planned.
+     *
+     * @param from
+     *         {@link ZonedDateTime} defining the start of the interval.
+     * @param to
+     *         {@link ZonedDateTime} defining the end of the interval. Spots will end no later than this.
+     * @param candidates
+     *         The {@link WatchTarget}s that may be planned.
+     * @param interests
+     *         The {@link WatchInterest}s used to rank candidates.
+     * @param options
+     *         {@link InterestPlanOptions} defining how spots should be planned.
+     *
+     * @return The proposed {@link InterestPlan}.
+     */
+    public InterestPlan<T> plan(
+            ZonedDateTime from,
+            ZonedDateTime to,
+            Collection<? extends T> candidates,
+            Collection<? extends WatchInterest<? extends T>> interests,
+            InterestPlanOptions options
+    ) {
+
+        Ranking              ranking  = new Ranking(candidates, interests);
+        List<PlannedSpot<T>> spots    = new ArrayList<>();
+        long                 capacity = options.gapCapacity().toMinutes();
+        long                 score    = 0;
+        ZonedDateTime        cursor   = from;
+
+        while (cursor.isBefore(to)) {
+            int[] pool = ranking.select(options.searchWidth());
+            if (pool.length == 0) break;
+
+            // The shortest possible session defines what a usable gap is.
+            int shortest = pool[0];
+            for (int target : pool) {
+                if (ranking.minutes[target] < ranking.minutes[shortest]) shortest = target;
+            }
+
+            PlannedSpot<T> template = new PlannedSpot<>(
+                    ranking.targets.get(shortest),
+                    options.channel(),
+                    cursor,
+                    1,
+                    options.skipEnabled()
+            );
+
+            List<ZonedDateTime> slots = this.scheduler.findAvailableSlots(cursor, to, template, 1);
+            if (slots.isEmpty()) break;
+
+            ZonedDateTime gapStart = slots.getFirst();
+            ZonedDateTime gapEnd   = this.scheduler.findNextInChannel(gapStart, options.channel())
+                                                   .map(Planifiable::getStartingAt)
+                                                   .filter(start -> start.isBefore(to))
+                                                   .orElse(to);
+
+            int available = (int) Math.min(capacity, Duration.between(gapStart, gapEnd).toMinutes());
+
+            score += this.fill(ranking, pool, gapStart, available, options, spots);
+            cursor = gapEnd;
+        }
+
+        return new InterestPlan<>(spots, score);
+    }
+
+    /**
+     * Fill a single gap with the sessions maximising the aggregated interest, then update the remaining episodes of each planned
+     * {@link WatchTarget}.
+     * <p>
+     * This is a bounded knapsack over the minutes of the gap, where each {@link WatchTarget} of the pool provides one group of
+     * mutually exclusive sessions (one per possible amount of episode).
+     *
+     * @param ranking
+     *         The {@link Ranking} of candidates.
+     * @param pool
+     *         The indexes of the candidates considered for this gap, from the most to the least interesting.
+     * @param start
+     *         The {@link ZonedDateTime} at which the gap starts.
+     * @param available
+     *         The runtime available in the gap, in minutes.
+     * @param options
+     *         {@link InterestPlanOptions} defining how spots should be planned.
+     * @param spots
+     *         The {@link List} to which planned spots are added.
+     *
+     * @return The aggregated interest of the planned episodes.
+     */
+    private long fill(
+            Ranking ranking,
+            int[] pool,
+            ZonedDateTime start,
+            int available,
+            InterestPlanOptions options,
+            List<PlannedSpot<T>> spots
+    ) {
+
+        long[]  best  = new long[available + 1];
+        int[][] picks = new int[pool.length][available + 1];
+
+        for (int group = 0; group < pool.length; group++) {
+            int    target = pool[group];
+            int    limit  = Math.min(options.sessionEpisodes(), ranking.remaining[target]);
+            long[] next   = best.clone();
+
+            for (int minutes = 0; minutes <= available; minutes++) {
+                for (int episodes = 1; episodes <= limit; episodes++) {
+                    int runtime = ranking.runtime(target, episodes, options.skipEnabled());
+                    if (runtime > minutes) break;
+
+                    long value = best[minutes - runtime] + episodes * ranking.scores[target];
+                    if (value > next[minutes]) {
+                        next[minutes]         = value;
+                        picks[group][minutes] = episodes;
+                    }
+                }
+            }
+
+            best = next;
+        }
+
+        int[] sessions = new int[pool.length];
+        int   minutes  = available;
+
+        for (int group = pool.length - 1; group >= 0; group--) {
+            sessions[group] = picks[group][minutes];
+            if (sessions[group] > 0) minutes -= ranking.runtime(pool[group], sessions[group], options.skipEnabled());
+        }
+
+        // Sessions are laid out back-to-back, the most interesting ones first.
+        ZonedDateTime when = start;
+        for (int group = 0; group < pool.length; group++) {
+            if (sessions[group] == 0) continue;
+
+            int            target = pool[group];
+            PlannedSpot<T> spot   = new PlannedSpot<>(
+                    ranking.targets.get(target),
+                    options.channel(),
+                    when,
+                    sessions[group],
+                    options.skipEnabled()
+            );
+
+            spots.add(spot);
+            ranking.remaining[target] -= sessions[group];
+            when = when.plus(spot.getDuration());
+        }
+
+        return best[available];
+    }
+
+    /**
+     * Primitive view of the candidates, indexed by their position in {@link #targets}.
+     */
+    private final class Ranking {
+
+        private final List<T> targets;
+        private final long[]  scores;
+        private final int[]   remaining;
+        private final int[]   minutes;
+        private final int[]   order;
+
+        private Ranking(Collection<? extends T> candidates, Collection<? extends WatchInterest<? extends T>> interests) {
+
+            this.targets = List.copyOf(new LinkedHashSet<T>(candidates));
+
+            int             count   = this.targets.size();
+            Map<T, Integer> indexes = new HashMap<>(count * 2);
+            for (int i = 0; i < count; i++) indexes.put(this.targets.get(i), i);
+
+            this.scores    = new long[count];
+            this.remaining = new int[count];
+            this.minutes   = new int[count];
+
+            for (WatchInterest<? extends T> interest : interests) {
+                Integer index = indexes.get(interest.getWatchTarget());
+                if (index != null) this.scores[index] += interest.getLevel();
+            }
+
+            for (int i = 0; i < count; i++) {
+                this.remaining[i] = InterestPlanner.this.scheduler.getRemainingEpisodes(this.targets.get(i));
+                this.minutes[i]   = this.targets.get(i).getEpisodeDuration();
+            }
+
+            // Most interesting candidates per minute of runtime first, compared without any division.
+            this.order = IntStream.range(0, count)
+                                  .filter(i -> this.scores[i] > 0 && this.remaining[i] > 0 && this.minutes[i] > 0)
+                                  .boxed()
+                                  .sorted((a, b) -> Long.compare(
+                                          this.scores[b] * this.minutes[a],
+                                          this.scores[a] * this.minutes[b]
+                                  ))
+                                  .mapToInt(Integer::intValue)
+                                  .toArray();
+        }
+
+        /**
+         * Select the most interesting candidates that still have episodes to plan.
+         *
+         * @param width
+         *         The maximum amount of candidates to select.
+         *
+         * @return The indexes of the selected candidates, from the most to the least interesting.
+         */
+        private int[] select(int width) {
+
+            return Arrays.stream(this.order).filter(i -> this.remaining[i] > 0).limit(width).toArray();
+        }
+
+        /**
+         * Compute the runtime of a session.
+         *
+         * @param target
+         *         The index of the candidate.
+         * @param episodes
+         *         The amount of episode of the session.
+         * @param skipEnabled
+         *         True if intermediate openings and endings are skipped, false otherwise.
+         *
+         * @return The runtime of the session, in minutes.
+         */
+        private int runtime(int target, int episodes, boolean skipEnabled) {
+
+            return ScheduleSpotData.getRuntime(this.minutes[target], episodes, skipEnabled);
+        }
+
+    }
+
+}
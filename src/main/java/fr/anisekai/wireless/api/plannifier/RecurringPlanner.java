@@ -0,0 +1,108 @@
+package fr.anisekai.wireless.api.plannifier;
+
+import fr.anisekai.wireless.api.plannifier.data.BulkScheduleResult;
+import fr.anisekai.wireless.api.plannifier.data.PlannedSpot;
+import fr.anisekai.wireless.api.plannifier.data.WeeklyRecurrence;
+import fr.anisekai.wireless.api.plannifier.interfaces.Scheduler;
+import fr.anisekai.wireless.api.plannifier.interfaces.entities.Planifiable;
+import fr.anisekai.wireless.api.plannifier.interfaces.entities.WatchTarget;
+
+import java.time.ZonedDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Class allowing to plan every remaining episode of a {@link WatchTarget} on a weekly recurring slot, as done for simulcasts.
+ * <p>
+ * One spot is planned per week until the episode budget of the {@link WatchTarget} (see
+ * {@link Scheduler#getRemainingEpisodes(WatchTarget)}) is exhausted. When the preferred time of a week is already taken in its
+ * channel, the spot is shifted to the earliest free time within the tolerance of the {@link WeeklyRecurrence}. Free times are
+ * found by walking the ordered index of the {@link Scheduler} once per week, rather than probing candidates one by one.
+ *
+ * @param <T>
+ *         The watch target type. A watch target is some sort of container, representing a movie or series.
+ * @param <I>
+ *         The interface extending {@link Planifiable} to use for the proxy instance.
+ * @param <E>
+ *         The entity type. It is the type that will be scheduled.
+ */
+public class RecurringPlanner<T extends WatchTarget, I extends Planifiable<T>, E extends I> {
+
+    private final Scheduler<T, I, E> scheduler;
+
+    /**
+     * Create a new {@link RecurringPlanner} on the provided {@link Scheduler}.
+     *
+     * @param scheduler
+     *         The {@link Scheduler} in which spots will be planned.
+     */
+    public RecurringPlanner(Scheduler<T, I, E> scheduler) {
+
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Plan one spot per week for every remaining episode of the provided {@link WatchTarget}, starting with the first occurrence
+     * of the {@link WeeklyRecurrence} at or after the provided {@link ZonedDateTime}. The {@link Scheduler} is not modified.
+     * <p>
+     * A spot that could not be shifted within the tolerance is kept at its preferred time, and will therefore be rejected once
+     * scheduled.
+     *
+     * @param target
+     *         The {@link WatchTarget} to plan.
+     * @param rule
+     *         The {@link WeeklyRecurrence} to follow.
+     * @param from
+     *         The {@link ZonedDateTime} from which spots should be planned.
+     *
+     * @return The planned spots, in chronological order.
+     */
+    public List<PlannedSpot<T>> plan(T target, WeeklyRecurrence rule, ZonedDateTime from) {
+
+        int                  budget = this.scheduler.getRemainingEpisodes(target);
+        List<PlannedSpot<T>> spots  = new ArrayList<>();
+
+        ZonedDateTime first = from.withZoneSameInstant(rule.zone())
+                                  .with(TemporalAdjusters.nextOrSame(rule.day()))
+                                  .with(rule.time());
+
+        if (first.isBefore(from)) first = first.plusWeeks(1);
+
+        for (int week = 0; budget > 0; week++) {
+            int            count     = Math.min(rule.episodes(), budget);
+            ZonedDateTime  preferred = first.plusWeeks(week);
+            PlannedSpot<T> spot      = new PlannedSpot<>(target, rule.channel(), preferred, count, rule.skipEnabled());
+
+            ZonedDateTime latestEnd = preferred.plus(rule.tolerance()).plus(spot.getDuration());
+            this.scheduler.findAvailableSlots(preferred, latestEnd, spot, 1).forEach(spot::setStartingAt);
+
+            spots.add(spot);
+            budget -= count;
+        }
+
+        return spots;
+    }
+
+    /**
+     * Plan one spot per week for every remaining episode of the provided {@link WatchTarget}, then schedule them all in one
+     * operation.
+     *
+     * @param target
+     *         The {@link WatchTarget} to plan.
+     * @param rule
+     *         The {@link WeeklyRecurrence} to follow.
+     * @param from
+     *         The {@link ZonedDateTime} from which spots should be planned.
+     *
+     * @return A {@link BulkScheduleResult} reporting which spots were created, merged or rejected.
+     *
+     * @see #plan(WatchTarget, WeeklyRecurrence, ZonedDateTime)
+     * @see Scheduler#scheduleAll(java.util.Collection)
+     */
+    public BulkScheduleResult<T, E> schedule(T target, WeeklyRecurrence rule, ZonedDateTime from) {
+
+        return this.scheduler.scheduleAll(this.plan(target, rule, from));
+    }
+
+}
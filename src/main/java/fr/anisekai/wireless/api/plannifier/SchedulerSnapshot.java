@@ -0,0 +1,401 @@
+package fr.anisekai.wireless.api.plannifier;
+
+import fr.anisekai.wireless.api.plannifier.interfaces.Scheduler;
+import fr.anisekai.wireless.api.plannifier.interfaces.SchedulerManager;
+import fr.anisekai.wireless.api.plannifier.interfaces.SnapshotCodec;
+import fr.anisekai.wireless.api.plannifier.interfaces.entities.Planifiable;
+import fr.anisekai.wireless.api.plannifier.interfaces.entities.WatchTarget;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.*;
+
+/**
+ * Class allowing to save the state of a {@link Scheduler} to a compact binary file, and to read it back at startup instead of
+ * loading every entity from the persistence layer.
+ * <p>
+ * A snapshot holds the {@link WatchTarget} and entities of the state, with only the values used for scheduling. It is stamped
+ * with the {@link SchedulerManager#getStateVersion() state version} of the {@link SchedulerManager} at the time it was written,
+ * and is only read back if that version did not change since. Snapshots are read through a memory-mapped buffer.
+ * <p>
+ * The file layout is the following, all numbers being big-endian:
+ * <ul>
+ *     <li>Header: magic number ({@code int}), format ({@code short}), state version ({@code long}).</li>
+ *     <li>Strings, used for channels and time zones: count ({@code int}), then length ({@code short}) and UTF-8 bytes of
+ *     each.</li>
+ *     <li>{@link WatchTarget}s: count ({@code int}), then id ({@code long}), watched, total and episode duration
+ *     ({@code int}) of each.</li>
+ *     <li>Entities, in chronological order: count ({@code int}), then id ({@code long}), target index ({@code int}), channel
+ *     index ({@code int}, {@code -1} for the default channel), epoch second ({@code long}), nanoseconds, time zone index,
+ *     first episode and episode count ({@code int}), skip flag ({@code byte}) of each.</li>
+ * </ul>
+ *
+ * @param <T>
+ *         The watch target type. A watch target is some sort of container, representing a movie or series.
+ * @param <I>
+ *         The interface extending {@link Planifiable} to use for the proxy instance.
+ * @param <E>
+ *         The entity type. It is the type that will be scheduled.
+ */
+public class SchedulerSnapshot<T extends WatchTarget, I extends Planifiable<T>, E extends I> {
+
+    private static final int   MAGIC  = 0x414E5353;
+    private static final short FORMAT = 1;
+
+    private final SnapshotCodec<T, E> codec;
+
+    /**
+     * Create a new {@link SchedulerSnapshot} using the provided {@link SnapshotCodec}.
+     *
+     * @param codec
+     *         {@link SnapshotCodec} used to identify and rebuild {@link WatchTarget}s and entities.
+     */
+    public SchedulerSnapshot(SnapshotCodec<T, E> codec) {
+
+        this.codec = codec;
+    }
+
+    /**
+     * Write the state of the provided {@link Scheduler} to the provided file, stamped with the current state version of its
+     * {@link SchedulerManager}. The {@link Scheduler} must be in sync with its {@link SchedulerManager}, otherwise the snapshot
+     * won't reflect the stamped version.
+     * <p>
+     * The snapshot is first written to a temporary file next to the target one, then moved in place, atomically when the file
+     * system supports it, so that an interrupted write never leaves a truncated snapshot behind. The temporary file is deleted
+     * if the write fails.
+     *
+     * @param scheduler
+     *         The {@link Scheduler} to save.
+     * @param file
+     *         The file to write.
+     *
+     * @throws IOException
+     *         If the file could not be written.
+     * @throws IllegalStateException
+     *         If the {@link SchedulerManager} does not provide any state version.
+     * @throws IllegalArgumentException
+     *         If a channel or time zone identifier is longer than 65535 bytes once encoded.
+     */
+    public void write(Scheduler<T, I, E> scheduler, Path file) throws IOException {
+
+        long version = scheduler.getManager()
+                                .getStateVersion()
+                                .orElseThrow(() -> new IllegalStateException("The manager does not provide any state version."));
+
+        List<E>              events  = new ArrayList<>();
+        Map<String, Integer> strings = new LinkedHashMap<>();
+        Map<T, Integer>      targets = new LinkedHashMap<>();
+
+        scheduler.iterateFrom(LocalDateTime.MIN.atZone(ZoneOffset.UTC)).forEachRemaining(event -> {
+            events.add(event);
+            targets.putIfAbsent(event.getWatchTarget(), targets.size());
+            String channel = event.getChannel();
+            String zone    = event.getStartingAt().getZone().getId();
+
+            if (channel != null && strings.putIfAbsent(channel, strings.size()) == null) {
+                checkLength(channel, "Channel");
+            }
+            if (strings.putIfAbsent(zone, strings.size()) == null) {
+                checkLength(zone, "Time zone");
+            }
+        });
+
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+
+        try {
+            this.write(temporary, version, strings, targets, events);
+            move(temporary, file);
+        } catch (IOException | RuntimeException | Error e) {
+            try {
+                Files.deleteIfExists(temporary);
+            } catch (IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw e;
+        }
+    }
+
+    private static void checkLength(String value, String kind) {
+
+        if (value.getBytes(StandardCharsets.UTF_8).length > 0xFFFF) {
+            throw new IllegalArgumentException(String.format("%s identifiers are limited to 65535 bytes.", kind));
+        }
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private void write(
+            Path file,
+            long version,
+            Map<String, Integer> strings,
+            Map<T, Integer> targets,
+            List<E> events
+    ) throws IOException {
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeShort(FORMAT);
+            out.writeLong(version);
+
+            out.writeInt(strings.size());
+            for (String value : strings.keySet()) {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                out.writeShort(bytes.length);
+                out.write(bytes);
+            }
+
+            out.writeInt(targets.size());
+            for (T target : targets.keySet()) {
+                out.writeLong(this.codec.getTargetId(target));
+                out.writeInt(target.getWatched());
+                out.writeInt(target.getTotal());
+                out.writeInt(target.getEpisodeDuration());
+            }
+
+            out.writeInt(events.size());
+            for (E event : events) {
+                Instant instant = event.getStartingAt().toInstant();
+
+                out.writeLong(this.codec.getEntityId(event));
+                out.writeInt(targets.get(event.getWatchTarget()));
+                out.writeInt(event.getChannel() == null ? -1 : strings.get(event.getChannel()));
+                out.writeLong(instant.getEpochSecond());
+                out.writeInt(instant.getNano());
+                out.writeInt(strings.get(event.getStartingAt().getZone().getId()));
+                out.writeInt(event.getFirstEpisode());
+                out.writeInt(event.getEpisodeCount());
+                out.writeByte(event.isSkipEnabled() ? 1 : 0);
+            }
+        }
+    }
+
+    /**
+     * Read the entities stored in the provided snapshot file, if it is still up-to-date with the provided
+     * {@link SchedulerManager}.
+     *
+     * @param file
+     *         The snapshot file to read.
+     * @param manager
+     *         The {@link SchedulerManager} providing the current state version.
+     *
+     * @return The rebuilt entities, in chronological order, or an empty optional if the snapshot does not exist, has been
+     *         written by an incompatible version or is outdated.
+     *
+     * @throws IOException
+     *         If the file could not be read, or is not a valid snapshot.
+     */
+    public Optional<List<E>> read(Path file, SchedulerManager<T, I, E> manager) throws IOException {
+
+        OptionalLong version = manager.getStateVersion();
+        if (version.isEmpty() || !Files.isRegularFile(file)) return Optional.empty();
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            if (buffer.getInt() != MAGIC) throw new IOException("The file is not a scheduler snapshot.");
+            if (buffer.getShort() != FORMAT || buffer.getLong() != version.getAsLong()) return Optional.empty();
+
+            return Optional.of(this.read(buffer));
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException | DateTimeException e) {
+            throw new IOException("The scheduler snapshot is truncated or corrupted.", e);
+        }
+    }
+
+    /**
+     * Read the entities stored in the provided snapshot file, if it is still up-to-date with the provided
+     * {@link SchedulerManager}, and build an {@link EventScheduler} from them.
+     *
+     * @param file
+     *         The snapshot file to read.
+     * @param manager
+     *         {@link SchedulerManager} that the {@link EventScheduler} will use when using CRUD operations.
+     *
+     * @return The restored {@link EventScheduler}, or an empty optional if the snapshot cannot be used.
+     *
+     * @throws IOException
+     *         If the file could not be read, or is not a valid snapshot.
+     *
+     * @see #read(Path, SchedulerManager)
+     */
+    public Optional<EventScheduler<T, I, E>> restore(Path file, SchedulerManager<T, I, E> manager) throws IOException {
+
+        return this.read(file, manager).map(events -> new EventScheduler<>(manager, events));
+    }
+
+    /**
+     * Read the tables of a snapshot, right after its header.
+     *
+     * @param buffer
+     *         The {@link ByteBuffer} positioned after the header.
+     *
+     * @return The rebuilt entities.
+     */
+    private List<E> read(ByteBuffer buffer) {
+
+        String[] strings = new String[buffer.getInt()];
+        for (int i = 0; i < strings.length; i++) {
+            byte[] bytes = new byte[buffer.getShort() & 0xFFFF];
+            buffer.get(bytes);
+            strings[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        ZoneId[] zones = new ZoneId[strings.length];
+
+        int     targetCount = buffer.getInt();
+        List<T> targets     = new ArrayList<>(targetCount);
+        for (int i = 0; i < targetCount; i++) {
+            targets.add(this.codec.restoreTarget(buffer.getLong(), buffer.getInt(), buffer.getInt(), buffer.getInt()));
+        }
+
+        int     eventCount = buffer.getInt();
+        List<E> events     = new ArrayList<>(eventCount);
+        for (int i = 0; i < eventCount; i++) {
+            long id           = buffer.getLong();
+            T    target       = targets.get(buffer.getInt());
+            int  channel      = buffer.getInt();
+            long epochSecond  = buffer.getLong();
+            int  nanos        = buffer.getInt();
+            int  zone         = buffer.getInt();
+            int  firstEpisode = buffer.getInt();
+            int  episodeCount = buffer.getInt();
+            byte skipEnabled  = buffer.get();
+
+            if (zones[zone] == null) zones[zone] = ZoneId.of(strings[zone]);
+
+            StoredPlanifiable<T> values = new StoredPlanifiable<>(
+                    target,
+                    channel < 0 ? null : strings[channel],
+                    Instant.ofEpochSecond(epochSecond, nanos).atZone(zones[zone]),
+                    firstEpisode,
+                    episodeCount,
+                    skipEnabled != 0
+            );
+
+            events.add(this.codec.restoreEntity(id, values));
+        }
+
+        return events;
+    }
+
+    /**
+     * Read-only {@link Planifiable} holding the values of an entity read from a snapshot.
+     *
+     * @param watchTarget
+     *         The rebuilt {@link WatchTarget}.
+     * @param channel
+     *         The channel, or {@code null} for the default channel.
+     * @param startingAt
+     *         The starting time.
+     * @param firstEpisode
+     *         The first episode.
+     * @param episodeCount
+     *         The episode count.
+     * @param skipEnabled
+     *         Whether skips are enabled.
+     * @param <T>
+     *         Type of the {@link WatchTarget}.
+     */
+    private record StoredPlanifiable<T extends WatchTarget>(
+            T watchTarget,
+            @Nullable String channel,
+            ZonedDateTime startingAt,
+            int firstEpisode,
+            int episodeCount,
+            boolean skipEnabled
+    ) implements Planifiable<T> {
+
+        @Override
+        public int getFirstEpisode() {
+
+            return this.firstEpisode;
+        }
+
+        @Override
+        public void setFirstEpisode(int firstEpisode) {
+
+            throw new UnsupportedOperationException("Values read from a snapshot cannot be modified");
+        }
+
+        @Override
+        public @NotNull T getWatchTarget() {
+
+            return this.watchTarget;
+        }
+
+        @Override
+        public void setWatchTarget(@NotNull T watchTarget) {
+
+            throw new UnsupportedOperationException("Values read from a snapshot cannot be modified");
+        }
+
+        @Override
+        public @Nullable String getChannel() {
+
+            return this.channel;
+        }
+
+        @Override
+        public @NotNull ZonedDateTime getStartingAt() {
+
+            return this.startingAt;
+        }
+
+        @Override
+        public void setStartingAt(@NotNull ZonedDateTime time) {
+
+            throw new UnsupportedOperationException("Values read from a snapshot cannot be modified");
+        }
+
+        @Override
+        public int getEpisodeCount() {
+
+            return this.episodeCount;
+        }
+
+        @Override
+        public void setEpisodeCount(int episodeCount) {
+
+            throw new UnsupportedOperationException("Values read from a snapshot cannot be modified");
+        }
+
+        @Override
+        public boolean isSkipEnabled() {
+
+            return this.skipEnabled;
+        }
+
+        @Override
+        public void setSkipEnabled(boolean skipEnabled) {
+
+            throw new UnsupportedOperationException("Values read from a snapshot cannot be modified");
+        }
+
+    }
+
+}
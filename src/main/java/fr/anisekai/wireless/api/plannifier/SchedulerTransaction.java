@@ -0,0 +1,339 @@
+package fr.anisekai.wireless.api.plannifier;
+
+import fr.anisekai.wireless.api.plannifier.data.BulkScheduleResult;
+import fr.anisekai.wireless.api.plannifier.data.CalibrationResult;
+import fr.anisekai.wireless.api.plannifier.data.CompactionOptions;
+import fr.anisekai.wireless.api.plannifier.data.CompactionResult;
+import fr.anisekai.wireless.api.plannifier.data.SchedulerDiff;
+import fr.anisekai.wireless.api.plannifier.data.StagedPlanifiable;
+import fr.anisekai.wireless.api.plannifier.exceptions.DelayOverlapException;
+import fr.anisekai.wireless.api.plannifier.interfaces.ScheduleSpotData;
+import fr.anisekai.wireless.api.plannifier.interfaces.Scheduler;
+import fr.anisekai.wireless.api.plannifier.interfaces.SchedulerManager;
+import fr.anisekai.wireless.api.plannifier.interfaces.entities.Planifiable;
+import fr.anisekai.wireless.api.plannifier.interfaces.entities.WatchTarget;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Class allowing to stage changes on an {@link EventScheduler} without applying them, in order to preview them.
+ * <p>
+ * Changes are staged on a copy-on-write overlay of the state: the staged state shares the indexes and entities of the
+ * {@link EventScheduler}, and an entity is only wrapped in a {@link StagedPlanifiable}, reading its values from the entity until
+ * they are modified, once the transaction modifies or returns it. Beginning a transaction therefore never wraps every entity.
+ * Neither the entities nor the {@link SchedulerManager} are touched until the transaction is commited, at which point every
+ * change is sent to the {@link SchedulerManager} in batch.
+ * <p>
+ * A transaction is not thread-safe and cannot be used anymore once commited or rolled back.
+ *
+ * @param <T>
+ *         The watch target type. A watch target is some sort of container, representing a movie or series.
+ * @param <I>
+ *         The interface extending {@link Planifiable} to use for the proxy instance.
+ * @param <E>
+ *         The entity type. It is the type that will be scheduled.
+ */
+public class SchedulerTransaction<T extends WatchTarget, I extends Planifiable<T>, E extends I> {
+
+    private final EventScheduler<T, I, E>                           scheduler;
+    private final EventScheduler<T, Planifiable<T>, Planifiable<T>> staging;
+    private final Map<E, StagedPlanifiable<T, E>>                   overlays;
+    private final List<StagedPlanifiable<T, E>>                     created;
+    private final List<E>                                           deleted;
+    private final long                                              revision;
+    private       boolean                                           open;
+
+    /**
+     * Create a new {@link SchedulerTransaction} on the provided {@link EventScheduler}.
+     *
+     * @param scheduler
+     *         The {@link EventScheduler} on which the changes will be applied once commited.
+     * @param revision
+     *         The revision of the {@link EventScheduler} at the time the transaction began.
+     */
+    SchedulerTransaction(EventScheduler<T, I, E> scheduler, long revision) {
+
+        this.scheduler = scheduler;
+        this.staging   = new EventScheduler<>(scheduler, new StagingManager(), this::staged);
+        this.overlays  = new HashMap<>();
+        this.created   = new ArrayList<>();
+        this.deleted   = new ArrayList<>();
+        this.revision  = revision;
+        this.open      = true;
+    }
+
+    /**
+     * Check if this {@link SchedulerTransaction} is still open, meaning it has been neither commited nor rolled back.
+     *
+     * @return True if open, false otherwise.
+     */
+    public boolean isOpen() {
+
+        return this.open;
+    }
+
+    private void ensureOpen() {
+
+        if (!this.open) {
+            throw new IllegalStateException("The transaction has already been closed.");
+        }
+    }
+
+    /**
+     * Retrieve the {@link StagedPlanifiable} standing for the provided item of the staged state. Items that are still entities
+     * of the {@link EventScheduler} are wrapped on first use, the same overlay being returned afterward.
+     *
+     * @param item
+     *         An item of the staged state.
+     *
+     * @return The {@link StagedPlanifiable} of the item.
+     */
+    @SuppressWarnings("unchecked")
+    private StagedPlanifiable<T, E> staged(Planifiable<T> item) {
+
+        // The staged state only holds overlays and entities of the scheduler it has been copied from.
+        if (item instanceof StagedPlanifiable<?, ?> staged) return (StagedPlanifiable<T, E>) staged;
+        return this.overlays.computeIfAbsent((E) item, StagedPlanifiable::of);
+    }
+
+    /**
+     * Retrieve the staged state.
+     *
+     * @return A state.
+     *
+     * @see Scheduler#getState()
+     */
+    public Set<StagedPlanifiable<T, E>> getState() {
+
+        this.ensureOpen();
+        return this.staging.getState().stream().map(this::staged).collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * Check whether the given {@link ScheduleSpotData} can be scheduled within the staged state.
+     *
+     * @param spot
+     *         {@link ScheduleSpotData} to validate for schedulability.
+     *
+     * @return True if the provided {@link ScheduleSpotData} can be scheduled, false otherwise.
+     *
+     * @see Scheduler#canSchedule(ScheduleSpotData)
+     */
+    public boolean canSchedule(ScheduleSpotData<T> spot) {
+
+        this.ensureOpen();
+        return this.staging.canSchedule(spot);
+    }
+
+    /**
+     * Stage the scheduling of the provided {@link ScheduleSpotData}.
+     *
+     * @param spot
+     *         {@link ScheduleSpotData} to use as source for scheduling data.
+     *
+     * @return The staged entity.
+     *
+     * @see Scheduler#schedule(ScheduleSpotData)
+     */
+    public StagedPlanifiable<T, E> schedule(ScheduleSpotData<T> spot) {
+
+        this.ensureOpen();
+        return this.staged(this.staging.schedule(spot));
+    }
+
+    /**
+     * Stage the scheduling of all the provided {@link ScheduleSpotData}.
+     *
+     * @param spots
+     *         {@link ScheduleSpotData} to use as source for scheduling data.
+     *
+     * @return A {@link BulkScheduleResult} reporting which spots were created, merged or rejected.
+     *
+     * @see Scheduler#scheduleAll(Collection)
+     */
+    public BulkScheduleResult<T, StagedPlanifiable<T, E>> scheduleAll(Collection<? extends ScheduleSpotData<T>> spots) {
+
+        this.ensureOpen();
+
+        List<BulkScheduleResult.Outcome<T, StagedPlanifiable<T, E>>> outcomes = new ArrayList<>();
+        for (BulkScheduleResult.Outcome<T, Planifiable<T>> outcome : this.staging.scheduleAll(spots).outcomes()) {
+            StagedPlanifiable<T, E> entity = outcome.entity() == null ? null : this.staged(outcome.entity());
+            outcomes.add(new BulkScheduleResult.Outcome<>(outcome.spot(), outcome.status(), entity));
+        }
+        return new BulkScheduleResult<>(outcomes);
+    }
+
+    /**
+     * Stage the delay of every {@link Planifiable} being in the interval.
+     *
+     * @param from
+     *         {@link ZonedDateTime} defining the start of the interval
+     * @param interval
+     *         {@link Duration} defining the length of the interval
+     * @param delay
+     *         {@link Duration} defining the length of the delay to apply to every matching {@link Planifiable}.
+     *
+     * @return All staged entities that have been delayed.
+     *
+     * @throws DelayOverlapException
+     *         If one of the delayed {@link Planifiable} would overlap another one.
+     * @see Scheduler#delay(ZonedDateTime, Duration, Duration)
+     */
+    public List<StagedPlanifiable<T, E>> delay(ZonedDateTime from, Duration interval, Duration delay) {
+
+        this.ensureOpen();
+        return this.staging.delay(from, interval, delay).stream().map(this::staged).toList();
+    }
+
+    /**
+     * Stage the compaction of every {@link Planifiable} starting within the interval.
+     *
+     * @param from
+     *         {@link ZonedDateTime} defining the start of the interval.
+     * @param to
+     *         {@link ZonedDateTime} defining the end of the interval.
+     * @param options
+     *         {@link CompactionOptions} defining how the interval should be compacted.
+     *
+     * @return A {@link CompactionResult} listing the staged entities that have been updated or deleted.
+     *
+     * @see Scheduler#compact(ZonedDateTime, ZonedDateTime, CompactionOptions)
+     */
+    public CompactionResult<T, StagedPlanifiable<T, E>> compact(ZonedDateTime from, ZonedDateTime to, CompactionOptions options) {
+
+        this.ensureOpen();
+        CompactionResult<T, Planifiable<T>> result = this.staging.compact(from, to, options);
+        return new CompactionResult<>(
+                result.updated().stream().map(this::staged).toList(),
+                result.deleted().stream().map(this::staged).toList()
+        );
+    }
+
+    /**
+     * Stage the calibration of the state.
+     *
+     * @return A {@link CalibrationResult} summarizing the number of staged updates and deletions.
+     *
+     * @see Scheduler#calibrate()
+     */
+    public CalibrationResult calibrate() {
+
+        this.ensureOpen();
+        return this.staging.calibrate();
+    }
+
+    /**
+     * Stage the calibration of the provided {@link WatchTarget}.
+     *
+     * @param target
+     *         The {@link WatchTarget} to calibrate.
+     *
+     * @return A {@link CalibrationResult} summarizing the number of staged updates and deletions.
+     *
+     * @see Scheduler#calibrate(WatchTarget)
+     */
+    public CalibrationResult calibrate(T target) {
+
+        this.ensureOpen();
+        return this.staging.calibrate(target);
+    }
+
+    /**
+     * Compute the changes staged so far, compared to the state this {@link SchedulerTransaction} started from. Entities staged
+     * then reverted to their original values are not reported.
+     *
+     * @return A {@link SchedulerDiff}.
+     */
+    public SchedulerDiff<T, E> diff() {
+
+        this.ensureOpen();
+
+        List<StagedPlanifiable<T, E>> created = new ArrayList<>();
+        List<StagedPlanifiable<T, E>> updated = new ArrayList<>();
+
+        // Only overlays may differ from the state the transaction started from, so the rest of the state is never scanned.
+        Set<Planifiable<T>> state = this.staging.getState();
+        Stream.concat(this.created.stream(), this.overlays.values().stream())
+              .filter(state::contains)
+              .filter(StagedPlanifiable::isModified)
+              .sorted(Comparator.comparing(staged -> staged.getStartingAt().toInstant()))
+              .forEach(staged -> (staged.getOrigin().isPresent() ? updated : created).add(staged));
+
+        return new SchedulerDiff<>(List.copyOf(created), List.copyOf(updated), List.copyOf(this.deleted));
+    }
+
+    /**
+     * Apply every staged change to the {@link EventScheduler}, sending them to its {@link SchedulerManager} in batch. This
+     * {@link SchedulerTransaction} is closed afterward.
+     *
+     * @return The {@link SchedulerDiff} that has been applied.
+     *
+     * @throws IllegalStateException
+     *         If the {@link EventScheduler} has been modified since this {@link SchedulerTransaction} began.
+     */
+    public SchedulerDiff<T, E> commit() {
+
+        this.ensureOpen();
+
+        if (this.scheduler.getRevision() != this.revision) {
+            throw new IllegalStateException("The scheduler has been modified since the transaction began.");
+        }
+
+        SchedulerDiff<T, E> diff = this.diff();
+        try {
+            this.scheduler.apply(diff, this.staging);
+        } finally {
+            this.open = false;
+        }
+        return diff;
+    }
+
+    /**
+     * Discard every staged change. This {@link SchedulerTransaction} is closed afterward.
+     */
+    public void rollback() {
+
+        this.open = false;
+    }
+
+    /**
+     * {@link SchedulerManager} used by the staged state, recording changes instead of persisting them. As the
+     * {@link EventScheduler} already copies every change into its own entities, update hooks are not applied here.
+     */
+    private final class StagingManager implements SchedulerManager<T, Planifiable<T>, Planifiable<T>> {
+
+        @Override
+        public Planifiable<T> create(Planifiable<T> planifiable) {
+
+            StagedPlanifiable<T, E> staged = StagedPlanifiable.detached(planifiable);
+            SchedulerTransaction.this.created.add(staged);
+            return staged;
+        }
+
+        @Override
+        public Planifiable<T> update(Planifiable<T> entity, Consumer<Planifiable<T>> updateHook) {
+
+            return entity;
+        }
+
+        @Override
+        public List<Planifiable<T>> updateAll(List<Planifiable<T>> entities, Consumer<Planifiable<T>> updateHook) {
+
+            return entities;
+        }
+
+        @Override
+        public boolean delete(Planifiable<T> entity) {
+
+            SchedulerTransaction.this.staged(entity).getOrigin().ifPresent(SchedulerTransaction.this.deleted::add);
+            return true;
+        }
+
+    }
+
+}
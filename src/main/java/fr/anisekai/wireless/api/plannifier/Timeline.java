@@ -0,0 +1,427 @@
+package fr.anisekai.wireless.api.plannifier;
+
+import fr.anisekai.wireless.api.plannifier.interfaces.ScheduleSpotData;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Ordered index of {@link ScheduleSpotData} keyed by their starting instant, allowing neighbour lookups in logarithmic time
+ * instead of scanning the whole state.
+ * <p>
+ * Items are indexed using the value of {@link ScheduleSpotData#getStartingAt()} at the time they were added. Their starting and
+ * ending times are compared as epoch seconds (sub-second precision is ignored), their duration being cached so that it can be
+ * reused without any allocation. As items are usually mutable, the cached duration is only reused while the episode count,
+ * the skip setting and the episode duration of the {@link ScheduleSpotData#getWatchTarget() watch target} it was computed from
+ * are unchanged, and is recomputed otherwise.
+ * <p>
+ * The position of an item is not refreshed that way: any change to its starting time must be followed by a call to
+ * {@link #reindex(ScheduleSpotData)}, otherwise lookups will keep using the previous position.
+ * <p>
+ * Positions are stored in a {@link TimelineIndex}, which is never modified in place. This allows {@link #snapshot()} to freeze
+ * the current content of a {@link Timeline} in constant time, regardless of its size.
+ *
+ * @param <E>
+ *         Type of the indexed items.
+ */
+public class Timeline<E extends ScheduleSpotData<?>> {
+
+    private final @Nullable Map<E, Span> spans;
+    private       TimelineIndex<E>       index;
+    private       Timeline<E>            snapshot;
+    private       Set<E>                 frozenSet;
+
+    /**
+     * Cached position and duration of an indexed item, along with the values the duration was computed from.
+     *
+     * @param key
+     *         The key of the item within the index.
+     * @param duration
+     *         The duration of the item, in seconds.
+     * @param episodeCount
+     *         The episode count of the item when its duration was computed.
+     * @param skipEnabled
+     *         The skip setting of the item when its duration was computed.
+     * @param episodeDuration
+     *         The episode duration of the watch target of the item when its duration was computed.
+     */
+    private record Span(Instant key, long duration, int episodeCount, boolean skipEnabled, int episodeDuration) {
+
+        private static Span of(ScheduleSpotData<?> item) {
+
+            return of(item.getStartingAt().toInstant(), item);
+        }
+
+        private static Span of(Instant key, ScheduleSpotData<?> item) {
+
+            return new Span(
+                    key,
+                    item.getDuration().getSeconds(),
+                    item.getEpisodeCount(),
+                    item.isSkipEnabled(),
+                    item.getWatchTarget().getEpisodeDuration()
+            );
+        }
+
+        /**
+         * Check if the cached duration still matches the provided item, without computing its duration.
+         *
+         * @param item
+         *         The item this {@link Span} was created for.
+         *
+         * @return True if the cached duration can be used, false otherwise.
+         */
+        private boolean isCurrent(ScheduleSpotData<?> item) {
+
+            return this.episodeCount == item.getEpisodeCount() &&
+                    this.skipEnabled == item.isSkipEnabled() &&
+                    this.episodeDuration == item.getWatchTarget().getEpisodeDuration();
+        }
+
+    }
+
+    /**
+     * Compute the starting time of the provided {@link ScheduleSpotData}, in epoch seconds.
+     *
+     * @param item
+     *         The {@link ScheduleSpotData}.
+     *
+     * @return The starting time in epoch seconds.
+     */
+    public static long epochStart(ScheduleSpotData<?> item) {
+
+        return item.getStartingAt().toEpochSecond();
+    }
+
+    /**
+     * Compute the ending time of the provided {@link ScheduleSpotData}, in epoch seconds.
+     *
+     * @param item
+     *         The {@link ScheduleSpotData}.
+     *
+     * @return The ending time in epoch seconds.
+     */
+    public static long epochEnd(ScheduleSpotData<?> item) {
+
+        return epochStart(item) + item.getDuration().getSeconds();
+    }
+
+    /**
+     * Create an empty {@link Timeline}.
+     */
+    public Timeline() {
+
+        this.spans = new HashMap<>();
+        this.index = TimelineIndex.empty();
+    }
+
+    /**
+     * Create a {@link Timeline} populated with the provided items.
+     *
+     * @param items
+     *         Items that will populate the {@link Timeline}.
+     */
+    public Timeline(Collection<? extends E> items) {
+
+        this();
+        items.forEach(this::add);
+    }
+
+    /**
+     * Create a modifiable copy of the provided {@link Timeline}. The index is shared with the source until one of them is
+     * modified, so only the cached durations are copied, in linear time. Items themselves are not copied.
+     * <p>
+     * The source may hold a subtype of the items of the copy, allowing the copy to index items the source cannot hold.
+     *
+     * @param source
+     *         The {@link Timeline} to copy.
+     */
+    @SuppressWarnings("unchecked")
+    public Timeline(Timeline<? extends E> source) {
+
+        // The index is never modified in place: reading the items of the source as E is therefore safe.
+        this.spans = new HashMap<>();
+        this.index = (TimelineIndex<E>) source.index;
+
+        if (source.spans == null) {
+            this.index.forEach((key, item) -> this.spans.put(item, Span.of(key, item)));
+        } else {
+            this.spans.putAll(source.spans);
+        }
+    }
+
+    /**
+     * Create a frozen {@link Timeline} reading the provided index.
+     *
+     * @param index
+     *         The {@link TimelineIndex} to read.
+     */
+    private Timeline(TimelineIndex<E> index) {
+
+        this.spans    = null;
+        this.index    = index;
+        this.snapshot = this;
+    }
+
+    /**
+     * Retrieve the spans of this {@link Timeline}, ensuring that it can be modified.
+     *
+     * @return The spans of this {@link Timeline}.
+     *
+     * @throws UnsupportedOperationException
+     *         If this {@link Timeline} is a {@link #snapshot()}.
+     */
+    private Map<E, Span> modifiable() {
+
+        if (this.spans == null) throw new UnsupportedOperationException("Timeline snapshots cannot be modified.");
+        this.snapshot = null;
+        return this.spans;
+    }
+
+    /**
+     * Retrieve a frozen view of the current content of this {@link Timeline}. The view shares the index of this {@link Timeline}
+     * and is therefore created in constant time, but is left untouched by any later modification of this {@link Timeline}. It
+     * cannot be modified, and always computes the ending time of its items instead of using cached durations.
+     * <p>
+     * A snapshot can be read by any amount of threads, as long as it has been safely published and its items are not modified
+     * while being read.
+     *
+     * @return A frozen {@link Timeline}.
+     */
+    public Timeline<E> snapshot() {
+
+        if (this.snapshot == null) this.snapshot = new Timeline<>(this.index);
+        return this.snapshot;
+    }
+
+    /**
+     * Add the provided item to this {@link Timeline}. If the item is already present, it will be re-indexed instead.
+     *
+     * @param item
+     *         The item to add.
+     */
+    public void add(E item) {
+
+        this.remove(item);
+
+        Span span = Span.of(item);
+        this.modifiable().put(item, span);
+        this.index = this.index.with(span.key(), item);
+    }
+
+    /**
+     * Remove the provided item from this {@link Timeline}.
+     *
+     * @param item
+     *         The item to remove.
+     *
+     * @return True if the item was present, false otherwise.
+     */
+    public boolean remove(E item) {
+
+        Span span = this.modifiable().remove(item);
+        if (span == null) return false;
+
+        this.index = this.index.without(span.key(), item);
+        return true;
+    }
+
+    /**
+     * Update the position and cached duration of the provided item within this {@link Timeline}. This must be called each time
+     * the starting time of an indexed item changes.
+     *
+     * @param item
+     *         The item to re-index.
+     */
+    public void reindex(E item) {
+
+        Span current = this.modifiable().get(item);
+        if (current == null) return;
+
+        Span span = Span.of(item);
+        if (span.key().equals(current.key())) {
+            this.modifiable().put(item, span);
+        } else {
+            this.add(item);
+        }
+    }
+
+    /**
+     * Retrieve the starting time of the provided item, in epoch seconds. It is always read from the item, as it is cheap to
+     * compute.
+     *
+     * @param item
+     *         The item.
+     *
+     * @return The starting time in epoch seconds.
+     */
+    public long startOf(ScheduleSpotData<?> item) {
+
+        return epochStart(item);
+    }
+
+    /**
+     * Retrieve the ending time of the provided item, in epoch seconds. The cached duration is used if the item is indexed and
+     * the values it was computed from did not change, otherwise it is computed. Snapshots always compute it.
+     *
+     * @param item
+     *         The item.
+     *
+     * @return The ending time in epoch seconds.
+     */
+    public long endOf(ScheduleSpotData<?> item) {
+
+        //noinspection SuspiciousMethodCalls
+        Span span = this.spans == null ? null : this.spans.get(item);
+        return span != null && span.isCurrent(item) ? epochStart(item) + span.duration() : epochEnd(item);
+    }
+
+    /**
+     * Check if the provided item is indexed by this {@link Timeline}.
+     *
+     * @param item
+     *         The item to check.
+     *
+     * @return True if the item is present, false otherwise.
+     */
+    public boolean contains(Object item) {
+
+        //noinspection SuspiciousMethodCalls
+        return this.spans == null ? this.asSet().contains(item) : this.spans.containsKey(item);
+    }
+
+    /**
+     * Retrieve the amount of items indexed by this {@link Timeline}.
+     *
+     * @return The amount of items.
+     */
+    public int size() {
+
+        return this.index.size();
+    }
+
+    /**
+     * Check if this {@link Timeline} does not contain any item.
+     *
+     * @return True if empty, false otherwise.
+     */
+    public boolean isEmpty() {
+
+        return this.index.size() == 0;
+    }
+
+    /**
+     * Retrieve an unmodifiable live view of every item indexed by this {@link Timeline}. This view is not ordered. On a
+     * {@link #snapshot()}, the {@link Set} is built on first use and never changes afterward.
+     *
+     * @return An unmodifiable {@link Set}.
+     */
+    public Set<E> asSet() {
+
+        if (this.spans != null) return Collections.unmodifiableSet(this.spans.keySet());
+
+        // Racy single-check: concurrent readers may each build the set, which is harmless as it is immutable.
+        Set<E> set = this.frozenSet;
+        if (set == null) {
+            set            = Set.copyOf(this.stream().toList());
+            this.frozenSet = set;
+        }
+        return set;
+    }
+
+    /**
+     * Retrieve the item starting at or right before the provided {@link ZonedDateTime}.
+     *
+     * @param when
+     *         The {@link ZonedDateTime} delimiting the search.
+     *
+     * @return An optional item.
+     */
+    public Optional<E> findPrevious(ZonedDateTime when) {
+
+        return Optional.ofNullable(this.index.floor(when.toInstant(), true)).map(List::getLast);
+    }
+
+    /**
+     * Retrieve the item starting strictly before the provided {@link ZonedDateTime}.
+     *
+     * @param when
+     *         The {@link ZonedDateTime} delimiting the search.
+     *
+     * @return An optional item.
+     */
+    public Optional<E> findBefore(ZonedDateTime when) {
+
+        return Optional.ofNullable(this.index.floor(when.toInstant(), false)).map(List::getLast);
+    }
+
+    /**
+     * Retrieve the item starting at or right after the provided {@link ZonedDateTime}.
+     *
+     * @param when
+     *         The {@link ZonedDateTime} delimiting the search.
+     *
+     * @return An optional item.
+     */
+    public Optional<E> findNext(ZonedDateTime when) {
+
+        return Optional.ofNullable(this.index.ceiling(when.toInstant())).map(List::getFirst);
+    }
+
+    /**
+     * Create a {@link Stream} of every item in chronological order.
+     *
+     * @return An ordered {@link Stream}.
+     */
+    public Stream<E> stream() {
+
+        return this.index.ascending(null, null);
+    }
+
+    /**
+     * Create a {@link Stream} of every item starting at or before the provided {@link ZonedDateTime}, in reverse chronological
+     * order.
+     *
+     * @param when
+     *         The {@link ZonedDateTime} delimiting the items.
+     *
+     * @return An ordered {@link Stream}.
+     */
+    public Stream<E> streamBefore(ZonedDateTime when) {
+
+        return this.index.descending(when.toInstant());
+    }
+
+    /**
+     * Create a {@link Stream} of every item starting at or after the provided {@link ZonedDateTime}, in chronological order.
+     *
+     * @param when
+     *         The {@link ZonedDateTime} delimiting the items.
+     *
+     * @return An ordered {@link Stream}.
+     */
+    public Stream<E> streamAfter(ZonedDateTime when) {
+
+        return this.index.ascending(when.toInstant(), null);
+    }
+
+    /**
+     * Create a {@link Stream} of every item starting within the provided bounds (both inclusive), in chronological order.
+     *
+     * @param from
+     *         The lower bound.
+     * @param to
+     *         The upper bound.
+     *
+     * @return An ordered {@link Stream}.
+     */
+    public Stream<E> streamBetween(ZonedDateTime from, ZonedDateTime to) {
+
+        if (to.isBefore(from)) return Stream.empty();
+        return this.index.ascending(from.toInstant(), to.toInstant());
+    }
+
+}
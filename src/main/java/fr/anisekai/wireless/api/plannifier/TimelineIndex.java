@@ -0,0 +1,402 @@
+package fr.anisekai.wireless.api.plannifier;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Persistent sorted map of starting instants to the items starting at each of them, backing a {@link Timeline}.
+ * <p>
+ * A {@link TimelineIndex} is never modified: each update returns a new {@link TimelineIndex} sharing every untouched node with
+ * the previous one (path copying within an AVL tree). Keeping an index as a snapshot therefore costs nothing, while each update
+ * only allocates {@code O(log n)} nodes. As nodes and buckets are immutable, an index can be read by any amount of threads
+ * while newer versions are being built.
+ *
+ * @param <E>
+ *         Type of the indexed items.
+ */
+final class TimelineIndex<E> {
+
+    private static final TimelineIndex<?> EMPTY = new TimelineIndex<>(null);
+
+    /**
+     * Node of the tree, holding every item starting at the same instant.
+     *
+     * @param key
+     *         The starting instant of the items.
+     * @param bucket
+     *         The items, in insertion order. Never empty.
+     * @param left
+     *         The subtree of earlier instants.
+     * @param right
+     *         The subtree of later instants.
+     * @param height
+     *         The height of this subtree.
+     * @param size
+     *         The amount of items within this subtree.
+     */
+    private record Node<E>(Instant key, List<E> bucket, @Nullable Node<E> left, @Nullable Node<E> right, int height, int size) {}
+
+    private final @Nullable Node<E> root;
+
+    private TimelineIndex(@Nullable Node<E> root) {
+
+        this.root = root;
+    }
+
+    /**
+     * Retrieve the empty {@link TimelineIndex}.
+     *
+     * @param <E>
+     *         Type of the indexed items.
+     *
+     * @return An empty {@link TimelineIndex}.
+     */
+    @SuppressWarnings("unchecked")
+    static <E> TimelineIndex<E> empty() {
+
+        return (TimelineIndex<E>) EMPTY;
+    }
+
+    private static int height(@Nullable Node<?> node) {
+
+        return node == null ? 0 : node.height();
+    }
+
+    private static int size(@Nullable Node<?> node) {
+
+        return node == null ? 0 : node.size();
+    }
+
+    private static <E> Node<E> node(Instant key, List<E> bucket, @Nullable Node<E> left, @Nullable Node<E> right) {
+
+        int height = 1 + Math.max(height(left), height(right));
+        int size   = size(left) + bucket.size() + size(right);
+        return new Node<>(key, bucket, left, right, height, size);
+    }
+
+    /**
+     * Create a node out of the provided values, restoring the balance of the tree if one of the subtrees is higher than the
+     * other by two. As each update changes the height of a subtree by one at most, a single or double rotation is enough.
+     */
+    private static <E> Node<E> balance(Instant key, List<E> bucket, @Nullable Node<E> left, @Nullable Node<E> right) {
+
+        if (height(left) > height(right) + 1) {
+            //noinspection DataFlowIssue
+            if (height(left.left()) >= height(left.right())) {
+                return node(left.key(), left.bucket(), left.left(), node(key, bucket, left.right(), right));
+            }
+            Node<E> pivot = left.right();
+            //noinspection DataFlowIssue
+            return node(
+                    pivot.key(),
+                    pivot.bucket(),
+                    node(left.key(), left.bucket(), left.left(), pivot.left()),
+                    node(key, bucket, pivot.right(), right)
+            );
+        }
+
+        if (height(right) > height(left) + 1) {
+            //noinspection DataFlowIssue
+            if (height(right.right()) >= height(right.left())) {
+                return node(right.key(), right.bucket(), node(key, bucket, left, right.left()), right.right());
+            }
+            Node<E> pivot = right.left();
+            //noinspection DataFlowIssue
+            return node(
+                    pivot.key(),
+                    pivot.bucket(),
+                    node(key, bucket, left, pivot.left()),
+                    node(right.key(), right.bucket(), pivot.right(), right.right())
+            );
+        }
+
+        return node(key, bucket, left, right);
+    }
+
+    private static <E> Node<E> insert(@Nullable Node<E> node, Instant key, E item) {
+
+        if (node == null) return node(key, List.of(item), null, null);
+
+        int comparison = key.compareTo(node.key());
+        if (comparison < 0) return balance(node.key(), node.bucket(), insert(node.left(), key, item), node.right());
+        if (comparison > 0) return balance(node.key(), node.bucket(), node.left(), insert(node.right(), key, item));
+
+        List<E> bucket = new ArrayList<>(node.bucket().size() + 1);
+        bucket.addAll(node.bucket());
+        bucket.add(item);
+        return node(node.key(), Collections.unmodifiableList(bucket), node.left(), node.right());
+    }
+
+    private static <E> @Nullable Node<E> delete(@Nullable Node<E> node, Instant key, E item) {
+
+        if (node == null) return null;
+
+        int comparison = key.compareTo(node.key());
+        if (comparison < 0) {
+            Node<E> left = delete(node.left(), key, item);
+            return left == node.left() ? node : balance(node.key(), node.bucket(), left, node.right());
+        }
+        if (comparison > 0) {
+            Node<E> right = delete(node.right(), key, item);
+            return right == node.right() ? node : balance(node.key(), node.bucket(), node.left(), right);
+        }
+
+        int position = node.bucket().indexOf(item);
+        if (position < 0) return node;
+
+        if (node.bucket().size() > 1) {
+            List<E> bucket = new ArrayList<>(node.bucket());
+            bucket.remove(position);
+            return node(node.key(), Collections.unmodifiableList(bucket), node.left(), node.right());
+        }
+
+        if (node.left() == null) return node.right();
+        if (node.right() == null) return node.left();
+
+        Node<E> successor = node.right();
+        while (successor.left() != null) successor = successor.left();
+        return balance(successor.key(), successor.bucket(), node.left(), deleteFirst(node.right()));
+    }
+
+    private static <E> @Nullable Node<E> deleteFirst(Node<E> node) {
+
+        if (node.left() == null) return node.right();
+        return balance(node.key(), node.bucket(), deleteFirst(node.left()), node.right());
+    }
+
+    /**
+     * Create a {@link TimelineIndex} where the provided item is added to the items starting at the provided instant.
+     *
+     * @param key
+     *         The starting instant of the item.
+     * @param item
+     *         The item to add.
+     *
+     * @return The updated {@link TimelineIndex}.
+     */
+    TimelineIndex<E> with(Instant key, E item) {
+
+        return new TimelineIndex<>(insert(this.root, key, item));
+    }
+
+    /**
+     * Create a {@link TimelineIndex} where the provided item is removed from the items starting at the provided instant.
+     *
+     * @param key
+     *         The starting instant under which the item has been added.
+     * @param item
+     *         The item to remove.
+     *
+     * @return The updated {@link TimelineIndex}, or this one if the item was not present.
+     */
+    TimelineIndex<E> without(Instant key, E item) {
+
+        Node<E> root = delete(this.root, key, item);
+        return root == this.root ? this : new TimelineIndex<>(root);
+    }
+
+    /**
+     * Retrieve the amount of items within this {@link TimelineIndex}.
+     *
+     * @return The amount of items.
+     */
+    int size() {
+
+        return size(this.root);
+    }
+
+    /**
+     * Retrieve the items starting at the latest instant at or before ({@code inclusive}) or strictly before the provided one.
+     *
+     * @param key
+     *         The instant delimiting the search.
+     * @param inclusive
+     *         True to include items starting at the provided instant.
+     *
+     * @return The items, or {@code null} if there is none.
+     */
+    @Nullable List<E> floor(Instant key, boolean inclusive) {
+
+        Node<E> node = this.root;
+        Node<E> best = null;
+
+        while (node != null) {
+            int comparison = key.compareTo(node.key());
+            if (comparison == 0 && inclusive) return node.bucket();
+            if (comparison > 0) {
+                best = node;
+                node = node.right();
+            } else {
+                node = node.left();
+            }
+        }
+        return best == null ? null : best.bucket();
+    }
+
+    /**
+     * Retrieve the items starting at the earliest instant at or after the provided one.
+     *
+     * @param key
+     *         The instant delimiting the search.
+     *
+     * @return The items, or {@code null} if there is none.
+     */
+    @Nullable List<E> ceiling(Instant key) {
+
+        Node<E> node = this.root;
+        Node<E> best = null;
+
+        while (node != null) {
+            int comparison = key.compareTo(node.key());
+            if (comparison == 0) return node.bucket();
+            if (comparison < 0) {
+                best = node;
+                node = node.left();
+            } else {
+                node = node.right();
+            }
+        }
+        return best == null ? null : best.bucket();
+    }
+
+    /**
+     * Call the provided action for each item along with the instant under which it has been added, in chronological order.
+     *
+     * @param action
+     *         The action to call.
+     */
+    void forEach(BiConsumer<Instant, E> action) {
+
+        Iterator<Node<E>> nodes = new Ascending<>(this.root, null, null);
+        while (nodes.hasNext()) {
+            Node<E> node = nodes.next();
+            node.bucket().forEach(item -> action.accept(node.key(), item));
+        }
+    }
+
+    /**
+     * Create a {@link Stream} of every item starting within the provided bounds (both inclusive), in chronological order.
+     *
+     * @param from
+     *         The lower bound, or {@code null} for no lower bound.
+     * @param to
+     *         The upper bound, or {@code null} for no upper bound.
+     *
+     * @return An ordered {@link Stream}.
+     */
+    Stream<E> ascending(@Nullable Instant from, @Nullable Instant to) {
+
+        return stream(new Ascending<>(this.root, from, to)).flatMap(node -> node.bucket().stream());
+    }
+
+    /**
+     * Create a {@link Stream} of every item starting at or before the provided instant, in reverse chronological order.
+     *
+     * @param to
+     *         The upper bound (inclusive).
+     *
+     * @return An ordered {@link Stream}.
+     */
+    Stream<E> descending(Instant to) {
+
+        return stream(new Descending<>(this.root, to)).flatMap(node -> node.bucket().reversed().stream());
+    }
+
+    private static <E> Stream<Node<E>> stream(Iterator<Node<E>> nodes) {
+
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(nodes, Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE),
+                false
+        );
+    }
+
+    /**
+     * Lazy in-order walk of the nodes within the provided bounds (both inclusive).
+     */
+    private static final class Ascending<E> implements Iterator<Node<E>> {
+
+        private final Deque<Node<E>> path = new ArrayDeque<>();
+        private final Instant        to;
+
+        private Ascending(@Nullable Node<E> root, @Nullable Instant from, @Nullable Instant to) {
+
+            this.to = to;
+
+            Node<E> node = root;
+            while (node != null) {
+                if (from == null || node.key().compareTo(from) >= 0) {
+                    this.path.push(node);
+                    node = node.left();
+                } else {
+                    node = node.right();
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+
+            Node<E> next = this.path.peek();
+            return next != null && (this.to == null || next.key().compareTo(this.to) <= 0);
+        }
+
+        @Override
+        public Node<E> next() {
+
+            if (!this.hasNext()) throw new NoSuchElementException();
+
+            Node<E> current = this.path.pop();
+            for (Node<E> node = current.right(); node != null; node = node.left()) {
+                this.path.push(node);
+            }
+            return current;
+        }
+
+    }
+
+    /**
+     * Lazy reverse in-order walk of the nodes up to the provided bound (inclusive).
+     */
+    private static final class Descending<E> implements Iterator<Node<E>> {
+
+        private final Deque<Node<E>> path = new ArrayDeque<>();
+
+        private Descending(@Nullable Node<E> root, Instant to) {
+
+            Node<E> node = root;
+            while (node != null) {
+                if (node.key().compareTo(to) <= 0) {
+                    this.path.push(node);
+                    node = node.right();
+                } else {
+                    node = node.left();
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+
+            return !this.path.isEmpty();
+        }
+
+        @Override
+        public Node<E> next() {
+
+            if (this.path.isEmpty()) throw new NoSuchElementException();
+
+            Node<E> current = this.path.pop();
+            for (Node<E> node = current.left(); node != null; node = node.right()) {
+                this.path.push(node);
+            }
+            return current;
+        }
+
+    }
+
+}
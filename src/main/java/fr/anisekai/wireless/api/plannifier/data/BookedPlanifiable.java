@@ -5,6 +5,7 @@ import fr.anisekai.wireless.api.plannifier.interfaces.SchedulerManager;
 import fr.anisekai.wireless.api.plannifier.interfaces.entities.Planifiable;
 import fr.anisekai.wireless.api.plannifier.interfaces.entities.WatchTarget;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.time.ZonedDateTime;
 
@@ -16,11 +17,12 @@ import java.time.ZonedDateTime;
  */
 public class BookedPlanifiable<T extends WatchTarget> implements Planifiable<T> {
 
-    private final T             target;
-    private       ZonedDateTime startingAt;
-    private       int           firstEpisode;
-    private       int           episodeCount;
-    private       boolean       skipEnabled;
+    private final           T             target;
+    private final @Nullable String        channel;
+    private                 ZonedDateTime startingAt;
+    private                 int           firstEpisode;
+    private                 int           episodeCount;
+    private                 boolean       skipEnabled;
 
     /**
      * Create a {@link BookedPlanifiable} based on the provided {@link ScheduleSpotData}.
@@ -45,6 +47,7 @@ public class BookedPlanifiable<T extends WatchTarget> implements Planifiable<T>
     public BookedPlanifiable(ScheduleSpotData<T> scheduleSpotData, int firstEpisode) {
 
         this.target       = scheduleSpotData.getWatchTarget();
+        this.channel      = scheduleSpotData.getChannel();
         this.startingAt   = scheduleSpotData.getStartingAt();
         this.firstEpisode = firstEpisode;
         this.episodeCount = scheduleSpotData.getEpisodeCount();
@@ -75,6 +78,12 @@ public class BookedPlanifiable<T extends WatchTarget> implements Planifiable<T>
         throw new UnsupportedOperationException("You cannot change the WatchTarget of a BookedPlanifiable");
     }
 
+    @Override
+    public @Nullable String getChannel() {
+
+        return this.channel;
+    }
+
     @Override
     public @NotNull ZonedDateTime getStartingAt() {
 
@@ -0,0 +1,98 @@
+package fr.anisekai.wireless.api.plannifier.data;
+
+import fr.anisekai.wireless.api.plannifier.interfaces.ScheduleSpotData;
+import fr.anisekai.wireless.api.plannifier.interfaces.entities.WatchTarget;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Represent the result of a bulk scheduling operation, holding one {@link Outcome} per submitted {@link ScheduleSpotData}, in
+ * the order they were submitted.
+ *
+ * @param outcomes
+ *         The {@link Outcome} of each submitted {@link ScheduleSpotData}.
+ * @param <T>
+ *         Type of the {@link WatchTarget}.
+ * @param <E>
+ *         Type of the scheduled entities.
+ */
+public record BulkScheduleResult<T extends WatchTarget, E>(List<Outcome<T, E>> outcomes) {
+
+    /**
+     * Status of a {@link ScheduleSpotData} after a bulk scheduling operation.
+     */
+    public enum Status {
+
+        /**
+         * The {@link ScheduleSpotData} resulted in a new entity.
+         */
+        CREATED,
+
+        /**
+         * The {@link ScheduleSpotData} has been merged into another entity, either already existing or created by the same
+         * operation.
+         */
+        MERGED,
+
+        /**
+         * The {@link ScheduleSpotData} could not be scheduled, because it was overlapping another event or had an invalid
+         * duration.
+         */
+        REJECTED
+    }
+
+    /**
+     * Represent what happened to a single {@link ScheduleSpotData} during a bulk scheduling operation.
+     *
+     * @param spot
+     *         The submitted {@link ScheduleSpotData}.
+     * @param status
+     *         The {@link Status} of the {@link ScheduleSpotData}.
+     * @param entity
+     *         The entity that now holds the {@link ScheduleSpotData}, or {@code null} if it has been rejected.
+     * @param <T>
+     *         Type of the {@link WatchTarget}.
+     * @param <E>
+     *         Type of the scheduled entities.
+     */
+    public record Outcome<T extends WatchTarget, E>(ScheduleSpotData<T> spot, Status status, @Nullable E entity) {
+
+    }
+
+    /**
+     * Retrieve every {@link Outcome} with the {@link Status#CREATED} status.
+     *
+     * @return A {@link List} of {@link Outcome}.
+     */
+    public List<Outcome<T, E>> created() {
+
+        return this.withStatus(Status.CREATED);
+    }
+
+    /**
+     * Retrieve every {@link Outcome} with the {@link Status#MERGED} status.
+     *
+     * @return A {@link List} of {@link Outcome}.
+     */
+    public List<Outcome<T, E>> merged() {
+
+        return this.withStatus(Status.MERGED);
+    }
+
+    /**
+     * Retrieve every {@link Outcome} with the {@link Status#REJECTED} status.
+     *
+     * @return A {@link List} of {@link Outcome}.
+     */
+    public List<Outcome<T, E>> rejected() {
+
+        return this.withStatus(Status.REJECTED);
+    }
+
+    private List<Outcome<T, E>> withStatus(Status status) {
+
+        return this.outcomes.stream().filter(outcome -> outcome.status() == status).toList();
+    }
+
+}
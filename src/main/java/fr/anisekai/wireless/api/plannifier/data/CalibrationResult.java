@@ -1,5 +1,8 @@
 package fr.anisekai.wireless.api.plannifier.data;
 
+import java.time.Duration;
+import java.util.List;
+
 /**
  * Represent a schedule calibration result.
  *
@@ -7,7 +10,24 @@ package fr.anisekai.wireless.api.plannifier.data;
  *         Number of events that has been updated in the schedule.
  * @param deleteCount
  *         Number of events that has been removed in the schedule.
+ * @param targets
+ *         Detail of the calibration for each calibrated watch target.
+ * @param elapsed
+ *         Total time spent calibrating the schedule, including persistence.
  */
-public record CalibrationResult(int updateCount, int deleteCount) {
+public record CalibrationResult(int updateCount, int deleteCount, List<TargetCalibration> targets, Duration elapsed) {
+
+    /**
+     * Create a {@link CalibrationResult} without any detail.
+     *
+     * @param updateCount
+     *         Number of events that has been updated in the schedule.
+     * @param deleteCount
+     *         Number of events that has been removed in the schedule.
+     */
+    public CalibrationResult(int updateCount, int deleteCount) {
+
+        this(updateCount, deleteCount, List.of(), Duration.ZERO);
+    }
 
 }
@@ -0,0 +1,45 @@
+package fr.anisekai.wireless.api.plannifier.data;
+
+import java.time.Duration;
+
+/**
+ * Represent the options of a schedule compaction.
+ *
+ * @param closeGaps
+ *         Whether events should be pulled forward to close the gap separating them from the previous event of their channel.
+ * @param spacing
+ *         The gap to keep between two events when closing gaps. Gaps shorter than this are left untouched.
+ */
+public record CompactionOptions(boolean closeGaps, Duration spacing) {
+
+    public CompactionOptions {
+
+        if (spacing.isNegative()) {
+            throw new IllegalArgumentException("The spacing duration must not be negative.");
+        }
+    }
+
+    /**
+     * Create {@link CompactionOptions} only merging events, leaving every gap untouched.
+     *
+     * @return A {@link CompactionOptions}.
+     */
+    public static CompactionOptions merging() {
+
+        return new CompactionOptions(false, Duration.ZERO);
+    }
+
+    /**
+     * Create {@link CompactionOptions} merging events and closing every gap longer than the provided spacing.
+     *
+     * @param spacing
+     *         The gap to keep between two events.
+     *
+     * @return A {@link CompactionOptions}.
+     */
+    public static CompactionOptions closingGaps(Duration spacing) {
+
+        return new CompactionOptions(true, spacing);
+    }
+
+}
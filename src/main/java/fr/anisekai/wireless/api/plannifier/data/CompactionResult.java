@@ -0,0 +1,32 @@
+package fr.anisekai.wireless.api.plannifier.data;
+
+import fr.anisekai.wireless.api.plannifier.interfaces.entities.Planifiable;
+import fr.anisekai.wireless.api.plannifier.interfaces.entities.WatchTarget;
+
+import java.util.List;
+
+/**
+ * Represent a schedule compaction result.
+ *
+ * @param updated
+ *         The entities that have been moved or extended to absorb the events following them, in chronological order.
+ * @param deleted
+ *         The entities that have been merged into the event preceding them, and therefore removed from the schedule.
+ * @param <T>
+ *         Type of the {@link WatchTarget}.
+ * @param <E>
+ *         Type of the scheduled entities.
+ */
+public record CompactionResult<T extends WatchTarget, E extends Planifiable<T>>(List<E> updated, List<E> deleted) {
+
+    /**
+     * Check if this {@link CompactionResult} does not contain any change.
+     *
+     * @return True if there is no change, false otherwise.
+     */
+    public boolean isEmpty() {
+
+        return this.updated.isEmpty() && this.deleted.isEmpty();
+    }
+
+}
@@ -0,0 +1,19 @@
+package fr.anisekai.wireless.api.plannifier.data;
+
+import fr.anisekai.wireless.api.plannifier.interfaces.entities.WatchTarget;
+
+import java.util.List;
+
+/**
+ * Represent a plan proposed by an interest-weighted planning. Nothing has been scheduled yet.
+ *
+ * @param spots
+ *         The proposed spots, in chronological order.
+ * @param score
+ *         The aggregated interest of every planned episode.
+ * @param <T>
+ *         Type of the {@link WatchTarget}.
+ */
+public record InterestPlan<T extends WatchTarget>(List<PlannedSpot<T>> spots, long score) {
+
+}
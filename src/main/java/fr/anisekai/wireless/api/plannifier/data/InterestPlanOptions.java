@@ -0,0 +1,44 @@
+package fr.anisekai.wireless.api.plannifier.data;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+
+/**
+ * Represent the options of an interest-weighted planning.
+ *
+ * @param channel
+ *         The channel in which spots should be planned, or {@code null} for the default channel.
+ * @param sessionEpisodes
+ *         The maximum amount of episode of a single watch target planned in a row.
+ * @param skipEnabled
+ *         True if intermediate openings and endings should be skipped, false otherwise.
+ * @param gapCapacity
+ *         The maximum runtime planned within a single free gap of the schedule, counting from the start of the gap.
+ * @param searchWidth
+ *         The maximum amount of watch targets considered for each gap, picked among the most interesting ones.
+ */
+public record InterestPlanOptions(
+        @Nullable String channel,
+        int sessionEpisodes,
+        boolean skipEnabled,
+        Duration gapCapacity,
+        int searchWidth
+) {
+
+    public InterestPlanOptions {
+
+        if (sessionEpisodes <= 0) {
+            throw new IllegalArgumentException("The amount of episode per session must be positive.");
+        }
+
+        if (gapCapacity.isNegative() || gapCapacity.isZero()) {
+            throw new IllegalArgumentException("The gap capacity must be positive.");
+        }
+
+        if (searchWidth <= 0) {
+            throw new IllegalArgumentException("The search width must be positive.");
+        }
+    }
+
+}
@@ -0,0 +1,101 @@
+package fr.anisekai.wireless.api.plannifier.data;
+
+import fr.anisekai.wireless.api.plannifier.interfaces.ScheduleSpotData;
+import fr.anisekai.wireless.api.plannifier.interfaces.entities.WatchTarget;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.ZonedDateTime;
+
+/**
+ * Class representing a {@link ScheduleSpotData} generated by a planner, waiting to be scheduled.
+ *
+ * @param <T>
+ *         Type of the {@link WatchTarget}.
+ */
+public class PlannedSpot<T extends WatchTarget> implements ScheduleSpotData<T> {
+
+    private                 T             target;
+    private final @Nullable String        channel;
+    private                 ZonedDateTime startingAt;
+    private                 int           episodeCount;
+    private                 boolean       skipEnabled;
+
+    /**
+     * Create a new {@link PlannedSpot}.
+     *
+     * @param target
+     *         The {@link WatchTarget} that will be watched.
+     * @param channel
+     *         The channel in which the spot will take place, or {@code null} for the default channel.
+     * @param startingAt
+     *         The {@link ZonedDateTime} at which the spot will take place.
+     * @param episodeCount
+     *         The amount of episode that will be watched.
+     * @param skipEnabled
+     *         True if intermediate openings and endings should be skipped, false otherwise.
+     */
+    public PlannedSpot(T target, @Nullable String channel, ZonedDateTime startingAt, int episodeCount, boolean skipEnabled) {
+
+        this.target       = target;
+        this.channel      = channel;
+        this.startingAt   = startingAt;
+        this.episodeCount = episodeCount;
+        this.skipEnabled  = skipEnabled;
+    }
+
+    @Override
+    public @NotNull T getWatchTarget() {
+
+        return this.target;
+    }
+
+    @Override
+    public void setWatchTarget(@NotNull T watchTarget) {
+
+        this.target = watchTarget;
+    }
+
+    @Override
+    public @Nullable String getChannel() {
+
+        return this.channel;
+    }
+
+    @Override
+    public @NotNull ZonedDateTime getStartingAt() {
+
+        return this.startingAt;
+    }
+
+    @Override
+    public void setStartingAt(@NotNull ZonedDateTime time) {
+
+        this.startingAt = time;
+    }
+
+    @Override
+    public int getEpisodeCount() {
+
+        return this.episodeCount;
+    }
+
+    @Override
+    public void setEpisodeCount(int episodeCount) {
+
+        this.episodeCount = episodeCount;
+    }
+
+    @Override
+    public boolean isSkipEnabled() {
+
+        return this.skipEnabled;
+    }
+
+    @Override
+    public void setSkipEnabled(boolean skipEnabled) {
+
+        this.skipEnabled = skipEnabled;
+    }
+
+}
@@ -0,0 +1,113 @@
+package fr.anisekai.wireless.api.plannifier.data;
+
+import fr.anisekai.wireless.api.plannifier.interfaces.entities.Planifiable;
+import fr.anisekai.wireless.api.plannifier.interfaces.entities.WatchTarget;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.ZonedDateTime;
+
+/**
+ * Represent a single change applied by a scheduler to one of its entities, as published by its change feed.
+ * <p>
+ * As entities are mutable and shared, the values of the entity before and after the change are captured as {@link Values},
+ * allowing subscribers to know exactly what changed even if the entity has been modified again in the meantime.
+ *
+ * @param type
+ *         The {@link Type} of change.
+ * @param entity
+ *         The entity affected by the change.
+ * @param before
+ *         The {@link Values} of the entity before the change, or {@code null} if it has been created.
+ * @param after
+ *         The {@link Values} of the entity after the change, or {@code null} if it has been deleted.
+ * @param <T>
+ *         Type of the {@link WatchTarget}.
+ * @param <E>
+ *         Type of the scheduled entities.
+ */
+public record SchedulerChange<T extends WatchTarget, E extends Planifiable<T>>(
+        Type type,
+        E entity,
+        @Nullable Values<T> before,
+        @Nullable Values<T> after
+) {
+
+    /**
+     * Type of change applied to an entity.
+     */
+    public enum Type {
+
+        /**
+         * The entity has been created.
+         */
+        CREATED,
+
+        /**
+         * The entity has been modified, either by a delay or a calibration.
+         */
+        UPDATED,
+
+        /**
+         * The entity has been extended to hold a newly scheduled spot, and possibly the entity following it.
+         */
+        MERGED,
+
+        /**
+         * The entity has been deleted, either because it was merged into another one or because it was going beyond the last
+         * episode of its {@link WatchTarget}.
+         */
+        DELETED
+    }
+
+    /**
+     * Values of an entity at a given point in time.
+     *
+     * @param watchTarget
+     *         The {@link WatchTarget} of the entity.
+     * @param channel
+     *         The channel of the entity.
+     * @param startingAt
+     *         The starting time of the entity.
+     * @param firstEpisode
+     *         The first episode of the entity.
+     * @param episodeCount
+     *         The episode count of the entity.
+     * @param skipEnabled
+     *         Whether skips are enabled for the entity.
+     * @param <T>
+     *         Type of the {@link WatchTarget}.
+     */
+    public record Values<T extends WatchTarget>(
+            T watchTarget,
+            @Nullable String channel,
+            ZonedDateTime startingAt,
+            int firstEpisode,
+            int episodeCount,
+            boolean skipEnabled
+    ) {
+
+        /**
+         * Capture the current values of the provided {@link Planifiable}.
+         *
+         * @param planifiable
+         *         The {@link Planifiable} to capture.
+         * @param <T>
+         *         Type of the {@link WatchTarget}.
+         *
+         * @return The captured {@link Values}.
+         */
+        public static <T extends WatchTarget> Values<T> of(Planifiable<T> planifiable) {
+
+            return new Values<>(
+                    planifiable.getWatchTarget(),
+                    planifiable.getChannel(),
+                    planifiable.getStartingAt(),
+                    planifiable.getFirstEpisode(),
+                    planifiable.getEpisodeCount(),
+                    planifiable.isSkipEnabled()
+            );
+        }
+
+    }
+
+}
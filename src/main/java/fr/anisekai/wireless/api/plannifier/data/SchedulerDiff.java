@@ -0,0 +1,38 @@
+package fr.anisekai.wireless.api.plannifier.data;
+
+import fr.anisekai.wireless.api.plannifier.interfaces.entities.Planifiable;
+import fr.anisekai.wireless.api.plannifier.interfaces.entities.WatchTarget;
+
+import java.util.List;
+
+/**
+ * Represent the changes staged by a transaction, compared to the state it started from.
+ *
+ * @param created
+ *         The {@link StagedPlanifiable} that would be created. They do not have any origin entity.
+ * @param updated
+ *         The {@link StagedPlanifiable} that would be updated. Their origin entity holds the values before the update.
+ * @param deleted
+ *         The entities that would be deleted.
+ * @param <T>
+ *         Type of the {@link WatchTarget}.
+ * @param <E>
+ *         Type of the scheduled entities.
+ */
+public record SchedulerDiff<T extends WatchTarget, E extends Planifiable<T>>(
+        List<StagedPlanifiable<T, E>> created,
+        List<StagedPlanifiable<T, E>> updated,
+        List<E> deleted
+) {
+
+    /**
+     * Check if this {@link SchedulerDiff} does not contain any change.
+     *
+     * @return True if there is no change, false otherwise.
+     */
+    public boolean isEmpty() {
+
+        return this.created.isEmpty() && this.updated.isEmpty() && this.deleted.isEmpty();
+    }
+
+}
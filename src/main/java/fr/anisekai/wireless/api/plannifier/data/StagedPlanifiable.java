@@ -0,0 +1,175 @@
+package fr.anisekai.wireless.api.plannifier.data;
+
+import fr.anisekai.wireless.api.plannifier.interfaces.SchedulerManager;
+import fr.anisekai.wireless.api.plannifier.interfaces.entities.Planifiable;
+import fr.anisekai.wireless.api.plannifier.interfaces.entities.WatchTarget;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.ZonedDateTime;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Class representing a copy-on-write overlay of a {@link Planifiable} within a transaction. Until a value is modified, it is read
+ * from the origin entity; once modified, the new value is kept by the overlay and the origin entity is left untouched.
+ * <p>
+ * An overlay without origin entity represents a {@link Planifiable} that has not been commited to a {@link SchedulerManager}
+ * yet.
+ *
+ * @param <T>
+ *         Type of the {@link WatchTarget}.
+ * @param <E>
+ *         Type of the origin entity.
+ */
+public class StagedPlanifiable<T extends WatchTarget, E extends Planifiable<T>> implements Planifiable<T> {
+
+    private final @Nullable E             origin;
+    private final           T             target;
+    private final @Nullable String        channel;
+    private @Nullable       ZonedDateTime startingAt;
+    private @Nullable       Integer       firstEpisode;
+    private @Nullable       Integer       episodeCount;
+    private @Nullable       Boolean       skipEnabled;
+
+    private StagedPlanifiable(@Nullable E origin, T target, @Nullable String channel) {
+
+        this.origin  = origin;
+        this.target  = target;
+        this.channel = channel;
+    }
+
+    /**
+     * Create a {@link StagedPlanifiable} overlaying the provided entity.
+     *
+     * @param origin
+     *         The entity to overlay.
+     * @param <T>
+     *         Type of the {@link WatchTarget}.
+     * @param <E>
+     *         Type of the origin entity.
+     *
+     * @return A new {@link StagedPlanifiable}.
+     */
+    public static <T extends WatchTarget, E extends Planifiable<T>> StagedPlanifiable<T, E> of(@NotNull E origin) {
+
+        return new StagedPlanifiable<>(origin, origin.getWatchTarget(), origin.getChannel());
+    }
+
+    /**
+     * Create a {@link StagedPlanifiable} without origin entity, based on the provided {@link Planifiable}.
+     *
+     * @param planifiable
+     *         A {@link Planifiable}.
+     * @param <T>
+     *         Type of the {@link WatchTarget}.
+     * @param <E>
+     *         Type of the origin entity.
+     *
+     * @return A new {@link StagedPlanifiable}.
+     */
+    public static <T extends WatchTarget, E extends Planifiable<T>> StagedPlanifiable<T, E> detached(
+            @NotNull Planifiable<T> planifiable
+    ) {
+
+        StagedPlanifiable<T, E> staged = new StagedPlanifiable<>(null, planifiable.getWatchTarget(), planifiable.getChannel());
+        staged.startingAt   = planifiable.getStartingAt();
+        staged.firstEpisode = planifiable.getFirstEpisode();
+        staged.episodeCount = planifiable.getEpisodeCount();
+        staged.skipEnabled  = planifiable.isSkipEnabled();
+        return staged;
+    }
+
+    /**
+     * Retrieve the entity overlaid by this {@link StagedPlanifiable}.
+     *
+     * @return The origin entity, or an empty optional if this {@link StagedPlanifiable} has no origin.
+     */
+    public Optional<E> getOrigin() {
+
+        return Optional.ofNullable(this.origin);
+    }
+
+    /**
+     * Check if any value of this {@link StagedPlanifiable} differs from its origin entity. A {@link StagedPlanifiable} without
+     * origin is always considered as modified.
+     *
+     * @return True if modified, false otherwise.
+     */
+    public boolean isModified() {
+
+        if (this.origin == null) return true;
+
+        return !this.getStartingAt().isEqual(this.origin.getStartingAt()) ||
+                this.getFirstEpisode() != this.origin.getFirstEpisode() ||
+                this.getEpisodeCount() != this.origin.getEpisodeCount() ||
+                this.isSkipEnabled() != this.origin.isSkipEnabled();
+    }
+
+    @Override
+    public int getFirstEpisode() {
+
+        return this.firstEpisode == null ? Objects.requireNonNull(this.origin).getFirstEpisode() : this.firstEpisode;
+    }
+
+    @Override
+    public void setFirstEpisode(int firstEpisode) {
+
+        this.firstEpisode = firstEpisode;
+    }
+
+    @Override
+    public @NotNull T getWatchTarget() {
+
+        return this.target;
+    }
+
+    @Override
+    public void setWatchTarget(@NotNull T watchTarget) {
+
+        throw new UnsupportedOperationException("You cannot change the WatchTarget of a StagedPlanifiable");
+    }
+
+    @Override
+    public @Nullable String getChannel() {
+
+        return this.channel;
+    }
+
+    @Override
+    public @NotNull ZonedDateTime getStartingAt() {
+
+        return this.startingAt == null ? Objects.requireNonNull(this.origin).getStartingAt() : this.startingAt;
+    }
+
+    @Override
+    public void setStartingAt(@NotNull ZonedDateTime time) {
+
+        this.startingAt = time;
+    }
+
+    @Override
+    public int getEpisodeCount() {
+
+        return this.episodeCount == null ? Objects.requireNonNull(this.origin).getEpisodeCount() : this.episodeCount;
+    }
+
+    @Override
+    public void setEpisodeCount(int episodeCount) {
+
+        this.episodeCount = episodeCount;
+    }
+
+    @Override
+    public boolean isSkipEnabled() {
+
+        return this.skipEnabled == null ? Objects.requireNonNull(this.origin).isSkipEnabled() : this.skipEnabled;
+    }
+
+    @Override
+    public void setSkipEnabled(boolean skipEnabled) {
+
+        this.skipEnabled = skipEnabled;
+    }
+
+}
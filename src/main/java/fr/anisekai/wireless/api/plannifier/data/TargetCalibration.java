@@ -0,0 +1,21 @@
+package fr.anisekai.wireless.api.plannifier.data;
+
+import fr.anisekai.wireless.api.plannifier.interfaces.entities.WatchTarget;
+
+import java.time.Duration;
+
+/**
+ * Represent the calibration result of a single {@link WatchTarget}.
+ *
+ * @param target
+ *         The calibrated {@link WatchTarget}.
+ * @param updateCount
+ *         Number of events of the {@link WatchTarget} that has been updated.
+ * @param deleteCount
+ *         Number of events of the {@link WatchTarget} that has been removed.
+ * @param elapsed
+ *         Time spent computing the fixes for the {@link WatchTarget}, excluding persistence.
+ */
+public record TargetCalibration(WatchTarget target, int updateCount, int deleteCount, Duration elapsed) {
+
+}
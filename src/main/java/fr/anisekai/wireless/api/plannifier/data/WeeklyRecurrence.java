@@ -0,0 +1,49 @@
+package fr.anisekai.wireless.api.plannifier.data;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.time.ZoneId;
+
+/**
+ * Represent a weekly recurring slot, such as the weekly watch session of a simulcast.
+ *
+ * @param day
+ *         The {@link DayOfWeek} of the slot.
+ * @param time
+ *         The {@link LocalTime} at which the slot starts.
+ * @param zone
+ *         The {@link ZoneId} in which {@code day} and {@code time} are expressed.
+ * @param channel
+ *         The channel in which the slot takes place, or {@code null} for the default channel.
+ * @param episodes
+ *         The amount of episode watched in each slot.
+ * @param skipEnabled
+ *         True if intermediate openings and endings should be skipped, false otherwise.
+ * @param tolerance
+ *         How late a slot may start when its preferred time is already taken. It must be shorter than a week.
+ */
+public record WeeklyRecurrence(
+        DayOfWeek day,
+        LocalTime time,
+        ZoneId zone,
+        @Nullable String channel,
+        int episodes,
+        boolean skipEnabled,
+        Duration tolerance
+) {
+
+    public WeeklyRecurrence {
+
+        if (episodes <= 0) {
+            throw new IllegalArgumentException("The amount of episode per slot must be positive.");
+        }
+
+        if (tolerance.isNegative() || tolerance.compareTo(Duration.ofDays(7)) >= 0) {
+            throw new IllegalArgumentException("The tolerance must not be negative and must be shorter than a week.");
+        }
+    }
+
+}
@@ -1,6 +1,9 @@
 package fr.anisekai.wireless.api.plannifier.exceptions;
 
 import fr.anisekai.wireless.api.plannifier.interfaces.entities.Planifiable;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Optional;
 
 /**
  * Exception thrown when attempting to delay {@link Planifiable} in a way that would cause overlap with existing
@@ -11,6 +14,9 @@ import fr.anisekai.wireless.api.plannifier.interfaces.entities.Planifiable;
 
 public class DelayOverlapException extends RuntimeException implements FriendlyException {
 
+    private final transient Planifiable<?> delayed;
+    private final transient Planifiable<?> conflicting;
+
     /**
      * Creates a new {@code DelayOverlapException} with the specified detail message and cause.
      *
@@ -23,6 +29,8 @@ public class DelayOverlapException extends RuntimeException implements FriendlyE
     public DelayOverlapException(String message, Throwable cause) {
 
         super(message, cause);
+        this.delayed     = null;
+        this.conflicting = null;
     }
 
     /**
@@ -35,6 +43,45 @@ public class DelayOverlapException extends RuntimeException implements FriendlyE
     public DelayOverlapException(String message) {
 
         super(message);
+        this.delayed     = null;
+        this.conflicting = null;
+    }
+
+    /**
+     * Creates a new {@code DelayOverlapException} with the specified detail message and the events involved in the conflict.
+     *
+     * @param message
+     *         The detail message describing the cause of the exception
+     * @param delayed
+     *         The {@link Planifiable} that could not be delayed
+     * @param conflicting
+     *         The {@link Planifiable} that would have been overlapped once delayed
+     */
+    public DelayOverlapException(String message, @Nullable Planifiable<?> delayed, @Nullable Planifiable<?> conflicting) {
+
+        super(message);
+        this.delayed     = delayed;
+        this.conflicting = conflicting;
+    }
+
+    /**
+     * Retrieve the {@link Planifiable} that could not be delayed, if known.
+     *
+     * @return An optional {@link Planifiable}.
+     */
+    public Optional<Planifiable<?>> getDelayed() {
+
+        return Optional.ofNullable(this.delayed);
+    }
+
+    /**
+     * Retrieve the {@link Planifiable} that would have been overlapped by the delayed event, if known.
+     *
+     * @return An optional {@link Planifiable}.
+     */
+    public Optional<Planifiable<?>> getConflicting() {
+
+        return Optional.ofNullable(this.conflicting);
     }
 
     @Override
@@ -0,0 +1,56 @@
+package fr.anisekai.wireless.api.plannifier.exceptions;
+
+import fr.anisekai.wireless.api.plannifier.interfaces.ScheduleSpotData;
+import fr.anisekai.wireless.api.plannifier.interfaces.SchedulerManager;
+import fr.anisekai.wireless.api.plannifier.interfaces.entities.Planifiable;
+
+import java.util.List;
+
+/**
+ * Exception thrown by a {@link SchedulerManager} when a change is based on an outdated version of the persisted state, usually
+ * because another application instance modified the same entities in the meantime.
+ * <p>
+ * Schedulers catching it reload the neighbourhood of the conflicting {@link ScheduleSpotData} before retrying the operation.
+ */
+public class StaleStateException extends RuntimeException implements FriendlyException {
+
+    private final transient List<? extends ScheduleSpotData<?>> conflicts;
+
+    /**
+     * Creates a new {@code StaleStateException} with the specified detail message and the data involved in the conflict.
+     *
+     * @param message
+     *         The detail message describing the cause of the exception
+     * @param conflicts
+     *         The {@link Planifiable} (or {@link ScheduleSpotData} being created) whose persisted version did not match.
+     */
+    public StaleStateException(String message, List<? extends ScheduleSpotData<?>> conflicts) {
+
+        super(message);
+        this.conflicts = List.copyOf(conflicts);
+    }
+
+    /**
+     * Retrieve the {@link Planifiable} (or {@link ScheduleSpotData} being created) whose persisted version did not match, as they
+     * were known by the scheduler.
+     *
+     * @return A {@link List} of {@link ScheduleSpotData}.
+     */
+    public List<? extends ScheduleSpotData<?>> getConflicts() {
+
+        return this.conflicts;
+    }
+
+    @Override
+    public String getFriendlyMessage() {
+
+        return "Impossible de modifier le planning: Il a été modifié entre-temps, veuillez réessayer.";
+    }
+
+    @Override
+    public boolean mayBePublic() {
+
+        return true;
+    }
+
+}
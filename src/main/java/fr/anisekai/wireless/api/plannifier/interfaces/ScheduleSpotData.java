@@ -3,6 +3,7 @@ package fr.anisekai.wireless.api.plannifier.interfaces;
 import fr.anisekai.wireless.api.plannifier.interfaces.entities.Planifiable;
 import fr.anisekai.wireless.api.plannifier.interfaces.entities.WatchTarget;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.time.Duration;
 import java.time.ZonedDateTime;
@@ -34,6 +35,21 @@ public interface ScheduleSpotData<T extends WatchTarget> {
      */
     void setWatchTarget(@NotNull T watchTarget);
 
+    /**
+     * Retrieve the channel (or room) in which this {@link ScheduleSpotData} will take place. Overlap and merging rules only apply
+     * between {@link ScheduleSpotData} of the same channel, allowing several watch sessions to happen at once in different
+     * channels. Episode numbering is not affected and remains global to the {@link WatchTarget}.
+     * <p>
+     * The channel is never changed by a scheduler, and is expected to be kept by the {@link Planifiable} created from this
+     * {@link ScheduleSpotData}.
+     *
+     * @return The channel identifier, or {@code null} for the default channel.
+     */
+    default @Nullable String getChannel() {
+
+        return null;
+    }
+
     /**
      * Retrieve the {@link ZonedDateTime} at which this {@link ScheduleSpotData} will take place.
      *
@@ -109,12 +125,34 @@ public interface ScheduleSpotData<T extends WatchTarget> {
      */
     default @NotNull Duration getDuration() {
 
-        if (this.getEpisodeCount() == 1) return Duration.ofMinutes(this.getWatchTarget().getEpisodeDuration());
+        return Duration.ofMinutes(getRuntime(
+                this.getWatchTarget().getEpisodeDuration(),
+                this.getEpisodeCount(),
+                this.isSkipEnabled()
+        ));
+    }
+
+    /**
+     * Calculates the runtime of a session, following the rules of {@link #getDuration()}: if skipping is enabled and more than
+     * one episode is scheduled, the runtime is reduced by 3 minutes for each skipped episode.
+     *
+     * @param episodeDuration
+     *         The duration of a single episode, in minutes.
+     * @param episodeCount
+     *         The amount of episode watched during the session.
+     * @param skipEnabled
+     *         True if intermediate openings and endings are skipped, false otherwise.
+     *
+     * @return The runtime of the session, in minutes.
+     *
+     * @see #setSkipEnabled(boolean)
+     */
+    static int getRuntime(int episodeDuration, int episodeCount, boolean skipEnabled) {
 
-        int totalRuntime       = this.getWatchTarget().getEpisodeDuration() * this.getEpisodeCount();
-        int superfluousRuntime = this.isSkipEnabled() ? (this.getEpisodeCount() - 1) * 3 : 0;
+        int totalRuntime       = episodeDuration * episodeCount;
+        int superfluousRuntime = skipEnabled ? (episodeCount - 1) * 3 : 0;
 
-        return Duration.ofMinutes(totalRuntime - superfluousRuntime);
+        return totalRuntime - superfluousRuntime;
     }
 
 }
@@ -1,19 +1,33 @@
 package fr.anisekai.wireless.api.plannifier.interfaces;
 
+import fr.anisekai.wireless.api.plannifier.data.BulkScheduleResult;
 import fr.anisekai.wireless.api.plannifier.data.CalibrationResult;
+import fr.anisekai.wireless.api.plannifier.data.CompactionOptions;
+import fr.anisekai.wireless.api.plannifier.data.CompactionResult;
+import fr.anisekai.wireless.api.plannifier.exceptions.DelayOverlapException;
 import fr.anisekai.wireless.api.plannifier.interfaces.entities.Planifiable;
 import fr.anisekai.wireless.api.plannifier.interfaces.entities.WatchTarget;
+import org.jetbrains.annotations.Nullable;
 
 import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * Defines a generic scheduler capable of managing and orchestrating {@link Planifiable} entities over time for a given
  * {@link WatchTarget} type. A {@link  Scheduler} provides both querying and modification capabilities over a scheduled state,
  * including temporal navigation, validation, insertion, and recalibration of planned events.
+ * <p>
+ * Scheduled entities may be spread across several channels (see {@link ScheduleSpotData#getChannel()}): overlap and merging
+ * rules only apply within a channel, while queries span every channel and episode numbering remains global to each
+ * {@link WatchTarget}.
  *
  * @param <T>
  *         The type of {@link WatchTarget} being scheduled.
@@ -91,8 +105,70 @@ public interface Scheduler<T extends WatchTarget, I extends Planifiable<T>, E ex
     Optional<E> findNext(ZonedDateTime when, T target);
 
     /**
-     * Check whether the given {@link ScheduleSpotData} can be scheduled without overlapping existing state or violating
-     * constraints.
+     * Check in the current state for a {@link Planifiable} starting right after the provided {@link ZonedDateTime} while taking
+     * place in the provided channel.
+     *
+     * @param when
+     *         {@link ZonedDateTime} filtering all planifiable possible in the state.
+     * @param channel
+     *         The channel further filtering possible {@link Planifiable}, or {@code null} for the default channel.
+     *
+     * @return An optional {@link Planifiable}.
+     *
+     * @see ScheduleSpotData#getChannel()
+     */
+    Optional<E> findNextInChannel(ZonedDateTime when, @Nullable String channel);
+
+    /**
+     * Retrieve every {@link Planifiable} starting within the provided interval (both inclusive), in chronological order. Elements
+     * are read lazily from an ordered index: neither the whole state nor the result is materialised or sorted.
+     * <p>
+     * The returned {@link Stream} is backed by the current state, which must not be modified while it is being consumed.
+     *
+     * @param from
+     *         {@link ZonedDateTime} defining the start of the interval.
+     * @param to
+     *         {@link ZonedDateTime} defining the end of the interval.
+     *
+     * @return An ordered {@link Stream} of {@link Planifiable}.
+     */
+    Stream<E> findBetween(ZonedDateTime from, ZonedDateTime to);
+
+    /**
+     * Iterate over every {@link Planifiable} starting at or after the provided {@link ZonedDateTime}, in chronological order.
+     * Elements are read lazily from an ordered index, allowing to stop as soon as enough {@link Planifiable} have been read.
+     * <p>
+     * The returned {@link Iterator} is backed by the current state, which must not be modified while it is being consumed.
+     *
+     * @param when
+     *         {@link ZonedDateTime} from which {@link Planifiable} should be iterated.
+     *
+     * @return An ordered {@link Iterator} of {@link Planifiable}.
+     */
+    Iterator<E> iterateFrom(ZonedDateTime when);
+
+    /**
+     * Compute how many episodes of the provided {@link WatchTarget} remain to be scheduled: episodes that are neither watched nor
+     * already scheduled. Estimated totals (negative values) are used as-is.
+     *
+     * @param target
+     *         The {@link WatchTarget} for which remaining episodes should be counted.
+     *
+     * @return The amount of episode remaining to be scheduled.
+     */
+    default int getRemainingEpisodes(T target) {
+
+        int progression = this.findPrevious(LocalDateTime.MAX.atZone(ZoneOffset.UTC), target)
+                              .map(Planifiable::getLastEpisode)
+                              .map(last -> Math.max(last, target.getWatched()))
+                              .orElseGet(target::getWatched);
+
+        return Math.max(0, Math.abs(target.getTotal()) - progression);
+    }
+
+    /**
+     * Check whether the given {@link ScheduleSpotData} can be scheduled without overlapping existing state of its channel or
+     * violating constraints.
      *
      * @param spot
      *         {@link ScheduleSpotData} to validate for schedulability.
@@ -101,6 +177,64 @@ public interface Scheduler<T extends WatchTarget, I extends Planifiable<T>, E ex
      */
     boolean canSchedule(ScheduleSpotData<T> spot);
 
+    /**
+     * Find the earliest starting time of each gap within the provided interval where the provided {@link ScheduleSpotData} could
+     * be scheduled, in chronological order. The starting time of the {@link ScheduleSpotData} is ignored, only its duration and
+     * channel are used.
+     *
+     * @param from
+     *         {@link ZonedDateTime} defining the start of the interval.
+     * @param to
+     *         {@link ZonedDateTime} defining the end of the interval. Candidates must end no later than this.
+     * @param template
+     *         {@link ScheduleSpotData} to find a place for.
+     * @param limit
+     *         The maximum amount of candidates to return.
+     *
+     * @return A {@link List} of candidate starting times.
+     *
+     * @see #findAvailableSlots(ZonedDateTime, ZonedDateTime, ScheduleSpotData, Duration, int)
+     */
+    default List<ZonedDateTime> findAvailableSlots(
+            ZonedDateTime from,
+            ZonedDateTime to,
+            ScheduleSpotData<T> template,
+            int limit
+    ) {
+
+        return this.findAvailableSlots(from, to, template, null, limit);
+    }
+
+    /**
+     * Find every starting time within the provided interval where the provided {@link ScheduleSpotData} could be scheduled, in
+     * chronological order. The starting time of the {@link ScheduleSpotData} is ignored, only its duration and channel are used.
+     * <p>
+     * When a grid is provided, candidates are aligned on it, counting from midnight of each day in the time zone of
+     * {@code from}, and every aligned starting time of each gap is returned. Otherwise, only the earliest starting time of each
+     * gap is returned.
+     *
+     * @param from
+     *         {@link ZonedDateTime} defining the start of the interval.
+     * @param to
+     *         {@link ZonedDateTime} defining the end of the interval. Candidates must end no later than this.
+     * @param template
+     *         {@link ScheduleSpotData} to find a place for.
+     * @param grid
+     *         {@link Duration} on which candidates should be aligned (every 15 minutes for example), or {@code null} to disable
+     *         alignment.
+     * @param limit
+     *         The maximum amount of candidates to return.
+     *
+     * @return A {@link List} of candidate starting times, expressed in the time zone of {@code from}.
+     */
+    List<ZonedDateTime> findAvailableSlots(
+            ZonedDateTime from,
+            ZonedDateTime to,
+            ScheduleSpotData<T> template,
+            @Nullable Duration grid,
+            int limit
+    );
+
     /**
      * Schedule the provided {@link ScheduleSpotData} within this {@link Scheduler}. This will automatically update its internal
      * state.
@@ -112,6 +246,21 @@ public interface Scheduler<T extends WatchTarget, I extends Planifiable<T>, E ex
      */
     E schedule(ScheduleSpotData<T> spot);
 
+    /**
+     * Schedule all the provided {@link ScheduleSpotData} within this {@link Scheduler} in one operation. Spots are processed in
+     * chronological order, following the same overlap and merging rules as {@link #schedule(ScheduleSpotData)}, but every change
+     * is sent to the {@link SchedulerManager} in batch once all spots have been processed.
+     * <p>
+     * Unlike {@link #schedule(ScheduleSpotData)}, a spot that cannot be scheduled does not throw: it is reported as rejected in
+     * the returned {@link BulkScheduleResult}.
+     *
+     * @param spots
+     *         {@link ScheduleSpotData} to use as source for scheduling data.
+     *
+     * @return A {@link BulkScheduleResult} reporting which spots were created, merged or rejected.
+     */
+    BulkScheduleResult<T, E> scheduleAll(Collection<? extends ScheduleSpotData<T>> spots);
+
     // </editor-fold>
 
     // <editor-fold desc="State Actions">
@@ -128,19 +277,73 @@ public interface Scheduler<T extends WatchTarget, I extends Planifiable<T>, E ex
      *         {@link Duration} defining the length of the delay to apply to every matching {@link Planifiable}.
      *
      * @return All updated entities.
+     *
+     * @throws DelayOverlapException
+     *         If one of the delayed {@link Planifiable} would overlap another one. The exception holds both events involved.
      */
     List<E> delay(ZonedDateTime from, Duration interval, Duration delay);
 
     /**
-     * Reprocesses all scheduled entities to ensure episode counts and durations are consistent. This process may trim or adjust
+     * Compact every {@link Planifiable} starting within the provided interval (both inclusive), in a single chronological pass
+     * over each channel. Consecutive {@link Planifiable} of the same {@link WatchTarget} close enough to be merged when
+     * scheduled, and sharing the same {@link Planifiable#isSkipEnabled()} setting, are merged into the first one, and, if
+     * requested by the {@link CompactionOptions}, each {@link Planifiable} is pulled forward to close the gap with the previous
+     * one of its channel.
+     * <p>
+     * Events are never moved before the first {@link Planifiable} of their channel within the interval, and never past their
+     * current starting time, so compaction cannot introduce any overlap. Every change is sent to the {@link SchedulerManager} in
+     * batch, and episode numbering is left to the next {@link #calibrate()}.
+     *
+     * @param from
+     *         {@link ZonedDateTime} defining the start of the interval.
+     * @param to
+     *         {@link ZonedDateTime} defining the end of the interval.
+     * @param options
+     *         {@link CompactionOptions} defining how the interval should be compacted.
+     *
+     * @return A {@link CompactionResult} listing the updated and deleted entities.
+     */
+    CompactionResult<T, E> compact(ZonedDateTime from, ZonedDateTime to, CompactionOptions options);
+
+    /**
+     * Reprocesses scheduled entities to ensure episode counts and durations are consistent. This process may trim or adjust
      * entries that are misaligned or redundant.
      * <p>
+     * Only the entities that may be misaligned are processed: those of a {@link WatchTarget} whose progress changed since the
+     * last calibration, those scheduled, merged or delayed since then (from the earliest change onward), and those of a
+     * {@link WatchTarget} explicitly passed to {@link #invalidate(WatchTarget)}.
+     * <p>
      * Existing events will not be merged.
      *
      * @return A {@link CalibrationResult} summarizing the number of updates and deletions performed.
      */
     CalibrationResult calibrate();
 
+    /**
+     * Reprocesses the scheduled entities of the provided {@link WatchTarget}, following the same rules as {@link #calibrate()}.
+     *
+     * @param target
+     *         The {@link WatchTarget} to calibrate.
+     *
+     * @return A {@link CalibrationResult} summarizing the number of updates and deletions performed.
+     */
+    CalibrationResult calibrate(T target);
+
+    /**
+     * Mark every scheduled entity of the provided {@link WatchTarget} as requiring calibration, and refresh their position in
+     * the indexes of this {@link Scheduler}. This should be used when entities have been modified outside this
+     * {@link Scheduler}, as such changes cannot be tracked.
+     * <p>
+     * Durations are always checked against the current episode count, skip setting and episode duration of each entity, so
+     * changing them outside this {@link Scheduler} is immediately taken into account when checking overlaps. Starting times are
+     * not: an entity moved outside this {@link Scheduler} keeps being looked up at its previous starting time until its
+     * {@link WatchTarget} is invalidated. Episode numbering is only fixed by the next calibration in both cases.
+     *
+     * @param target
+     *         The {@link WatchTarget} to invalidate.
+     */
+    void invalidate(T target);
+
     // </editor-fold>
 
 }
@@ -1,16 +1,24 @@
 package fr.anisekai.wireless.api.plannifier.interfaces;
 
+import fr.anisekai.wireless.api.plannifier.exceptions.StaleStateException;
 import fr.anisekai.wireless.api.plannifier.interfaces.entities.Planifiable;
 import fr.anisekai.wireless.api.plannifier.interfaces.entities.WatchTarget;
 
-import java.util.List;
+import java.time.ZonedDateTime;
+import java.util.*;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * Defines the contract for handling persistence and updates of scheduled entities within a {@link Scheduler}.
  * <p>
  * This interface acts as a bridge between the scheduler logic and the underlying data store, allowing CRUD-like operations to be
  * abstracted and decoupled from the scheduling implementation.
+ * <p>
+ * When several application instances modify the same persisted state, implementations may check a version stamp on each
+ * operation and throw a {@link StaleStateException} on mismatch. Such implementations must also override
+ * {@link #reload(List, ZonedDateTime, ZonedDateTime)}, which is used to refresh the conflicting part of the state before the
+ * operation is retried.
  *
  * @param <T>
  *         The type of the {@link WatchTarget} associated with the planifiable elements.
@@ -32,6 +40,22 @@ public interface SchedulerManager<T extends WatchTarget, I extends Planifiable<T
      */
     E create(Planifiable<T> planifiable);
 
+    /**
+     * Creates multiple persisted entities in batch based on the provided {@link Planifiable} data.
+     * <p>
+     * The default implementation calls {@link #create(Planifiable)} for each item; implementations backed by a database should
+     * override it to save everything in one round-trip.
+     *
+     * @param planifiables
+     *         The non-persisted planifiable data to create the entities from.
+     *
+     * @return The persisted entities, in the same order as the provided {@link Planifiable}.
+     */
+    default List<E> createAll(List<Planifiable<T>> planifiables) {
+
+        return planifiables.stream().map(this::create).toList();
+    }
+
     /**
      * Updates a single persisted entity using the provided update hook.
      * <p>
@@ -61,6 +85,29 @@ public interface SchedulerManager<T extends WatchTarget, I extends Planifiable<T
      */
     List<E> updateAll(List<E> entities, Consumer<I> updateHook);
 
+    /**
+     * Updates multiple persisted entities in batch, each one using its own update hook.
+     * <p>
+     * Each update hook only relies on the values it captured, and can therefore be applied on any instance representing the
+     * same persisted entity, such as a freshly loaded copy. The default implementation calls
+     * {@link #updateAll(List, Consumer)} once for each group of entities sharing the same update hook instance;
+     * implementations backed by a database should override it to save everything in one round-trip.
+     *
+     * @param updates
+     *         The update hook of each entity to update.
+     *
+     * @return The updated entities, grouped by update hook.
+     */
+    default List<E> updateEach(Map<E, Consumer<I>> updates) {
+
+        Map<Consumer<I>, List<E>> groups = new LinkedHashMap<>();
+        updates.forEach((entity, hook) -> groups.computeIfAbsent(hook, key -> new ArrayList<>()).add(entity));
+
+        List<E> updated = new ArrayList<>(updates.size());
+        groups.forEach((hook, entities) -> updated.addAll(this.updateAll(entities, hook)));
+        return updated;
+    }
+
     /**
      * Deletes a scheduled entity from the underlying persistence layer.
      *
@@ -71,4 +118,96 @@ public interface SchedulerManager<T extends WatchTarget, I extends Planifiable<T
      */
     boolean delete(E entity);
 
+    /**
+     * Deletes multiple scheduled entities in batch from the underlying persistence layer.
+     * <p>
+     * The default implementation calls {@link #delete(Planifiable)} for each entity; implementations backed by a database should
+     * override it to delete everything in one round-trip.
+     *
+     * @param entities
+     *         The entities to delete.
+     *
+     * @return True if every deletion was successful, false otherwise.
+     */
+    default boolean deleteAll(List<E> entities) {
+
+        boolean success = true;
+        for (E entity : entities) {
+            success &= this.delete(entity);
+        }
+        return success;
+    }
+
+    /**
+     * Persist every change this {@link SchedulerManager} may have deferred. A {@link Scheduler} calls it once it sent every
+     * change of an operation, within the same {@link #atomically(Supplier)} unit.
+     * <p>
+     * The default implementation does nothing, as changes are expected to be persisted as soon as they are requested.
+     */
+    default void flush() {
+
+    }
+
+    /**
+     * Run the provided work as a single unit. A {@link Scheduler} sends every change of an operation within one unit, and only
+     * applies them to its state once the unit succeeded.
+     * <p>
+     * Implementations backed by a database should run the work within one transaction, rolling back every change saved by the
+     * work if it fails, a {@link StaleStateException} in particular: the operation is then retried from its start, and any
+     * change kept from the failed attempt would be saved twice or contradict the reloaded state.
+     * <p>
+     * The default implementation simply runs the work. A failure midway then keeps the changes saved before it; to limit the
+     * damage, deletions are always sent first, so that an event extended over a deleted neighbour is never saved while that
+     * neighbour still exists.
+     *
+     * @param work
+     *         The work to run.
+     * @param <R>
+     *         Type of the work result.
+     *
+     * @return The work result.
+     */
+    default <R> R atomically(Supplier<R> work) {
+
+        return work.get();
+    }
+
+    /**
+     * Retrieve a stamp identifying the current version of the persisted state, which must change each time an entity or a
+     * {@link WatchTarget} is created, modified or deleted (a sequence or the latest modification time for example). It is used
+     * to check that a scheduler snapshot is still up-to-date before using it.
+     * <p>
+     * The default implementation returns an empty value, meaning that snapshots can't be validated and will never be used.
+     *
+     * @return The version of the persisted state, if supported.
+     */
+    default OptionalLong getStateVersion() {
+
+        return OptionalLong.empty();
+    }
+
+    /**
+     * Reload the persisted version of the provided entities, along with every persisted entity starting within the provided
+     * interval (both inclusive), in one round-trip. Entities that no longer exist are omitted.
+     * <p>
+     * This is used after a {@link StaleStateException} to refresh only the neighbourhood of the conflict. The default
+     * implementation throws, as implementations not checking versions never need to reload anything.
+     *
+     * @param entities
+     *         The entities known by the scheduler within the interval.
+     * @param from
+     *         {@link ZonedDateTime} defining the start of the interval.
+     * @param to
+     *         {@link ZonedDateTime} defining the end of the interval.
+     *
+     * @return The up-to-date entities.
+     *
+     * @throws UnsupportedOperationException
+     *         If this {@link SchedulerManager} does not check versions.
+     */
+    default List<E> reload(List<E> entities, ZonedDateTime from, ZonedDateTime to) {
+
+        throw new UnsupportedOperationException("This manager does not support reloading entities.");
+    }
+
 }
@@ -0,0 +1,69 @@
+package fr.anisekai.wireless.api.plannifier.interfaces;
+
+import fr.anisekai.wireless.api.plannifier.interfaces.entities.Planifiable;
+import fr.anisekai.wireless.api.plannifier.interfaces.entities.WatchTarget;
+
+/**
+ * Defines how {@link WatchTarget} and entities are identified within a scheduler snapshot, and how they are rebuilt when the
+ * snapshot is read back.
+ * <p>
+ * Only the values used for scheduling are stored in a snapshot. Rebuilt instances are expected to be detached stand-ins of the
+ * persisted ones, carrying their identifier so that they can be reconciled with the persistence layer later on.
+ *
+ * @param <T>
+ *         The type of {@link WatchTarget} being scheduled.
+ * @param <E>
+ *         The entity type being scheduled.
+ */
+public interface SnapshotCodec<T extends WatchTarget, E extends Planifiable<T>> {
+
+    /**
+     * Retrieve the identifier of the provided {@link WatchTarget}.
+     *
+     * @param target
+     *         The {@link WatchTarget}.
+     *
+     * @return The identifier of the {@link WatchTarget}.
+     */
+    long getTargetId(T target);
+
+    /**
+     * Retrieve the identifier of the provided entity.
+     *
+     * @param entity
+     *         The entity.
+     *
+     * @return The identifier of the entity.
+     */
+    long getEntityId(E entity);
+
+    /**
+     * Rebuild a {@link WatchTarget} from the values stored in a snapshot. This is called once per {@link WatchTarget}, and the
+     * same instance is shared by every entity referencing it.
+     *
+     * @param id
+     *         The identifier of the {@link WatchTarget}.
+     * @param watched
+     *         The value of {@link WatchTarget#getWatched()}.
+     * @param total
+     *         The value of {@link WatchTarget#getTotal()}.
+     * @param episodeDuration
+     *         The value of {@link WatchTarget#getEpisodeDuration()}.
+     *
+     * @return The rebuilt {@link WatchTarget}.
+     */
+    T restoreTarget(long id, int watched, int total, int episodeDuration);
+
+    /**
+     * Rebuild an entity from the values stored in a snapshot.
+     *
+     * @param id
+     *         The identifier of the entity.
+     * @param values
+     *         A {@link Planifiable} holding the values of the entity, with its {@link WatchTarget} already rebuilt.
+     *
+     * @return The rebuilt entity.
+     */
+    E restoreEntity(long id, Planifiable<T> values);
+
+}
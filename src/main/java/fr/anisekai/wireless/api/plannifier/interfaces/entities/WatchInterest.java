@@ -0,0 +1,26 @@
+package fr.anisekai.wireless.api.plannifier.interfaces.entities;
+
+/**
+ * Represents the interest expressed by someone for a {@link WatchTarget}, used to decide what is worth being scheduled.
+ *
+ * @param <T>
+ *         The type of {@link WatchTarget} associated with this interest.
+ */
+public interface WatchInterest<T extends WatchTarget> {
+
+    /**
+     * Retrieve the {@link WatchTarget} to which this {@link WatchInterest} is associated.
+     *
+     * @return A {@link WatchTarget}.
+     */
+    T getWatchTarget();
+
+    /**
+     * Retrieve the level of this {@link WatchInterest}. Positive values express an interest, negative values express a lack of
+     * interest.
+     *
+     * @return A level.
+     */
+    byte getLevel();
+
+}
@@ -3,11 +3,15 @@ package fr.anisekai.wireless.api.services;
 import fr.alexpado.lib.rest.RestAction;
 import fr.alexpado.lib.rest.exceptions.RestException;
 import fr.alexpado.lib.rest.interfaces.IRestAction;
-import fr.anisekai.wireless.api.json.AnisekaiArray;
 import fr.anisekai.wireless.api.json.AnisekaiJson;
+import fr.anisekai.wireless.api.json.stream.JsonBinder;
+import fr.anisekai.wireless.api.json.stream.JsonReader;
 import fr.anisekai.wireless.api.services.packets.TransmissionAuthPacket;
-import fr.anisekai.wireless.api.services.packets.TransmissionCustomPacket;
+import fr.anisekai.wireless.api.services.packets.TransmissionBoundPacket;
+import org.jetbrains.annotations.Nullable;
+import org.json.JSONException;
 
+import java.io.IOException;
 import java.util.*;
 
 /**
@@ -151,6 +155,113 @@ public class Transmission {
             return new Torrent(hash, status, downloadDir, percentDone, files);
         }
 
+        /**
+         * Creates a {@link Torrent} instance by streaming a Transmission torrent object from the provided {@link JsonReader}.
+         * Only the keys read by {@link #of(AnisekaiJson)} are decoded; every other value is skipped.
+         *
+         * @param reader
+         *         The {@link JsonReader} positioned before the JSON object containing torrent information.
+         *
+         * @return A new {@link Torrent} instance populated with data read from the given {@link JsonReader}.
+         *
+         * @throws IOException
+         *         If the underlying source could not be read.
+         * @throws JSONException
+         *         If one of the expected keys is missing.
+         */
+        public static Torrent of(JsonReader reader) throws IOException {
+
+            String        hash        = null;
+            TorrentStatus status      = null;
+            String        downloadDir = null;
+            Double        percentDone = null;
+            List<String>  files       = null;
+
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "hashString" -> hash = reader.nextString();
+                    case "status" -> status = TorrentStatus.from(reader.nextInt());
+                    case "downloadDir" -> downloadDir = reader.nextString();
+                    case "percentDone" -> percentDone = reader.nextDouble();
+                    case "files" -> files = reader.readList(Torrent::readFileName);
+                    default -> reader.skipValue();
+                }
+            }
+            reader.endObject();
+
+            return new Torrent(
+                    required(hash, "hashString"),
+                    required(status, "status"),
+                    required(downloadDir, "downloadDir"),
+                    required(percentDone, "percentDone"),
+                    required(files, "files")
+            );
+        }
+
+        private static String readFileName(JsonReader reader) throws IOException {
+
+            String name = null;
+
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if (reader.nextName().equals("name")) {
+                    name = reader.nextString();
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+
+            return required(name, "files.name");
+        }
+
+        private static <T> T required(@Nullable T value, String key) {
+
+            if (value == null) throw new JSONException(String.format("[%s] not found.", key));
+            return value;
+        }
+
+    }
+
+    /**
+     * Response of a torrent-get request, read while the response body is streamed.
+     *
+     * @param result
+     *         The result reported by the transmission daemon, "success" if the request succeeded.
+     * @param torrents
+     *         The {@link Torrent}s returned by the transmission daemon.
+     */
+    private record TorrentResponse(@Nullable String result, List<Torrent> torrents) {
+
+        private static TorrentResponse of(JsonReader reader) throws IOException {
+
+            String        result   = null;
+            List<Torrent> torrents = Collections.emptyList();
+
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "result" -> result = reader.nextString();
+                    case "arguments" -> {
+                        reader.beginObject();
+                        while (reader.hasNext()) {
+                            if (reader.nextName().equals("torrents")) {
+                                torrents = reader.readList(Torrent::of);
+                            } else {
+                                reader.skipValue();
+                            }
+                        }
+                        reader.endObject();
+                    }
+                    default -> reader.skipValue();
+                }
+            }
+            reader.endObject();
+
+            return new TorrentResponse(result, torrents);
+        }
+
     }
 
     private final String endpoint;
@@ -185,7 +296,7 @@ public class Transmission {
      *
      * @return The query result.
      */
-    private AnisekaiJson send(IRestAction<AnisekaiJson> action) throws Exception {
+    private <T> T send(IRestAction<T> action) throws Exception {
 
         if (this.sessionId == null) {
             try {
@@ -227,7 +338,28 @@ public class Transmission {
      */
     private AnisekaiJson sendPacket(AnisekaiJson data) throws Exception {
 
-        return this.send(new TransmissionCustomPacket(this.endpoint, () -> this.sessionId, data));
+        return this.sendPacket(data, JsonReader::readJson);
+    }
+
+    /**
+     * Send the provided {@link AnisekaiJson} to the transmission daemon server, streaming the response through the provided
+     * {@link JsonBinder}.
+     *
+     * @param data
+     *         {@link AnisekaiJson} to send
+     * @param binder
+     *         The {@link JsonBinder} converting the response.
+     * @param <T>
+     *         Type of the converted response.
+     *
+     * @return The converted query response
+     *
+     * @throws Exception
+     *         Thrown if the query to the server fails.
+     */
+    private <T> T sendPacket(AnisekaiJson data, JsonBinder<T> binder) throws Exception {
+
+        return this.send(new TransmissionBoundPacket<>(this.endpoint, () -> this.sessionId, data, binder));
     }
 
     /**
@@ -267,19 +399,14 @@ public class Transmission {
             packetData.put("arguments.ids", hashes);
         }
 
-        AnisekaiJson response = this.sendPacket(packetData);
-        String       status   = response.getString("result");
+        TorrentResponse response = this.sendPacket(packetData, TorrentResponse::of);
+        String          status   = response.result();
 
-        if (!status.equals("success")) {
+        if (!"success".equals(status)) {
             throw new IllegalStateException("Transmission failed to query torrents: Response was " + status);
         }
 
-        AnisekaiJson  arguments  = response.readJson("arguments");
-        AnisekaiArray torrents   = arguments.readArray("torrents");
-        List<Torrent> torrentSet = new ArrayList<>();
-
-        torrents.forEachJson(json -> torrentSet.add(Torrent.of(json)));
-        return torrentSet;
+        return new ArrayList<>(response.torrents());
     }
 
     /**
@@ -0,0 +1,94 @@
+package fr.anisekai.wireless.api.services.packets;
+
+import fr.alexpado.lib.rest.RestAction;
+import fr.alexpado.lib.rest.enums.RequestMethod;
+import fr.alexpado.lib.rest.interfaces.IRestResponse;
+import fr.anisekai.wireless.api.json.AnisekaiJson;
+import fr.anisekai.wireless.api.json.stream.JsonBinder;
+import fr.anisekai.wireless.api.json.stream.JsonReader;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Custom implementation of a {@link RestAction} allowing to send a query request to a transmission daemon api.
+ * <p>
+ * The response body is streamed through a {@link JsonBinder}, so that large responses can be converted without being decoded
+ * into a {@link String} nor materialized into an {@link AnisekaiJson} first.
+ *
+ * @param <T>
+ *         Type of the converted response.
+ */
+public class TransmissionBoundPacket<T> extends RestAction<T> {
+
+    private final String           endpoint;
+    private final Supplier<String> sessionSupplier;
+    private final AnisekaiJson     json;
+    private final JsonBinder<T>    binder;
+
+    /**
+     * Create a new instance of this {@link TransmissionBoundPacket}
+     *
+     * @param rpc
+     *         The URL pointing to the RPC api.
+     * @param sessionSupplier
+     *         The {@link Supplier} allowing to retrieve the session id.
+     * @param json
+     *         The {@link AnisekaiJson} to send to the API.
+     * @param binder
+     *         The {@link JsonBinder} converting the response.
+     */
+    public TransmissionBoundPacket(String rpc, Supplier<String> sessionSupplier, AnisekaiJson json, JsonBinder<T> binder) {
+
+        this.endpoint        = rpc;
+        this.sessionSupplier = sessionSupplier;
+        this.json            = json;
+        this.binder          = binder;
+    }
+
+    @Override
+    public @NotNull RequestMethod getRequestMethod() {
+
+        return RequestMethod.POST;
+    }
+
+    @Override
+    public @NotNull String getRequestURL() {
+
+        return this.endpoint;
+    }
+
+    @Override
+    public @NotNull Map<String, String> getRequestHeaders() {
+
+        Map<String, String> headers = new HashMap<>();
+        headers.put("Content-Type", "application/json");
+        headers.put("X-Transmission-Session-Id", this.sessionSupplier.get());
+        return headers;
+    }
+
+    @Override
+    public @NotNull String getRequestBody() {
+
+        return this.json.toString();
+    }
+
+    @Override
+    public T convert(IRestResponse response) {
+
+        try (JsonReader reader = JsonReader.of(ByteBuffer.wrap(response.getBody()))) {
+            T result = this.binder.bind(reader);
+            reader.endDocument();
+            return result;
+        } catch (IOException e) {
+            // Not expected to happen as the body is already in memory.
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
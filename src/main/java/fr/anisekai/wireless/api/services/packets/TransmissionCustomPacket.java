@@ -1,23 +1,17 @@
 package fr.anisekai.wireless.api.services.packets;
 
 import fr.alexpado.lib.rest.RestAction;
-import fr.alexpado.lib.rest.enums.RequestMethod;
-import fr.alexpado.lib.rest.interfaces.IRestResponse;
 import fr.anisekai.wireless.api.json.AnisekaiJson;
-import org.jetbrains.annotations.NotNull;
+import fr.anisekai.wireless.api.json.stream.JsonReader;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.function.Supplier;
 
 /**
  * Custom implementation of a {@link RestAction} allowing to send a query request to a transmission daemon api.
+ *
+ * @see TransmissionBoundPacket
  */
-public class TransmissionCustomPacket extends RestAction<AnisekaiJson> {
-
-    private final String           endpoint;
-    private final Supplier<String> sessionSupplier;
-    private final AnisekaiJson     json;
+public class TransmissionCustomPacket extends TransmissionBoundPacket<AnisekaiJson> {
 
     /**
      * Create a new instance of this {@link TransmissionCustomPacket}
@@ -31,42 +25,7 @@ public class TransmissionCustomPacket extends RestAction<AnisekaiJson> {
      */
     public TransmissionCustomPacket(String rpc, Supplier<String> sessionSupplier, AnisekaiJson json) {
 
-        this.endpoint        = rpc;
-        this.sessionSupplier = sessionSupplier;
-        this.json            = json;
-    }
-
-    @Override
-    public @NotNull RequestMethod getRequestMethod() {
-
-        return RequestMethod.POST;
-    }
-
-    @Override
-    public @NotNull String getRequestURL() {
-
-        return this.endpoint;
-    }
-
-    @Override
-    public @NotNull Map<String, String> getRequestHeaders() {
-
-        Map<String, String> headers = new HashMap<>();
-        headers.put("Content-Type", "application/json");
-        headers.put("X-Transmission-Session-Id", this.sessionSupplier.get());
-        return headers;
-    }
-
-    @Override
-    public @NotNull String getRequestBody() {
-
-        return this.json.toString();
-    }
-
-    @Override
-    public AnisekaiJson convert(IRestResponse response) {
-
-        return new AnisekaiJson(new String(response.getBody()));
+        super(rpc, sessionSupplier, json, JsonReader::readJson);
     }
 
 }
@@ -1,6 +1,7 @@
 package fr.anisekai.wireless.remote.interfaces;
 
 import fr.anisekai.wireless.api.persistence.interfaces.Entity;
+import fr.anisekai.wireless.api.plannifier.interfaces.entities.WatchInterest;
 import fr.anisekai.wireless.remote.keys.InterestKey;
 import org.jetbrains.annotations.NotNull;
 
@@ -12,7 +13,7 @@ import org.jetbrains.annotations.NotNull;
  * @param <U>
  *         Type for the {@link UserEntity} implementation.
  */
-public interface InterestEntity<A extends AnimeEntity<U>, U extends UserEntity> extends Entity<InterestKey> {
+public interface InterestEntity<A extends AnimeEntity<U>, U extends UserEntity> extends Entity<InterestKey>, WatchInterest<A> {
 
     /**
      * Retrieve this {@link Entity} primary key.
@@ -55,11 +56,23 @@ public interface InterestEntity<A extends AnimeEntity<U>, U extends UserEntity>
      */
     void setAnime(@NotNull A anime);
 
+    /**
+     * Retrieve the {@link AnimeEntity} to which this {@link InterestEntity} is associated.
+     *
+     * @return An {@link AnimeEntity}.
+     */
+    @Override
+    default @NotNull A getWatchTarget() {
+
+        return this.getAnime();
+    }
+
     /**
      * Retrieve this {@link InterestEntity}'s level.
      *
      * @return A level.
      */
+    @Override
     byte getLevel();
 
     /**
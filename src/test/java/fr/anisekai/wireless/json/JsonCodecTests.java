@@ -0,0 +1,139 @@
+package fr.anisekai.wireless.json;
+
+import fr.anisekai.wireless.api.json.AnisekaiJson;
+import fr.anisekai.wireless.api.json.binding.JsonCodec;
+import fr.anisekai.wireless.api.json.binding.JsonProperty;
+import fr.anisekai.wireless.api.json.stream.JsonReader;
+import org.json.JSONException;
+import org.junit.jupiter.api.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+
+@DisplayName("JSON Codec")
+@Tags({@Tag("unit-test"), @Tag("json")})
+@TestMethodOrder(MethodOrderer.DisplayName.class)
+public class JsonCodecTests {
+
+    private static final String EPISODE = """
+            {
+              "id": 12,
+              "title": "Pilot",
+              "status": "AIRED",
+              "airedAt": "2025-01-10T21:30:00+01:00",
+              "source": {"name": "Show", "tags": {"Language": "ja"}},
+              "files": [{"name": "Show - 01.mkv", "size": 2048}],
+              "meta": {"rating": 4.5}
+            }
+            """;
+
+    public enum Status {
+        AIRED,
+        UPCOMING
+    }
+
+    public record Source(String name, Map<String, String> tags) {}
+
+    public record File(String name, long size) {}
+
+    public record Episode(
+            int id,
+            @JsonProperty(required = true) String title,
+            Status status,
+            ZonedDateTime airedAt,
+            Source source,
+            List<File> files,
+            @JsonProperty("meta.rating") Double rating,
+            String comment
+    ) {}
+
+    public static class Settings {
+
+        @JsonProperty("display.theme")
+        private String theme = "light";
+
+        @JsonProperty
+        private int volume;
+
+        private String ignored = "untouched";
+
+    }
+
+    @Test
+    @DisplayName("Codec | Decode record")
+    public void testDecodeRecord() {
+
+        Episode episode = JsonCodec.of(Episode.class).decode(new AnisekaiJson(EPISODE));
+
+        Assertions.assertEquals(12, episode.id());
+        Assertions.assertEquals("Pilot", episode.title());
+        Assertions.assertEquals(Status.AIRED, episode.status());
+        Assertions.assertEquals(ZonedDateTime.parse("2025-01-10T21:30:00+01:00"), episode.airedAt());
+        Assertions.assertEquals(new Source("Show", Map.of("Language", "ja")), episode.source());
+        Assertions.assertEquals(List.of(new File("Show - 01.mkv", 2048)), episode.files());
+        Assertions.assertEquals(4.5, episode.rating());
+        Assertions.assertNull(episode.comment());
+
+        Assertions.assertSame(JsonCodec.of(Episode.class), JsonCodec.of(Episode.class), "Codec not cached");
+    }
+
+    @Test
+    @DisplayName("Codec | Round trip")
+    public void testRoundTrip() throws IOException {
+
+        JsonCodec<Episode> codec   = JsonCodec.of(Episode.class);
+        Episode            episode = codec.decode(new AnisekaiJson(EPISODE));
+        AnisekaiJson       json    = codec.encode(episode);
+
+        Assertions.assertTrue(new AnisekaiJson(EPISODE).similar(json), "Encoded tree mismatch: " + json);
+        Assertions.assertEquals(episode, codec.decode(json));
+
+        JsonReader reader = JsonReader.of(ByteBuffer.wrap(EPISODE.getBytes(StandardCharsets.UTF_8)));
+        Assertions.assertEquals(episode, codec.binder().bind(reader));
+    }
+
+    @Test
+    @DisplayName("Codec | Annotated class")
+    public void testAnnotatedClass() {
+
+        JsonCodec<Settings> codec = JsonCodec.of(Settings.class);
+
+        Settings settings = codec.decode(new AnisekaiJson("{\"volume\": \"80\", \"ignored\": \"changed\"}"));
+        Assertions.assertEquals("light", settings.theme);
+        Assertions.assertEquals(80, settings.volume);
+        Assertions.assertEquals("untouched", settings.ignored);
+
+        settings.theme = "dark";
+        AnisekaiJson json = codec.encode(settings);
+        Assertions.assertEquals("dark", json.readString("display.theme"));
+        Assertions.assertEquals(80, json.readInteger("volume"));
+        Assertions.assertFalse(json.has("ignored"));
+    }
+
+    @Test
+    @DisplayName("Codec | Invalid values")
+    public void testInvalidValues() {
+
+        JsonCodec<Episode> codec = JsonCodec.of(Episode.class);
+
+        AnisekaiJson missing = new AnisekaiJson(EPISODE);
+        missing.remove("title");
+        Assertions.assertThrows(JSONException.class, () -> codec.decode(missing));
+
+        AnisekaiJson badEnum = new AnisekaiJson(EPISODE);
+        badEnum.put("status", "CANCELLED");
+        Assertions.assertThrows(JSONException.class, () -> codec.decode(badEnum));
+
+        AnisekaiJson badNested = new AnisekaiJson(EPISODE);
+        badNested.getJSONArray("files").getJSONObject(0).put("size", "big");
+        JSONException exception = Assertions.assertThrows(JSONException.class, () -> codec.decode(badNested));
+        Assertions.assertTrue(exception.getMessage().startsWith("[files] [size]"), exception.getMessage());
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> JsonCodec.of(Object.class));
+    }
+
+}
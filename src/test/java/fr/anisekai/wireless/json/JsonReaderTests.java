@@ -0,0 +1,171 @@
+package fr.anisekai.wireless.json;
+
+import fr.anisekai.wireless.api.json.AnisekaiJson;
+import fr.anisekai.wireless.api.json.stream.JsonReader;
+import fr.anisekai.wireless.api.json.stream.JsonToken;
+import fr.anisekai.wireless.api.services.Transmission;
+import org.json.JSONException;
+import org.junit.jupiter.api.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+@DisplayName("JSON Reader")
+@Tags({@Tag("unit-test"), @Tag("json")})
+@TestMethodOrder(MethodOrderer.DisplayName.class)
+public class JsonReaderTests {
+
+    private static final String TORRENTS = """
+            {
+              "arguments": {
+                "torrents": [
+                  {
+                    "downloadDir": "/downloads/anime",
+                    "files": [
+                      {"bytesCompleted": 1024, "length": 2048, "name": "Show - 01.mkv"},
+                      {"bytesCompleted": 0, "length": 2048, "name": "Show - 02 \\u00e9\\ud83d\\ude00.mkv"}
+                    ],
+                    "hashString": "a1b2c3",
+                    "name": "Show",
+                    "peers": [{"address": "127.0.0.1", "rate": 1.5e3}],
+                    "percentDone": 0.25,
+                    "status": 4
+                  }
+                ]
+              },
+              "result": "success"
+            }
+            """;
+
+    private static JsonReader reader(String json) {
+
+        return JsonReader.of(ByteBuffer.wrap(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * {@link InputStream} returning a single byte per read, forcing every token to be split across chunks.
+     */
+    private static InputStream trickle(String json) {
+
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)) {
+
+            @Override
+            public synchronized int read(byte[] b, int off, int len) {
+
+                return super.read(b, off, Math.min(len, 1));
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("Reader | Pull tokens")
+    public void testPullTokens() throws IOException {
+
+        JsonReader reader = reader("{\"text\": \"a\\n\\\"b\\\"\", \"values\": [-12, 3.5, 1e2, true, null], \"empty\": {}}");
+
+        reader.beginObject();
+        Assertions.assertEquals("text", reader.nextName());
+        Assertions.assertEquals("a\n\"b\"", reader.nextString());
+
+        Assertions.assertEquals("values", reader.nextName());
+        reader.beginArray();
+        Assertions.assertEquals(-12, reader.nextInt());
+        Assertions.assertEquals(3.5, reader.nextDouble());
+        Assertions.assertEquals(100, reader.nextLong());
+        Assertions.assertTrue(reader.nextBoolean());
+        Assertions.assertEquals(JsonToken.NULL, reader.peek());
+        reader.nextNull();
+        Assertions.assertFalse(reader.hasNext());
+        reader.endArray();
+
+        Assertions.assertEquals("empty", reader.nextName());
+        reader.beginObject();
+        Assertions.assertFalse(reader.hasNext());
+        reader.endObject();
+
+        reader.endObject();
+        Assertions.assertEquals(JsonToken.END_DOCUMENT, reader.peek());
+    }
+
+    @Test
+    @DisplayName("Reader | Materialize value")
+    public void testMaterialize() throws IOException {
+
+        AnisekaiJson expected = new AnisekaiJson(TORRENTS);
+
+        Assertions.assertTrue(expected.similar(reader(TORRENTS).readJson()), "Materialized tree mismatch");
+        Assertions.assertTrue(expected.similar(JsonReader.of(trickle(TORRENTS)).readJson()), "Chunked tree mismatch");
+    }
+
+    @Test
+    @DisplayName("Reader | Torrent binder")
+    public void testTorrentBinder() throws IOException {
+
+        Transmission.Torrent expected = Transmission.Torrent.of(new AnisekaiJson(TORRENTS).readJson("arguments.torrents.0"));
+
+        try (JsonReader reader = JsonReader.of(trickle(TORRENTS))) {
+            List<Transmission.Torrent> torrents = null;
+
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if (reader.nextName().equals("arguments")) {
+                    reader.beginObject();
+                    reader.nextName();
+                    torrents = reader.readList(Transmission.Torrent::of);
+                    reader.endObject();
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+            reader.endDocument();
+
+            Assertions.assertEquals(List.of(expected), torrents);
+            Assertions.assertEquals("Show - 02 é😀.mkv", torrents.getFirst().files().get(1));
+        }
+    }
+
+    @Test
+    @DisplayName("Reader | Large integers")
+    public void testLargeIntegers() throws IOException {
+
+        JsonReader reader = reader("""
+                [1234567890123456789, -9223372036854775808, "1234567890123456789", 1.5e3, 9223372036854775808]
+                """);
+        reader.beginArray();
+
+        Assertions.assertEquals(1234567890123456789L, reader.nextLong());
+        Assertions.assertEquals(Long.MIN_VALUE, reader.nextLong());
+        Assertions.assertEquals(1234567890123456789L, reader.nextLong());
+        Assertions.assertEquals(1500, reader.nextLong());
+        Assertions.assertThrows(JSONException.class, reader::nextLong);
+    }
+
+    @Test
+    @DisplayName("Reader | Malformed document")
+    public void testMalformedDocument() {
+
+        Assertions.assertThrows(JSONException.class, () -> reader("{\"a\": 1,}").skipValue());
+        Assertions.assertThrows(JSONException.class, () -> reader("[1 2]").readArray());
+        Assertions.assertThrows(JSONException.class, () -> reader("{\"a\": \"unterminated}").readJson());
+        JsonReader incomplete = reader("[{\"hashString\": \"a1\"}]");
+        Assertions.assertThrows(JSONException.class, () -> incomplete.readList(Transmission.Torrent::of));
+
+        JsonReader trailing = reader("{} {}");
+        Assertions.assertThrows(JSONException.class, () -> {
+            trailing.skipValue();
+            trailing.peek();
+        });
+
+        JsonReader unconsumed = reader("{\"a\": 1}");
+        Assertions.assertThrows(JSONException.class, () -> {
+            unconsumed.beginObject();
+            unconsumed.endDocument();
+        });
+    }
+
+}
@@ -2,14 +2,21 @@ package fr.anisekai.wireless.json;
 
 import fr.anisekai.wireless.api.json.AnisekaiArray;
 import fr.anisekai.wireless.api.json.AnisekaiJson;
+import fr.anisekai.wireless.api.json.JsonPath;
+import fr.anisekai.wireless.api.json.exceptions.JSONSchemaException;
 import fr.anisekai.wireless.api.json.exceptions.JSONValidationException;
 import fr.anisekai.wireless.api.json.validation.JsonArrayObjectRule;
 import fr.anisekai.wireless.api.json.validation.JsonArrayRule;
 import fr.anisekai.wireless.api.json.validation.JsonObjectRule;
 import fr.anisekai.wireless.api.json.validation.JsonRule;
+import fr.anisekai.wireless.api.json.validation.JsonSchema;
+import org.json.JSONArray;
+import org.json.JSONException;
 import org.json.JSONObject;
 import org.junit.jupiter.api.*;
 
+import java.util.List;
+
 @DisplayName("JSON")
 @Tags({@Tag("unit-test"), @Tag("json")})
 @TestMethodOrder(MethodOrderer.DisplayName.class)
@@ -44,6 +51,51 @@ public class JsonTests {
         Assertions.assertTrue(json.hasInTree("one.four"));
     }
 
+    @Test
+    @DisplayName("JSON | Path lookup")
+    public void testPathLookup() {
+
+        AnisekaiJson json = new AnisekaiJson("{\"torrents\": [{\"id\": 5, \"name\": null}], \"count\": 1}");
+
+        Assertions.assertSame(JsonPath.of("torrents.0.id"), JsonPath.of("torrents.0.id"));
+        Assertions.assertEquals(5, json.readInteger("torrents.0.id"));
+        Assertions.assertTrue(json.hasInTree("torrents.0.name"));
+
+        Assertions.assertTrue(json.getOptionalInteger("torrents.1.id").isEmpty());
+        Assertions.assertTrue(json.getOptionalInteger("torrents.first.id").isEmpty());
+        Assertions.assertTrue(json.getOptionalString("status.name").isEmpty());
+        Assertions.assertFalse(json.hasInTree("torrents.0.files"));
+
+        JSONException exception = Assertions.assertThrows(JSONException.class, () -> json.readString("torrents.2.name"));
+        Assertions.assertEquals("[torrents.2] not found.", exception.getMessage());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> json.readInteger("count.value"));
+    }
+
+    @Test
+    @DisplayName("JSON | Wrapping view")
+    public void testWrappingView() {
+
+        JSONObject file   = new JSONObject().put("name", "episode.mkv");
+        JSONArray  files  = new JSONArray().put(file);
+        JSONObject source = new JSONObject().put("files", files).put("id", 5);
+
+        AnisekaiJson view = AnisekaiJson.wrap(source);
+        Assertions.assertSame(view, AnisekaiJson.wrap(view));
+        Assertions.assertEquals(5, view.readInteger("id"));
+
+        AnisekaiArray array = view.readArray("files");
+        Assertions.assertSame(file, array.get(0), "Element has been copied");
+
+        AnisekaiJson item = array.getAnisekaiJson(0);
+        Assertions.assertSame(item, array.getAnisekaiJson(0), "Element has not been wrapped in place");
+
+        AnisekaiJson copy = view.deepCopy();
+        copy.readJson("files.0").put("name", "copy.mkv");
+
+        Assertions.assertEquals("episode.mkv", view.readString("files.0.name"));
+        Assertions.assertEquals("copy.mkv", copy.readString("files.0.name"));
+    }
+
     @Test
     @DisplayName("JSON Validation | JSON Object Rule")
     public void testJsonObjectRule() {
@@ -153,4 +205,86 @@ public class JsonTests {
         Assertions.assertThrows(JSONValidationException.class, () -> integerRule.validate(emptyArray));
     }
 
+    @Test
+    @DisplayName("JSON Validation | Compiled schema")
+    public void testCompiledSchema() {
+
+        JsonRule idRule = new JsonObjectRule("source.id", true, Integer.class);
+        JsonRule[] elementRules = {
+                new JsonObjectRule("string", true, String.class),
+                new JsonObjectRule("integer", true, Integer.class)
+        };
+
+        JsonSchema schema = JsonSchema.compile(
+                new JsonObjectRule("source.name", true, String.class),
+                idRule,
+                new JsonObjectRule("source.missing", true, String.class),
+                new JsonObjectRule("optional", false, String.class),
+                new JsonArrayObjectRule("items", true, false, elementRules),
+                new JsonArrayRule("tags", true, false, String.class)
+        );
+
+        AnisekaiJson valid = new AnisekaiJson("""
+                {
+                  "source": {"name": "Show", "id": 1, "missing": "here"},
+                  "items": [{"string": "a", "integer": 1}],
+                  "tags": ["a"]
+                }
+                """);
+
+        AnisekaiJson invalid = new AnisekaiJson("""
+                {
+                  "source": {"name": "Show", "id": "1"},
+                  "items": [{"string": "a", "integer": 1}, {"string": 2}],
+                  "tags": []
+                }
+                """);
+
+        Assertions.assertDoesNotThrow(() -> schema.validate(valid));
+        Assertions.assertDoesNotThrow(() -> schema.validateAll(valid));
+        Assertions.assertTrue(schema.check(valid).isEmpty());
+
+        // Same messages as the interpreted rules.
+        JSONValidationException expected = Assertions.assertThrows(JSONValidationException.class, () -> invalid.validate(idRule));
+        JSONValidationException first    = Assertions.assertThrows(JSONValidationException.class, () -> schema.validate(invalid));
+        Assertions.assertEquals(expected.getMessage(), first.getMessage());
+
+        List<JSONValidationException> violations = schema.check(invalid);
+        Assertions.assertEquals(5, violations.size());
+        Assertions.assertEquals(expected.getMessage(), violations.getFirst().getMessage());
+        Assertions.assertTrue(violations.get(2).getCause() instanceof JSONValidationException, "Element violation not wrapped");
+
+        JSONSchemaException aggregated = Assertions.assertThrows(
+                JSONSchemaException.class,
+                () -> schema.validateAll(invalid)
+        );
+        Assertions.assertEquals(5, aggregated.getViolations().size());
+
+        // A missing parent reports every required rule below it.
+        Assertions.assertEquals(5, schema.check(new AnisekaiJson("{\"source\": \"flat\"}")).size());
+    }
+
+    @Test
+    @DisplayName("JSON Validation | Compiled schema order")
+    public void testCompiledSchemaOrder() {
+
+        JsonRule[] rules = {
+                new JsonObjectRule("b.y", true, String.class),
+                new JsonObjectRule("a", true, String.class),
+                new JsonObjectRule("b.z", true, String.class)
+        };
+
+        JsonSchema   schema = JsonSchema.compile(rules);
+        AnisekaiJson json   = new AnisekaiJson("{\"b\": {\"y\": \"present\"}}");
+
+        JSONValidationException expected = Assertions.assertThrows(JSONValidationException.class, () -> json.validate(rules));
+        JSONValidationException first    = Assertions.assertThrows(JSONValidationException.class, () -> schema.validate(json));
+        Assertions.assertEquals(expected.getMessage(), first.getMessage());
+
+        List<JSONValidationException> violations = schema.check(json);
+        Assertions.assertEquals(2, violations.size());
+        Assertions.assertEquals(expected.getMessage(), violations.getFirst().getMessage());
+        Assertions.assertTrue(violations.get(1).getMessage().contains("b.z"), violations.get(1).getMessage());
+    }
+
 }
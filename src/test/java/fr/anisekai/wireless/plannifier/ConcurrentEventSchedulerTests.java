@@ -0,0 +1,122 @@
+package fr.anisekai.wireless.plannifier;
+
+import fr.anisekai.wireless.api.plannifier.ConcurrentEventScheduler;
+import fr.anisekai.wireless.plannifier.data.*;
+import org.junit.jupiter.api.*;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@DisplayName("ConcurrentScheduler")
+@Tags({@Tag("unit-test"), @Tag("event-scheduler")})
+@TestMethodOrder(MethodOrderer.DisplayName.class)
+public class ConcurrentEventSchedulerTests {
+
+    private ConcurrentEventScheduler<TestWatchTarget, TestWatchParty, TestWatchParty> scheduler;
+    private TestData                                                                  data;
+
+    @BeforeEach
+    public void setup() {
+
+        this.data      = new TestData();
+        this.scheduler = new ConcurrentEventScheduler<>(new TestManager(), this.data.dataBank());
+    }
+
+    @Test
+    @DisplayName("Concurrent Scheduler | Snapshot - Stable State")
+    public void testSnapshotStableState() {
+
+        Set<TestWatchParty> before  = this.scheduler.getState();
+        long                version = this.scheduler.getVersion();
+
+        TestWatchParty party = this.scheduler.schedule(new TestSpot(this.data.target2, TestData.BASE_DATETIME.plusDays(1), 1));
+
+        Assertions.assertEquals(3, before.size(), "Previous snapshot has been modified");
+        Assertions.assertFalse(before.contains(party), "Previous snapshot has been modified");
+        Assertions.assertTrue(this.scheduler.getState().contains(party), "Snapshot not published");
+        Assertions.assertEquals(version + 1, this.scheduler.getVersion(), "Version not incremented");
+        Assertions.assertEquals(party, this.scheduler.findNext(TestData.BASE_DATETIME.plusHours(1)).orElse(null));
+    }
+
+    @Test
+    @DisplayName("Concurrent Scheduler | Snapshot - Stable Iteration")
+    public void testSnapshotStableIteration() {
+
+        Iterator<TestWatchParty> iterator = this.scheduler.iterateFrom(TestData.BASE_DATETIME);
+        TestWatchParty           first    = iterator.next();
+
+        TestWatchParty party = this.scheduler.schedule(new TestSpot(this.data.target2, TestData.BASE_DATETIME.plusDays(1), 1));
+
+        List<TestWatchParty> remaining = new ArrayList<>();
+        iterator.forEachRemaining(remaining::add);
+
+        Assertions.assertEquals(2, remaining.size(), "Previous snapshot has been modified");
+        Assertions.assertFalse(remaining.contains(party), "Previous snapshot has been modified");
+        Assertions.assertFalse(remaining.contains(first), "Item iterated twice");
+    }
+
+    @Test
+    @DisplayName("Concurrent Scheduler | Snapshot - Configuration")
+    public void testSnapshotConfiguration() {
+
+        Set<TestWatchParty> before  = this.scheduler.getState();
+        long                version = this.scheduler.getVersion();
+
+        this.scheduler.setConflictRetries(0);
+        this.scheduler.setCalibrationPool(null);
+
+        Assertions.assertEquals(version, this.scheduler.getVersion(), "Version incremented without any write");
+        Assertions.assertSame(before, this.scheduler.getState(), "Snapshot published without any write");
+    }
+
+    @Test
+    @DisplayName("Concurrent Scheduler | Reads During Writes")
+    public void testReadsDuringWrites() throws Exception {
+
+        int             count   = 200;
+        ZonedDateTime   start   = TestData.BASE_DATETIME.plusDays(1);
+        AtomicBoolean   running = new AtomicBoolean(true);
+        ExecutorService pool    = Executors.newFixedThreadPool(4);
+
+        try {
+            List<Future<?>> readers = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                readers.add(pool.submit(() -> {
+                    while (running.get()) {
+                        this.scheduler.findNext(start);
+                        this.scheduler.findPrevious(start.plusDays(count), this.data.target2);
+                        this.scheduler.canSchedule(new TestSpot(this.data.target1, start.plusHours(12), 1));
+                        this.scheduler.getState().forEach(TestWatchParty::getStartingAt);
+                    }
+                    return null;
+                }));
+            }
+
+            Future<?> writer = pool.submit(() -> {
+                for (int i = 0; i < count; i++) {
+                    this.scheduler.schedule(new TestSpot(this.data.target2, start.plusDays(i), 1));
+                }
+                return null;
+            });
+
+            writer.get(30, TimeUnit.SECONDS);
+            running.set(false);
+
+            for (Future<?> reader : readers) {
+                Assertions.assertDoesNotThrow(() -> reader.get(30, TimeUnit.SECONDS), "A reader failed");
+            }
+        } finally {
+            running.set(false);
+            pool.shutdownNow();
+        }
+
+        Assertions.assertEquals(3 + count, this.scheduler.getState().size(), "State size mismatch");
+        Assertions.assertEquals(count, this.scheduler.getVersion(), "Version mismatch");
+    }
+
+}
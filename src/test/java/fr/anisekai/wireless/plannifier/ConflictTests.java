@@ -0,0 +1,252 @@
+package fr.anisekai.wireless.plannifier;
+
+import fr.anisekai.wireless.api.plannifier.EventScheduler;
+import fr.anisekai.wireless.api.plannifier.data.BulkScheduleResult;
+import fr.anisekai.wireless.api.plannifier.exceptions.StaleStateException;
+import fr.anisekai.wireless.api.plannifier.interfaces.entities.Planifiable;
+import fr.anisekai.wireless.plannifier.data.*;
+import org.junit.jupiter.api.*;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+@DisplayName("Conflicts")
+@Tags({@Tag("unit-test"), @Tag("event-scheduler")})
+@TestMethodOrder(MethodOrderer.DisplayName.class)
+public class ConflictTests {
+
+    private static TestWatchParty copy(Planifiable<TestWatchTarget> source, int id) {
+
+        TestWatchParty party = new TestWatchParty(
+                id,
+                source.getWatchTarget(),
+                source.getFirstEpisode(),
+                source.getStartingAt(),
+                source.getEpisodeCount(),
+                source.isSkipEnabled()
+        );
+        party.setChannel(source.getChannel());
+        return party;
+    }
+
+    /**
+     * Rows shared by every application instance, standing in for a database.
+     */
+    private static class Store {
+
+        private final Map<Integer, TestWatchParty> rows     = new HashMap<>();
+        private final Map<Integer, Integer>        versions = new HashMap<>();
+        private       int                          id       = 100;
+
+    }
+
+    /**
+     * Manager of a single application instance, checking the version of every row it modifies.
+     */
+    private static class InstanceManager extends TestManager {
+
+        private final Store                 store;
+        private final Map<Integer, Integer> known = new HashMap<>();
+        private       int                   reloads;
+
+        private InstanceManager(Store store) {
+
+            this.store = store;
+        }
+
+        private List<TestWatchParty> load() {
+
+            List<TestWatchParty> parties = new ArrayList<>();
+            this.store.rows.forEach((id, row) -> {
+                this.known.put(id, this.store.versions.get(id));
+                parties.add(copy(row, id));
+            });
+            return parties;
+        }
+
+        private void check(List<TestWatchParty> entities) {
+
+            List<TestWatchParty> conflicts = entities.stream()
+                                                     .filter(entity -> !Objects.equals(
+                                                             this.store.versions.get(entity.getId()),
+                                                             this.known.get(entity.getId())
+                                                     ))
+                                                     .toList();
+
+            if (!conflicts.isEmpty()) throw new StaleStateException("Outdated entities", conflicts);
+        }
+
+        private void save(TestWatchParty entity) {
+
+            int version = this.store.versions.merge(entity.getId(), 1, Integer::sum);
+            this.store.rows.put(entity.getId(), copy(entity, entity.getId()));
+            this.known.put(entity.getId(), version);
+        }
+
+        @Override
+        public TestWatchParty create(Planifiable<TestWatchTarget> planifiable) {
+
+            TestWatchParty party = copy(planifiable, ++this.store.id);
+            this.save(party);
+            return party;
+        }
+
+        @Override
+        public TestWatchParty update(TestWatchParty entity, Consumer<TestWatchParty> updateHook) {
+
+            return this.updateAll(List.of(entity), updateHook).getFirst();
+        }
+
+        @Override
+        public List<TestWatchParty> updateAll(List<TestWatchParty> entities, Consumer<TestWatchParty> updateHook) {
+
+            this.check(entities);
+            for (TestWatchParty entity : entities) {
+                TestWatchParty row = copy(entity, entity.getId());
+                updateHook.accept(row);
+                this.save(row);
+            }
+            return entities;
+        }
+
+        @Override
+        public boolean delete(TestWatchParty entity) {
+
+            this.check(List.of(entity));
+            this.store.rows.remove(entity.getId());
+            this.store.versions.remove(entity.getId());
+            return true;
+        }
+
+        @Override
+        public <R> R atomically(Supplier<R> work) {
+
+            Map<Integer, TestWatchParty> rows     = new HashMap<>(this.store.rows);
+            Map<Integer, Integer>        versions = new HashMap<>(this.store.versions);
+            Map<Integer, Integer>        known    = new HashMap<>(this.known);
+
+            try {
+                return work.get();
+            } catch (RuntimeException e) {
+                // Roll back every row saved within the unit, as a database transaction would.
+                this.store.rows.clear();
+                this.store.rows.putAll(rows);
+                this.store.versions.clear();
+                this.store.versions.putAll(versions);
+                this.known.clear();
+                this.known.putAll(known);
+                throw e;
+            }
+        }
+
+        @Override
+        public List<TestWatchParty> reload(List<TestWatchParty> entities, ZonedDateTime from, ZonedDateTime to) {
+
+            this.reloads++;
+
+            Set<Integer> ids = new HashSet<>();
+            entities.forEach(entity -> ids.add(entity.getId()));
+
+            List<TestWatchParty> parties = new ArrayList<>();
+            this.store.rows.forEach((id, row) -> {
+                boolean inRange = !row.getStartingAt().isBefore(from) && !row.getStartingAt().isAfter(to);
+                if (ids.contains(id) || inRange) {
+                    this.known.put(id, this.store.versions.get(id));
+                    parties.add(copy(row, id));
+                }
+            });
+            return parties;
+        }
+
+    }
+
+    private TestData                                                        data;
+    private Store                                                           store;
+    private InstanceManager                                                 primaryManager;
+    private EventScheduler<TestWatchTarget, TestWatchParty, TestWatchParty> primary;
+    private EventScheduler<TestWatchTarget, TestWatchParty, TestWatchParty> secondary;
+
+    @BeforeEach
+    public void setup() {
+
+        this.data = new TestData();
+
+        this.store = new Store();
+        this.data.dataBank().forEach(party -> {
+            this.store.rows.put(party.getId(), copy(party, party.getId()));
+            this.store.versions.put(party.getId(), 1);
+        });
+
+        this.primaryManager = new InstanceManager(this.store);
+        this.primary        = new EventScheduler<>(this.primaryManager, this.primaryManager.load());
+
+        InstanceManager secondaryManager = new InstanceManager(this.store);
+        this.secondary = new EventScheduler<>(secondaryManager, secondaryManager.load());
+    }
+
+    @Test
+    @DisplayName("Conflict | Reload and Retry")
+    public void testReloadAndRetry() {
+
+        ZonedDateTime b2Time = this.data.partyB2.getStartingAt();
+
+        // The other instance moves B2 earlier, which the primary instance is not aware of.
+        this.secondary.delay(b2Time, Duration.ofHours(1), Duration.ofMinutes(-20));
+
+        // Based on its outdated state, the primary instance tries to merge this spot into B2.
+        TestSpot       spot  = new TestSpot(this.data.target1, this.data.partyB2.getEndingAt().plusMinutes(5), 1);
+        TestWatchParty party = this.primary.schedule(spot);
+
+        Assertions.assertEquals(1, this.primaryManager.reloads, "Conflict has not been reloaded");
+        Assertions.assertNotEquals(this.data.partyB2, party, "Spot has been merged into an outdated event");
+        Assertions.assertEquals(1, party.getEpisodeCount());
+
+        TestWatchParty b2 = this.primary.findPrevious(party.getStartingAt().minusSeconds(1)).orElseThrow();
+
+        Assertions.assertEquals(this.data.partyB2, b2, "Reloaded event not found");
+        Assertions.assertEquals(b2Time.minusMinutes(20), b2.getStartingAt(), "Event has not been reloaded");
+        Assertions.assertEquals(4, this.primary.getState().size(), "Unexpected state size");
+    }
+
+    @Test
+    @DisplayName("Conflict | Retries Exhausted")
+    public void testRetriesExhausted() {
+
+        ZonedDateTime b2Time = this.data.partyB2.getStartingAt();
+        this.secondary.delay(b2Time, Duration.ofHours(1), Duration.ofMinutes(-20));
+        this.primary.setConflictRetries(0);
+
+        TestSpot spot = new TestSpot(this.data.target1, this.data.partyB2.getEndingAt().plusMinutes(5), 1);
+
+        StaleStateException exception = Assertions.assertThrows(StaleStateException.class, () -> this.primary.schedule(spot));
+        Assertions.assertEquals(List.of(this.data.partyB2), exception.getConflicts(), "Unexpected conflicts");
+        Assertions.assertEquals(0, this.primaryManager.reloads, "Conflict has been reloaded");
+    }
+
+    @Test
+    @DisplayName("Conflict | Partial Commit Rolled Back")
+    public void testPartialCommitRolledBack() {
+
+        ZonedDateTime b1Time = this.data.partyB1.getStartingAt();
+
+        // The other instance moves B1 earlier: deleting B2 still succeeds, but extending B1 conflicts afterward.
+        this.secondary.delay(b1Time, Duration.ofHours(1), Duration.ofMinutes(-1));
+
+        TestSpot spot = new TestSpot(this.data.target1, this.data.partyB1.getEndingAt().plusMinutes(2), 1);
+        BulkScheduleResult<TestWatchTarget, TestWatchParty> result = this.primary.scheduleAll(List.of(spot));
+
+        Assertions.assertEquals(1, this.primaryManager.reloads, "Conflict has not been reloaded");
+        Assertions.assertEquals(BulkScheduleResult.Status.MERGED, result.outcomes().getFirst().status());
+
+        TestWatchParty b1 = this.store.rows.get(this.data.partyB1.getId());
+        Assertions.assertFalse(this.store.rows.containsKey(this.data.partyB2.getId()), "Absorbed event has been kept");
+        Assertions.assertEquals(5, b1.getEpisodeCount(), "Events of the rolled back attempt have been lost");
+        Assertions.assertEquals(b1Time.minusMinutes(1), b1.getStartingAt(), "Reloaded position has been overwritten");
+        Assertions.assertEquals(2, this.store.rows.size(), "Unexpected persisted state");
+        Assertions.assertEquals(2, this.primary.getState().size(), "Unexpected state size");
+    }
+
+}
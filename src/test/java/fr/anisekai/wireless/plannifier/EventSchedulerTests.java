@@ -1,19 +1,37 @@
 package fr.anisekai.wireless.plannifier;
 
+import fr.anisekai.wireless.api.plannifier.BatchingSchedulerManager;
 import fr.anisekai.wireless.api.plannifier.EventScheduler;
+import fr.anisekai.wireless.api.plannifier.SchedulerTransaction;
+import fr.anisekai.wireless.api.plannifier.data.BulkScheduleResult;
 import fr.anisekai.wireless.api.plannifier.data.CalibrationResult;
+import fr.anisekai.wireless.api.plannifier.data.CompactionOptions;
+import fr.anisekai.wireless.api.plannifier.data.CompactionResult;
+import fr.anisekai.wireless.api.plannifier.data.SchedulerChange;
+import fr.anisekai.wireless.api.plannifier.data.SchedulerDiff;
+import fr.anisekai.wireless.api.plannifier.data.StagedPlanifiable;
+import fr.anisekai.wireless.api.plannifier.data.TargetCalibration;
 import fr.anisekai.wireless.plannifier.data.*;
 import fr.anisekai.wireless.api.plannifier.exceptions.DelayOverlapException;
 import fr.anisekai.wireless.api.plannifier.exceptions.NotSchedulableException;
 import fr.anisekai.wireless.api.plannifier.interfaces.ScheduleSpotData;
 import fr.anisekai.wireless.api.plannifier.interfaces.Scheduler;
-import fr.anisekai.wireless.api.plannifier.interfaces.SchedulerManager;
-import fr.anisekai.wireless.api.plannifier.interfaces.entities.Planifiable;
 import org.junit.jupiter.api.*;
 
 import java.time.Duration;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 @DisplayName("SimpleScheduler")
@@ -21,50 +39,6 @@ import java.util.function.Consumer;
 @TestMethodOrder(MethodOrderer.DisplayName.class)
 public class EventSchedulerTests {
 
-    private static class Manager implements SchedulerManager<TestWatchTarget, TestWatchParty, TestWatchParty> {
-
-        private int id = 100; // Safe margin for pre-populated data in TestData class.
-
-        private int id() {
-
-            this.id++;
-            return this.id;
-        }
-
-        @Override
-        public TestWatchParty create(Planifiable<TestWatchTarget> planifiable) {
-
-            return new TestWatchParty(
-                    this.id(),
-                    planifiable.getWatchTarget(),
-                    planifiable.getFirstEpisode(),
-                    planifiable.getStartingAt(),
-                    planifiable.getEpisodeCount(),
-                    planifiable.isSkipEnabled()
-            );
-        }
-
-        @Override
-        public TestWatchParty update(TestWatchParty entity, Consumer<TestWatchParty> updateHook) {
-
-            return entity;
-        }
-
-        @Override
-        public List<TestWatchParty> updateAll(List<TestWatchParty> entities, Consumer<TestWatchParty> updateHook) {
-
-            return entities;
-        }
-
-        @Override
-        public boolean delete(TestWatchParty entity) {
-
-            entity.tagDeleted();
-            return true;
-        }
-
-    }
-
     private Scheduler<TestWatchTarget, TestWatchParty, TestWatchParty> scheduler;
     private TestData                                                   data;
 
@@ -72,7 +46,7 @@ public class EventSchedulerTests {
     public void setup() {
 
         this.data      = new TestData();
-        this.scheduler = new EventScheduler<>(new Manager(), this.data.dataBank());
+        this.scheduler = new EventScheduler<>(new TestManager(), this.data.dataBank());
     }
 
     @Test
@@ -219,6 +193,190 @@ public class EventSchedulerTests {
         Assertions.assertEquals(leftTime, party.getStartingAt(), "Starting datetime mismatch");
     }
 
+    @Test
+    @DisplayName("Scheduler | Lookup - Previous & Next")
+    public void testLookupPreviousNext() {
+
+        ZonedDateTime between = this.data.partyB1.getStartingAt().plusMinutes(10);
+
+        Assertions.assertEquals(this.data.partyB1, this.scheduler.findPrevious(between).orElse(null));
+        Assertions.assertEquals(this.data.partyB2, this.scheduler.findNext(between).orElse(null));
+        Assertions.assertEquals(this.data.partyB1, this.scheduler.findNext(this.data.partyB1.getStartingAt()).orElse(null));
+        Assertions.assertEquals(this.data.partyB1, this.scheduler.findPrevious(this.data.partyB1.getStartingAt()).orElse(null));
+        Assertions.assertTrue(this.scheduler.findPrevious(TestData.BASE_DATETIME.minusDays(1)).isEmpty());
+        Assertions.assertTrue(this.scheduler.findNext(this.data.partyB2.getStartingAt().plusDays(1)).isEmpty());
+
+        Assertions.assertEquals(this.data.partyB1, this.scheduler.findPrevious(between, this.data.target1).orElse(null));
+        Assertions.assertTrue(this.scheduler.findNext(between, this.data.target2).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Scheduler | Lookup - Target Scoped")
+    public void testLookupTargetScoped() {
+
+        ZonedDateTime  scheduleAt = this.data.partyB1.getStartingAt().plusMinutes(48);
+        TestWatchParty other      = this.scheduler.schedule(new TestSpot(this.data.target2, scheduleAt, 1));
+
+        ZonedDateTime beforeB2 = this.data.partyB2.getStartingAt().minusMinutes(1);
+
+        Assertions.assertEquals(other, this.scheduler.findPrevious(beforeB2).orElse(null));
+        Assertions.assertEquals(other, this.scheduler.findPrevious(beforeB2, this.data.target2).orElse(null));
+        Assertions.assertEquals(this.data.partyB1, this.scheduler.findPrevious(beforeB2, this.data.target1).orElse(null));
+        Assertions.assertEquals(this.data.partyB2, this.scheduler.findNext(scheduleAt, this.data.target1).orElse(null));
+        Assertions.assertTrue(this.scheduler.findNext(beforeB2, this.data.target2).isEmpty());
+        Assertions.assertEquals(1, other.getFirstEpisode(), "First episode mismatch");
+    }
+
+    @Test
+    @DisplayName("Scheduler | Lookup - After Delaying")
+    public void testLookupAfterDelaying() {
+
+        ZonedDateTime time = this.data.partyA1.getStartingAt();
+        this.scheduler.delay(TestData.BASE_DATETIME, Duration.ofMinutes(60), Duration.ofMinutes(60));
+
+        Assertions.assertTrue(this.scheduler.findPrevious(time.plusMinutes(30)).isEmpty(), "Stale timeline entry");
+        Assertions.assertEquals(this.data.partyA1, this.scheduler.findNext(time).orElse(null), "Delayed event not re-indexed");
+        Assertions.assertEquals(3, this.scheduler.getState().size(), "State size mismatch");
+    }
+
+    @Test
+    @DisplayName("Scheduler | Available Slots - Gaps")
+    public void testAvailableSlotsGaps() {
+
+        ZonedDateTime                     from = TestData.BASE_DATETIME.plusYears(1);
+        ScheduleSpotData<TestWatchTarget> spot = new TestSpot(this.data.target2, from, 1);
+
+        List<ZonedDateTime> slots = this.scheduler.findAvailableSlots(from, from.plusHours(4), spot, 5);
+
+        Assertions.assertEquals(List.of(from.plusMinutes(45), from.plusMinutes(120)), slots, "Unexpected slots");
+
+        for (ZonedDateTime slot : slots) {
+            Assertions.assertTrue(this.scheduler.canSchedule(new TestSpot(this.data.target2, slot, 1)), "Slot is not available");
+        }
+    }
+
+    @Test
+    @DisplayName("Scheduler | Available Slots - Grid")
+    public void testAvailableSlotsGrid() {
+
+        ZonedDateTime                     from = TestData.BASE_DATETIME.plusYears(1);
+        ScheduleSpotData<TestWatchTarget> spot = new TestSpot(this.data.target2, from, 1);
+
+        List<ZonedDateTime> slots = this.scheduler.findAvailableSlots(from, from.plusHours(4), spot, Duration.ofMinutes(20), 2);
+        List<ZonedDateTime> early = this.scheduler.findAvailableSlots(
+                TestData.BASE_DATETIME,
+                TestData.BASE_DATETIME.plusHours(3),
+                spot,
+                Duration.ofMinutes(15),
+                3
+        );
+
+        Assertions.assertEquals(List.of(from.plusMinutes(120), from.plusMinutes(140)), slots, "Unexpected slots");
+        Assertions.assertEquals(
+                List.of(
+                        TestData.BASE_DATETIME.plusMinutes(45),
+                        TestData.BASE_DATETIME.plusMinutes(60),
+                        TestData.BASE_DATETIME.plusMinutes(75)
+                ),
+                early,
+                "Unexpected slots"
+        );
+    }
+
+    @Test
+    @DisplayName("Scheduler | Available Slots - Grid Across Midnight")
+    public void testAvailableSlotsGridAcrossMidnight() {
+
+        ZonedDateTime                     from = TestData.BASE_DATETIME.plusYears(1).plusHours(22);
+        ScheduleSpotData<TestWatchTarget> spot = new TestSpot(this.data.target2, from, 1);
+
+        // 50 minutes does not divide a day: the grid restarts at midnight instead of drifting.
+        List<ZonedDateTime> slots = this.scheduler.findAvailableSlots(from, from.plusHours(4), spot, Duration.ofMinutes(50), 5);
+
+        Assertions.assertEquals(
+                List.of(
+                        from.plusMinutes(30),
+                        from.plusMinutes(80),
+                        from.plusMinutes(120),
+                        from.plusMinutes(170)
+                ),
+                slots,
+                "Unexpected slots"
+        );
+    }
+
+    @Test
+    @DisplayName("Scheduler | Bulk Scheduling - Created, Merged & Rejected")
+    public void testBulkScheduling() {
+
+        ZonedDateTime                     dayAfter = TestData.BASE_DATETIME.plusDays(1);
+        ZonedDateTime                     afterB2  = this.data.partyB2.getStartingAt().plusMinutes(50);
+        ScheduleSpotData<TestWatchTarget> first    = new TestSpot(this.data.target2, dayAfter, 1);
+        ScheduleSpotData<TestWatchTarget> second   = new TestSpot(this.data.target2, dayAfter.plusMinutes(30), 1);
+        ScheduleSpotData<TestWatchTarget> merging  = new TestSpot(this.data.target1, afterB2, 1);
+        ScheduleSpotData<TestWatchTarget> conflict = new TestSpot(this.data.target2, TestData.BASE_DATETIME, 1);
+
+        BulkScheduleResult<TestWatchTarget, TestWatchParty> result = Assertions.assertDoesNotThrow(
+                () -> this.scheduler.scheduleAll(List.of(merging, conflict, second, first))
+        );
+
+        List<BulkScheduleResult.Outcome<TestWatchTarget, TestWatchParty>> outcomes = result.outcomes();
+        Assertions.assertEquals(4, outcomes.size(), "Outcome count mismatch");
+        Assertions.assertSame(merging, outcomes.get(0).spot(), "Outcome order mismatch");
+        Assertions.assertEquals(BulkScheduleResult.Status.MERGED, outcomes.get(0).status());
+        Assertions.assertEquals(this.data.partyB2, outcomes.get(0).entity());
+        Assertions.assertEquals(BulkScheduleResult.Status.REJECTED, outcomes.get(1).status());
+        Assertions.assertNull(outcomes.get(1).entity());
+        Assertions.assertEquals(BulkScheduleResult.Status.MERGED, outcomes.get(2).status());
+        Assertions.assertEquals(BulkScheduleResult.Status.CREATED, outcomes.get(3).status());
+        Assertions.assertSame(outcomes.get(3).entity(), outcomes.get(2).entity(), "Spots not merged together");
+
+        TestWatchParty created = outcomes.get(3).entity();
+        Assertions.assertNotNull(created);
+        Assertions.assertEquals(1, created.getFirstEpisode(), "First episode mismatch");
+        Assertions.assertEquals(2, created.getEpisodeCount(), "Episode count mismatch");
+        Assertions.assertEquals(dayAfter, created.getStartingAt(), "Starting datetime mismatch");
+        Assertions.assertEquals(3, this.data.partyB2.getEpisodeCount(), "Merged episode count mismatch");
+        Assertions.assertTrue(this.scheduler.getState().contains(created), "Dirty State.");
+        Assertions.assertEquals(created, this.scheduler.findNext(dayAfter, this.data.target2).orElse(null), "Dirty index.");
+    }
+
+    @Test
+    @DisplayName("Scheduler | Bulk Scheduling - Failure Leaves State Untouched")
+    public void testBulkSchedulingFailure() {
+
+        TestManager manager = new TestManager() {
+
+            @Override
+            public boolean deleteAll(List<TestWatchParty> entities) {
+
+                throw new IllegalStateException("deleteAll");
+            }
+        };
+
+        EventScheduler<TestWatchTarget, TestWatchParty, TestWatchParty> scheduler = new EventScheduler<>(
+                manager,
+                this.data.dataBank()
+        );
+
+        ZonedDateTime b1Time = this.data.partyB1.getStartingAt();
+        ZonedDateTime b2Time = this.data.partyB2.getStartingAt();
+
+        // Fits between B1 and B2, merging both of them.
+        TestSpot spot = new TestSpot(this.data.target1, this.data.partyB1.getEndingAt().plusMinutes(2), 1);
+        Assertions.assertThrows(IllegalStateException.class, () -> scheduler.scheduleAll(List.of(spot)));
+
+        Assertions.assertEquals(2, this.data.partyB1.getEpisodeCount(), "Entity modified before being saved");
+        Assertions.assertEquals(b1Time, this.data.partyB1.getStartingAt(), "Entity modified before being saved");
+        Assertions.assertEquals(3, scheduler.getState().size(), "State modified before being saved");
+        Assertions.assertEquals(this.data.partyB2, scheduler.findNext(b2Time).orElse(null), "Entity removed before deletion");
+        Assertions.assertEquals(
+                this.data.partyB2,
+                scheduler.findNext(b1Time.plusMinutes(1)).orElse(null),
+                "Indexes modified before being saved"
+        );
+    }
+
     @Test
     @DisplayName("Scheduler | Delaying - Success")
     public void testDelayingSuccess() {
@@ -239,13 +397,52 @@ public class EventSchedulerTests {
     @DisplayName("Scheduler | Delaying - Conflict")
     public void testDelayConflict() {
 
-        Assertions.assertThrows(
+        DelayOverlapException exception = Assertions.assertThrows(
                 DelayOverlapException.class, () -> this.scheduler.delay(
                         TestData.BASE_DATETIME,
                         Duration.ofMinutes(60),
                         Duration.between(this.data.partyA1.getStartingAt(), this.data.partyB1.getStartingAt())
                 )
         );
+
+        Assertions.assertEquals(this.data.partyA1, exception.getDelayed().orElse(null), "Wrong delayed event reported");
+        Assertions.assertEquals(this.data.partyB1, exception.getConflicting().orElse(null), "Wrong conflicting event reported");
+    }
+
+    @Test
+    @DisplayName("Scheduler | Delaying - Conflict Within Window")
+    public void testDelayConflictWithinWindow() {
+
+        // Only B1 is within the window, pushing it onto B2 must fail.
+        DelayOverlapException exception = Assertions.assertThrows(
+                DelayOverlapException.class, () -> this.scheduler.delay(
+                        this.data.partyB1.getStartingAt(),
+                        Duration.ofMinutes(60),
+                        Duration.ofMinutes(40)
+                )
+        );
+
+        Assertions.assertEquals(this.data.partyB1, exception.getDelayed().orElse(null), "Wrong delayed event reported");
+        Assertions.assertEquals(this.data.partyB2, exception.getConflicting().orElse(null), "Wrong conflicting event reported");
+        Assertions.assertEquals(this.data.partyB1, this.scheduler.findNext(this.data.partyB1.getStartingAt()).orElse(null));
+    }
+
+    @Test
+    @DisplayName("Scheduler | Delaying - Whole Block")
+    public void testDelayWholeBlock() {
+
+        ZonedDateTime b1Time = this.data.partyB1.getStartingAt();
+        ZonedDateTime b2Time = this.data.partyB2.getStartingAt();
+
+        List<TestWatchParty> parties = Assertions.assertDoesNotThrow(() -> this.scheduler.delay(
+                b1Time,
+                Duration.ofHours(3),
+                Duration.ofMinutes(90)
+        ));
+
+        Assertions.assertEquals(2, parties.size(), "Delayed count mismatch");
+        Assertions.assertEquals(b1Time.plusMinutes(90), this.data.partyB1.getStartingAt());
+        Assertions.assertEquals(b2Time.plusMinutes(90), this.data.partyB2.getStartingAt());
     }
 
     @Test
@@ -361,4 +558,722 @@ public class EventSchedulerTests {
         Assertions.assertFalse(this.scheduler.getState().contains(this.data.partyB2));
     }
 
+    @Test
+    @DisplayName("Scheduler | Calibration - Incremental @ Progress Change")
+    public void testCalibrationIncrementalProgressChange() {
+
+        Assertions.assertEquals(0, this.scheduler.calibrate().updateCount(), "Unexpected count of updates");
+
+        this.data.target1.setWatched(1);
+        CalibrationResult res = Assertions.assertDoesNotThrow(() -> this.scheduler.calibrate());
+        Assertions.assertEquals(3, res.updateCount(), "Progress change not detected");
+
+        CalibrationResult again = Assertions.assertDoesNotThrow(() -> this.scheduler.calibrate());
+        Assertions.assertEquals(0, again.updateCount(), "Calibrated state was walked again");
+        Assertions.assertEquals(0, again.deleteCount(), "Calibrated state was walked again");
+    }
+
+    @Test
+    @DisplayName("Scheduler | Calibration - Incremental @ Dirty Suffix Only")
+    public void testCalibrationIncrementalSuffix() {
+
+        this.scheduler.calibrate();
+
+        // Untracked change, only visible once the target is invalidated.
+        this.data.partyA1.setFirstEpisode(7);
+
+        this.scheduler.schedule(new TestSpot(this.data.target1, TestData.BASE_DATETIME.plusDays(1), 1));
+        CalibrationResult res = Assertions.assertDoesNotThrow(() -> this.scheduler.calibrate(this.data.target1));
+
+        Assertions.assertEquals(2, res.updateCount(), "Unexpected count of updates");
+        Assertions.assertEquals(7, this.data.partyA1.getFirstEpisode(), "Calibrated prefix was walked again");
+        Assertions.assertEquals(10, this.data.partyB1.getFirstEpisode());
+        Assertions.assertEquals(12, this.data.partyB2.getFirstEpisode());
+
+        this.scheduler.invalidate(this.data.target1);
+        CalibrationResult full = Assertions.assertDoesNotThrow(() -> this.scheduler.calibrate());
+
+        Assertions.assertEquals(4, full.updateCount(), "Unexpected count of updates");
+        Assertions.assertEquals(1, this.data.partyA1.getFirstEpisode());
+        Assertions.assertEquals(4, this.data.partyB1.getFirstEpisode());
+        Assertions.assertEquals(6, this.data.partyB2.getFirstEpisode());
+    }
+
+    @Test
+    @DisplayName("Scheduler | Range Queries - Ordered and Lazy")
+    public void testRangeQueries() {
+
+        ZonedDateTime from = this.data.partyB1.getStartingAt();
+
+        List<TestWatchParty> between = this.scheduler.findBetween(TestData.BASE_DATETIME, from).toList();
+        Assertions.assertEquals(List.of(this.data.partyA1, this.data.partyB1), between, "Range mismatch.");
+
+        List<TestWatchParty> empty = this.scheduler.findBetween(from.plusMinutes(1), from.plusMinutes(2)).toList();
+        Assertions.assertTrue(empty.isEmpty(), "Range mismatch.");
+
+        Iterator<TestWatchParty> iterator = this.scheduler.iterateFrom(from.plusMinutes(1));
+        Assertions.assertTrue(iterator.hasNext());
+        Assertions.assertEquals(this.data.partyB2, iterator.next());
+        Assertions.assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    @DisplayName("Scheduler | Cached Times - Refreshed On Merge")
+    public void testCachedTimesRefreshedOnMerge() {
+
+        ZonedDateTime                     after = this.data.partyB2.getStartingAt().plusMinutes(55);
+        ScheduleSpotData<TestWatchTarget> probe = new TestSpot(this.data.target2, after, 1);
+
+        Assertions.assertTrue(this.scheduler.canSchedule(probe), "The event can't be scheduled.");
+
+        TestWatchParty party = this.scheduler.schedule(new TestSpot(this.data.target1, after.minusMinutes(5), 1));
+
+        Assertions.assertEquals(this.data.partyB2, party, "Event not merged");
+        Assertions.assertFalse(this.scheduler.canSchedule(probe), "Merged duration not taken into account.");
+    }
+
+    @Test
+    @DisplayName("Scheduler | Cached Times - Untracked Changes")
+    public void testCachedTimesUntrackedChanges() {
+
+        ZonedDateTime                     after   = this.data.partyB2.getStartingAt().plusMinutes(55);
+        ScheduleSpotData<TestWatchTarget> probe   = new TestSpot(this.data.target2, after, 1);
+        int                               count   = this.data.partyB2.getEpisodeCount();
+        int                               runtime = this.data.target1.getEpisodeDuration();
+
+        Assertions.assertTrue(this.scheduler.canSchedule(probe), "Unexpected overlap.");
+
+        // Durations are checked against the live values of each event.
+        this.data.partyB2.setEpisodeCount(4);
+        Assertions.assertFalse(this.scheduler.canSchedule(probe), "Untracked episode count not taken into account.");
+
+        this.data.partyB2.setEpisodeCount(count);
+        Assertions.assertTrue(this.scheduler.canSchedule(probe), "Stale duration used.");
+
+        this.data.target1.setEpisodeDuration(runtime * 3);
+        Assertions.assertFalse(this.scheduler.canSchedule(probe), "Untracked episode duration not taken into account.");
+        this.data.target1.setEpisodeDuration(runtime);
+
+        // Positions are only refreshed once the target is invalidated.
+        ZonedDateTime moved = TestData.BASE_DATETIME.plusYears(3);
+        this.data.partyB2.setStartingAt(moved);
+        Assertions.assertTrue(this.scheduler.findNext(moved).isEmpty(), "Untracked move taken into account.");
+
+        this.scheduler.invalidate(this.data.target1);
+        Assertions.assertEquals(Optional.of(this.data.partyB2), this.scheduler.findNext(moved), "Invalidated move ignored.");
+    }
+
+    @Test
+    @DisplayName("Scheduler | Channels - Independent Overlap and Merging")
+    public void testChannelsIndependentOverlapAndMerging() {
+
+        ScheduleSpotData<TestWatchTarget> overlapping = new TestSpot(this.data.target2, TestData.BASE_DATETIME, 1, "room-2");
+
+        Assertions.assertTrue(this.scheduler.canSchedule(overlapping), "Events of other channels were considered.");
+        TestWatchParty party = this.scheduler.schedule(overlapping);
+
+        Assertions.assertEquals("room-2", party.getChannel(), "Channel mismatch.");
+        Assertions.assertEquals(1, party.getFirstEpisode(), "First episode mismatch.");
+
+        ZonedDateTime                     after = this.data.partyB2.getEndingAt().plusMinutes(5);
+        ScheduleSpotData<TestWatchTarget> spot  = new TestSpot(this.data.target1, after, 1, "room-2");
+
+        TestWatchParty next = this.scheduler.schedule(spot);
+
+        Assertions.assertNotEquals(this.data.partyB2, next, "Event merged across channels.");
+        Assertions.assertEquals(7, next.getFirstEpisode(), "Episode numbering is not global.");
+        Assertions.assertEquals(5, this.scheduler.getState().size(), "State size mismatch.");
+        Assertions.assertEquals(Optional.of(next), this.scheduler.findNext(this.data.partyB2.getEndingAt()));
+    }
+
+    @Test
+    @DisplayName("Scheduler | Channels - Global Calibration and Delay")
+    public void testChannelsGlobalCalibrationAndDelay() {
+
+        ZonedDateTime  when  = this.data.partyB1.getStartingAt().plusMinutes(10);
+        TestWatchParty party = this.scheduler.schedule(new TestSpot(this.data.target1, when, 1, "room-2"));
+
+        Assertions.assertDoesNotThrow(() -> this.scheduler.calibrate());
+        Assertions.assertEquals(1, this.data.partyA1.getFirstEpisode());
+        Assertions.assertEquals(3, this.data.partyB1.getFirstEpisode());
+        Assertions.assertEquals(5, party.getFirstEpisode());
+        Assertions.assertEquals(6, this.data.partyB2.getFirstEpisode());
+
+        List<TestWatchParty> delayed = Assertions.assertDoesNotThrow(
+                () -> this.scheduler.delay(this.data.partyB1.getStartingAt(), Duration.ofHours(1), Duration.ofMinutes(20)),
+                "Events of other channels were considered."
+        );
+
+        Assertions.assertEquals(2, delayed.size(), "Delayed events mismatch.");
+        Assertions.assertEquals(when.plusMinutes(20), party.getStartingAt());
+    }
+
+    @Test
+    @DisplayName("Scheduler | Calibration - Parallel")
+    public void testCalibrationParallel() {
+
+        EventScheduler<TestWatchTarget, TestWatchParty, TestWatchParty> scheduler = new EventScheduler<>(
+                new TestManager(),
+                this.data.dataBank()
+        );
+        scheduler.setCalibrationPool(new ForkJoinPool(2));
+
+        ZonedDateTime  dayAfter = TestData.BASE_DATETIME.plusDays(1);
+        TestWatchParty first    = scheduler.schedule(new TestSpot(this.data.target2, dayAfter, 1));
+        TestWatchParty second   = scheduler.schedule(new TestSpot(this.data.target2, dayAfter.plusHours(2), 1));
+
+        second.setFirstEpisode(5);
+        this.data.target1.setWatched(11);
+
+        CalibrationResult res = Assertions.assertDoesNotThrow(() -> scheduler.calibrate());
+
+        Assertions.assertEquals(2, res.updateCount(), "Unexpected count of updates");
+        Assertions.assertEquals(2, res.deleteCount(), "Unexpected count of deletes");
+        Assertions.assertEquals(2, res.targets().size(), "Unexpected count of targets");
+
+        TargetCalibration target1 = res.targets()
+                                       .stream()
+                                       .filter(item -> item.target().equals(this.data.target1))
+                                       .findFirst()
+                                       .orElseThrow();
+
+        TargetCalibration target2 = res.targets()
+                                       .stream()
+                                       .filter(item -> item.target().equals(this.data.target2))
+                                       .findFirst()
+                                       .orElseThrow();
+
+        Assertions.assertEquals(1, target1.updateCount(), "Unexpected count of updates (target 1)");
+        Assertions.assertEquals(2, target1.deleteCount(), "Unexpected count of deletes (target 1)");
+        Assertions.assertEquals(1, target2.updateCount(), "Unexpected count of updates (target 2)");
+        Assertions.assertEquals(0, target2.deleteCount(), "Unexpected count of deletes (target 2)");
+
+        Assertions.assertEquals(12, this.data.partyA1.getFirstEpisode());
+        Assertions.assertTrue(this.data.partyB1.isDeleted());
+        Assertions.assertTrue(this.data.partyB2.isDeleted());
+        Assertions.assertEquals(1, first.getFirstEpisode());
+        Assertions.assertEquals(2, second.getFirstEpisode());
+    }
+
+    @Test
+    @DisplayName("Scheduler | Transaction - Dry Run")
+    public void testTransactionDryRun() {
+
+        EventScheduler<TestWatchTarget, TestWatchParty, TestWatchParty> scheduler = new EventScheduler<>(
+                new TestManager(),
+                this.data.dataBank()
+        );
+
+        ZonedDateTime yearAfter = TestData.BASE_DATETIME.plusYears(1);
+
+        SchedulerTransaction<TestWatchTarget, TestWatchParty, TestWatchParty> transaction = scheduler.begin();
+
+        transaction.schedule(new TestSpot(this.data.target2, TestData.BASE_DATETIME.plusDays(1), 1));
+        transaction.delay(yearAfter, Duration.ofMinutes(50), Duration.ofMinutes(10));
+
+        SchedulerDiff<TestWatchTarget, TestWatchParty> diff = transaction.diff();
+
+        Assertions.assertEquals(1, diff.created().size(), "Unexpected count of creations");
+        Assertions.assertEquals(1, diff.updated().size(), "Unexpected count of updates");
+        Assertions.assertEquals(0, diff.deleted().size(), "Unexpected count of deletions");
+        Assertions.assertEquals(this.data.partyB1, diff.updated().getFirst().getOrigin().orElse(null), "Wrong entity updated");
+        Assertions.assertEquals(yearAfter.plusMinutes(10), diff.updated().getFirst().getStartingAt(), "Staged value mismatch");
+
+        Assertions.assertEquals(yearAfter, this.data.partyB1.getStartingAt(), "The entity has been modified");
+        Assertions.assertEquals(3, scheduler.getState().size(), "The state has been modified");
+        Assertions.assertEquals(4, transaction.getState().size(), "The staged state is incomplete");
+
+        transaction.rollback();
+
+        Assertions.assertFalse(transaction.isOpen(), "The transaction is still open");
+        Assertions.assertThrows(IllegalStateException.class, transaction::diff);
+        Assertions.assertEquals(3, scheduler.getState().size(), "The state has been modified");
+    }
+
+    @Test
+    @DisplayName("Scheduler | Transaction - Copy On Write")
+    public void testTransactionCopyOnWrite() {
+
+        EventScheduler<TestWatchTarget, TestWatchParty, TestWatchParty> scheduler = new EventScheduler<>(
+                new TestManager(),
+                this.data.dataBank()
+        );
+
+        ZonedDateTime end = this.data.partyA1.getStartingAt().plus(this.data.partyA1.getDuration());
+
+        SchedulerTransaction<TestWatchTarget, TestWatchParty, TestWatchParty> transaction = scheduler.begin();
+
+        StagedPlanifiable<TestWatchTarget, TestWatchParty> merged = transaction.schedule(new TestSpot(this.data.target1, end, 1));
+
+        Assertions.assertEquals(this.data.partyA1, merged.getOrigin().orElse(null), "The spot has not been merged");
+        Assertions.assertEquals(3, merged.getEpisodeCount(), "Staged value mismatch");
+        Assertions.assertEquals(2, this.data.partyA1.getEpisodeCount(), "The entity has been modified");
+        Assertions.assertTrue(transaction.getState().contains(merged), "The staged entity is not indexed");
+        Assertions.assertEquals(transaction.getState(), transaction.getState(), "Overlays are not reused");
+        Assertions.assertEquals(3, transaction.getState().size(), "The staged state is incomplete");
+
+        SchedulerDiff<TestWatchTarget, TestWatchParty> diff = transaction.diff();
+        Assertions.assertEquals(List.of(merged), diff.updated(), "Unexpected updates");
+        Assertions.assertTrue(diff.created().isEmpty(), "Unexpected creations");
+        Assertions.assertSame(this.data.partyA1, scheduler.findNext(TestData.BASE_DATETIME).orElse(null), "State modified");
+    }
+
+    @Test
+    @DisplayName("Scheduler | Transaction - Commit")
+    public void testTransactionCommit() {
+
+        EventScheduler<TestWatchTarget, TestWatchParty, TestWatchParty> scheduler = new EventScheduler<>(
+                new TestManager(),
+                this.data.dataBank()
+        );
+
+        ZonedDateTime dayAfter  = TestData.BASE_DATETIME.plusDays(1);
+        ZonedDateTime yearAfter = TestData.BASE_DATETIME.plusYears(1);
+
+        SchedulerTransaction<TestWatchTarget, TestWatchParty, TestWatchParty> transaction = scheduler.begin();
+
+        transaction.schedule(new TestSpot(this.data.target2, dayAfter, 1));
+        transaction.delay(yearAfter, Duration.ofMinutes(50), Duration.ofMinutes(10));
+        transaction.commit();
+
+        Assertions.assertFalse(transaction.isOpen(), "The transaction is still open");
+        Assertions.assertEquals(4, scheduler.getState().size(), "The state has not been updated");
+        Assertions.assertEquals(yearAfter.plusMinutes(10), this.data.partyB1.getStartingAt(), "The entity has not been updated");
+        Assertions.assertEquals(this.data.partyB1, scheduler.findNext(yearAfter).orElse(null), "The state was not reindexed");
+
+        TestWatchParty created = scheduler.findNext(dayAfter).orElseThrow();
+        Assertions.assertEquals(dayAfter, created.getStartingAt(), "The created entity is missing");
+        Assertions.assertEquals(this.data.target2, created.getWatchTarget(), "The created entity is missing");
+    }
+
+    @Test
+    @DisplayName("Scheduler | Transaction - Concurrent Modification")
+    public void testTransactionConcurrentModification() {
+
+        EventScheduler<TestWatchTarget, TestWatchParty, TestWatchParty> scheduler = new EventScheduler<>(
+                new TestManager(),
+                this.data.dataBank()
+        );
+
+        SchedulerTransaction<TestWatchTarget, TestWatchParty, TestWatchParty> transaction = scheduler.begin();
+
+        transaction.schedule(new TestSpot(this.data.target2, TestData.BASE_DATETIME.plusDays(1), 1));
+        scheduler.schedule(new TestSpot(this.data.target2, TestData.BASE_DATETIME.plusDays(2), 1));
+
+        Assertions.assertThrows(IllegalStateException.class, transaction::commit);
+        Assertions.assertEquals(4, scheduler.getState().size(), "The staged changes have been applied");
+    }
+
+    @Test
+    @DisplayName("Scheduler | Batching Manager - Coalesced Updates")
+    public void testBatchingManagerCoalescedUpdates() {
+
+        TestManager manager = new TestManager() {
+
+            @Override
+            public List<TestWatchParty> updateAll(List<TestWatchParty> entities, Consumer<TestWatchParty> updateHook) {
+
+                entities.forEach(updateHook);
+                return super.updateAll(entities, updateHook);
+            }
+        };
+
+        BatchingSchedulerManager<TestWatchTarget, TestWatchParty, TestWatchParty> batching;
+        batching = new BatchingSchedulerManager<>(manager);
+
+        batching.update(this.data.partyA1, item -> item.setEpisodeCount(item.getEpisodeCount() + 1));
+        batching.update(this.data.partyA1, item -> item.setEpisodeCount(item.getEpisodeCount() + 1));
+        batching.update(this.data.partyB1, item -> item.setEpisodeCount(1));
+        batching.delete(this.data.partyB1);
+
+        Assertions.assertTrue(batching.hasPendingChanges(), "Changes have not been deferred");
+        Assertions.assertEquals(0, manager.getCalls("updateAll"), "Changes have not been deferred");
+        Assertions.assertEquals(2, this.data.partyA1.getEpisodeCount(), "Changes have not been deferred");
+
+        batching.flush();
+
+        Assertions.assertFalse(batching.hasPendingChanges(), "Changes have not been flushed");
+        Assertions.assertEquals(1, manager.getCalls("updateAll"), "Updates have not been grouped");
+        Assertions.assertEquals(1, manager.getCalls("deleteAll"), "Deletions have not been grouped");
+        Assertions.assertEquals(4, this.data.partyA1.getEpisodeCount(), "Updates have not been coalesced");
+        Assertions.assertEquals(2, this.data.partyB1.getEpisodeCount(), "Update of a deleted entity has been sent");
+        Assertions.assertTrue(this.data.partyB1.isDeleted(), "Deletion has not been sent");
+    }
+
+    @Test
+    @DisplayName("Scheduler | Batching Manager - Reloaded Instances")
+    public void testBatchingManagerReloadedInstances() {
+
+        List<TestWatchParty> reloaded = new ArrayList<>();
+
+        TestManager manager = new TestManager() {
+
+            @Override
+            public List<TestWatchParty> updateAll(List<TestWatchParty> entities, Consumer<TestWatchParty> updateHook) {
+
+                // Simulate a manager applying the hook on freshly loaded, non-equal instances.
+                for (TestWatchParty entity : entities) {
+                    TestWatchParty copy = new TestWatchParty(
+                            entity.getId() + 1000,
+                            entity.getWatchTarget(),
+                            entity.getFirstEpisode(),
+                            entity.getStartingAt(),
+                            entity.getEpisodeCount(),
+                            entity.isSkipEnabled()
+                    );
+                    updateHook.accept(copy);
+                    reloaded.add(copy);
+                }
+                return super.updateAll(entities, updateHook);
+            }
+        };
+
+        BatchingSchedulerManager<TestWatchTarget, TestWatchParty, TestWatchParty> batching;
+        batching = new BatchingSchedulerManager<>(manager);
+
+        batching.update(this.data.partyA1, item -> item.setEpisodeCount(5));
+        batching.update(this.data.partyA1, item -> item.setFirstEpisode(7));
+        batching.updateAll(List.of(this.data.partyB1, this.data.partyB2), item -> item.setSkipEnabled(false));
+
+        Assertions.assertDoesNotThrow(batching::flush);
+        Assertions.assertEquals(2, manager.getCalls("updateAll"), "Updates have not been grouped by hook");
+        Assertions.assertEquals(3, reloaded.size(), "Unexpected count of updated entities");
+        Assertions.assertEquals(5, reloaded.get(0).getEpisodeCount(), "Coalesced update has not been applied");
+        Assertions.assertEquals(7, reloaded.get(0).getFirstEpisode(), "Coalesced update has not been applied");
+        Assertions.assertFalse(reloaded.get(1).isSkipEnabled(), "Shared update has not been applied");
+        Assertions.assertFalse(reloaded.get(2).isSkipEnabled(), "Shared update has not been applied");
+    }
+
+    @Test
+    @DisplayName("Scheduler | Batching Manager - Original Failure Kept")
+    public void testBatchingManagerOriginalFailureKept() {
+
+        TestManager manager = new TestManager() {
+
+            @Override
+            public List<TestWatchParty> updateAll(List<TestWatchParty> entities, Consumer<TestWatchParty> updateHook) {
+
+                throw new IllegalStateException("updateAll");
+            }
+
+            @Override
+            public void flush() {
+
+                throw new IllegalStateException("flush");
+            }
+        };
+
+        EventScheduler<TestWatchTarget, TestWatchParty, TestWatchParty> scheduler = new EventScheduler<>(
+                manager,
+                this.data.dataBank()
+        );
+
+        this.data.target1.setWatched(11);
+        IllegalStateException exception = Assertions.assertThrows(IllegalStateException.class, scheduler::calibrate);
+
+        Assertions.assertEquals("updateAll", exception.getMessage(), "Original failure has been replaced");
+        Assertions.assertEquals(1, exception.getSuppressed().length, "Flush failure has not been suppressed");
+        Assertions.assertEquals("flush", exception.getSuppressed()[0].getMessage(), "Flush failure has not been suppressed");
+    }
+
+    @Test
+    @DisplayName("Scheduler | Batching Manager - Flush After Operation")
+    public void testBatchingManagerFlushAfterOperation() {
+
+        TestManager manager = new TestManager();
+
+        EventScheduler<TestWatchTarget, TestWatchParty, TestWatchParty> scheduler = new EventScheduler<>(
+                new BatchingSchedulerManager<>(manager),
+                this.data.dataBank()
+        );
+
+        this.data.target1.setWatched(11);
+        CalibrationResult res = scheduler.calibrate();
+
+        Assertions.assertEquals(1, res.updateCount(), "Unexpected count of updates");
+        Assertions.assertEquals(2, res.deleteCount(), "Unexpected count of deletes");
+        Assertions.assertEquals(0, manager.getCalls("update"), "Updates have not been grouped");
+        Assertions.assertEquals(1, manager.getCalls("updateAll"), "Updates have not been flushed");
+        Assertions.assertEquals(1, manager.getCalls("deleteAll"), "Deletions have not been flushed");
+
+        ZonedDateTime dayAfter = TestData.BASE_DATETIME.plusDays(1);
+        scheduler.schedule(new TestSpot(this.data.target2, dayAfter, 1));
+        scheduler.schedule(new TestSpot(this.data.target2, dayAfter.plusMinutes(24), 1));
+
+        Assertions.assertEquals(0, manager.getCalls("update"), "Merge update has not been deferred");
+        Assertions.assertEquals(2, manager.getCalls("updateAll"), "Merge update has not been flushed");
+    }
+
+    @Test
+    @DisplayName("Scheduler | Change Feed - Schedule, Delay and Calibrate")
+    public void testChangeFeed() throws InterruptedException {
+
+        EventScheduler<TestWatchTarget, TestWatchParty, TestWatchParty> scheduler = new EventScheduler<>(
+                new TestManager(),
+                this.data.dataBank()
+        );
+
+        BlockingQueue<SchedulerChange<TestWatchTarget, TestWatchParty>> received  = new LinkedBlockingQueue<>();
+        CountDownLatch                                                  completed = new CountDownLatch(1);
+        scheduler.getChanges().subscribe(new Flow.Subscriber<>() {
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(SchedulerChange<TestWatchTarget, TestWatchParty> item) {
+
+                received.add(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+
+            }
+
+            @Override
+            public void onComplete() {
+
+                completed.countDown();
+            }
+        });
+
+        ZonedDateTime b2Time = this.data.partyB2.getStartingAt();
+
+        scheduler.schedule(new TestSpot(this.data.target1, b2Time.plusMinutes(50), 1));
+        TestWatchParty created = scheduler.schedule(new TestSpot(this.data.target2, TestData.BASE_DATETIME.plusDays(1), 1));
+        scheduler.delay(b2Time, Duration.ofHours(3), Duration.ofMinutes(10));
+        this.data.target1.setTotal(6);
+        scheduler.calibrate();
+
+        SchedulerChange<TestWatchTarget, TestWatchParty> merged   = received.poll(5, TimeUnit.SECONDS);
+        SchedulerChange<TestWatchTarget, TestWatchParty> creation = received.poll(5, TimeUnit.SECONDS);
+        SchedulerChange<TestWatchTarget, TestWatchParty> delayed  = received.poll(5, TimeUnit.SECONDS);
+        SchedulerChange<TestWatchTarget, TestWatchParty> trimmed  = received.poll(5, TimeUnit.SECONDS);
+
+        Assertions.assertNotNull(merged, "Merge not published");
+        Assertions.assertEquals(SchedulerChange.Type.MERGED, merged.type());
+        Assertions.assertEquals(this.data.partyB2, merged.entity());
+        Assertions.assertEquals(2, merged.before().episodeCount());
+        Assertions.assertEquals(3, merged.after().episodeCount());
+
+        Assertions.assertNotNull(creation, "Creation not published");
+        Assertions.assertEquals(SchedulerChange.Type.CREATED, creation.type());
+        Assertions.assertEquals(created, creation.entity());
+        Assertions.assertNull(creation.before());
+
+        Assertions.assertNotNull(delayed, "Delay not published");
+        Assertions.assertEquals(SchedulerChange.Type.UPDATED, delayed.type());
+        Assertions.assertEquals(b2Time, delayed.before().startingAt());
+        Assertions.assertEquals(b2Time.plusMinutes(10), delayed.after().startingAt());
+
+        Assertions.assertNotNull(trimmed, "Calibration not published");
+        Assertions.assertEquals(SchedulerChange.Type.UPDATED, trimmed.type());
+        Assertions.assertEquals(3, trimmed.before().episodeCount());
+        Assertions.assertEquals(2, trimmed.after().episodeCount());
+
+        Assertions.assertNull(received.poll(100, TimeUnit.MILLISECONDS), "Unexpected change published");
+
+        scheduler.close();
+        Assertions.assertTrue(completed.await(5, TimeUnit.SECONDS), "Change feed not completed on close");
+        TestSpot afterClose = new TestSpot(this.data.target2, TestData.BASE_DATETIME.plusDays(2), 1);
+        Assertions.assertDoesNotThrow(() -> scheduler.schedule(afterClose), "Scheduler not usable once closed");
+    }
+
+    @Test
+    @DisplayName("Scheduler | Compaction - Merge Magnet Neighbours")
+    public void testCompactionMerge() {
+
+        TestManager manager = new TestManager();
+
+        EventScheduler<TestWatchTarget, TestWatchParty, TestWatchParty> scheduler = new EventScheduler<>(
+                manager,
+                this.data.dataBank()
+        );
+
+        // Bring B2 within the magnet limit of B1 without merging them.
+        scheduler.delay(this.data.partyB2.getStartingAt(), Duration.ofHours(1), Duration.ofMinutes(-22));
+        ZonedDateTime b2Time = this.data.partyB2.getStartingAt();
+
+        CompactionResult<TestWatchTarget, TestWatchParty> result = scheduler.compact(
+                TestData.BASE_DATETIME,
+                TestData.BASE_DATETIME.plusYears(2),
+                CompactionOptions.merging()
+        );
+
+        Assertions.assertEquals(List.of(this.data.partyB1), result.updated(), "Unexpected updated events");
+        Assertions.assertEquals(List.of(this.data.partyB2), result.deleted(), "Unexpected deleted events");
+        Assertions.assertEquals(4, this.data.partyB1.getEpisodeCount(), "Events have not been merged");
+        Assertions.assertTrue(this.data.partyB2.isDeleted(), "Merged event has not been deleted");
+        Assertions.assertEquals(2, scheduler.getState().size(), "Merged event is still in the state");
+        Assertions.assertEquals(b2Time, this.data.partyB2.getStartingAt(), "Event has been moved");
+        Assertions.assertEquals(2, manager.getCalls("updateAll"), "Updates have not been grouped");
+        Assertions.assertEquals(1, manager.getCalls("deleteAll"), "Deletions have not been grouped");
+
+        CompactionResult<TestWatchTarget, TestWatchParty> again = scheduler.compact(
+                TestData.BASE_DATETIME,
+                TestData.BASE_DATETIME.plusYears(2),
+                CompactionOptions.merging()
+        );
+
+        Assertions.assertTrue(again.isEmpty(), "Compaction is not idempotent");
+    }
+
+    @Test
+    @DisplayName("Scheduler | Compaction - Different Skip Settings")
+    public void testCompactionSkipSettings() {
+
+        this.data.partyB2.setSkipEnabled(!this.data.partyB1.isSkipEnabled());
+
+        EventScheduler<TestWatchTarget, TestWatchParty, TestWatchParty> scheduler = new EventScheduler<>(
+                new TestManager(),
+                this.data.dataBank()
+        );
+
+        // Within the magnet limit, but merging would change the duration of the episodes of B2.
+        scheduler.delay(this.data.partyB2.getStartingAt(), Duration.ofHours(1), Duration.ofMinutes(-22));
+
+        CompactionResult<TestWatchTarget, TestWatchParty> result = scheduler.compact(
+                TestData.BASE_DATETIME,
+                TestData.BASE_DATETIME.plusYears(2),
+                CompactionOptions.merging()
+        );
+
+        Assertions.assertTrue(result.isEmpty(), "Events with different skip settings have been merged");
+        Assertions.assertEquals(3, scheduler.getState().size(), "Event has been removed from the state");
+    }
+
+    @Test
+    @DisplayName("Scheduler | Compaction - Close Gaps")
+    public void testCompactionCloseGaps() {
+
+        ZonedDateTime  b1Time = this.data.partyB1.getStartingAt();
+        TestWatchParty other  = this.scheduler.schedule(new TestSpot(this.data.target2, b1Time.plusHours(3), 1));
+
+        CompactionResult<TestWatchTarget, TestWatchParty> result = this.scheduler.compact(
+                b1Time,
+                b1Time.plusDays(1),
+                CompactionOptions.closingGaps(Duration.ofMinutes(5))
+        );
+
+        Assertions.assertEquals(List.of(this.data.partyB1, other), result.updated(), "Unexpected updated events");
+        Assertions.assertEquals(List.of(this.data.partyB2), result.deleted(), "Unexpected deleted events");
+        Assertions.assertEquals(TestData.BASE_DATETIME, this.data.partyA1.getStartingAt(), "Event out of the interval has moved");
+        Assertions.assertEquals(b1Time, this.data.partyB1.getStartingAt(), "First event has been moved");
+        Assertions.assertEquals(4, this.data.partyB1.getEpisodeCount(), "Pulled event has not been merged");
+        Assertions.assertEquals(
+                this.data.partyB1.getEndingAt().plusMinutes(5),
+                other.getStartingAt(),
+                "Gap has not been closed"
+        );
+        Assertions.assertEquals(3, this.scheduler.getState().size(), "Merged event is still in the state");
+    }
+
+    @Test
+    @DisplayName("Scheduler | Update Hooks - Reloaded Instances")
+    public void testUpdateHooksReloadedInstances() {
+
+        Map<Integer, TestWatchParty> rows = new HashMap<>();
+
+        TestManager manager = new TestManager() {
+
+            @Override
+            public List<TestWatchParty> updateAll(List<TestWatchParty> entities, Consumer<TestWatchParty> updateHook) {
+
+                // Simulate a manager applying the hook on freshly loaded, non-equal instances.
+                for (TestWatchParty entity : entities) {
+                    TestWatchParty copy = new TestWatchParty(
+                            entity.getId() + 1000,
+                            entity.getWatchTarget(),
+                            entity.getFirstEpisode(),
+                            entity.getStartingAt(),
+                            entity.getEpisodeCount(),
+                            entity.isSkipEnabled()
+                    );
+                    updateHook.accept(copy);
+                    rows.put(entity.getId(), copy);
+                }
+                return super.updateAll(entities, updateHook);
+            }
+        };
+
+        EventScheduler<TestWatchTarget, TestWatchParty, TestWatchParty> scheduler = new EventScheduler<>(
+                manager,
+                this.data.dataBank()
+        );
+
+        ZonedDateTime b1Time = this.data.partyB1.getStartingAt();
+        int           b1     = this.data.partyB1.getId();
+        int           b2     = this.data.partyB2.getId();
+
+        Assertions.assertDoesNotThrow(() -> scheduler.scheduleAll(List.of(
+                new TestSpot(this.data.target1, this.data.partyB2.getEndingAt().plusMinutes(5), 1)
+        )));
+        Assertions.assertEquals(3, rows.get(b2).getEpisodeCount(), "Bulk merge has not been applied");
+
+        Assertions.assertDoesNotThrow(() -> scheduler.compact(
+                b1Time,
+                b1Time.plusDays(1),
+                CompactionOptions.closingGaps(Duration.ofMinutes(5))
+        ));
+        Assertions.assertEquals(5, rows.get(b1).getEpisodeCount(), "Compaction has not been applied");
+
+        this.data.target1.setTotal(4);
+        Assertions.assertDoesNotThrow(() -> scheduler.calibrate());
+        Assertions.assertEquals(2, rows.get(b1).getEpisodeCount(), "Calibration has not been applied");
+
+        SchedulerTransaction<TestWatchTarget, TestWatchParty, TestWatchParty> transaction = scheduler.begin();
+        transaction.delay(b1Time, Duration.ofMinutes(50), Duration.ofMinutes(10));
+        Assertions.assertDoesNotThrow(transaction::commit);
+        Assertions.assertEquals(b1Time.plusMinutes(10), rows.get(b1).getStartingAt(), "Transaction has not been applied");
+    }
+
+    @Test
+    @DisplayName("Scheduler | Compaction - Failure Leaves State Untouched")
+    public void testCompactionFailure() {
+
+        TestManager manager = new TestManager() {
+
+            @Override
+            public List<TestWatchParty> updateAll(List<TestWatchParty> entities, Consumer<TestWatchParty> updateHook) {
+
+                // Simulate a manager applying the hook on the provided instances.
+                entities.forEach(updateHook);
+                return super.updateAll(entities, updateHook);
+            }
+
+            @Override
+            public boolean deleteAll(List<TestWatchParty> entities) {
+
+                throw new IllegalStateException("deleteAll");
+            }
+        };
+
+        EventScheduler<TestWatchTarget, TestWatchParty, TestWatchParty> scheduler = new EventScheduler<>(
+                manager,
+                this.data.dataBank()
+        );
+
+        ZonedDateTime b1Time = this.data.partyB1.getStartingAt();
+        ZonedDateTime b2Time = this.data.partyB2.getStartingAt();
+
+        Assertions.assertThrows(IllegalStateException.class, () -> scheduler.compact(
+                b1Time,
+                b1Time.plusDays(1),
+                CompactionOptions.closingGaps(Duration.ofMinutes(5))
+        ));
+
+        Assertions.assertEquals(2, this.data.partyB1.getEpisodeCount(), "Entity modified before being saved");
+        Assertions.assertEquals(b2Time, this.data.partyB2.getStartingAt(), "Entity modified before being saved");
+        Assertions.assertEquals(3, scheduler.getState().size(), "State modified before being saved");
+        Assertions.assertEquals(
+                this.data.partyB2,
+                scheduler.findNext(b1Time.plusMinutes(1)).orElse(null),
+                "Indexes modified before being saved"
+        );
+    }
+
 }
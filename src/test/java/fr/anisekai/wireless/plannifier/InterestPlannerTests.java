@@ -0,0 +1,137 @@
+package fr.anisekai.wireless.plannifier;
+
+import fr.anisekai.wireless.api.plannifier.EventScheduler;
+import fr.anisekai.wireless.api.plannifier.InterestPlanner;
+import fr.anisekai.wireless.api.plannifier.data.BulkScheduleResult;
+import fr.anisekai.wireless.api.plannifier.data.InterestPlan;
+import fr.anisekai.wireless.api.plannifier.data.InterestPlanOptions;
+import fr.anisekai.wireless.api.plannifier.data.PlannedSpot;
+import fr.anisekai.wireless.plannifier.data.*;
+import org.junit.jupiter.api.*;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+@DisplayName("InterestPlanner")
+@Tags({@Tag("unit-test"), @Tag("event-scheduler")})
+@TestMethodOrder(MethodOrderer.DisplayName.class)
+public class InterestPlannerTests {
+
+    private static final InterestPlanOptions OPTIONS = new InterestPlanOptions(null, 4, true, Duration.ofHours(4), 8);
+
+    private TestData                                                         data;
+    private TestWatchTarget                                                  target3;
+    private List<TestInterest>                                               interests;
+    private EventScheduler<TestWatchTarget, TestWatchParty, TestWatchParty>  scheduler;
+    private InterestPlanner<TestWatchTarget, TestWatchParty, TestWatchParty> planner;
+
+    @BeforeEach
+    public void setup() {
+
+        this.data      = new TestData();
+        this.target3   = new TestWatchTarget(3, 0, 12);
+        this.scheduler = new EventScheduler<>(new TestManager(), this.data.dataBank());
+        this.planner   = new InterestPlanner<>(this.scheduler);
+        this.interests = List.of(
+                new TestInterest(this.data.target1, 1),
+                new TestInterest(this.data.target1, 1),
+                new TestInterest(this.data.target2, 2),
+                new TestInterest(this.data.target2, 2),
+                new TestInterest(this.data.target2, 1),
+                new TestInterest(this.target3, -1)
+        );
+    }
+
+    @Test
+    @DisplayName("Planner | Most Interesting First")
+    public void testMostInterestingFirst() {
+
+        ZonedDateTime evening = TestData.BASE_DATETIME.plusDays(1).withHour(20);
+
+        InterestPlan<TestWatchTarget> plan = this.planner.plan(
+                evening,
+                evening.plusHours(3),
+                List.of(this.data.target1, this.data.target2, this.target3),
+                this.interests,
+                OPTIONS
+        );
+
+        List<PlannedSpot<TestWatchTarget>> spots = plan.spots();
+
+        Assertions.assertEquals(2, spots.size(), "Unexpected amount of planned spots");
+        Assertions.assertEquals(this.data.target2, spots.getFirst().getWatchTarget(), "Most interesting target not first");
+        Assertions.assertEquals(4, spots.getFirst().getEpisodeCount());
+        Assertions.assertEquals(evening, spots.getFirst().getStartingAt());
+        Assertions.assertEquals(this.data.target1, spots.getLast().getWatchTarget());
+        Assertions.assertEquals(4, spots.getLast().getEpisodeCount());
+        Assertions.assertEquals(spots.getFirst().getEndingAt(), spots.getLast().getStartingAt(), "Sessions are not contiguous");
+        Assertions.assertEquals(28, plan.score(), "Unexpected plan score");
+        Assertions.assertEquals(3, this.scheduler.getState().size(), "The scheduler has been modified");
+    }
+
+    @Test
+    @DisplayName("Planner | Fill Gaps Around Events")
+    public void testFillGaps() {
+
+        ZonedDateTime b1Time = this.data.partyB1.getStartingAt();
+
+        InterestPlan<TestWatchTarget> plan = this.planner.plan(
+                b1Time.minusHours(1),
+                b1Time.plusHours(3),
+                List.of(this.data.target2),
+                this.interests,
+                OPTIONS
+        );
+
+        List<Integer> counts = plan.spots().stream().map(PlannedSpot::getEpisodeCount).toList();
+
+        Assertions.assertEquals(List.of(2, 1, 2), counts, "Gaps have not been filled");
+        Assertions.assertEquals(25, plan.score(), "Unexpected plan score");
+
+        BulkScheduleResult<TestWatchTarget, TestWatchParty> result = this.scheduler.scheduleAll(plan.spots());
+        Assertions.assertTrue(result.rejected().isEmpty(), "Planned spots are overlapping existing events");
+    }
+
+    @Test
+    @DisplayName("Planner | Other Channels Ignored")
+    public void testOtherChannelsIgnored() {
+
+        ZonedDateTime evening = TestData.BASE_DATETIME.plusDays(1).withHour(20);
+        this.scheduler.schedule(new TestSpot(this.target3, evening.plusHours(1), 1, "room-2"));
+
+        InterestPlan<TestWatchTarget> plan = this.planner.plan(
+                evening,
+                evening.plusHours(3),
+                List.of(this.data.target1, this.data.target2),
+                this.interests,
+                OPTIONS
+        );
+
+        List<Integer> counts = plan.spots().stream().map(PlannedSpot::getEpisodeCount).toList();
+
+        Assertions.assertEquals(List.of(4, 4), counts, "Gap has been cut by an event of another channel");
+        Assertions.assertEquals(28, plan.score(), "Unexpected plan score");
+    }
+
+    @Test
+    @DisplayName("Planner | Remaining Episodes")
+    public void testRemainingEpisodes() {
+
+        ZonedDateTime evening = TestData.BASE_DATETIME.plusDays(1).withHour(20);
+        this.data.target2.setWatched(10);
+
+        InterestPlan<TestWatchTarget> plan = this.planner.plan(
+                evening,
+                evening.plusHours(3),
+                List.of(this.data.target1, this.data.target2),
+                this.interests,
+                OPTIONS
+        );
+
+        Assertions.assertEquals(2, plan.spots().getFirst().getEpisodeCount(), "Remaining episodes have been exceeded");
+        Assertions.assertEquals(4, plan.spots().getLast().getEpisodeCount());
+        Assertions.assertEquals(18, plan.score(), "Unexpected plan score");
+    }
+
+}
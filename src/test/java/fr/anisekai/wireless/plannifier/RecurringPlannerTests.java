@@ -0,0 +1,110 @@
+package fr.anisekai.wireless.plannifier;
+
+import fr.anisekai.wireless.api.plannifier.EventScheduler;
+import fr.anisekai.wireless.api.plannifier.RecurringPlanner;
+import fr.anisekai.wireless.api.plannifier.data.BulkScheduleResult;
+import fr.anisekai.wireless.api.plannifier.data.PlannedSpot;
+import fr.anisekai.wireless.api.plannifier.data.WeeklyRecurrence;
+import fr.anisekai.wireless.plannifier.data.*;
+import org.junit.jupiter.api.*;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.List;
+
+@DisplayName("RecurringPlanner")
+@Tags({@Tag("unit-test"), @Tag("event-scheduler")})
+@TestMethodOrder(MethodOrderer.DisplayName.class)
+public class RecurringPlannerTests {
+
+    private TestData                                                          data;
+    private EventScheduler<TestWatchTarget, TestWatchParty, TestWatchParty>   scheduler;
+    private RecurringPlanner<TestWatchTarget, TestWatchParty, TestWatchParty> planner;
+
+    private static WeeklyRecurrence weekly(int episodes, Duration tolerance) {
+
+        return new WeeklyRecurrence(
+                DayOfWeek.MONDAY,
+                LocalTime.MIDNIGHT,
+                TestData.BASE_DATETIME.getZone(),
+                null,
+                episodes,
+                true,
+                tolerance
+        );
+    }
+
+    @BeforeEach
+    public void setup() {
+
+        this.data      = new TestData();
+        this.scheduler = new EventScheduler<>(new TestManager(), this.data.dataBank());
+        this.planner   = new RecurringPlanner<>(this.scheduler);
+    }
+
+    @Test
+    @DisplayName("Planner | Full Season")
+    public void testFullSeason() {
+
+        BulkScheduleResult<TestWatchTarget, TestWatchParty> result = this.planner.schedule(
+                this.data.target2,
+                weekly(1, Duration.ofHours(2)),
+                TestData.BASE_DATETIME
+        );
+
+        Assertions.assertEquals(12, result.created().size(), "Unexpected amount of created spots");
+        Assertions.assertTrue(result.rejected().isEmpty(), "Some spots have been rejected");
+
+        List<TestWatchParty> events = result.created().stream().map(BulkScheduleResult.Outcome::entity).toList();
+
+        // The first week conflicts with A1, and should have been shifted right after it.
+        Assertions.assertEquals(this.data.partyA1.getEndingAt(), events.getFirst().getStartingAt(), "Conflict not shifted");
+        Assertions.assertEquals(TestData.BASE_DATETIME.plusWeeks(1), events.get(1).getStartingAt(), "Recurrence not followed");
+        Assertions.assertEquals(TestData.BASE_DATETIME.plusWeeks(11), events.getLast().getStartingAt(), "Recurrence not kept");
+        Assertions.assertEquals(12, events.getLast().getFirstEpisode(), "Episodes are not numbered in order");
+        Assertions.assertEquals(0, this.scheduler.getRemainingEpisodes(this.data.target2), "Budget has not been exhausted");
+    }
+
+    @Test
+    @DisplayName("Planner | Episode Budget")
+    public void testEpisodeBudget() {
+
+        this.data.target2.setWatched(4);
+        this.scheduler.schedule(new TestSpot(this.data.target2, TestData.BASE_DATETIME.plusDays(3), 2));
+
+        Assertions.assertEquals(6, this.scheduler.getRemainingEpisodes(this.data.target2), "Unexpected budget");
+
+        List<PlannedSpot<TestWatchTarget>> spots = this.planner.plan(
+                this.data.target2,
+                weekly(4, Duration.ZERO),
+                TestData.BASE_DATETIME.plusDays(3)
+        );
+
+        Assertions.assertEquals(2, spots.size(), "Unexpected amount of planned spots");
+        Assertions.assertEquals(4, spots.getFirst().getEpisodeCount(), "Unexpected amount of episodes");
+        Assertions.assertEquals(2, spots.getLast().getEpisodeCount(), "Last spot does not hold the remaining episodes");
+        Assertions.assertEquals(TestData.BASE_DATETIME.plusWeeks(1), spots.getFirst().getStartingAt(), "Unexpected first week");
+        Assertions.assertEquals(4, this.scheduler.getState().size(), "The scheduler has been modified");
+    }
+
+    @Test
+    @DisplayName("Planner | Conflict Beyond Tolerance")
+    public void testConflictBeyondTolerance() {
+
+        BulkScheduleResult<TestWatchTarget, TestWatchParty> result = this.planner.schedule(
+                this.data.target2,
+                weekly(1, Duration.ZERO),
+                TestData.BASE_DATETIME
+        );
+
+        Assertions.assertEquals(11, result.created().size(), "Unexpected amount of created spots");
+        Assertions.assertEquals(1, result.rejected().size(), "Conflicting spot has not been rejected");
+        Assertions.assertEquals(
+                TestData.BASE_DATETIME,
+                result.rejected().getFirst().spot().getStartingAt(),
+                "Conflicting spot has been shifted beyond the tolerance"
+        );
+    }
+
+}
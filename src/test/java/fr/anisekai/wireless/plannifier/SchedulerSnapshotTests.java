@@ -0,0 +1,207 @@
+package fr.anisekai.wireless.plannifier;
+
+import fr.anisekai.wireless.api.plannifier.EventScheduler;
+import fr.anisekai.wireless.api.plannifier.SchedulerSnapshot;
+import fr.anisekai.wireless.api.plannifier.interfaces.SnapshotCodec;
+import fr.anisekai.wireless.api.plannifier.interfaces.entities.Planifiable;
+import fr.anisekai.wireless.plannifier.data.*;
+import org.junit.jupiter.api.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+@DisplayName("SchedulerSnapshot")
+@Tags({@Tag("unit-test"), @Tag("event-scheduler")})
+@TestMethodOrder(MethodOrderer.DisplayName.class)
+public class SchedulerSnapshotTests {
+
+    private static final SnapshotCodec<TestWatchTarget, TestWatchParty> CODEC = new SnapshotCodec<>() {
+
+        @Override
+        public long getTargetId(TestWatchTarget target) {
+
+            return target.getId();
+        }
+
+        @Override
+        public long getEntityId(TestWatchParty entity) {
+
+            return entity.getId();
+        }
+
+        @Override
+        public TestWatchTarget restoreTarget(long id, int watched, int total, int episodeDuration) {
+
+            TestWatchTarget target = new TestWatchTarget((int) id, watched, total);
+            target.setEpisodeDuration(episodeDuration);
+            return target;
+        }
+
+        @Override
+        public TestWatchParty restoreEntity(long id, Planifiable<TestWatchTarget> values) {
+
+            TestWatchParty party = new TestWatchParty(
+                    (int) id,
+                    values.getWatchTarget(),
+                    values.getFirstEpisode(),
+                    values.getStartingAt(),
+                    values.getEpisodeCount(),
+                    values.isSkipEnabled()
+            );
+            party.setChannel(values.getChannel());
+            return party;
+        }
+    };
+
+    private TestData                                                           data;
+    private VersionedManager                                                   manager;
+    private SchedulerSnapshot<TestWatchTarget, TestWatchParty, TestWatchParty> snapshot;
+    private Path                                                               file;
+
+    private static class VersionedManager extends TestManager {
+
+        private long version = 1;
+
+        @Override
+        public OptionalLong getStateVersion() {
+
+            return OptionalLong.of(this.version);
+        }
+
+    }
+
+    @BeforeEach
+    public void setup() throws IOException {
+
+        this.data     = new TestData();
+        this.manager  = new VersionedManager();
+        this.snapshot = new SchedulerSnapshot<>(CODEC);
+        this.file     = Files.createTempFile("scheduler", ".snapshot");
+    }
+
+    @AfterEach
+    public void cleanup() throws IOException {
+
+        Files.deleteIfExists(this.file);
+    }
+
+    @Test
+    @DisplayName("Snapshot | Round Trip")
+    public void testRoundTrip() throws IOException {
+
+        EventScheduler<TestWatchTarget, TestWatchParty, TestWatchParty> scheduler = new EventScheduler<>(
+                this.manager,
+                this.data.dataBank()
+        );
+        scheduler.schedule(new TestSpot(this.data.target2, TestData.BASE_DATETIME, 1, "room-2"));
+        this.data.target1.setWatched(2);
+
+        this.snapshot.write(scheduler, this.file);
+
+        Optional<List<TestWatchParty>> restored = this.snapshot.read(this.file, this.manager);
+        Assertions.assertTrue(restored.isPresent(), "Up-to-date snapshot not read");
+
+        List<TestWatchParty> events = restored.get();
+        List<TestWatchParty> state  = scheduler.findBetween(TestData.BASE_DATETIME, TestData.BASE_DATETIME.plusYears(2)).toList();
+
+        Assertions.assertEquals(state, events, "Restored entities mismatch");
+
+        for (int i = 0; i < events.size(); i++) {
+            TestWatchParty expected = state.get(i);
+            TestWatchParty actual   = events.get(i);
+
+            Assertions.assertEquals(expected.getWatchTarget(), actual.getWatchTarget());
+            Assertions.assertEquals(expected.getStartingAt(), actual.getStartingAt());
+            Assertions.assertEquals(expected.getFirstEpisode(), actual.getFirstEpisode());
+            Assertions.assertEquals(expected.getEpisodeCount(), actual.getEpisodeCount());
+            Assertions.assertEquals(expected.isSkipEnabled(), actual.isSkipEnabled());
+            Assertions.assertEquals(expected.getChannel(), actual.getChannel());
+        }
+
+        TestWatchTarget target = events.getLast().getWatchTarget();
+
+        Assertions.assertEquals(2, target.getWatched(), "Target progress not restored");
+        Assertions.assertSame(target, events.get(events.size() - 2).getWatchTarget(), "Targets are not shared");
+    }
+
+    @Test
+    @DisplayName("Snapshot | Outdated Version")
+    public void testOutdatedVersion() throws IOException {
+
+        this.snapshot.write(new EventScheduler<>(this.manager, this.data.dataBank()), this.file);
+        this.manager.version++;
+
+        Assertions.assertTrue(this.snapshot.restore(this.file, this.manager).isEmpty(), "Outdated snapshot has been read");
+    }
+
+    @Test
+    @DisplayName("Snapshot | Corrupted File")
+    public void testCorruptedFile() throws IOException {
+
+        this.snapshot.write(new EventScheduler<>(this.manager, this.data.dataBank()), this.file);
+        Files.write(this.file, Arrays.copyOf(Files.readAllBytes(this.file), 20));
+
+        Assertions.assertThrows(IOException.class, () -> this.snapshot.read(this.file, this.manager));
+    }
+
+    @Test
+    @DisplayName("Snapshot | Failed Write")
+    public void testFailedWrite() throws IOException {
+
+        EventScheduler<TestWatchTarget, TestWatchParty, TestWatchParty> scheduler = new EventScheduler<>(
+                this.manager,
+                this.data.dataBank()
+        );
+
+        this.snapshot.write(scheduler, this.file);
+        byte[] written = Files.readAllBytes(this.file);
+
+        SchedulerSnapshot<TestWatchTarget, TestWatchParty, TestWatchParty> failing = new SchedulerSnapshot<>(
+                new SnapshotCodec<>() {
+
+                    @Override
+                    public long getTargetId(TestWatchTarget target) {
+
+                        return CODEC.getTargetId(target);
+                    }
+
+                    @Override
+                    public long getEntityId(TestWatchParty entity) {
+
+                        throw new IllegalStateException("Entity not persisted");
+                    }
+
+                    @Override
+                    public TestWatchTarget restoreTarget(long id, int watched, int total, int episodeDuration) {
+
+                        return CODEC.restoreTarget(id, watched, total, episodeDuration);
+                    }
+
+                    @Override
+                    public TestWatchParty restoreEntity(long id, Planifiable<TestWatchTarget> values) {
+
+                        return CODEC.restoreEntity(id, values);
+                    }
+                }
+        );
+
+        Path temporary = this.file.resolveSibling(this.file.getFileName() + ".tmp");
+
+        Assertions.assertThrows(IllegalStateException.class, () -> failing.write(scheduler, this.file));
+        Assertions.assertFalse(Files.exists(temporary), "Temporary file has not been deleted");
+        Assertions.assertArrayEquals(written, Files.readAllBytes(this.file), "Previous snapshot has been altered");
+
+        scheduler.schedule(new TestSpot(this.data.target2, TestData.BASE_DATETIME, 1, "x".repeat(0x10000)));
+        IllegalArgumentException exception = Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> this.snapshot.write(scheduler, this.file)
+        );
+        Assertions.assertTrue(exception.getMessage().startsWith("Channel"), exception.getMessage());
+    }
+
+}
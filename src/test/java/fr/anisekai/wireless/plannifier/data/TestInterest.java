@@ -0,0 +1,28 @@
+package fr.anisekai.wireless.plannifier.data;
+
+import fr.anisekai.wireless.api.plannifier.interfaces.entities.WatchInterest;
+
+public class TestInterest implements WatchInterest<TestWatchTarget> {
+
+    private final TestWatchTarget target;
+    private final byte            level;
+
+    public TestInterest(TestWatchTarget target, int level) {
+
+        this.target = target;
+        this.level  = (byte) level;
+    }
+
+    @Override
+    public TestWatchTarget getWatchTarget() {
+
+        return this.target;
+    }
+
+    @Override
+    public byte getLevel() {
+
+        return this.level;
+    }
+
+}
@@ -0,0 +1,78 @@
+package fr.anisekai.wireless.plannifier.data;
+
+import fr.anisekai.wireless.api.plannifier.interfaces.SchedulerManager;
+import fr.anisekai.wireless.api.plannifier.interfaces.entities.Planifiable;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+public class TestManager implements SchedulerManager<TestWatchTarget, TestWatchParty, TestWatchParty> {
+
+    private final Map<String, Integer> calls = new HashMap<>();
+
+    private int id = 100; // Safe margin for pre-populated data in TestData class.
+
+    private int id() {
+
+        this.id++;
+        return this.id;
+    }
+
+    private void called(String method) {
+
+        this.calls.merge(method, 1, Integer::sum);
+    }
+
+    public int getCalls(String method) {
+
+        return this.calls.getOrDefault(method, 0);
+    }
+
+    @Override
+    public TestWatchParty create(Planifiable<TestWatchTarget> planifiable) {
+
+        this.called("create");
+        TestWatchParty party = new TestWatchParty(
+                this.id(),
+                planifiable.getWatchTarget(),
+                planifiable.getFirstEpisode(),
+                planifiable.getStartingAt(),
+                planifiable.getEpisodeCount(),
+                planifiable.isSkipEnabled()
+        );
+        party.setChannel(planifiable.getChannel());
+        return party;
+    }
+
+    @Override
+    public TestWatchParty update(TestWatchParty entity, Consumer<TestWatchParty> updateHook) {
+
+        this.called("update");
+        return entity;
+    }
+
+    @Override
+    public List<TestWatchParty> updateAll(List<TestWatchParty> entities, Consumer<TestWatchParty> updateHook) {
+
+        this.called("updateAll");
+        return entities;
+    }
+
+    @Override
+    public boolean delete(TestWatchParty entity) {
+
+        this.called("delete");
+        entity.tagDeleted();
+        return true;
+    }
+
+    @Override
+    public boolean deleteAll(List<TestWatchParty> entities) {
+
+        this.called("deleteAll");
+        return SchedulerManager.super.deleteAll(entities);
+    }
+
+}
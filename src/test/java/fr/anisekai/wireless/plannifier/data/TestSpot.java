@@ -11,13 +11,20 @@ public class TestSpot implements ScheduleSpotData<TestWatchTarget> {
     private final ZonedDateTime   startingAt;
     private final int            episodeCount;
     private final boolean         skipEnabled;
+    private final String          channel;
 
     public TestSpot(TestWatchTarget target, ZonedDateTime startingAt, int episodeCount) {
 
+        this(target, startingAt, episodeCount, null);
+    }
+
+    public TestSpot(TestWatchTarget target, ZonedDateTime startingAt, int episodeCount, String channel) {
+
         this.target       = target;
         this.startingAt   = startingAt;
         this.episodeCount = episodeCount;
         this.skipEnabled  = true;
+        this.channel      = channel;
     }
 
     @Override
@@ -31,6 +38,12 @@ public class TestSpot implements ScheduleSpotData<TestWatchTarget> {
 
     }
 
+    @Override
+    public String getChannel() {
+
+        return this.channel;
+    }
+
     @Override
     public @NotNull ZonedDateTime getStartingAt() {
 
@@ -14,6 +14,7 @@ public class TestWatchParty implements Planifiable<TestWatchTarget> {
     private       ZonedDateTime   startingAt;
     private       int            episodeCount;
     private       boolean         skipEnabled;
+    private       String          channel;
 
     private boolean deleted = false;
 
@@ -27,6 +28,11 @@ public class TestWatchParty implements Planifiable<TestWatchTarget> {
         this.skipEnabled  = skipEnabled;
     }
 
+    public int getId() {
+
+        return this.id;
+    }
+
     @Override
     public int getFirstEpisode() {
 
@@ -50,6 +56,17 @@ public class TestWatchParty implements Planifiable<TestWatchTarget> {
 
     }
 
+    @Override
+    public String getChannel() {
+
+        return this.channel;
+    }
+
+    public void setChannel(String channel) {
+
+        this.channel = channel;
+    }
+
     @Override
     public @NotNull ZonedDateTime getStartingAt() {
 
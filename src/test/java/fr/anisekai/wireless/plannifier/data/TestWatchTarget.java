@@ -18,6 +18,11 @@ public class TestWatchTarget implements WatchTarget {
         this.total   = total;
     }
 
+    public int getId() {
+
+        return this.id;
+    }
+
     @Override
     public int getWatched() {
 